@@ -2,16 +2,29 @@ package seedu.internsprint;
 
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.logic.command.data.CheckCommand;
 import seedu.internsprint.logic.parser.CommandParser;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataFileWatcher;
+import seedu.internsprint.storage.DataLoader;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.StorageConfig;
 import seedu.internsprint.storage.StorageManager;
 import seedu.internsprint.util.InternSprintLogger;
 import seedu.internsprint.util.Ui;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
+import static seedu.internsprint.util.InternSprintExceptionMessages.READ_ONLY_SESSION;
+import static seedu.internsprint.util.InternSprintMessages.READ_ONLY_SESSION_ENDED;
+import static seedu.internsprint.util.InternSprintMessages.READ_ONLY_SESSION_STARTED;
 
 /**
  * Entry point of the InternSprint application.
@@ -19,13 +32,17 @@ import java.util.logging.Level;
 public class InternSprint {
     private static final Logger logger = InternSprintLogger.getLogger();
     private final StorageManager storageManager;
+    private final DataLoader dataLoader;
+    private final DataFileWatcher dataFileWatcher;
     private final InternshipList internships;
     private final UserProfile user;
 
     public InternSprint() {
         storageManager = StorageManager.getInstance();
+        dataLoader = new DataLoader(storageManager);
         internships = new InternshipList();
         user = new UserProfile();
+        dataFileWatcher = new DataFileWatcher(storageManager, internships, user);
     }
 
     /**
@@ -33,7 +50,16 @@ public class InternSprint {
      */
     public static void main(String[] args) {
         InternSprintLogger.getLogger();
-        new InternSprint().run();
+        InternSprint internSprint;
+        try {
+            internSprint = new InternSprint();
+        } catch (IllegalArgumentException e) {
+            // Such as a tenant ID that cannot name a data directory
+            logger.log(Level.SEVERE, "Invalid storage options: " + e.getMessage());
+            Ui.showError(e.getMessage());
+            return;
+        }
+        internSprint.run();
     }
 
     /**
@@ -42,50 +68,43 @@ public class InternSprint {
     public void run() {
         logger.log(Level.INFO, "Starting InternSprint");
         Ui.showWelcomeMessage();
+        if (!storageManager.lockDataDirectory()) {
+            Ui.showResultToUser(new CommandResult(List.of(READ_ONLY_SESSION_STARTED), true));
+        }
+        StorageConfig.CheckMode checkMode = storageManager.getConfig().getCheckMode();
+        if (checkMode != StorageConfig.CheckMode.OFF) {
+            // Checked before loading, so repaired files are the ones loaded; another session does its own repairs
+            Ui.showResultToUser(CheckCommand.checkDataFiles(storageManager,
+                    checkMode == StorageConfig.CheckMode.REPAIR && !storageManager.isReadOnly()));
+        }
+        dataLoader.start(internships, user);
+        dataFileWatcher.start(dataLoader.getLoad(DataStore.INTERNSHIPS));
         runCommandLoopUntilExitCommand();
         exit();
     }
 
     /**
-     * Loads data from storage.
+     * Waits for the data the command needs to finish loading, and shows any loading results not shown before.
+     *
+     * @param stores Stores the command about to be executed needs.
+     * @return True if all data loaded so far was loaded successfully.
      */
-    private boolean loadData() {
-        logger.log(Level.INFO, "Loading data from storage");
-        CommandResult internshipResult = storageManager.loadInternshipData(internships);
-        CommandResult interviewResult = storageManager.loadInterviewData(internships);
-        CommandResult profileResult = storageManager.loadUserProfileData(user);
-        CommandResult projectResult = storageManager.loadProjectData(user.projects);
-        if (!internshipResult.isSuccessful()) {
-            Ui.showResultToUser(internshipResult);
-        }
-        if (!interviewResult.isSuccessful()) {
-            Ui.showResultToUser(interviewResult);
-        }
-        if (!projectResult.isSuccessful()) {
-            Ui.showResultToUser(projectResult);
+    private boolean awaitRequiredData(Set<DataStore> stores) {
+        boolean isLoadingSuccessful = true;
+        for (CommandResult result : dataLoader.awaitData(stores)) {
+            Ui.showResultToUser(result);
+            isLoadingSuccessful &= result.isSuccessful();
         }
-        if (!profileResult.isSuccessful()) {
-            Ui.showResultToUser(profileResult);
-        }
-        if (internshipResult.isSuccessful() && interviewResult.isSuccessful()
-            && profileResult.isSuccessful() && projectResult.isSuccessful()) {
-            Ui.showResultToUser(internshipResult);
-        }
-
-        return interviewResult.isSuccessful() && internshipResult.isSuccessful()
-            && profileResult.isSuccessful() && projectResult.isSuccessful();
+        return isLoadingSuccessful;
     }
 
     /**
      * Reads the user command and executes it, until the user issues the exit command.
+     * Data is still loading when the first prompt is shown, so each command first waits for the data it needs.
+     * The loop ends if any data fails to load, so that no command runs on partially loaded data.
      */
     private void runCommandLoopUntilExitCommand() {
-        logger.log(Level.INFO, "Loading internships from storage");
-        boolean isLoadingSuccessful = loadData();
-        if (!isLoadingSuccessful) {
-            return;
-        }
-        logger.log(Level.INFO, "Data loaded successfully");
+        storageManager.startWriteBehind();
 
         CommandResult result;
         boolean isExit = false;
@@ -95,7 +114,29 @@ public class InternSprint {
                 logger.log(Level.INFO, "User command: " + userCommand);
                 Command command = CommandParser.parseCommand(userCommand);
                 logger.log(Level.INFO, "Parsed Command: " + command);
-                result = command.execute(internships, user);
+                command.setStorageManager(storageManager);
+                if (!awaitRequiredData(command.getRequiredData())) {
+                    return;
+                }
+                for (CommandResult reloadResult : dataFileWatcher.takeResults()) {
+                    Ui.showResultToUser(reloadResult);
+                }
+                for (CommandResult mergeResult : storageManager.takeMergeResults()) {
+                    Ui.showResultToUser(mergeResult);
+                }
+                if (storageManager.isReadOnly() && !prepareReadOnlySession(command)) {
+                    continue;
+                }
+                // Background saves wait until the command has finished changing the data, while commands that
+                // only read it see the same data from start to end without holding up background saves
+                Lock dataLock = command.isChangingData() ? storageManager.getDataLock().writeLock()
+                        : storageManager.getDataLock().readLock();
+                dataLock.lock();
+                try {
+                    result = command.execute(internships, user);
+                } finally {
+                    dataLock.unlock();
+                }
                 logger.log(Level.INFO, "Command executed successfully");
                 Ui.showResultToUser(result);
                 isExit = result.isExit();
@@ -108,11 +149,52 @@ public class InternSprint {
         }
     }
 
+    /**
+     * Prepares a session that only reads the data, because another process is using it, to run a command.
+     * The data is loaded again if the other process has saved it since. A command that changes the data only
+     * runs once the other process has closed, which makes this the session that changes the data.
+     *
+     * @param command Command about to be executed.
+     * @return True if the command can be executed.
+     */
+    private boolean prepareReadOnlySession(Command command) {
+        boolean isLockTaken = command.isChangingData() && storageManager.retryDataDirectoryLock();
+        if (command.isChangingData() && !isLockTaken) {
+            Ui.showError(READ_ONLY_SESSION);
+            return false;
+        }
+        if (!isLockTaken && !storageManager.isChangedOnDisk()) {
+            return true;
+        }
+        // Stores still loading would be loaded twice at once, so they are waited for first
+        if (!awaitRequiredData(EnumSet.allOf(DataStore.class))) {
+            return false;
+        }
+        Lock dataLock = storageManager.getDataLock().writeLock();
+        dataLock.lock();
+        try {
+            for (CommandResult result : storageManager.reloadAllData(internships, user)) {
+                if (!result.isSuccessful()) {
+                    Ui.showResultToUser(result);
+                }
+            }
+        } finally {
+            dataLock.unlock();
+        }
+        if (isLockTaken) {
+            logger.log(Level.INFO, "Other session closed, so this session now changes the data");
+            Ui.showResultToUser(new CommandResult(List.of(READ_ONLY_SESSION_ENDED), true));
+            dataFileWatcher.start(CompletableFuture.completedFuture(null));
+        }
+        return true;
+    }
+
     /**
      * Exits the program after displaying the exit message.
      */
     private void exit() {
         logger.log(Level.INFO, "Exiting InternSprint");
+        dataFileWatcher.stop();
         System.exit(0);
     }
 }
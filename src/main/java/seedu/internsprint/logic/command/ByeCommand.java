@@ -2,11 +2,15 @@ package seedu.internsprint.logic.command;
 
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.StorageManager;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,9 +37,44 @@ public class ByeCommand extends Command {
         return "internship";
     }
 
+    /**
+     * Returns every store if there are changes to save, and only the internships otherwise,
+     * so the program can exit without waiting for the other data that is still loading.
+     * The internships are always waited for, as loading them may itself leave changes to save,
+     * which must not be saved before every internship is in the list.
+     *
+     * @return Stores that must be loaded before exiting.
+     */
+    @Override
+    public Set<DataStore> getRequiredData() {
+        if (hasUnsavedChanges()) {
+            return EnumSet.allOf(DataStore.class);
+        }
+        return EnumSet.of(DataStore.INTERNSHIPS);
+    }
+
+    /**
+     * Returns true only if there are changes to save, so a session that only reads the data can still exit.
+     *
+     * @return True if exiting saves any data.
+     */
+    @Override
+    public boolean isChangingData() {
+        return hasUnsavedChanges();
+    }
+
+    /**
+     * Returns true if the data the command runs on has changes to save. Without a storage manager to ask,
+     * there may be changes to save.
+     */
+    private boolean hasUnsavedChanges() {
+        return storageManager == null || storageManager.hasUnsavedChanges();
+    }
+
     /**
      * Executes the command to exit the program.
-     * All unsaved data will be saved before exiting.
+     * All unsaved data will be saved before exiting, including changes still waiting to be written
+     * in the background. Nothing is written if there are no unsaved changes.
      *
      * @param internships InternshipList or UserProfile user.
      * @param user Userprofile object.
@@ -47,8 +86,13 @@ public class ByeCommand extends Command {
         List<String> feedback = new ArrayList<>();
 
         try {
-            internships.saveInternships();
-            user.projects.saveProjects();
+            StorageManager storageManager = internships.getStorageManager();
+            if (storageManager.hasUnsavedChanges()) {
+                internships.saveInternships();
+                storageManager.flushPendingSaves();
+                storageManager.refreshBinarySnapshotData(internships, user);
+                storageManager.refreshInternshipIndexes(internships);
+            }
             feedback.add(OVERALL_SAVE_SUCCESS_MESSAGE);
         } catch (IOException e) {
             logger.log(Level.WARNING, "Error saving internships while exiting");
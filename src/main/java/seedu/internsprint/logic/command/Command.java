@@ -2,8 +2,12 @@ package seedu.internsprint.logic.command;
 
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.StorageManager;
 
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Set;
 
 /**
  * Represents a command to be executed.
@@ -14,10 +18,20 @@ public abstract class Command {
      */
     protected HashMap<String, String> parameters = new HashMap<>();
 
+    /**
+     * Storage manager of the data the command runs on, such as that of a tenant. It is set by whoever runs
+     * the command, before asking what the command needs, and is null until then.
+     */
+    protected StorageManager storageManager;
+
     public void setParameters(HashMap<String, String> parameters) {
         this.parameters = parameters;
     }
 
+    public void setStorageManager(StorageManager storageManager) {
+        this.storageManager = storageManager;
+    }
+
     public HashMap<String, String> getParameters() {
         return parameters;
     }
@@ -39,4 +53,24 @@ public abstract class Command {
     public abstract CommandResult execute(InternshipList internships, UserProfile user);
 
     public abstract String getCommandType();
+
+    /**
+     * Returns the stored data this command reads or changes. Data is loaded in the background on startup,
+     * and the command only runs once these stores have finished loading.
+     *
+     * @return Stores the command needs, which is every store unless a command needs less.
+     */
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.allOf(DataStore.class);
+    }
+
+    /**
+     * Returns true if the command may change the data. Commands that only read the data run while background
+     * saves are still able to run, but never while another command changes the data.
+     *
+     * @return True unless the command only reads the data.
+     */
+    public boolean isChangingData() {
+        return true;
+    }
 }
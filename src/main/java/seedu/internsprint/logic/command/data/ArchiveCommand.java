@@ -0,0 +1,211 @@
+package seedu.internsprint.logic.command.data;
+
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.ArchivePolicy;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.ArchiveStore;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.StorageManager;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.ARCHIVE_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.ARCHIVE_NOT_FOUND;
+import static seedu.internsprint.util.InternSprintExceptionMessages.ARCHIVE_UNAVAILABLE;
+import static seedu.internsprint.util.InternSprintMessages.ARCHIVE_LIST_ENTRY;
+import static seedu.internsprint.util.InternSprintMessages.ARCHIVE_LIST_HEADER;
+import static seedu.internsprint.util.InternSprintMessages.ARCHIVE_MORE;
+import static seedu.internsprint.util.InternSprintMessages.ARCHIVE_NONE_FOUND;
+import static seedu.internsprint.util.InternSprintMessages.ARCHIVE_NONE_MATCHING;
+import static seedu.internsprint.util.InternSprintMessages.ARCHIVE_RESTORE_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.ARCHIVE_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.LIST_COUNT_MESSAGE;
+
+/**
+ * Represents a command to move the internships matching some rules to the archive, to list the archive, or to
+ * move an internship back from it. Archived internships are not loaded with the rest of the data, see
+ * {@link ArchiveStore}, so only listing or restoring reads the archive.
+ */
+public class ArchiveCommand extends Command {
+    public static final String COMMAND_WORD = "archive";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Moves internships you are done with to the archive, "
+            + "lists the archive, or moves an internship back from it.\n"
+            + "    With /status, archives the internships with that status. With /months, archives the internships "
+            + "not changed or interviewed for that many months. With both, archives those matching both.\n"
+            + "    With list, lists the archived internships, or only those of companies matching /c.\n"
+            + "    With restore, moves the archived internship with that number back to your list.\n"
+            + "    Parameters: [/status STATUS] [/months MONTHS] | list [/c COMPANY] | restore NUMBER\n"
+            + "    Example: " + COMMAND_WORD + " /status Rejected /months 6";
+    private static final String LIST = "list";
+    private static final String RESTORE = "restore";
+    private static final int MAX_SHOWN_ARCHIVED = 20;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+
+    /**
+     * Returns no stores when only the archive is listed, as it is read from its own file.
+     *
+     * @return Stores that must be loaded before the command runs.
+     */
+    @Override
+    public Set<DataStore> getRequiredData() {
+        if (isListing()) {
+            return EnumSet.noneOf(DataStore.class);
+        }
+        return EnumSet.of(DataStore.INTERNSHIPS, DataStore.INTERVIEWS);
+    }
+
+    /**
+     * Returns true unless the archive is only listed.
+     *
+     * @return True if internships are moved to or from the archive.
+     */
+    @Override
+    public boolean isChangingData() {
+        return !isListing();
+    }
+
+    private boolean isListing() {
+        return LIST.equalsIgnoreCase(parameters.getOrDefault("description", ""));
+    }
+
+    /**
+     * Checks if the parameters hold archive rules, a query of the archive, or the number of an internship to
+     * restore, with only the flags that go with it.
+     *
+     * @return True if the parameters are valid.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        if (isListing()) {
+            return parameters.size() == (parameters.containsKey("/c") ? 2 : 1);
+        }
+        if (parameters.containsKey("description")) {
+            return parameters.size() == 1 && parseRestoredNumber() > 0;
+        }
+        int rules = (parameters.containsKey("/status") ? 1 : 0) + (parameters.containsKey("/months") ? 1 : 0);
+        return rules > 0 && parameters.size() == rules
+                && (!parameters.containsKey("/months") || parsePositive(parameters.get("/months")) > 0);
+    }
+
+    private int parseRestoredNumber() {
+        String[] words = parameters.get("description").split("\\s+");
+        return words.length == 2 && words[0].equalsIgnoreCase(RESTORE) ? parsePositive(words[1]) : -1;
+    }
+
+    private static int parsePositive(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Executes the command to archive, list or restore internships.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters for archive command");
+            feedback.add(ARCHIVE_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        StorageManager storageManager = internships.getStorageManager();
+        if (storageManager.isUsingDatabase() || storageManager.isInMemory()) {
+            logger.log(Level.WARNING, "The archive is only available with the data files");
+            result = new CommandResult(ARCHIVE_UNAVAILABLE);
+            result.setSuccessful(false);
+            return result;
+        }
+        ArchiveStore archiveStore = storageManager.getArchiveStore();
+        try {
+            if (isListing()) {
+                listArchive(archiveStore, feedback);
+            } else if (parameters.containsKey("description")) {
+                int number = parseRestoredNumber();
+                Internship restored = archiveStore.restore(number, internships);
+                if (restored == null) {
+                    result = new CommandResult(String.format(ARCHIVE_NOT_FOUND, number));
+                    result.setSuccessful(false);
+                    return result;
+                }
+                feedback.add(String.format(ARCHIVE_RESTORE_SUCCESS, restored));
+                feedback.add(String.format(LIST_COUNT_MESSAGE, internships.getInternshipCount()));
+            } else {
+                archiveInternships(archiveStore, internships, feedback);
+            }
+        } catch (IOException | DuplicateEntryException e) {
+            logger.log(Level.WARNING, "Error using the archive: " + e.getMessage());
+            feedback.add(e.getMessage());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        result = new CommandResult(feedback);
+        result.setSuccessful(true);
+        return result;
+    }
+
+    private void archiveInternships(ArchiveStore archiveStore, InternshipList internships, List<String> feedback)
+            throws IOException {
+        int months = parameters.containsKey("/months") ? parsePositive(parameters.get("/months"))
+                : ArchivePolicy.NO_MONTHS;
+        ArchivePolicy policy = new ArchivePolicy(parameters.get("/status"), months);
+        List<Internship> archived = archiveStore.archive(internships, policy, LocalDate.now());
+        logger.log(Level.INFO, String.format("Archived %d internships", archived.size()));
+        if (archived.isEmpty()) {
+            feedback.add(ARCHIVE_NONE_MATCHING);
+        } else {
+            feedback.add(String.format(ARCHIVE_SUCCESS, archived.size()));
+            for (int i = 0; i < Math.min(archived.size(), MAX_SHOWN_ARCHIVED); i++) {
+                feedback.add(archived.get(i).toString());
+            }
+            if (archived.size() > MAX_SHOWN_ARCHIVED) {
+                feedback.add(String.format(ARCHIVE_MORE, archived.size() - MAX_SHOWN_ARCHIVED));
+            }
+        }
+        feedback.add(String.format(LIST_COUNT_MESSAGE, internships.getInternshipCount()));
+    }
+
+    private void listArchive(ArchiveStore archiveStore, List<String> feedback) throws IOException {
+        List<ArchiveStore.ArchivedInternship> found = archiveStore.find(parameters.get("/c"));
+        if (found.isEmpty()) {
+            feedback.add(ARCHIVE_NONE_FOUND);
+            return;
+        }
+        feedback.add(ARCHIVE_LIST_HEADER);
+        for (ArchiveStore.ArchivedInternship archived : found) {
+            feedback.add(String.format(ARCHIVE_LIST_ENTRY, archived.getNumber(), archived.getInternship(),
+                    archived.getArchivedOn()));
+        }
+    }
+}
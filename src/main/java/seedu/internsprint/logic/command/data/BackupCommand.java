@@ -0,0 +1,125 @@
+package seedu.internsprint.logic.command.data;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.BackupStore;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.StorageManager;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.BACKUP_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.BACKUP_UNAVAILABLE;
+import static seedu.internsprint.util.InternSprintMessages.BACKUP_RETENTION;
+import static seedu.internsprint.util.InternSprintMessages.BACKUP_SUCCESS;
+
+/**
+ * Represents a command to back up the data files, so they can later be restored with {@link RestoreCommand}.
+ * Only the parts of the files that changed since an earlier backup are written, see {@link BackupStore}.
+ */
+public class BackupCommand extends Command {
+    public static final String COMMAND_WORD = "backup";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Backs up all your saved data.\n"
+            + "    Only the parts of your data that changed since your last backup take up more space.\n"
+            + "    Older backups are removed, keeping the last 10 and the last backup of each of the last 30 days.\n"
+            + "    Example: " + COMMAND_WORD;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+
+    /**
+     * Returns every store, as all of them are saved before they are backed up.
+     *
+     * @return Stores that must be loaded before backing up.
+     */
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.allOf(DataStore.class);
+    }
+
+    @Override
+    protected boolean isValidParameters() {
+        return parameters.isEmpty();
+    }
+
+    /**
+     * Executes the command to back up the data files, after saving every unsaved change to them.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters for backup command");
+            feedback.add(BACKUP_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        StorageManager storageManager = internships.getStorageManager();
+        if (storageManager.isUsingDatabase() || storageManager.isInMemory()) {
+            logger.log(Level.WARNING, "Backups are only available with the data files");
+            result = new CommandResult(BACKUP_UNAVAILABLE);
+            result.setSuccessful(false);
+            return result;
+        }
+        try {
+            BackupStore.Backup backup = backUp(internships, user);
+            feedback.add(String.format(BACKUP_SUCCESS, backup.getFileCount(), toKilobytes(backup.getTotalBytes()),
+                    backup.getId(), toKilobytes(backup.getNewBytes())));
+            int removedCount = storageManager.getBackupStore().applyRetention();
+            if (removedCount > 0) {
+                feedback.add(String.format(BACKUP_RETENTION, removedCount));
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error backing up saved data");
+            feedback.add(e.getMessage());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        logger.log(Level.INFO, "Backed up saved data");
+        result = new CommandResult(feedback);
+        result.setSuccessful(true);
+        return result;
+    }
+
+    /**
+     * Saves every unsaved change to the data files, then backs them up.
+     *
+     * @param internships List of internships to be saved.
+     * @param user User profile to be saved, including its projects.
+     * @return Backup that was made.
+     */
+    static BackupStore.Backup backUp(InternshipList internships, UserProfile user) throws IOException {
+        StorageManager storageManager = internships.getStorageManager();
+        internships.saveInternships();
+        user.projects.saveProjects();
+        storageManager.flushPendingSaves();
+        return storageManager.getBackupStore().createBackup();
+    }
+
+    static long toKilobytes(long bytes) {
+        return (bytes + 1023) / 1024;
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.internsprint.logic.command.data;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.BackupStore;
+import seedu.internsprint.storage.DataChecker;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.StorageManager;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_PROBLEMS_FOUND;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_PROBLEMS_REMAINING;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_REPAIR_HINT;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_REPAIR_JOURNAL;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_REPAIR_UNREADABLE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_UNAVAILABLE;
+import static seedu.internsprint.util.InternSprintMessages.CHECK_MORE;
+import static seedu.internsprint.util.InternSprintMessages.CHECK_NO_PROBLEMS;
+import static seedu.internsprint.util.InternSprintMessages.CHECK_REPAIR_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.LIST_COUNT_MESSAGE;
+
+/**
+ * Represents a command to check the data files for problems, and to repair them. The data files are streamed by
+ * the {@link DataChecker} rather than loaded, and are backed up before they are repaired, so a repair can be undone
+ * with {@link RestoreCommand}.
+ */
+public class CheckCommand extends Command {
+    public static final String COMMAND_WORD = "check";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Checks your data files for problems, such as "
+            + "damaged records, duplicates, or interviews shown with the wrong internship.\n"
+            + "    With repair, also repairs the problems found, after backing up your data.\n"
+            + "    Parameters: [repair]\n"
+            + "    Example: " + COMMAND_WORD + " repair";
+    private static final String REPAIR = "repair";
+    private static final int MAX_SHOWN_PROBLEMS = 20;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+
+    /**
+     * Returns every store, as all of them are saved before the data files are checked.
+     *
+     * @return Stores that must be loaded before checking.
+     */
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.allOf(DataStore.class);
+    }
+
+    /**
+     * Checks if the parameters are empty, or only ask for a repair.
+     *
+     * @return True if the parameters are valid.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        return parameters.isEmpty() || parameters.size() == 1
+                && REPAIR.equalsIgnoreCase(parameters.getOrDefault("description", ""));
+    }
+
+    /**
+     * Executes the command to check the data files, and to repair them if asked to, after saving every unsaved
+     * change to them. The data is loaded again once it is repaired.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters for check command");
+            feedback.add(CHECK_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        StorageManager storageManager = internships.getStorageManager();
+        boolean isRepairing = !parameters.isEmpty();
+        if (!storageManager.isUsingDatabase() && !storageManager.isInMemory()) {
+            try {
+                internships.saveInternships();
+                user.projects.saveProjects();
+                storageManager.flushPendingSaves();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Error saving data before checking it");
+                result = new CommandResult(e.getMessage());
+                result.setSuccessful(false);
+                return result;
+            }
+        }
+        result = checkDataFiles(storageManager, isRepairing);
+        if (!isRepairing || storageManager.isUsingDatabase() || storageManager.isInMemory()) {
+            return result;
+        }
+
+        feedback.addAll(result.getFeedbackToUser());
+        boolean isSuccessful = result.isSuccessful();
+        for (CommandResult loadResult : storageManager.reloadAllData(internships, user)) {
+            if (!loadResult.isSuccessful()) {
+                feedback.addAll(loadResult.getFeedbackToUser());
+                isSuccessful = false;
+            }
+        }
+        feedback.add(String.format(LIST_COUNT_MESSAGE, internships.getInternshipCount()));
+        result = new CommandResult(feedback);
+        result.setSuccessful(isSuccessful);
+        return result;
+    }
+
+    /**
+     * Checks the data files, and repairs the problems found if asked to, after backing up the data files.
+     * The files are repaired as they are on disk, so any unsaved change must be saved first, and the data loaded
+     * from them must be loaded again afterwards. Nothing is repaired while the journal has entries, as they refer
+     * to internships by their position, which a repair can change.
+     *
+     * @param storageManager Storage manager of the data files.
+     * @param isRepairing True if the problems found should be repaired.
+     * @return CommandResult object, which is successful if no problems are left.
+     */
+    public static CommandResult checkDataFiles(StorageManager storageManager, boolean isRepairing) {
+        CommandResult result;
+        if (storageManager.isUsingDatabase() || storageManager.isInMemory()) {
+            logger.log(Level.WARNING, "Checking is only available with the data files");
+            result = new CommandResult(CHECK_UNAVAILABLE);
+            result.setSuccessful(false);
+            return result;
+        }
+        List<String> feedback = new ArrayList<>();
+        boolean isSuccessful = false;
+        try {
+            DataChecker dataChecker = storageManager.getDataChecker();
+            DataChecker.Report report = dataChecker.check();
+            if (!report.hasProblems()) {
+                feedback.add(CHECK_NO_PROBLEMS);
+                isSuccessful = true;
+            } else {
+                addProblems(CHECK_PROBLEMS_FOUND, report, feedback);
+                if (!isRepairing) {
+                    feedback.add(CHECK_REPAIR_HINT);
+                } else if (!report.isRepairable()) {
+                    feedback.add(CHECK_REPAIR_UNREADABLE);
+                } else if (storageManager.hasJournalEntries()) {
+                    feedback.add(CHECK_REPAIR_JOURNAL);
+                } else {
+                    BackupStore.Backup backup = storageManager.getBackupStore().createBackup();
+                    dataChecker.repair(report);
+                    storageManager.recordDataReplaced();
+                    logger.log(Level.INFO, "Repaired the data files, backed up as " + backup.getId());
+                    feedback.add(String.format(CHECK_REPAIR_SUCCESS, backup.getId()));
+                    report = dataChecker.check();
+                    isSuccessful = !report.hasProblems();
+                    if (!isSuccessful) {
+                        addProblems(CHECK_PROBLEMS_REMAINING, report, feedback);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error checking the data files: " + e.getMessage());
+            feedback.add(e.getMessage());
+        }
+        result = new CommandResult(feedback);
+        result.setSuccessful(isSuccessful);
+        return result;
+    }
+
+    private static void addProblems(String header, DataChecker.Report report, List<String> feedback) {
+        feedback.add(String.format(header, report.getProblemCount()));
+        List<String> problems = report.getProblems();
+        for (int i = 0; i < Math.min(problems.size(), MAX_SHOWN_PROBLEMS); i++) {
+            feedback.add(problems.get(i));
+        }
+        if (report.getProblemCount() > MAX_SHOWN_PROBLEMS) {
+            feedback.add(String.format(CHECK_MORE, report.getProblemCount() - MAX_SHOWN_PROBLEMS));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.internsprint.logic.command.data;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.StorageManager;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CONVERT_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CONVERT_UNAVAILABLE_WITH_DATABASE;
+import static seedu.internsprint.util.InternSprintMessages.CONVERT_BINARY_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.CONVERT_DATABASE_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.CONVERT_JSON_SUCCESS;
+
+/**
+ * Represents a command to convert the saved data between the JSON data files, the binary snapshot
+ * and the embedded database.
+ */
+public class ConvertCommand extends Command {
+    public static final String COMMAND_WORD = "convert";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Converts your saved data to another format.\n"
+            + "    'binary' also keeps a binary snapshot of your data, which starts up faster on large data.\n"
+            + "    'json' goes back to keeping your data in the JSON data files only.\n"
+            + "    'database' saves your data to an embedded database, which saves changes faster on large data.\n"
+            + "    Parameters: binary OR json OR database\n"
+            + "    Example: " + COMMAND_WORD + " binary";
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+
+    /**
+     * Checks if the format to convert to is given and supported.
+     *
+     * @return True if the only parameter is binary, json or database.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        if (parameters.size() != 1 || !parameters.containsKey("description")) {
+            return false;
+        }
+        String format = parameters.get("description").toLowerCase();
+        return format.equals("binary") || format.equals("json") || format.equals("database");
+    }
+
+    /**
+     * Executes the command to convert the saved data.
+     * The JSON data files are saved first, so the binary snapshot is stamped with their latest version.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters for convert command");
+            feedback.add(CONVERT_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        StorageManager storageManager = internships.getStorageManager();
+        String format = parameters.get("description").toLowerCase();
+        if (storageManager.isUsingDatabase() && !format.equals("database")) {
+            logger.log(Level.WARNING, "Cannot convert to data files while using the database backend");
+            result = new CommandResult(CONVERT_UNAVAILABLE_WITH_DATABASE);
+            result.setSuccessful(false);
+            return result;
+        }
+        try {
+            internships.saveInternships();
+            user.projects.saveProjects();
+            storageManager.flushPendingSaves();
+            if (format.equals("database")) {
+                feedback.add(String.format(CONVERT_DATABASE_SUCCESS,
+                        storageManager.saveDatabaseData(internships, user)));
+            } else if (format.equals("binary")) {
+                storageManager.saveBinarySnapshotData(internships, user);
+                feedback.add(String.format(CONVERT_BINARY_SUCCESS, storageManager.getBinarySnapshotPath()));
+            } else {
+                storageManager.deleteBinarySnapshotData();
+                feedback.add(CONVERT_JSON_SUCCESS);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error converting saved data");
+            feedback.add(e.getMessage());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        logger.log(Level.INFO, "Converted saved data to " + parameters.get("description"));
+        result = new CommandResult(feedback);
+        result.setSuccessful(true);
+        return result;
+    }
+}
@@ -0,0 +1,311 @@
+package seedu.internsprint.logic.command.data;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.logic.command.internship.FindCommand;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.GeneralProject;
+import seedu.internsprint.model.userprofile.project.HardwareProject;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.model.userprofile.project.SoftwareProject;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.ExternalSorter;
+import seedu.internsprint.storage.RecordExporter;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.EXPORT_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.INVALID_CATEGORY_ERROR;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WRITE_FILE;
+import static seedu.internsprint.util.InternSprintMessages.EXPORT_SUCCESS;
+
+/**
+ * Represents a command to export internships, interview rounds or projects to a CSV or JSON Lines file.
+ * Records are written one at a time as they are read from the lists, and internships and interviews can be
+ * filtered like with {@link FindCommand}.
+ * <p>
+ * Internships can be sorted by company name and interview rounds by date and start time. Sorted records go
+ * through an {@link ExternalSorter}, so a sorted export holds at most one run of records in memory.
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves your internships, interview rounds or projects "
+            + "to a CSV or JSON Lines file.\n"
+            + "    Internships and interview rounds can be filtered by the type, company name or role of the "
+            + "internship, like with find.\n"
+            + "    Internships can be sorted by company name, and interview rounds by date and start time.\n"
+            + "    Parameters: internships|interviews|projects FILE_PATH [/type TYPE] [/c COMPANY_NAME] [/r ROLE] "
+            + "[/sort company|date]\n"
+            + "    Example: " + COMMAND_WORD + " interviews rounds.csv /type software /sort date";
+    public static final String[] INTERNSHIP_COLUMNS = {"internshipId", "type", "companyName", "role", "techStack",
+        "embeddedSystems", "department", "eligibility", "description", "status", "expectations"};
+    public static final String[] INTERVIEW_COLUMNS = {"internshipId", "companyName", "role", "round", "date",
+        "startTime", "endTime", "type", "interviewerEmail", "notes"};
+    public static final String[] PROJECT_COLUMNS = {"type", "projectName", "role", "department",
+        "programmingLanguages", "hardwareComponents", "objectives", "description", "duration"};
+    private static final Set<String> VALID_TYPES = Set.of("software", "hardware", "general");
+    /* Records are exported in the order the list command shows them */
+    private static final String[] LIST_ORDER = {"software", "hardware", "general"};
+    private static final int COMPANY_NAME_COLUMN = 2;
+    private static final int DATE_COLUMN = 4;
+    private static final int START_TIME_COLUMN = 5;
+    /* Dates and times are exported in ISO format, so comparing them as text orders them chronologically */
+    private static final Comparator<Object[]> BY_COMPANY_NAME = Comparator.comparing(
+            record -> (String) record[COMPANY_NAME_COLUMN], String.CASE_INSENSITIVE_ORDER);
+    private static final Comparator<Object[]> BY_DATE_AND_START_TIME = Comparator.<Object[], String>comparing(
+            record -> (String) record[DATE_COLUMN]).thenComparing(record -> (String) record[START_TIME_COLUMN]);
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+
+    @Override
+    public Set<DataStore> getRequiredData() {
+        switch (getDataToExport()) {
+        case "interviews":
+            return EnumSet.of(DataStore.INTERNSHIPS, DataStore.INTERVIEWS);
+        case "projects":
+            return EnumSet.of(DataStore.PROJECTS);
+        default:
+            return EnumSet.of(DataStore.INTERNSHIPS);
+        }
+    }
+
+    /**
+     * Returns false, as exporting only reads the data.
+     *
+     * @return False.
+     */
+    @Override
+    public boolean isChangingData() {
+        return false;
+    }
+
+    /**
+     * Checks if the data to export and a CSV or JSON Lines file are given, with only the filters that apply.
+     *
+     * @return True if the parameters are valid, false otherwise.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        String data = getDataToExport();
+        if (!data.equals("internships") && !data.equals("interviews") && !data.equals("projects")) {
+            return false;
+        }
+        if (RecordExporter.getFormat(getFilePath()) == null) {
+            return false;
+        }
+        Set<String> validFlags = data.equals("projects") ? Set.of("description", "/type")
+                : Set.of("description", "/type", "/c", "/r", "/sort");
+        if (!validFlags.containsAll(parameters.keySet())) {
+            return false;
+        }
+        String sortKey = getSortKey();
+        return sortKey.isEmpty() || sortKey.equals(data.equals("interviews") ? "date" : "company");
+    }
+
+    /**
+     * Executes the command to export the data to the file.
+     * The data cannot change while it is exported, so the file always holds the data as it was at one point.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters for export command");
+            feedback.add(EXPORT_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+        String type = parameters.getOrDefault("/type", "").trim().toLowerCase();
+        if (!type.isEmpty() && !VALID_TYPES.contains(type)) {
+            logger.log(Level.WARNING, "Invalid type to export");
+            result = new CommandResult(INVALID_CATEGORY_ERROR);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        String data = getDataToExport();
+        File file = new File(getFilePath());
+        RecordExporter.Format format = RecordExporter.getFormat(file.getName());
+        Predicate<Internship> filter = FindCommand.createFilter(type,
+                parameters.getOrDefault("/c", "").trim().toLowerCase(),
+                parameters.getOrDefault("/r", "").trim().toLowerCase());
+        boolean isSorted = !getSortKey().isEmpty();
+        int recordCount;
+        try {
+            switch (data) {
+            case "interviews":
+                recordCount = exportInterviews(internships, filter, file, format,
+                        isSorted ? BY_DATE_AND_START_TIME : null);
+                break;
+            case "projects":
+                recordCount = exportProjects(user, type, file, format);
+                break;
+            default:
+                recordCount = exportInternships(internships, filter, file, format,
+                        isSorted ? BY_COMPANY_NAME : null);
+                break;
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error exporting " + data);
+            result = new CommandResult(String.format(UNABLE_TO_WRITE_FILE, file.getAbsolutePath()));
+            result.setSuccessful(false);
+            return result;
+        }
+
+        logger.log(Level.INFO, String.format("Exported %d %s", recordCount, data));
+        result = new CommandResult(String.format(EXPORT_SUCCESS, recordCount, data, file.getPath()));
+        result.setSuccessful(true);
+        return result;
+    }
+
+    private static int exportInternships(InternshipList internships, Predicate<Internship> filter, File file,
+            RecordExporter.Format format, Comparator<Object[]> order) throws IOException {
+        try (RecordExporter exporter = new RecordExporter(file, format, INTERNSHIP_COLUMNS);
+                ExternalSorter sorter = createSorter(order, file, internships)) {
+            ExternalSorter.RecordConsumer output = sorter == null ? exporter::write : sorter::add;
+            for (String internshipType : LIST_ORDER) {
+                for (Internship internship : internships.getInternshipMap().get(internshipType)) {
+                    if (filter.test(internship)) {
+                        output.accept(toInternshipRecord(internship));
+                    }
+                }
+            }
+            return finishExport(exporter, sorter);
+        }
+    }
+
+    private static Object[] toInternshipRecord(Internship internship) {
+        return new Object[]{internship.getInternshipId(), internship.getType(), internship.getCompanyName(),
+            internship.getRole(),
+            internship instanceof SoftwareInternship ? ((SoftwareInternship) internship).getTechStack() : null,
+            internship instanceof HardwareInternship ? ((HardwareInternship) internship).getEmbeddedSystems() : null,
+            internship instanceof GeneralInternship ? ((GeneralInternship) internship).getDepartment() : null,
+            internship.getEligibility(), internship.getDescription(), internship.getStatus(),
+            internship.getExpectations()};
+    }
+
+    private static int exportInterviews(InternshipList internships, Predicate<Internship> filter, File file,
+            RecordExporter.Format format, Comparator<Object[]> order) throws IOException {
+        try (RecordExporter exporter = new RecordExporter(file, format, INTERVIEW_COLUMNS);
+                ExternalSorter sorter = createSorter(order, file, internships)) {
+            ExternalSorter.RecordConsumer output = sorter == null ? exporter::write : sorter::add;
+            for (String internshipType : LIST_ORDER) {
+                for (Internship internship : internships.getInternshipMap().get(internshipType)) {
+                    Interview interview = internship.getInterview();
+                    if (interview == null || !filter.test(internship)) {
+                        continue;
+                    }
+                    writeInterviewRound(output, internship, interview, 1);
+                    for (int i = 0; i < interview.getNextRounds().size(); i++) {
+                        writeInterviewRound(output, internship, interview.getNextRounds().get(i), i + 2);
+                    }
+                }
+            }
+            return finishExport(exporter, sorter);
+        }
+    }
+
+    private static void writeInterviewRound(ExternalSorter.RecordConsumer output, Internship internship,
+            Interview round, int roundNumber) throws IOException {
+        output.accept(new Object[]{internship.getInternshipId(), internship.getCompanyName(), internship.getRole(),
+            roundNumber, toText(round.getUnformattedInterviewDate()), toText(round.getUnformattedInterviewStartTime()),
+            toText(round.getUnformattedInterviewEndTime()), round.getInterviewType(), round.getInterviewerEmail(),
+            round.getNotes()});
+    }
+
+    /**
+     * Creates the sorter the records go through before they are exported.
+     *
+     * @param order Order to export the records in, or null if they are exported in the order of the list.
+     * @param file File to be exported, next to which sorted runs too large for memory are written.
+     * @param internships List being exported, whose storage configuration sets the size of each run.
+     * @return Sorter of the records, or null if they are not sorted.
+     */
+    private static ExternalSorter createSorter(Comparator<Object[]> order, File file, InternshipList internships) {
+        if (order == null) {
+            return null;
+        }
+        return new ExternalSorter(order, internships.getStorageManager().getConfig().getSortRunRecords(),
+                file.getAbsoluteFile().getParentFile());
+    }
+
+    /**
+     * Writes the sorted records, if any, and replaces the exported file with the records written.
+     *
+     * @return Number of records exported.
+     */
+    private static int finishExport(RecordExporter exporter, ExternalSorter sorter) throws IOException {
+        if (sorter != null) {
+            sorter.forEachSorted(exporter::write);
+        }
+        exporter.commit();
+        return exporter.getRecordCount();
+    }
+
+    private static String toText(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static int exportProjects(UserProfile user, String type, File file, RecordExporter.Format format)
+            throws IOException {
+        try (RecordExporter exporter = new RecordExporter(file, format, PROJECT_COLUMNS)) {
+            for (String projectType : LIST_ORDER) {
+                for (Project project : user.projects.getProjectMap().get(projectType)) {
+                    if (!type.isEmpty() && !project.getType().equals(type)) {
+                        continue;
+                    }
+                    exporter.write(project.getType(), project.getProjectName(), project.getRole(),
+                            project instanceof GeneralProject ? ((GeneralProject) project).getDepartment() : null,
+                            project instanceof SoftwareProject
+                                    ? String.join(", ", ((SoftwareProject) project).getProgrammingLanguages()) : null,
+                            project instanceof HardwareProject
+                                    ? String.join(", ", ((HardwareProject) project).getHardwareComponents()) : null,
+                            project.getObjectives(), project.getDescription(), project.getDuration());
+                }
+            }
+            exporter.commit();
+            return exporter.getRecordCount();
+        }
+    }
+
+    private String getSortKey() {
+        return parameters.getOrDefault("/sort", "").trim().toLowerCase();
+    }
+
+    private String getDataToExport() {
+        return parameters.getOrDefault("description", "").split("\\s+", 2)[0].toLowerCase();
+    }
+
+    private String getFilePath() {
+        String[] dataAndPath = parameters.getOrDefault("description", "").split("\\s+", 2);
+        return dataAndPath.length < 2 ? "" : dataAndPath[1];
+    }
+}
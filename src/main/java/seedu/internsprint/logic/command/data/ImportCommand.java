@@ -0,0 +1,146 @@
+package seedu.internsprint.logic.command.data;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.InternshipImporter;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.DUPLICATE_INTERNSHIP;
+import static seedu.internsprint.util.InternSprintExceptionMessages.IMPORT_FILE_NOT_FOUND;
+import static seedu.internsprint.util.InternSprintExceptionMessages.IMPORT_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.IMPORT_INVALID_ROW;
+import static seedu.internsprint.util.InternSprintExceptionMessages.IMPORT_MORE_INVALID_ROWS;
+import static seedu.internsprint.util.InternSprintMessages.IMPORT_SKIPPED_ROWS;
+import static seedu.internsprint.util.InternSprintMessages.IMPORT_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.LIST_COUNT_MESSAGE;
+
+/**
+ * Represents a command to import internships from a CSV or JSON Lines file.
+ * All valid rows are added together and saved once, while rows that are invalid or duplicates are skipped.
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds all internships in a CSV or JSON Lines file.\n"
+            + "    A CSV file starts with a header naming its columns, such as type,companyName,role,techStack.\n"
+            + "    A JSON Lines file has one internship per line, such as {\"type\": \"general\", ...}.\n"
+            + "    Rows that are invalid or already in your list are skipped and shown with their line number.\n"
+            + "    Parameters: FILE_PATH\n"
+            + "    Example: " + COMMAND_WORD + " internships.csv";
+    private static final int MAX_SHOWN_INVALID_ROWS = 20;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.INTERNSHIPS);
+    }
+
+    /**
+     * Checks if the file to import is given and is a CSV or JSON Lines file.
+     *
+     * @return True if the only parameter is a path ending in .csv or .jsonl.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        return parameters.size() == 1 && parameters.containsKey("description")
+                && InternshipImporter.isSupportedFile(parameters.get("description"));
+    }
+
+    /**
+     * Executes the command to import internships from the file.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters for import command");
+            feedback.add(IMPORT_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        File file = new File(parameters.get("description"));
+        if (!file.isFile()) {
+            logger.log(Level.WARNING, "File to import does not exist");
+            result = new CommandResult(String.format(IMPORT_FILE_NOT_FOUND, file.getAbsolutePath()));
+            result.setSuccessful(false);
+            return result;
+        }
+
+        InternshipImporter.ImportedRows importedRows;
+        List<Internship> added = new ArrayList<>();
+        try {
+            importedRows = InternshipImporter.read(file);
+            List<Internship> toAdd = importedRows.getInternships();
+            LocalDate today = LocalDate.now();
+            toAdd.forEach(internship -> internship.setUpdatedOn(today));
+            List<Integer> duplicates = internships.addInternships(toAdd);
+            TreeMap<Integer, String> errors = importedRows.getErrors();
+            int nextDuplicate = 0;
+            for (int i = 0; i < toAdd.size(); i++) {
+                if (nextDuplicate < duplicates.size() && duplicates.get(nextDuplicate) == i) {
+                    errors.put(importedRows.getLineNumbers().get(i), DUPLICATE_INTERNSHIP);
+                    nextDuplicate++;
+                } else {
+                    added.add(toAdd.get(i));
+                }
+            }
+            if (!added.isEmpty()) {
+                internships.saveAddedInternships(added);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error importing internships");
+            feedback.add(e.getMessage());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        logger.log(Level.INFO, String.format("Imported %d internships", added.size()));
+        feedback.add(String.format(IMPORT_SUCCESS, added.size(), importedRows.getRowCount(), file.getPath()));
+        if (!importedRows.getErrors().isEmpty()) {
+            feedback.add(IMPORT_SKIPPED_ROWS);
+            int shown = 0;
+            for (Map.Entry<Integer, String> error : importedRows.getErrors().entrySet()) {
+                if (shown == MAX_SHOWN_INVALID_ROWS) {
+                    feedback.add(String.format(IMPORT_MORE_INVALID_ROWS, importedRows.getErrors().size() - shown));
+                    break;
+                }
+                feedback.add(String.format(IMPORT_INVALID_ROW, error.getKey(), error.getValue()));
+                shown++;
+            }
+        }
+        feedback.add(String.format(LIST_COUNT_MESSAGE, internships.getInternshipCount()));
+        result = new CommandResult(feedback);
+        result.setSuccessful(true);
+        return result;
+    }
+}
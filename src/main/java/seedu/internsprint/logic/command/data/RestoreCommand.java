@@ -0,0 +1,205 @@
+package seedu.internsprint.logic.command.data;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.BackupStore;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.StorageManager;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.BACKUP_NONE_BEFORE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.BACKUP_NOT_FOUND;
+import static seedu.internsprint.util.InternSprintExceptionMessages.BACKUP_UNAVAILABLE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RESTORE_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RESTORE_INVALID_TIME;
+import static seedu.internsprint.util.InternSprintMessages.BACKUP_LIST_ENTRY;
+import static seedu.internsprint.util.InternSprintMessages.BACKUP_LIST_HEADER;
+import static seedu.internsprint.util.InternSprintMessages.BACKUP_NONE;
+import static seedu.internsprint.util.InternSprintMessages.LIST_COUNT_MESSAGE;
+import static seedu.internsprint.util.InternSprintMessages.RESTORE_SAFETY_BACKUP;
+import static seedu.internsprint.util.InternSprintMessages.RESTORE_SUCCESS;
+
+/**
+ * Represents a command to list the backups made with {@link BackupCommand}, or to restore the data to one of them.
+ * A backup is chosen by its ID, or by a time to restore the data to, which picks the last backup made by then.
+ * The data is backed up before it is restored, so a restore can itself be undone.
+ */
+public class RestoreCommand extends Command {
+    public static final String COMMAND_WORD = "restore";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists your backups, or restores your data to one.\n"
+            + "    Without parameters, lists your backups with their IDs.\n"
+            + "    With /at, restores the last backup made at or before that time. A date alone means the end of "
+            + "that day.\n"
+            + "    Your data is backed up before it is restored, so you can restore it again if needed.\n"
+            + "    Parameters: [BACKUP_ID] [/at YYYY-MM-DD [HH:MM]]\n"
+            + "    Example: " + COMMAND_WORD + " /at 2025-03-14 18:00";
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+
+    /**
+     * Returns every store, as all of them are saved before the data is restored.
+     *
+     * @return Stores that must be loaded before restoring.
+     */
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.allOf(DataStore.class);
+    }
+
+    /**
+     * Returns true unless the backups are only listed.
+     *
+     * @return True if the data is restored.
+     */
+    @Override
+    public boolean isChangingData() {
+        return !parameters.isEmpty();
+    }
+
+    /**
+     * Checks if at most one of a backup ID or a time to restore to is given.
+     *
+     * @return True if the parameters are empty, a backup ID, or only /at.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        return parameters.isEmpty() || parameters.size() == 1
+                && (parameters.containsKey("description") || parameters.containsKey("/at"));
+    }
+
+    /**
+     * Executes the command to list the backups or restore the data to one of them.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters for restore command");
+            feedback.add(RESTORE_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        StorageManager storageManager = internships.getStorageManager();
+        if (storageManager.isUsingDatabase() || storageManager.isInMemory()) {
+            logger.log(Level.WARNING, "Backups are only available with the data files");
+            result = new CommandResult(BACKUP_UNAVAILABLE);
+            result.setSuccessful(false);
+            return result;
+        }
+        BackupStore backupStore = storageManager.getBackupStore();
+        try {
+            if (parameters.isEmpty()) {
+                return listBackups(backupStore);
+            }
+            BackupStore.Backup backup;
+            if (parameters.containsKey("/at")) {
+                LocalDateTime time = parseTime(parameters.get("/at"));
+                if (time == null) {
+                    result = new CommandResult(String.format(RESTORE_INVALID_TIME, parameters.get("/at")));
+                    result.setSuccessful(false);
+                    return result;
+                }
+                backup = backupStore.findBackupAt(time);
+                if (backup == null) {
+                    result = new CommandResult(String.format(BACKUP_NONE_BEFORE, parameters.get("/at")));
+                    result.setSuccessful(false);
+                    return result;
+                }
+            } else {
+                backup = backupStore.findBackup(parameters.get("description"));
+                if (backup == null) {
+                    result = new CommandResult(String.format(BACKUP_NOT_FOUND, parameters.get("description")));
+                    result.setSuccessful(false);
+                    return result;
+                }
+            }
+
+            BackupStore.Backup safetyBackup = BackupCommand.backUp(internships, user);
+            backupStore.restore(backup);
+            feedback.add(String.format(RESTORE_SUCCESS, backup.getCreatedAt().format(DATE_TIME_FORMAT),
+                    backup.getId()));
+            feedback.add(String.format(RESTORE_SAFETY_BACKUP, safetyBackup.getId()));
+            boolean isSuccessful = true;
+            for (CommandResult loadResult : storageManager.reloadAllData(internships, user)) {
+                if (!loadResult.isSuccessful()) {
+                    feedback.addAll(loadResult.getFeedbackToUser());
+                    isSuccessful = false;
+                }
+            }
+            storageManager.recordDataReplaced();
+            feedback.add(String.format(LIST_COUNT_MESSAGE, internships.getInternshipCount()));
+            logger.log(Level.INFO, "Restored saved data from backup " + backup.getId());
+            result = new CommandResult(feedback);
+            result.setSuccessful(isSuccessful);
+            return result;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error restoring saved data");
+            feedback.add(e.getMessage());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+    }
+
+    private static CommandResult listBackups(BackupStore backupStore) throws IOException {
+        List<BackupStore.Backup> backups = backupStore.listBackups();
+        if (backups.isEmpty()) {
+            return new CommandResult(List.of(BACKUP_NONE), true);
+        }
+        List<String> feedback = new ArrayList<>();
+        feedback.add(BACKUP_LIST_HEADER);
+        for (BackupStore.Backup backup : backups) {
+            feedback.add(String.format(BACKUP_LIST_ENTRY, backup.getId(),
+                    backup.getCreatedAt().format(DATE_TIME_FORMAT), backup.getFileCount(),
+                    BackupCommand.toKilobytes(backup.getTotalBytes())));
+        }
+        return new CommandResult(feedback, true);
+    }
+
+    /**
+     * Parses the time to restore the data to.
+     *
+     * @param value Date and time as YYYY-MM-DD HH:MM, or a date alone for the end of that day.
+     * @return Time to restore to, or null if it is not valid.
+     */
+    static LocalDateTime parseTime(String value) {
+        String trimmed = value.trim();
+        try {
+            if (trimmed.length() == "yyyy-MM-dd".length()) {
+                return LocalDate.parse(trimmed).atTime(LocalTime.MAX);
+            }
+            return LocalDateTime.parse(trimmed, DATE_TIME_FORMAT).withSecond(59).withNano(999_999_999);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.internsprint.logic.command.data;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.DataSynchronizer;
+import seedu.internsprint.storage.StorageManager;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.SYNC_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.SYNC_UNAVAILABLE;
+import static seedu.internsprint.util.InternSprintMessages.LIST_COUNT_MESSAGE;
+import static seedu.internsprint.util.InternSprintMessages.SYNC_CONFLICT;
+import static seedu.internsprint.util.InternSprintMessages.SYNC_INTERVIEW_CONFLICT;
+import static seedu.internsprint.util.InternSprintMessages.SYNC_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.SYNC_UP_TO_DATE;
+
+/**
+ * Represents a command to sync the data with another data folder, so both hold the changes made to either.
+ * Only the records that differ between the folders are compared and copied, see {@link DataSynchronizer}.
+ */
+public class SyncCommand extends Command {
+    public static final String COMMAND_WORD = "sync";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Syncs your data with another data folder.\n"
+            + "    Changes made in either folder since they were last synced are copied to the other.\n"
+            + "    An entry changed in both keeps the version of the folder given by /prefer, this one by default.\n"
+            + "    Parameters: FOLDER_PATH [/prefer local|remote]\n"
+            + "    Example: " + COMMAND_WORD + " E:/internsprint/data /prefer remote";
+    private static final String PREFER_LOCAL = "local";
+    private static final String PREFER_REMOTE = "remote";
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+
+    /**
+     * Returns every store, as all of them are compared with the other folder.
+     *
+     * @return Stores that must be loaded before syncing.
+     */
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.allOf(DataStore.class);
+    }
+
+    /**
+     * Checks if a folder is given, with /prefer as local or remote if it is given.
+     *
+     * @return True if the parameters are valid.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        if (!parameters.containsKey("description")) {
+            return false;
+        }
+        int expectedSize = 1;
+        if (parameters.containsKey("/prefer")) {
+            String prefer = parameters.get("/prefer").trim().toLowerCase();
+            if (!prefer.equals(PREFER_LOCAL) && !prefer.equals(PREFER_REMOTE)) {
+                return false;
+            }
+            expectedSize++;
+        }
+        return parameters.size() == expectedSize;
+    }
+
+    /**
+     * Executes the command to sync the data with another folder, after saving every unsaved change.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters for sync command");
+            feedback.add(SYNC_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        StorageManager storageManager = internships.getStorageManager();
+        if (storageManager.isUsingDatabase() || storageManager.isInMemory()) {
+            logger.log(Level.WARNING, "Syncing is only available with the data files");
+            result = new CommandResult(SYNC_UNAVAILABLE);
+            result.setSuccessful(false);
+            return result;
+        }
+        String path = parameters.get("description");
+        boolean isPreferringRemote = parameters.containsKey("/prefer")
+                && parameters.get("/prefer").trim().equalsIgnoreCase(PREFER_REMOTE);
+        try {
+            internships.saveInternships();
+            user.projects.saveProjects();
+            DataSynchronizer.SyncResult syncResult = storageManager.getDataSynchronizer().sync(internships, user,
+                    new File(path), isPreferringRemote);
+            if (syncResult.isUpToDate()) {
+                feedback.add(String.format(SYNC_UP_TO_DATE, path));
+            } else {
+                feedback.add(String.format(SYNC_SUCCESS, path, syncResult.getPulledCount(),
+                        syncResult.getPushedCount()));
+            }
+            String keptVersion = isPreferringRemote ? "in " + path : "here";
+            for (String conflict : syncResult.getConflicts()) {
+                feedback.add(String.format(SYNC_CONFLICT, keptVersion, conflict));
+            }
+            for (String conflict : syncResult.getKeptConflicts()) {
+                feedback.add(String.format(SYNC_INTERVIEW_CONFLICT, conflict));
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error syncing with " + path);
+            feedback.add(e.getMessage());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        feedback.add(String.format(LIST_COUNT_MESSAGE, internships.getInternshipCount()));
+        logger.log(Level.INFO, "Synced with " + path);
+        result = new CommandResult(feedback);
+        result.setSuccessful(true);
+        return result;
+    }
+}
@@ -6,10 +6,14 @@ import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.JournalEntry;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
@@ -36,6 +40,11 @@ public abstract class AddInternshipCommand extends Command {
         return "internship";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.INTERNSHIPS);
+    }
+
     /**
      * Checks if the parameters entered by the user are valid.
      *
@@ -81,12 +90,13 @@ public abstract class AddInternshipCommand extends Command {
 
         Internship toAdd;
         toAdd = createInternship();
+        toAdd.setUpdatedOn(LocalDate.now());
 
         List<String> feedback = new ArrayList<>();
 
         try {
             internships.addInternship(toAdd);
-            internships.saveInternships();
+            internships.saveMutation(JournalEntry.forAdd(toAdd));
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error saving internships to file after adding an internship");
             feedback.add(e.getMessage());
@@ -8,14 +8,18 @@ import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.internship.interview.Interview;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.JournalEntry;
 import seedu.internsprint.util.InternSprintLogger;
 import seedu.internsprint.util.InternSprintMessages;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -71,6 +75,11 @@ public class AddInterviewCommand extends Command {
         return "internship";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.INTERNSHIPS, DataStore.INTERVIEWS);
+    }
+
     /**
      * Executes the command to add an interview to an internship.
      *
@@ -167,7 +176,8 @@ public class AddInterviewCommand extends Command {
 
         try {
             internship.addInterview(interview);
-            internships.saveInternships();
+            int index = internships.getInternshipMap().get(internship.getType()).indexOf(internship);
+            internships.saveMutation(JournalEntry.forAddInterview(internship.getType(), index, interview));
             feedback.add(InternSprintMessages.SAVE_SUCCESS_MESSAGE);
         } catch (IOException e) {
             logger.severe("Error saving internships to file after adding an interview.");
@@ -6,10 +6,14 @@ import seedu.internsprint.logic.parser.CommandParser;
 import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.JournalEntry;
 import seedu.internsprint.util.InternSprintLogger;
 import seedu.internsprint.util.InternSprintMessages;
 
 import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,6 +46,11 @@ public class DeleteCommand extends Command {
         return "internship";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.INTERNSHIPS, DataStore.INTERVIEWS);
+    }
+
     /**
      * Executes the delete command.
      * It deletes the internship entry at the specified index
@@ -90,7 +99,7 @@ public class DeleteCommand extends Command {
         internships.deleteInternship(type, index);
 
         try {
-            internships.saveInternships();
+            internships.saveMutation(JournalEntry.forDelete(type, index, internshipToDelete));
         } catch (IOException e) {
             feedback.add(e.getMessage());
             result = new CommandResult(feedback);
@@ -6,12 +6,15 @@ import seedu.internsprint.logic.parser.CommandParser;
 import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,6 +42,16 @@ public class DescriptionCommand extends Command {
     public static final String[] REQUIRED_PARAMETERS = {"/index"};
     private static final Logger logger = InternSprintLogger.getLogger();
 
+    /**
+     * Returns false, as showing an internship only reads the data.
+     *
+     * @return False.
+     */
+    @Override
+    public boolean isChangingData() {
+        return false;
+    }
+
     /**
      * Checks whether the parameters provided for the description command are valid.
      * This method ensures the parameters map contains exactly the required parameters
@@ -58,6 +71,11 @@ public class DescriptionCommand extends Command {
         return "internship";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.INTERNSHIPS, DataStore.INTERVIEWS);
+    }
+
     /**
      * Executes the description command.
      *
@@ -1,5 +1,6 @@
 package seedu.internsprint.logic.command.internship;
 
+import org.json.JSONObject;
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.logic.parser.CommandParser;
@@ -9,11 +10,15 @@ import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.internship.SoftwareInternship;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
+import seedu.internsprint.storage.JournalEntry;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 
@@ -24,6 +29,7 @@ import static seedu.internsprint.util.InternSprintExceptionMessages.EDIT_INTERNS
 import static seedu.internsprint.util.InternSprintMessages.EDIT_MESSAGE_SUCCESS;
 import static seedu.internsprint.util.InternSprintMessages.MESSAGE_DUPLICATE_INTERNSHIP;
 
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -42,6 +48,11 @@ public class EditCommand extends Command {
         return "internship";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.INTERNSHIPS);
+    }
+
     /**
      * Executes a check that /index flag is present, so that specific error message can be displayed to user
      *
@@ -129,6 +140,8 @@ public class EditCommand extends Command {
                                                                             "within appropriate range";
         Internship foundInternship = internshipMap.get(type).get(index);
         Internship foundInternshipCopy = foundInternship.copy();
+        // A copy drops the ID and interview, so the change feed records the internship as it was saved
+        JSONObject previousRecord = foundInternship.toJson();
         boolean checkWrongTypeOfInternship = editParametersForFoundInternships(foundInternship);
 
         if (foundInternship == null || checkWrongTypeOfInternship) {
@@ -140,6 +153,7 @@ public class EditCommand extends Command {
             return result;
         }
 
+        foundInternship.setUpdatedOn(LocalDate.now());
         long count = internshipMap.values().stream().flatMap(List::stream)
                 .filter(internship -> internship.equals(foundInternship))
                 .count();
@@ -152,7 +166,7 @@ public class EditCommand extends Command {
         }
 
         try {
-            internships.saveInternships();
+            internships.saveMutation(JournalEntry.forEdit(type, index, foundInternship, previousRecord));
         } catch (IOException e) {
             feedback.add(e.getMessage());
             result = new CommandResult(feedback);
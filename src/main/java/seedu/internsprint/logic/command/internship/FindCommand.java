@@ -5,11 +5,14 @@ import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.INVALID_CATEGORY_ERROR;
@@ -29,6 +32,16 @@ public class FindCommand extends Command {
     public static final String[] PARAMETERS = {"/description", "/c", "/r"};
     private static final Logger logger = InternSprintLogger.getLogger();
 
+    /**
+     * Returns false, as finding internships only reads the data.
+     *
+     * @return False.
+     */
+    @Override
+    public boolean isChangingData() {
+        return false;
+    }
+
     /**
      * Checks if the parameters entered by the user are valid.
      *
@@ -66,14 +79,20 @@ public class FindCommand extends Command {
 
         assert !parameters.isEmpty() : "parameters should not be empty";
 
+        Predicate<Internship> filter = createFilter(type, companyName, role);
         ArrayList<Internship> foundInternships = new ArrayList<>();
-        internships.getInternshipMap().values().forEach(internshipList -> {
-            foundInternships.addAll(internshipList.stream()
-                .filter(internship -> (type.isEmpty() || internship.getType().toLowerCase().contains(type))
-                    && (companyName.isEmpty() || internship.getCompanyName().toLowerCase().contains(companyName))
-                    && (role.isEmpty() || internship.getRole().toLowerCase().contains(role)))
+        if (!companyName.isEmpty()) {
+            // Only the internships of matching companies are filtered, found through the company index
+            foundInternships.addAll(internships.findByCompanyName(companyName).stream()
+                .filter(filter)
                 .toList());
-        });
+        } else {
+            internships.getInternshipMap().values().forEach(internshipList -> {
+                foundInternships.addAll(internshipList.stream()
+                    .filter(filter)
+                    .toList());
+            });
+        }
 
         if (foundInternships.isEmpty()) {
             result = new CommandResult(NO_INTERNSHIPS_FOUND);
@@ -89,6 +108,21 @@ public class FindCommand extends Command {
         return result;
     }
 
+    /**
+     * Creates the filter used to find internships, which matches internships whose type, company name and role
+     * contain the given values, ignoring case. Blank values match every internship.
+     *
+     * @param type Type of internship, in lower case.
+     * @param companyName Part of the company name, in lower case.
+     * @param role Part of the role, in lower case.
+     * @return Filter matching the internships to be found.
+     */
+    public static Predicate<Internship> createFilter(String type, String companyName, String role) {
+        return internship -> (type.isEmpty() || internship.getType().toLowerCase().contains(type))
+            && (companyName.isEmpty() || internship.getCompanyName().toLowerCase().contains(companyName))
+            && (role.isEmpty() || internship.getRole().toLowerCase().contains(role));
+    }
+
     private CommandResult checkInputs(String type, String companyName, String role) {
         CommandResult result;
         if (!isValidParameters()) {
@@ -122,4 +156,9 @@ public class FindCommand extends Command {
     public String getCommandType() {
         return "internship";
     }
+
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.INTERNSHIPS);
+    }
 }
@@ -3,6 +3,14 @@ package seedu.internsprint.logic.command.internship;
 import seedu.internsprint.logic.command.ByeCommand;
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.logic.command.data.ArchiveCommand;
+import seedu.internsprint.logic.command.data.BackupCommand;
+import seedu.internsprint.logic.command.data.CheckCommand;
+import seedu.internsprint.logic.command.data.ConvertCommand;
+import seedu.internsprint.logic.command.data.ExportCommand;
+import seedu.internsprint.logic.command.data.ImportCommand;
+import seedu.internsprint.logic.command.data.RestoreCommand;
+import seedu.internsprint.logic.command.data.SyncCommand;
 import seedu.internsprint.logic.command.user.ProjectGeneralCommand;
 import seedu.internsprint.logic.command.user.ProjectSoftwareCommand;
 import seedu.internsprint.logic.command.user.ProjectHardwareCommand;
@@ -13,9 +21,12 @@ import seedu.internsprint.logic.command.user.ViewHardwareProjectsCommand;
 import seedu.internsprint.logic.command.user.ViewUserCommand;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
 import seedu.internsprint.util.InternSprintExceptionMessages;
 import seedu.internsprint.util.InternSprintLogger;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -52,6 +63,14 @@ public class HelpCommand extends Command {
         COMMAND_HELP_MESSAGES.put("view general", ViewGeneralProjectsCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("view hardware", ViewHardwareProjectsCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("view software", ViewSoftwareProjectsCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("convert", ConvertCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("import", ImportCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("export", ExportCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("backup", BackupCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("restore", RestoreCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("sync", SyncCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("archive", ArchiveCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("check", CheckCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("bye", ByeCommand.MESSAGE_USAGE);
     }
 
@@ -60,6 +79,21 @@ public class HelpCommand extends Command {
         return "internship";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.noneOf(DataStore.class);
+    }
+
+    /**
+     * Returns false, as showing help only reads the data.
+     *
+     * @return False.
+     */
+    @Override
+    public boolean isChangingData() {
+        return false;
+    }
+
     /**
      * Checks if the parameters passed to the HelpCommand are valid.
      * The help command accepts either no parameters or a single parameter.
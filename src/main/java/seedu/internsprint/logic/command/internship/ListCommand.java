@@ -5,10 +5,13 @@ import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,6 +44,21 @@ public class ListCommand extends Command {
         return "internship";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.INTERNSHIPS);
+    }
+
+    /**
+     * Returns false, as listing the internships only reads the data.
+     *
+     * @return False.
+     */
+    @Override
+    public boolean isChangingData() {
+        return false;
+    }
+
     @Override
     protected boolean isValidParameters() {
         logger.log(Level.INFO, "Entering into the check for parameters in list command");
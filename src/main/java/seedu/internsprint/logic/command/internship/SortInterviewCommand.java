@@ -5,16 +5,18 @@ import de.vandermeer.asciitable.CWC_LongestLine;
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipIndex;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.internship.interview.Interview;
 import seedu.internsprint.model.internship.interview.InterviewEntry;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
 import seedu.internsprint.util.InternSprintLogger;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -49,6 +51,21 @@ public class SortInterviewCommand extends Command {
         return "interview";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.INTERNSHIPS, DataStore.INTERVIEWS);
+    }
+
+    /**
+     * Returns false, as sorting the interviews only changes the order they are shown in.
+     *
+     * @return False.
+     */
+    @Override
+    public boolean isChangingData() {
+        return false;
+    }
+
     @Override
     protected boolean isValidParameters() {
         return parameters.isEmpty();
@@ -70,7 +87,6 @@ public class SortInterviewCommand extends Command {
         assert user != null : "UserProfile cannot be null";
 
         List<String> feedback = new ArrayList<>();
-        List<InterviewEntry> allEntries = collectAllInterviews(internships);
         CommandResult result;
 
         if (!isValidParameters()) {
@@ -82,7 +98,7 @@ public class SortInterviewCommand extends Command {
             return result;
         }
 
-        sortInterviewEntries(allEntries);
+        List<InterviewEntry> allEntries = collectSortedInterviews(internships);
         logger.log(Level.INFO, "Interview entries sorted successfully.");
 
         if (allEntries.isEmpty()) {
@@ -160,55 +176,21 @@ public class SortInterviewCommand extends Command {
     }
 
     /**
-     * Sorts the given list of interview entries based on interview date and start time.
-     *
-     * @param allEntries the list of {@code InterviewEntry} objects to sort.
-     */
-    private void sortInterviewEntries(List<InterviewEntry> allEntries) {
-        allEntries.sort(Comparator.comparing(entry -> LocalDateTime.of(
-                        entry.getInterview().getUnformattedInterviewDate(),
-                        entry.getInterview().getUnformattedInterviewStartTime()
-                )
-        ));
-    }
-
-    /**
-     * Recursively collects all interviews from the internship list, including follow-up rounds.
+     * Collects all interviews from the internship list, including follow-up rounds, sorted by date and start time.
+     * The interviews are read in order from the interview date index, so they do not have to be sorted each time.
      *
-     * @param internshipList The InternshipList to collect interviews from.
+     * @param internships The InternshipList to collect interviews from.
      * @return A list of InterviewEntry objects each containing a pair of internship and one round of interview.
      */
-    private List<InterviewEntry> collectAllInterviews(InternshipList internshipList) {
-        logger.log(Level.INFO, "Collecting all interviews from internship list");
-        List<InterviewEntry> allInterviews = new ArrayList<>();
-
-        for (ArrayList<Internship> internships : internshipList.getInternshipMap().values()) {
-            for (Internship internship : internships) {
-                Interview interview = internship.getInterview();
-                if (interview != null) {
-                    allInterviews.add(new InterviewEntry(internship, interview));
-                    collectNextRounds(internship, interview.getNextRounds(), allInterviews);
-                }
-            }
+    private List<InterviewEntry> collectSortedInterviews(InternshipList internships) {
+        InternshipIndex index = internships.getIndex(InternshipIndex.Kind.INTERVIEW_DATE);
+        List<InterviewEntry> allInterviews = new ArrayList<>(index.size());
+        for (int i = 0; i < index.size(); i++) {
+            Interview interview = index.getInterview(internships, i);
+            assert interview != null : "Interview round cannot be null";
+            allInterviews.add(new InterviewEntry(index.getInternship(internships, i), interview));
         }
-        logger.log(Level.INFO, "Successfully collected a total of" + allInterviews.size() + " interview entries.");
+        logger.log(Level.INFO, "Successfully collected a total of " + allInterviews.size() + " interview entries.");
         return allInterviews;
     }
-
-    /**
-     * Recursively collects next round interviews within the same interview adds them to the result list.
-     *
-     * @param internship The internship associated with the interviews.
-     * @param rounds     A list of follow-up interview rounds.
-     * @param result     The list to which the collected InterviewEntry objects are added.
-     */
-    private void collectNextRounds(Internship internship, List<Interview> rounds, List<InterviewEntry> result) {
-        logger.log(Level.FINE, "Entering collectNextRounds with " + rounds.size() + "rounds");
-        for (Interview round : rounds) {
-            assert round != null : "Interview round cannot be null";
-            result.add(new InterviewEntry(internship, round));
-            collectNextRounds(internship, round.getNextRounds(), result);
-        }
-        logger.log(Level.FINE, "Exiting collectNextRounds");
-    }
 }
@@ -5,10 +5,12 @@ import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
 import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.storage.DataStore;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
@@ -34,6 +36,11 @@ public abstract class ProjectCommand extends Command {
         return "user";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.PROJECTS);
+    }
+
     /**
      * Checks if the parameters entered by the user are valid.
      *
@@ -96,7 +103,7 @@ public abstract class ProjectCommand extends Command {
         feedback.add(String.format(PROJECT_LIST_COUNT_MESSAGE, user.projects.getProjectCount()));
 
         try {
-            user.projects.saveProjects();
+            user.projects.saveAddedProject(toAdd);
         } catch (IOException e) {
             logger.log(Level.WARNING, "Error saving project after adding an internship");
             feedback.add(e.getMessage());
@@ -4,6 +4,7 @@ import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.util.ArrayList;
@@ -15,6 +16,8 @@ import static seedu.internsprint.util.InternSprintExceptionMessages.INVALID_STIP
 import static seedu.internsprint.util.InternSprintExceptionMessages.NOTE_NO_PARAMETERS;
 
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -41,6 +44,11 @@ public class UserProfileCommand extends Command {
         return "user";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.PROFILE);
+    }
+
     /**
      * Check that only predefined flags are entered by user
      *
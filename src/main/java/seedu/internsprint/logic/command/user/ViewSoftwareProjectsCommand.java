@@ -5,10 +5,13 @@ import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.model.userprofile.project.Project;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,6 +25,16 @@ public class ViewSoftwareProjectsCommand extends Command {
             + "    Example: " + COMMAND_WORD;
     private static final Logger logger = InternSprintLogger.getLogger();
 
+    /**
+     * Returns false, as viewing projects only reads the data.
+     *
+     * @return False.
+     */
+    @Override
+    public boolean isChangingData() {
+        return false;
+    }
+
     @Override
     protected boolean isValidParameters() {
         assert parameters.isEmpty() : "There should be no flags in this command.";
@@ -33,6 +46,11 @@ public class ViewSoftwareProjectsCommand extends Command {
         return "user";
     }
 
+    @Override
+    public Set<DataStore> getRequiredData() {
+        return EnumSet.of(DataStore.PROJECTS);
+    }
+
     /**
      * Showcases CV-formatted version of projects
      *
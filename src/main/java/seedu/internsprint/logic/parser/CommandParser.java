@@ -5,6 +5,14 @@ import seedu.internsprint.logic.command.internship.AddHardwareInternshipCommand;
 import seedu.internsprint.logic.command.internship.AddInterviewCommand;
 import seedu.internsprint.logic.command.internship.AddSoftwareInternshipCommand;
 import seedu.internsprint.logic.command.ByeCommand;
+import seedu.internsprint.logic.command.data.ArchiveCommand;
+import seedu.internsprint.logic.command.data.BackupCommand;
+import seedu.internsprint.logic.command.data.CheckCommand;
+import seedu.internsprint.logic.command.data.ConvertCommand;
+import seedu.internsprint.logic.command.data.ExportCommand;
+import seedu.internsprint.logic.command.data.ImportCommand;
+import seedu.internsprint.logic.command.data.RestoreCommand;
+import seedu.internsprint.logic.command.data.SyncCommand;
 import seedu.internsprint.logic.command.internship.EditCommand;
 import seedu.internsprint.logic.command.internship.SortInterviewCommand;
 import seedu.internsprint.logic.command.user.UserProfileCommand;
@@ -31,6 +39,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.ILLEGAL_VALUE_INPUT;
@@ -46,6 +56,7 @@ import static seedu.internsprint.util.InternSprintExceptionMessages.REPEATED_FLA
  */
 public class CommandParser {
     private static final Logger logger = InternSprintLogger.getLogger();
+    private static final Pattern FLAG_AFTER_FILE_PATH = Pattern.compile("(^|\\s)/[a-zA-Z]+(?=\\s|$)");
 
     /**
      * Parses the user input and returns the corresponding Command object.
@@ -125,6 +136,33 @@ public class CommandParser {
         case "project hardware":
             command = new ProjectHardwareCommand();
             break;
+        case "convert":
+            command = new ConvertCommand();
+            break;
+        case "import":
+            command = new ImportCommand();
+            parseFilePathAndFlags(params, command);
+            return command;
+        case "export":
+            command = new ExportCommand();
+            parseFilePathAndFlags(params, command);
+            return command;
+        case "backup":
+            command = new BackupCommand();
+            break;
+        case "restore":
+            command = new RestoreCommand();
+            break;
+        case "sync":
+            command = new SyncCommand();
+            parseFilePathAndFlags(params, command);
+            return command;
+        case "archive":
+            command = new ArchiveCommand();
+            break;
+        case "check":
+            command = new CheckCommand();
+            break;
         default:
             throw new IllegalArgumentException(INVALID_COMMAND_TYPE);
         }
@@ -208,6 +246,24 @@ public class CommandParser {
         command.setParameters(keyValueMap);
     }
 
+    /**
+     * Parses a parameters string that starts with a file path, followed by optional flags.
+     * The file path may contain '/', so only a '/' that starts a word and is followed by a space, or ends the
+     * string, is taken as the start of a flag.
+     *
+     * @param params  Parameters string.
+     * @param command Command object.
+     */
+    protected static void parseFilePathAndFlags(String params, Command command) {
+        Matcher flag = FLAG_AFTER_FILE_PATH.matcher(params);
+        int flagsStart = flag.find() ? flag.start() : params.length();
+        parseKeyValuePairs(params.substring(flagsStart), command);
+        String description = params.substring(0, flagsStart).trim();
+        if (!description.isEmpty()) {
+            command.getParameters().put("description", description);
+        }
+    }
+
     /**
      * Splits the input string from the user into individual words for user profile class
      *
@@ -0,0 +1,86 @@
+package seedu.internsprint.model.internship;
+
+import seedu.internsprint.model.internship.interview.Interview;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Represents the rules deciding which internships are moved to the archive: those with a given status, those not
+ * changed for a number of months, or only those that are both if both rules are given.
+ * <p>
+ * An internship was last changed when it was last added or edited, or on the date of its latest interview round
+ * if that is later, so an internship with an interview coming up is never taken as unchanged. An internship saved
+ * before the date of its last change was kept, and without interview rounds, is never taken as unchanged.
+ */
+public class ArchivePolicy {
+    public static final int NO_MONTHS = -1;
+
+    private final String status;
+    private final int months;
+
+    /**
+     * Creates a policy from its rules, at least one of which must be given.
+     *
+     * @param status Status of the internships to be archived, ignoring case, or null for any status.
+     * @param months Number of months the internships to be archived have not changed for, or {@link #NO_MONTHS}.
+     */
+    public ArchivePolicy(String status, int months) {
+        assert status != null || months != NO_MONTHS : "An archive policy should have at least one rule";
+        assert months == NO_MONTHS || months > 0 : "Months should be positive";
+        this.status = status == null ? null : status.trim();
+        this.months = months;
+    }
+
+    /**
+     * Returns true if the internship is to be archived under this policy.
+     *
+     * @param internship Internship to be checked, with its interviews loaded.
+     * @param today Date the policy is applied on.
+     * @return True if the internship matches every rule of the policy.
+     */
+    public boolean matches(Internship internship, LocalDate today) {
+        if (status != null && (internship.getStatus() == null || !internship.getStatus().equalsIgnoreCase(status))) {
+            return false;
+        }
+        if (months == NO_MONTHS) {
+            return true;
+        }
+        LocalDate lastChange = getLastChange(internship);
+        return lastChange != null && !lastChange.isAfter(today.minusMonths(months));
+    }
+
+    /**
+     * Returns the date an internship was last changed, counting the dates of its interview rounds.
+     *
+     * @param internship Internship with its interviews loaded.
+     * @return Date of the last change, or null if it is not known.
+     */
+    public static LocalDate getLastChange(Internship internship) {
+        LocalDate lastChange = internship.getUpdatedOn();
+        if (internship.getInterview() != null) {
+            lastChange = getLatestRound(internship.getInterview(), lastChange);
+        }
+        return lastChange;
+    }
+
+    private static LocalDate getLatestRound(Interview interview, LocalDate latest) {
+        LocalDate date = interview.getUnformattedInterviewDate();
+        if (latest == null || date.isAfter(latest)) {
+            latest = date;
+        }
+        List<Interview> nextRounds = interview.getNextRounds();
+        for (Interview nextRound : nextRounds) {
+            latest = getLatestRound(nextRound, latest);
+        }
+        return latest;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+}
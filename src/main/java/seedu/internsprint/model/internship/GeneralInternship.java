@@ -1,10 +1,13 @@
 package seedu.internsprint.model.internship;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.json.JSONObject;
+import seedu.internsprint.storage.JsonWriter;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
 
@@ -37,7 +40,10 @@ public class GeneralInternship extends Internship {
      * @return Copy of the general internship.
      */
     public GeneralInternship copy() {
-        return new GeneralInternship(companyName, role, department, eligibility, description, status, expectations);
+        GeneralInternship copy = new GeneralInternship(companyName, role, department, eligibility, description,
+                status, expectations);
+        copy.setUpdatedOn(updatedOn);
+        return copy;
     }
 
     /**
@@ -84,6 +90,16 @@ public class GeneralInternship extends Internship {
                 && department.equals(generalInternship.getDepartment());
     }
 
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, from the company name, role and department.
+     *
+     * @return Hash code of the general internship.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(companyName, role, department);
+    }
+
     /**
      * Returns a JSON object representing the general internship.
      *
@@ -101,9 +117,37 @@ public class GeneralInternship extends Internship {
         orderedMap.put("description", description);
         orderedMap.put("status", status);
         orderedMap.put("expectations", expectations);
+        orderedMap.put("updatedOn", updatedOn);
+        if (hasInterview()) {
+            orderedMap.put("hasInterview", true);
+        }
         return new JSONObject(orderedMap);
     }
 
+    /**
+     * Writes the general internship as a JSON object directly to the writer.
+     *
+     * @param writer Writer to write the JSON object to.
+     */
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.field("internshipId", internshipId);
+        writer.field("type", "general");
+        writer.field("companyName", companyName);
+        writer.field("role", role);
+        writer.field("department", department);
+        writer.field("eligibility", eligibility);
+        writer.field("description", description);
+        writer.field("status", status);
+        writer.field("expectations", expectations);
+        writer.field("updatedOn", updatedOn);
+        if (hasInterview()) {
+            writer.field("hasInterview", true);
+        }
+        writer.endObject();
+    }
+
     /**
      * Returns a GeneralInternship object from a JSON object.
      *
@@ -121,6 +165,8 @@ public class GeneralInternship extends Internship {
                 json.optString("expectations", "")
         );
         generalInternship.setInternshipId(json.getInt("internshipId"));
+        generalInternship.setHasStoredInterview(json.optBoolean("hasInterview"));
+        generalInternship.setUpdatedOn(readUpdatedOn(json));
         return generalInternship;
     }
 
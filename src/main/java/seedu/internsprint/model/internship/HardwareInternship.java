@@ -1,10 +1,13 @@
 package seedu.internsprint.model.internship;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.json.JSONObject;
+import seedu.internsprint.storage.JsonWriter;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
 
@@ -37,8 +40,10 @@ public class HardwareInternship extends Internship {
      * @return Copy of the hardware internship.
      */
     public HardwareInternship copy() {
-        return new HardwareInternship(companyName, role, embeddedSystems, eligibility,
+        HardwareInternship copy = new HardwareInternship(companyName, role, embeddedSystems, eligibility,
             description, status, expectations);
+        copy.setUpdatedOn(updatedOn);
+        return copy;
     }
 
     /**
@@ -85,6 +90,16 @@ public class HardwareInternship extends Internship {
                 && embeddedSystems.equals(hardwareInternship.getEmbeddedSystems());
     }
 
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, from the company name, role and embedded systems.
+     *
+     * @return Hash code of the hardware internship.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(companyName, role, embeddedSystems);
+    }
+
     /**
      * Converts the hardware internship to a JSON object.
      *
@@ -102,9 +117,37 @@ public class HardwareInternship extends Internship {
         orderedMap.put("description", description);
         orderedMap.put("status", status);
         orderedMap.put("expectations", expectations);
+        orderedMap.put("updatedOn", updatedOn);
+        if (hasInterview()) {
+            orderedMap.put("hasInterview", true);
+        }
         return new JSONObject(orderedMap);
     }
 
+    /**
+     * Writes the hardware internship as a JSON object directly to the writer.
+     *
+     * @param writer Writer to write the JSON object to.
+     */
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.field("internshipId", internshipId);
+        writer.field("type", "hardware");
+        writer.field("companyName", companyName);
+        writer.field("role", role);
+        writer.field("embeddedSystems", embeddedSystems);
+        writer.field("eligibility", eligibility);
+        writer.field("description", description);
+        writer.field("status", status);
+        writer.field("expectations", expectations);
+        writer.field("updatedOn", updatedOn);
+        if (hasInterview()) {
+            writer.field("hasInterview", true);
+        }
+        writer.endObject();
+    }
+
     /**
      * Converts a JSON object to a hardware internship.
      *
@@ -122,6 +165,8 @@ public class HardwareInternship extends Internship {
                 json.optString("expectations", "")
         );
         hardwareInternship.setInternshipId(json.getInt("internshipId"));
+        hardwareInternship.setHasStoredInterview(json.optBoolean("hasInterview"));
+        hardwareInternship.setUpdatedOn(readUpdatedOn(json));
         return hardwareInternship;
     }
 
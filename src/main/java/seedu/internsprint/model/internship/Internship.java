@@ -2,12 +2,18 @@ package seedu.internsprint.model.internship;
 
 import seedu.internsprint.exceptions.DuplicateEntryException;
 import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.storage.JsonWriter;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
+import static seedu.internsprint.util.InternSprintMessages.INTERVIEW_NOT_LOADED;
 
 /**
  * Represents an internship.
@@ -27,6 +33,12 @@ public abstract class Internship {
     protected Interview interview;
     protected int internshipId;
 
+    /* Date the internship was last added or edited, or null if it was saved before such dates were kept */
+    protected LocalDate updatedOn = null;
+
+    /* Set when the stored internship has an interview that has not been loaded yet */
+    protected boolean hasStoredInterview = false;
+
     public Internship(String companyName, String role) {
         if (companyName == null || role == null || companyName.isBlank() || role.isBlank()) {
             throw new IllegalArgumentException(String.format(MISSING_REQUIRED_PARAMETERS, "/c or /r"));
@@ -110,6 +122,8 @@ public abstract class Internship {
         }
         if (interview != null) {
             internshipString.addAll(interview.toDescription());
+        } else if (hasStoredInterview) {
+            internshipString.add(INTERVIEW_NOT_LOADED);
         }
         return internshipString;
     }
@@ -130,6 +144,13 @@ public abstract class Internship {
      */
     public abstract JSONObject toJson();
 
+    /**
+     * Writes the internship as a JSON object directly to the writer.
+     *
+     * @param writer Writer to write the JSON object to.
+     */
+    public abstract void writeJson(JsonWriter writer) throws IOException;
+
     public void setCompanyName(String companyName) {
         this.companyName = companyName;
     }
@@ -186,6 +207,20 @@ public abstract class Internship {
 
     public void setInterview(Interview interview) {
         this.interview = interview;
+        hasStoredInterview = false;
+    }
+
+    /**
+     * Returns true if the internship has an interview, including one that is stored but not loaded yet.
+     *
+     * @return True if the internship has an interview.
+     */
+    public boolean hasInterview() {
+        return interview != null || hasStoredInterview;
+    }
+
+    public void setHasStoredInterview(boolean hasStoredInterview) {
+        this.hasStoredInterview = hasStoredInterview;
     }
 
     public int getInternshipId() {
@@ -195,4 +230,31 @@ public abstract class Internship {
     public void setInternshipId(int internshipId) {
         this.internshipId = internshipId;
     }
+
+    public LocalDate getUpdatedOn() {
+        return updatedOn;
+    }
+
+    public void setUpdatedOn(LocalDate updatedOn) {
+        this.updatedOn = updatedOn;
+    }
+
+    /**
+     * Reads the date an internship was last added or edited from its JSON object, as written by {@link #toJson()}.
+     *
+     * @param json JSON object representing the internship.
+     * @return Date the internship was last changed, or null if the object has none.
+     * @throws JSONException If the date is not a valid date.
+     */
+    protected static LocalDate readUpdatedOn(JSONObject json) {
+        String updatedOn = json.optString("updatedOn", "");
+        if (updatedOn.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(updatedOn);
+        } catch (DateTimeParseException e) {
+            throw new JSONException("Invalid updatedOn date: " + updatedOn);
+        }
+    }
 }
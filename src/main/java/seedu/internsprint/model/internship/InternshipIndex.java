@@ -0,0 +1,289 @@
+package seedu.internsprint.model.internship;
+
+import seedu.internsprint.model.internship.interview.Interview;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents an index over the internships of a list, with one entry per internship or interview round sorted by
+ * a key, such as the internship ID.
+ * <p>
+ * Each entry holds its key, the position of its internship in the list and, for interview rounds, which round of
+ * the internship it is. Entries with equal keys keep the order of the list. The entries are kept in a byte buffer in
+ * the format they are saved in, so an index saved next to the data files can be memory-mapped and used as it is,
+ * without being built again. The company index keys each entry by where its company name, in lower case, is kept in
+ * a table of names after the entries.
+ */
+public class InternshipIndex {
+    /**
+     * Represents what an index is sorted by.
+     */
+    public enum Kind {
+        ID,
+        COMPANY,
+        INTERVIEW_DATE
+    }
+
+    public static final List<String> TYPES = List.of("software", "hardware", "general");
+    private static final int ENTRY_SIZE = Long.BYTES + 2 * Integer.BYTES;
+    private static final int TYPE_SHIFT = 24;
+    private static final int INDEX_MASK = (1 << TYPE_SHIFT) - 1;
+
+    private final Kind kind;
+    private final ByteBuffer buffer;
+    private final int size;
+
+    private InternshipIndex(Kind kind, ByteBuffer buffer) {
+        this.kind = kind;
+        this.buffer = buffer;
+        this.size = buffer.getInt(0);
+    }
+
+    /**
+     * Represents one entry while an index is built.
+     */
+    private static class Entry {
+        private final long key;
+        private final String name;
+        private final int position;
+        private final int round;
+
+        private Entry(long key, String name, int position, int round) {
+            this.key = key;
+            this.name = name;
+            this.position = position;
+            this.round = round;
+        }
+    }
+
+    /**
+     * Builds an index over the internships of a list as they are now.
+     *
+     * @param kind What the index is sorted by.
+     * @param internships List of internships to be indexed, with their interviews loaded for an interview index.
+     * @return Index over the list.
+     */
+    public static InternshipIndex build(Kind kind, InternshipList internships) {
+        List<Entry> entries = new ArrayList<>();
+        for (Map.Entry<String, ArrayList<Internship>> internshipsOfType : internships.getInternshipMap().entrySet()) {
+            int type = TYPES.indexOf(internshipsOfType.getKey());
+            List<Internship> list = internshipsOfType.getValue();
+            assert list.size() <= INDEX_MASK : "Positions should fit in an index entry";
+            for (int i = 0; i < list.size(); i++) {
+                Internship internship = list.get(i);
+                int position = type << TYPE_SHIFT | i;
+                switch (kind) {
+                case ID:
+                    entries.add(new Entry(internship.getInternshipId(), null, position, 0));
+                    break;
+                case COMPANY:
+                    entries.add(new Entry(0, internship.getCompanyName().toLowerCase(), position, 0));
+                    break;
+                default:
+                    List<Interview> rounds = getRounds(internship);
+                    for (int round = 0; round < rounds.size(); round++) {
+                        entries.add(new Entry(getDateKey(rounds.get(round)), null, position, round));
+                    }
+                    break;
+                }
+            }
+        }
+        // A stable sort, so entries with equal keys keep the order of the list
+        entries.sort(kind == Kind.COMPANY ? Comparator.comparing(entry -> entry.name)
+                : Comparator.comparingLong(entry -> entry.key));
+        return new InternshipIndex(kind, write(entries));
+    }
+
+    /**
+     * Uses an index saved from {@link #getBuffer()}, such as one memory-mapped from a file.
+     *
+     * @param kind What the index is sorted by.
+     * @param buffer Buffer holding the index, from position 0.
+     * @return Index held by the buffer.
+     * @throws IllegalArgumentException If the buffer is too short for the entries it says it holds.
+     */
+    public static InternshipIndex wrap(Kind kind, ByteBuffer buffer) {
+        if (buffer.limit() < Integer.BYTES) {
+            throw new IllegalArgumentException("Index is too short");
+        }
+        int size = buffer.getInt(0);
+        if (size < 0 || Integer.BYTES + (long) size * ENTRY_SIZE > buffer.limit()) {
+            throw new IllegalArgumentException("Index is too short for " + size + " entries");
+        }
+        return new InternshipIndex(kind, buffer);
+    }
+
+    private static ByteBuffer write(List<Entry> entries) {
+        List<byte[]> names = new ArrayList<>();
+        int namesSize = 0;
+        long[] keys = new long[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry.name == null) {
+                keys[i] = entry.key;
+            } else if (i > 0 && entry.name.equals(entries.get(i - 1).name)) {
+                keys[i] = keys[i - 1];
+            } else {
+                byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+                keys[i] = Integer.BYTES + (long) entries.size() * ENTRY_SIZE + namesSize;
+                names.add(name);
+                namesSize += Integer.BYTES + name.length;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + entries.size() * ENTRY_SIZE + namesSize);
+        buffer.putInt(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            buffer.putLong(keys[i]).putInt(entries.get(i).position).putInt(entries.get(i).round);
+        }
+        for (byte[] name : names) {
+            buffer.putInt(name.length).put(name);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Returns the interview rounds of an internship in the order they are shown, numbering them for the index.
+     */
+    private static List<Interview> getRounds(Internship internship) {
+        List<Interview> rounds = new ArrayList<>();
+        if (internship.getInterview() != null) {
+            rounds.add(internship.getInterview());
+            addNextRounds(internship.getInterview().getNextRounds(), rounds);
+        }
+        return rounds;
+    }
+
+    private static void addNextRounds(List<Interview> nextRounds, List<Interview> rounds) {
+        for (Interview round : nextRounds) {
+            rounds.add(round);
+            addNextRounds(round.getNextRounds(), rounds);
+        }
+    }
+
+    private static long getDateKey(Interview round) {
+        return round.getUnformattedInterviewDate().toEpochDay() * 86_400
+                + round.getUnformattedInterviewStartTime().toSecondOfDay();
+    }
+
+    /**
+     * Returns the first entry whose key is at least the given key.
+     *
+     * @param key Key to search for.
+     * @return Position of the entry, or {@link #size()} if every key is smaller.
+     */
+    public int findFirst(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getKey(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the key of an entry: the internship ID, the start of the interview round in seconds since the epoch,
+     * or where the company name is kept, which is equal for entries of the same company.
+     *
+     * @param entry Position of the entry.
+     * @return Key of the entry.
+     */
+    public long getKey(int entry) {
+        return buffer.getLong(Integer.BYTES + entry * ENTRY_SIZE);
+    }
+
+    /**
+     * Returns the company name of an entry of a company index, in lower case.
+     *
+     * @param entry Position of the entry.
+     * @return Company name of the entry.
+     */
+    public String getCompanyName(int entry) {
+        assert kind == Kind.COMPANY : "Only the company index holds names";
+        int offset = (int) getKey(entry);
+        byte[] name = new byte[buffer.getInt(offset)];
+        buffer.get(offset + Integer.BYTES, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the type of the internship of an entry.
+     *
+     * @param entry Position of the entry.
+     * @return Type of the internship.
+     */
+    public String getType(int entry) {
+        return TYPES.get(getPosition(entry) >>> TYPE_SHIFT);
+    }
+
+    /**
+     * Returns the index of the internship of an entry within its type.
+     *
+     * @param entry Position of the entry.
+     * @return Index of the internship within its type.
+     */
+    public int getIndexInType(int entry) {
+        return getPosition(entry) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the internship of an entry from the list the index was built over.
+     *
+     * @param internships List the index was built over.
+     * @param entry Position of the entry.
+     * @return Internship of the entry, or null if the list has no internship there.
+     */
+    public Internship getInternship(InternshipList internships, int entry) {
+        List<Internship> internshipsOfType = internships.getInternshipMap().get(getType(entry));
+        int index = getIndexInType(entry);
+        return index < internshipsOfType.size() ? internshipsOfType.get(index) : null;
+    }
+
+    /**
+     * Returns the interview round of an entry of an interview index from the list the index was built over.
+     *
+     * @param internships List the index was built over.
+     * @param entry Position of the entry.
+     * @return Interview round of the entry, or null if the list has no such round.
+     */
+    public Interview getInterview(InternshipList internships, int entry) {
+        assert kind == Kind.INTERVIEW_DATE : "Only the interview index holds interview rounds";
+        Internship internship = getInternship(internships, entry);
+        int round = buffer.getInt(Integer.BYTES + entry * ENTRY_SIZE + Long.BYTES + Integer.BYTES);
+        if (internship == null || round == 0) {
+            return internship == null ? null : internship.getInterview();
+        }
+        List<Interview> rounds = getRounds(internship);
+        return round < rounds.size() ? rounds.get(round) : null;
+    }
+
+    private int getPosition(int entry) {
+        return buffer.getInt(Integer.BYTES + entry * ENTRY_SIZE + Long.BYTES);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the buffer holding the index, to be saved.
+     *
+     * @return Read-only view of the index, from position 0.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer.asReadOnlyBuffer().position(0);
+    }
+}
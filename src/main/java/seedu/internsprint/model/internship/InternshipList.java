@@ -3,11 +3,17 @@ package seedu.internsprint.model.internship;
 import seedu.internsprint.exceptions.DuplicateEntryException;
 import seedu.internsprint.model.internship.interview.Interview;
 import seedu.internsprint.storage.InternshipStorageHandler;
+import seedu.internsprint.storage.JournalEntry;
+import seedu.internsprint.storage.JournalStorageHandler;
 import seedu.internsprint.storage.StorageManager;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.DUPLICATE_INTERNSHIP;
 import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WRITE_FILE;
@@ -18,9 +24,20 @@ import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WR
 public class InternshipList {
     protected final HashMap<String, ArrayList<Internship>> internshipMap = new HashMap<>();
     protected int internshipCount = 0;
-    private final StorageManager storageManager = StorageManager.getInstance();
+    private final StorageManager storageManager;
+    private final EnumMap<InternshipIndex.Kind, InternshipIndex> indexes = new EnumMap<>(InternshipIndex.Kind.class);
 
-    public InternshipList( ) {
+    public InternshipList() {
+        this(StorageManager.getInstance());
+    }
+
+    /**
+     * Creates an empty list whose internships are saved by the given storage manager, such as the one of a tenant.
+     *
+     * @param storageManager Storage manager saving the internships.
+     */
+    public InternshipList(StorageManager storageManager) {
+        this.storageManager = storageManager;
         internshipMap.put("software", new ArrayList<>());
         internshipMap.put("hardware", new ArrayList<>());
         internshipMap.put("general", new ArrayList<>());
@@ -39,10 +56,50 @@ public class InternshipList {
         internship.setInternshipId(internshipCount);
         internshipMap.get(type).add(internship);
         internshipCount++;
+        invalidateIndexes();
         assert contains(internship) : "Internship should be in the list";
         assert internshipCount > 0 : "At least one internship should be in the list";
     }
 
+    /**
+     * Adds many internships to the list at once, skipping those already in the list or earlier in the batch.
+     * Duplicates are found with a hash set of each type instead of searching the list for every internship.
+     *
+     * @param toAdd Internships to be added, in order.
+     * @return Positions in {@code toAdd} of the internships that were skipped as duplicates.
+     */
+    public List<Integer> addInternships(List<Internship> toAdd) {
+        HashMap<String, HashSet<Internship>> existing = new HashMap<>();
+        internshipMap.forEach((type, internships) -> existing.put(type, new HashSet<>(internships)));
+        List<Integer> duplicates = new ArrayList<>();
+        for (int i = 0; i < toAdd.size(); i++) {
+            Internship internship = toAdd.get(i);
+            if (!existing.get(internship.getType()).add(internship)) {
+                duplicates.add(i);
+                continue;
+            }
+            internship.setInternshipId(internshipCount);
+            internshipMap.get(internship.getType()).add(internship);
+            internshipCount++;
+        }
+        invalidateIndexes();
+        return duplicates;
+    }
+
+    /**
+     * Adds an internship read back from storage that has already been checked for duplicates, such as one from a
+     * binary snapshot, which was saved from a list that passed the check, or one from a segment that the loader
+     * checked against the internships loaded before it.
+     *
+     * @param internship Internship to be added.
+     */
+    public void restoreInternship(Internship internship) {
+        internship.setInternshipId(internshipCount);
+        internshipMap.get(internship.getType()).add(internship);
+        internshipCount++;
+        invalidateIndexes();
+    }
+
     /**
      * Assigns an interview to the internship.
      *
@@ -51,6 +108,60 @@ public class InternshipList {
     public void addInterview(Interview interview) {
         int internshipId = interview.getInternshipId();
         getInternshipById(internshipId).setInterview(interview);
+        invalidateIndexes();
+    }
+
+    /**
+     * Assigns many interviews to their internships at once, finding each internship by ID in a map built once
+     * instead of searching the list for every interview.
+     *
+     * @param interviews Interviews to be assigned.
+     * @return Positions in {@code interviews} of the interviews whose internship is not in the list.
+     */
+    public List<Integer> addInterviews(List<Interview> interviews) {
+        HashMap<Integer, Internship> internshipsById = new HashMap<>();
+        for (ArrayList<Internship> internships : internshipMap.values()) {
+            for (Internship internship : internships) {
+                internshipsById.putIfAbsent(internship.getInternshipId(), internship);
+            }
+        }
+        List<Integer> unknown = new ArrayList<>();
+        for (int i = 0; i < interviews.size(); i++) {
+            Internship internship = internshipsById.get(interviews.get(i).getInternshipId());
+            if (internship == null) {
+                unknown.add(i);
+                continue;
+            }
+            internship.setInterview(interviews.get(i));
+        }
+        invalidateIndexes();
+        return unknown;
+    }
+
+    /**
+     * Clears the markers of stored interviews once all interviews have been loaded, so that an internship
+     * whose interview could not be loaded is no longer shown or saved as having one.
+     */
+    public void clearStoredInterviewMarkers() {
+        for (ArrayList<Internship> internships : internshipMap.values()) {
+            for (Internship internship : internships) {
+                internship.setHasStoredInterview(false);
+            }
+        }
+    }
+
+    /**
+     * Replaces all internships of a type, such as when changes made to their data file outside the app are loaded.
+     *
+     * @param type Type of the internships.
+     * @param internshipsOfType Internships of the type, in order.
+     */
+    public void setInternships(String type, List<Internship> internshipsOfType) {
+        ArrayList<Internship> internships = internshipMap.get(type);
+        internshipCount += internshipsOfType.size() - internships.size();
+        internships.clear();
+        internships.addAll(internshipsOfType);
+        invalidateIndexes();
     }
 
     /**
@@ -62,6 +173,7 @@ public class InternshipList {
     public void deleteInternship(String type, int index) {
         internshipMap.get(type).remove(index);
         internshipCount--;
+        invalidateIndexes();
         assert internshipCount >= 0 : "Internship count should not be negative";
     }
 
@@ -77,14 +189,43 @@ public class InternshipList {
     }
 
     /**
-     * Saves the internships to the storage.
+     * Saves the internships to the storage, folding any journalled mutations into the saved files.
      */
     public void saveInternships() throws IOException {
         try {
-            storageManager.saveInternshipData(this);
-            storageManager.saveInterviewData(this);
+            storageManager.compactInternshipData(this);
+        } catch (IOException e) {
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE,
+                    storageManager.getDataPath(InternshipStorageHandler.DIRECTORY_NAME)));
+        }
+    }
+
+    /**
+     * Saves internships just added in bulk to the storage, in a single save instead of one per internship.
+     *
+     * @param added Internships that were added to the end of the list.
+     */
+    public void saveAddedInternships(List<Internship> added) throws IOException {
+        try {
+            storageManager.saveAddedInternships(added, this);
+        } catch (IOException e) {
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE,
+                    storageManager.getDataPath(InternshipStorageHandler.DIRECTORY_NAME)));
+        }
+    }
+
+    /**
+     * Saves a single mutation of the internships to the storage journal.
+     *
+     * @param entry Journal entry describing the mutation.
+     */
+    public void saveMutation(JournalEntry entry) throws IOException {
+        invalidateIndexes();
+        try {
+            storageManager.appendInternshipMutation(entry, this);
         } catch (IOException e) {
-            throw new IOException(String.format(UNABLE_TO_WRITE_FILE, InternshipStorageHandler.FILE_PATH));
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE,
+                    storageManager.getDataPath(JournalStorageHandler.FILE_NAME)));
         }
     }
 
@@ -95,14 +236,66 @@ public class InternshipList {
      * @return Internship with the given ID.
      */
     public Internship getInternshipById(int internshipId) {
-        for (ArrayList<Internship> internships : internshipMap.values()) {
-            for (Internship internship : internships) {
-                if (internship.getInternshipId() == internshipId) {
-                    return internship;
+        InternshipIndex index = getIndex(InternshipIndex.Kind.ID);
+        int entry = index.findFirst(internshipId);
+        if (entry == index.size() || index.getKey(entry) != internshipId) {
+            return null;
+        }
+        return index.getInternship(this, entry);
+    }
+
+    /**
+     * Finds the internships whose company name contains the given text, ignoring case.
+     * Each company name is only compared once, however many internships it has, using the company index.
+     *
+     * @param companyName Text to be found in the company names.
+     * @return Internships found, by type in the order of the list.
+     */
+    public List<Internship> findByCompanyName(String companyName) {
+        String text = companyName.toLowerCase();
+        InternshipIndex index = getIndex(InternshipIndex.Kind.COMPANY);
+        Map<String, List<Integer>> found = new HashMap<>();
+        int entry = 0;
+        while (entry < index.size()) {
+            long key = index.getKey(entry);
+            int nextName = index.findFirst(key + 1);
+            if (index.getCompanyName(entry).contains(text)) {
+                for (int i = entry; i < nextName; i++) {
+                    found.computeIfAbsent(index.getType(i), type -> new ArrayList<>()).add(index.getIndexInType(i));
                 }
             }
+            entry = nextName;
+        }
+        List<Internship> internships = new ArrayList<>();
+        for (Map.Entry<String, ArrayList<Internship>> internshipsOfType : internshipMap.entrySet()) {
+            List<Integer> indices = found.get(internshipsOfType.getKey());
+            if (indices == null) {
+                continue;
+            }
+            indices.sort(null);
+            for (int i : indices) {
+                internships.add(internshipsOfType.getValue().get(i));
+            }
         }
-        return null;
+        return internships;
+    }
+
+    /**
+     * Returns an index over the internships as they are now, loading it from the data files or building it if the
+     * list has changed since it was last used.
+     *
+     * @param kind What the index is sorted by.
+     * @return Index over the list.
+     */
+    public synchronized InternshipIndex getIndex(InternshipIndex.Kind kind) {
+        return indexes.computeIfAbsent(kind, k -> storageManager.loadInternshipIndex(k, this));
+    }
+
+    /**
+     * Drops the indexes over the list once it has changed, so they are built again when next used.
+     */
+    public synchronized void invalidateIndexes() {
+        indexes.clear();
     }
 
     /**
@@ -129,4 +322,17 @@ public class InternshipList {
     public int getInternshipCount() {
         return internshipCount;
     }
+
+    /**
+     * Removes every internship from the list, such as before the list is loaded again.
+     */
+    public void clear() {
+        internshipMap.values().forEach(ArrayList::clear);
+        internshipCount = 0;
+        invalidateIndexes();
+    }
+
+    public StorageManager getStorageManager() {
+        return storageManager;
+    }
 }
@@ -1,10 +1,13 @@
 package seedu.internsprint.model.internship;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.json.JSONObject;
+import seedu.internsprint.storage.JsonWriter;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
 
@@ -37,7 +40,10 @@ public class SoftwareInternship extends Internship {
      * @return Copy of the software internship.
      */
     public SoftwareInternship copy() {
-        return new SoftwareInternship(companyName, role, techStack, eligibility, description, status, expectations);
+        SoftwareInternship copy = new SoftwareInternship(companyName, role, techStack, eligibility, description,
+                status, expectations);
+        copy.setUpdatedOn(updatedOn);
+        return copy;
     }
 
     /**
@@ -84,6 +90,16 @@ public class SoftwareInternship extends Internship {
                 && techStack.equals(softwareInternship.getTechStack());
     }
 
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, from the company name, role and tech stack.
+     *
+     * @return Hash code of the software internship.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(companyName, role, techStack);
+    }
+
     /**
      * Returns a JSON object representing the software internship.
      *
@@ -101,9 +117,37 @@ public class SoftwareInternship extends Internship {
         orderedMap.put("description", description);
         orderedMap.put("status", status);
         orderedMap.put("expectations", expectations);
+        orderedMap.put("updatedOn", updatedOn);
+        if (hasInterview()) {
+            orderedMap.put("hasInterview", true);
+        }
         return new JSONObject(orderedMap);
     }
 
+    /**
+     * Writes the software internship as a JSON object directly to the writer.
+     *
+     * @param writer Writer to write the JSON object to.
+     */
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.field("internshipId", internshipId);
+        writer.field("type", "software");
+        writer.field("companyName", companyName);
+        writer.field("role", role);
+        writer.field("techStack", techStack);
+        writer.field("eligibility", eligibility);
+        writer.field("description", description);
+        writer.field("status", status);
+        writer.field("expectations", expectations);
+        writer.field("updatedOn", updatedOn);
+        if (hasInterview()) {
+            writer.field("hasInterview", true);
+        }
+        writer.endObject();
+    }
+
     /**
      * Returns a software internship from a JSON object.
      *
@@ -121,6 +165,8 @@ public class SoftwareInternship extends Internship {
                 json.optString("expectations", "")
         );
         softwareInternship.setInternshipId(json.getInt("internshipId"));
+        softwareInternship.setHasStoredInterview(json.optBoolean("hasInterview"));
+        softwareInternship.setUpdatedOn(readUpdatedOn(json));
         return softwareInternship;
     }
 
@@ -6,8 +6,10 @@ import de.vandermeer.asciitable.AsciiTable;
 import de.vandermeer.asciitable.CWC_LongestLine;
 import seedu.internsprint.exceptions.DuplicateEntryException;
 import seedu.internsprint.logic.parser.DateTimeParser;
+import seedu.internsprint.storage.JsonWriter;
 import seedu.internsprint.util.InternSprintLogger;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -95,6 +97,28 @@ public class Interview {
         this.roundCounter = 0;
     }
 
+    /**
+     * Creates an interview from a date and times that are already parsed, such as those read back from a
+     * binary snapshot, without going through the date parser again.
+     */
+    public Interview(LocalDate interviewDate, LocalTime interviewStartTime, LocalTime interviewEndTime,
+                     String interviewType, String interviewerEmail, String notes) {
+        if (interviewDate == null || interviewStartTime == null || interviewEndTime == null || interviewType == null) {
+            throw new IllegalArgumentException(String.format(MISSING_REQUIRED_PARAMETERS,
+                    "/date, /start, /end or /type"));
+        }
+        this.interviewDate = interviewDate;
+        this.interviewStartTime = interviewStartTime;
+        this.interviewEndTime = interviewEndTime;
+        this.interviewType = interviewType;
+
+        checkDateAndTime(this.interviewDate, this.interviewStartTime, this.interviewEndTime);
+
+        this.interviewerEmail = interviewerEmail;
+        this.notes = notes;
+        this.roundCounter = 0;
+    }
+
     /**
      * Checks if the start time is before the end time.
      *
@@ -343,6 +367,33 @@ public class Interview {
         return interviewJson;
     }
 
+    /**
+     * Writes the interview, including all of its next rounds, as a JSON object directly to the writer.
+     *
+     * @param writer Writer to write the JSON object to.
+     */
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        if (internshipId != -1) {
+            writer.field("internshipId", internshipId);
+        }
+        writer.field("date", interviewDate);
+        writer.field("startTime", interviewStartTime);
+        writer.field("endTime", interviewEndTime);
+        writer.field("type", interviewType);
+        writer.field("roundCounter", roundCounter);
+        writer.field("interviewerEmail", interviewerEmail);
+        writer.field("notes", notes);
+        if (roundCounter != 0 || !nextRounds.isEmpty()) {
+            writer.name("nextRounds").beginArray();
+            for (Interview nextRound : nextRounds) {
+                nextRound.writeJson(writer);
+            }
+            writer.endArray();
+        }
+        writer.endObject();
+    }
+
     /**
      * Returns an Interview object from a JSON object.
      *
@@ -23,23 +23,34 @@ import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WR
  * Stores basic user profile to customize application for user.
  */
 public class UserProfile {
-    public static String name;
-    public static String yearlyGoals;
-    public static String monthlyGoals;
-    public static ArrayList<String> preferredIndustries;
-    public static ArrayList<String> preferredCompanies;
-    public static ArrayList<String> preferredRoles;
-    public static double minTargetStipend;
-    public static double maxTargetStipend;
-    public static String targetStipendRange;
-    public static String internshipDateRange;
     private static final Logger logger = InternSprintLogger.getLogger();
     public final ProjectList projects;
-
-    private final StorageManager storageManager = StorageManager.getInstance();
+    private String name;
+    private String yearlyGoals;
+    private String monthlyGoals;
+    private ArrayList<String> preferredIndustries;
+    private ArrayList<String> preferredCompanies;
+    private ArrayList<String> preferredRoles;
+    private double minTargetStipend;
+    private double maxTargetStipend;
+    private String targetStipendRange;
+    private String internshipDateRange;
+
+    private final StorageManager storageManager;
 
     public UserProfile() {
-        projects = new ProjectList();
+        this(StorageManager.getInstance());
+    }
+
+    /**
+     * Creates an empty user profile whose profile and projects are saved by the given storage manager,
+     * such as the one of a tenant.
+     *
+     * @param storageManager Storage manager saving the profile and its projects.
+     */
+    public UserProfile(StorageManager storageManager) {
+        this.storageManager = storageManager;
+        this.projects = new ProjectList(storageManager);
     }
 
     public String getName() {
@@ -47,7 +58,7 @@ public class UserProfile {
     }
 
     public void setName(String name) {
-        UserProfile.name = name;
+        this.name = name;
     }
 
     public String getYearlyGoals() {
@@ -55,7 +66,7 @@ public class UserProfile {
     }
 
     public void setYearlyGoals(String yearlyGoals) {
-        UserProfile.yearlyGoals = yearlyGoals;
+        this.yearlyGoals = yearlyGoals;
     }
 
     public String getMonthlyGoals() {
@@ -63,7 +74,7 @@ public class UserProfile {
     }
 
     public void setMonthlyGoals(String monthlyGoals) {
-        UserProfile.monthlyGoals = monthlyGoals;
+        this.monthlyGoals = monthlyGoals;
     }
 
     public ArrayList<String> getPreferredIndustries() {
@@ -71,7 +82,7 @@ public class UserProfile {
     }
 
     public void setPreferredIndustries(String preferredIndustriesString) {
-        UserProfile.preferredIndustries = CommandParser.splitToWords(preferredIndustriesString);
+        this.preferredIndustries = CommandParser.splitToWords(preferredIndustriesString);
     }
 
     public ArrayList<String> getPreferredCompanies() {
@@ -79,7 +90,7 @@ public class UserProfile {
     }
 
     public void setPreferredCompanies(String preferredCompaniesString) {
-        UserProfile.preferredCompanies = CommandParser.splitToWords(preferredCompaniesString);
+        this.preferredCompanies = CommandParser.splitToWords(preferredCompaniesString);
     }
 
     public ArrayList<String> getPreferredRoles() {
@@ -87,7 +98,7 @@ public class UserProfile {
     }
 
     public void setPreferredRoles(String preferredRolesString) {
-        UserProfile.preferredRoles = CommandParser.splitToWords(preferredRolesString);
+        this.preferredRoles = CommandParser.splitToWords(preferredRolesString);
     }
 
     public String getTargetStipendRange() {
@@ -96,25 +107,50 @@ public class UserProfile {
 
     public void setTargetStipendRange(String targetStipendRange) {
         if (targetStipendRange.equals("N/A")){
-            UserProfile.targetStipendRange = "N/A";
+            this.targetStipendRange = "N/A";
         }else {
             String[] parts = targetStipendRange.trim().split("-");
             double min = Double.parseDouble(parts[0].trim());
             double max = Double.parseDouble(parts[1].trim());
             min = Math.round(min * 100.0) / 100.0;
             max = Math.round(max * 100.0) / 100.0;
-            UserProfile.minTargetStipend = min;
-            UserProfile.maxTargetStipend = max;
-            UserProfile.targetStipendRange = min + " - " + max;
+            this.minTargetStipend = min;
+            this.maxTargetStipend = max;
+            this.targetStipendRange = min + " - " + max;
         }
     }
 
+    public double getMinTargetStipend() {
+        return minTargetStipend;
+    }
+
+    public double getMaxTargetStipend() {
+        return maxTargetStipend;
+    }
+
     public String getInternshipDateRange() {
         return internshipDateRange;
     }
 
     public void setInternshipDateRange(String internshipDateRange) {
-        UserProfile.internshipDateRange = internshipDateRange;
+        this.internshipDateRange = internshipDateRange;
+    }
+
+    /**
+     * Clears every field of the profile and its projects, such as before the profile is loaded again.
+     */
+    public void clear() {
+        name = null;
+        yearlyGoals = null;
+        monthlyGoals = null;
+        preferredIndustries = null;
+        preferredCompanies = null;
+        preferredRoles = null;
+        minTargetStipend = 0;
+        maxTargetStipend = 0;
+        targetStipendRange = null;
+        internshipDateRange = null;
+        projects.clear();
     }
 
     /**
@@ -258,7 +294,8 @@ public class UserProfile {
             storageManager.saveUserProfileData(this);
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error saving user profile", e);
-            feedback.add(String.format(UNABLE_TO_WRITE_FILE, ProfileStorageHandler.FILE_PATH));
+            feedback.add(String.format(UNABLE_TO_WRITE_FILE,
+                    storageManager.getDataPath(ProfileStorageHandler.FILE_NAME)));
             result = new CommandResult(feedback, false);
             return result;
         }
@@ -1,10 +1,12 @@
 package seedu.internsprint.model.userprofile.project;
 
+import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import de.vandermeer.asciitable.AsciiTable;
 import org.json.JSONObject;
+import seedu.internsprint.storage.JsonWriter;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
 
@@ -116,6 +118,24 @@ public class GeneralProject extends Project {
         return new JSONObject(orderedMap);
     }
 
+    /**
+     * Writes the general project as a JSON object directly to the writer.
+     *
+     * @param writer Writer to write the JSON object to.
+     */
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.field("type", "general");
+        writer.field("projectName", projectName);
+        writer.field("role", role);
+        writer.field("department", department);
+        writer.field("objectives", objectives);
+        writer.field("description", description);
+        writer.field("duration", duration);
+        writer.endObject();
+    }
+
     /**
      * Returns a GeneralProject object from a JSON object.
      *
@@ -1,5 +1,6 @@
 package seedu.internsprint.model.userprofile.project;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Map;
 
 import de.vandermeer.asciitable.AsciiTable;
 import org.json.JSONObject;
+import seedu.internsprint.storage.JsonWriter;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
 
@@ -120,6 +122,24 @@ public class HardwareProject extends Project {
         return new JSONObject(orderedMap);
     }
 
+    /**
+     * Writes the hardware project as a JSON object directly to the writer.
+     *
+     * @param writer Writer to write the JSON object to.
+     */
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.field("type", "hardware");
+        writer.field("projectName", projectName);
+        writer.field("role", role);
+        writer.field("hardwareComponents", hardwareComponents);
+        writer.field("objectives", objectives);
+        writer.field("description", description);
+        writer.field("duration", duration);
+        writer.endObject();
+    }
+
     @Override
     public String getType() {
         return "hardware";
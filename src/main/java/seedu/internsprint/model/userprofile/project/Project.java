@@ -1,6 +1,9 @@
 package seedu.internsprint.model.userprofile.project;
 
 import org.json.JSONObject;
+import seedu.internsprint.storage.JsonWriter;
+
+import java.io.IOException;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
 
@@ -68,6 +71,13 @@ public abstract class Project {
      */
     public abstract JSONObject toJson();
 
+    /**
+     * Writes the project as a JSON object directly to the writer.
+     *
+     * @param writer Writer to write the JSON object to.
+     */
+    public abstract void writeJson(JsonWriter writer) throws IOException;
+
     public abstract String getType();
 
     public void setProjectName(String projectName) {
@@ -15,9 +15,19 @@ import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WR
 public class ProjectList {
     protected final HashMap<String, ArrayList<Project>> projectMap = new HashMap<>();
     protected int projectCount = 0;
-    private final StorageManager storageManager = StorageManager.getInstance();
+    private final StorageManager storageManager;
 
     public ProjectList() {
+        this(StorageManager.getInstance());
+    }
+
+    /**
+     * Creates an empty list whose projects are saved by the given storage manager, such as the one of a tenant.
+     *
+     * @param storageManager Storage manager saving the projects.
+     */
+    public ProjectList(StorageManager storageManager) {
+        this.storageManager = storageManager;
         projectMap.put("software", new ArrayList<>());
         projectMap.put("hardware", new ArrayList<>());
         projectMap.put("general", new ArrayList<>());
@@ -36,6 +46,20 @@ public class ProjectList {
         assert projectCount > 0 : "At least one project should be in the list";
     }
 
+    /**
+     * Removes a project from the list.
+     *
+     * @param project Project to be removed, or one equal to it.
+     * @return True if the project was in the list.
+     */
+    public boolean removeProject(Project project) {
+        boolean isRemoved = projectMap.get(project.getType()).remove(project);
+        if (isRemoved) {
+            projectCount--;
+        }
+        return isRemoved;
+    }
+
     /**
      * Checks if the list contains the project.
      *
@@ -54,10 +78,33 @@ public class ProjectList {
         try {
             storageManager.saveProjectData(this);
         } catch (IOException e) {
-            throw new IOException(String.format(UNABLE_TO_WRITE_FILE, ProjectStorageHandler.FILE_PATH));
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE,
+                    storageManager.getDataPath(ProjectStorageHandler.FILE_NAME)));
         }
     }
 
+    /**
+     * Saves the projects to storage after a project was added to the list.
+     *
+     * @param added Project that was added.
+     */
+    public void saveAddedProject(Project added) throws IOException {
+        try {
+            storageManager.saveAddedProject(added, this);
+        } catch (IOException e) {
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE,
+                    storageManager.getDataPath(ProjectStorageHandler.FILE_NAME)));
+        }
+    }
+
+    /**
+     * Removes every project from the list, such as before the list is loaded again.
+     */
+    public void clear() {
+        projectMap.values().forEach(ArrayList::clear);
+        projectCount = 0;
+    }
+
     public HashMap<String, ArrayList<Project>> getProjectMap() {
         return projectMap;
     }
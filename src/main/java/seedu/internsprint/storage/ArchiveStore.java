@@ -0,0 +1,300 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.model.internship.ArchivePolicy;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipIndex;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.DUPLICATE_INTERNSHIP;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WRITE_FILE;
+
+/**
+ * Keeps the internships moved out of the internship list by the {@code archive} command in {@code archive.txt}
+ * in the data directory, so the list loaded, indexed and saved on every start only holds the internships still
+ * being worked on.
+ * <p>
+ * Each line of the file holds one archived internship as a JSON object, with its interview rounds and the date it
+ * was archived. The file is never loaded with the other data: it is only read, a line at a time, when the archive
+ * is listed or an internship is restored from it. Archiving or restoring rewrites it through a temporary file, also
+ * a line at a time, so the archive is never held in memory however large it grows. Internships are written to the
+ * archive before they are removed from the list, and added back to the list before they are removed from the
+ * archive, so an interrupted move leaves an internship in both places rather than in neither.
+ */
+public class ArchiveStore {
+    public static final String FILE_NAME = "archive.txt";
+    private static final String ARCHIVED_ON = "archivedOn";
+    private static final String INTERVIEW = "interview";
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final StorageManager storageManager;
+    private final File file;
+
+    public ArchiveStore(StorageManager storageManager) {
+        this.storageManager = storageManager;
+        this.file = storageManager.getConfig().resolve(FILE_NAME);
+    }
+
+    /**
+     * Represents an internship read from the archive.
+     */
+    public static class ArchivedInternship {
+        private final int number;
+        private final Internship internship;
+        private final LocalDate archivedOn;
+
+        private ArchivedInternship(int number, Internship internship, LocalDate archivedOn) {
+            this.number = number;
+            this.internship = internship;
+            this.archivedOn = archivedOn;
+        }
+
+        /**
+         * Returns the number of the internship in the archive, which stays the same until the archive changes.
+         *
+         * @return Number of the internship, from 1.
+         */
+        public int getNumber() {
+            return number;
+        }
+
+        public Internship getInternship() {
+            return internship;
+        }
+
+        public LocalDate getArchivedOn() {
+            return archivedOn;
+        }
+    }
+
+    /**
+     * Moves the internships matching the policy from the list to the archive, and saves the list.
+     * This should be called while holding the write lock of the data lock, once the interviews have been loaded.
+     *
+     * @param internships List of internships to be archived from.
+     * @param policy Rules deciding which internships are archived.
+     * @param today Date the internships are archived on.
+     * @return Internships archived, in the order of the list.
+     */
+    public List<Internship> archive(InternshipList internships, ArchivePolicy policy, LocalDate today)
+            throws IOException {
+        List<Internship> archived = new ArrayList<>();
+        List<JournalEntry> deletions = new ArrayList<>();
+        for (String type : InternshipIndex.TYPES) {
+            List<Internship> internshipsOfType = internships.getInternshipMap().get(type);
+            for (int i = 0; i < internshipsOfType.size(); i++) {
+                Internship internship = internshipsOfType.get(i);
+                if (policy.matches(internship, today)) {
+                    archived.add(internship);
+                    // Deleted from the end of each type, so the index of each deletion still points at its internship
+                    deletions.add(0, JournalEntry.forDelete(type, i, internship));
+                }
+            }
+        }
+        if (archived.isEmpty()) {
+            return archived;
+        }
+        List<String> lines = new ArrayList<>();
+        for (Internship internship : archived) {
+            lines.add(toRecord(internship, today).toString());
+        }
+        rewrite(-1, lines);
+        for (JournalEntry deletion : deletions) {
+            try {
+                storageManager.applyUnjournalledMutation(deletion, internships);
+            } catch (DuplicateEntryException e) {
+                throw new AssertionError("Deleting an internship does not add one", e);
+            }
+        }
+        storageManager.saveUnjournalledMutations(internships);
+        storageManager.flushPendingSaves();
+        logger.log(Level.INFO, String.format("Archived %d internships", archived.size()));
+        return archived;
+    }
+
+    /**
+     * Reads the archived internships whose company name contains the given text, ignoring case.
+     * Lines that cannot be read are skipped, but still counted in the numbers of the internships after them.
+     *
+     * @param companyName Text to be found in the company names, or null for every archived internship.
+     * @return Archived internships found, in the order they were archived.
+     */
+    public List<ArchivedInternship> find(String companyName) throws IOException {
+        List<ArchivedInternship> found = new ArrayList<>();
+        if (!file.exists()) {
+            return found;
+        }
+        String text = companyName == null ? null : companyName.toLowerCase();
+        try (BufferedReader reader = DataFileStreams.newReader(file, storageManager.getConfig().getCipher())) {
+            int number = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                ArchivedInternship archived = parse(number, line);
+                if (archived != null && (text == null
+                        || archived.internship.getCompanyName().toLowerCase().contains(text))) {
+                    found.add(archived);
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading archive: " + e.getMessage());
+            throw new IOException(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
+        }
+        return found;
+    }
+
+    /**
+     * Moves an archived internship, with its interview rounds, back to the end of the list, and saves the list.
+     * This should be called while holding the write lock of the data lock, once the interviews have been loaded.
+     *
+     * @param number Number of the internship in the archive, from 1.
+     * @param internships List of internships to restore the internship to.
+     * @return Internship restored, or null if the archive has no readable internship with that number.
+     * @throws DuplicateEntryException If the internship is already in the list, in which case nothing is changed.
+     */
+    public Internship restore(int number, InternshipList internships) throws IOException, DuplicateEntryException {
+        ArchivedInternship archived = get(number);
+        if (archived == null) {
+            return null;
+        }
+        Internship internship = archived.internship;
+        if (internships.contains(internship)) {
+            throw new DuplicateEntryException(DUPLICATE_INTERNSHIP);
+        }
+        Interview interview = internship.getInterview();
+        internship.setInterview(null);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(internship), internships);
+        List<Internship> internshipsOfType = internships.getInternshipMap().get(internship.getType());
+        if (interview != null) {
+            storageManager.applyUnjournalledMutation(JournalEntry.forAddInterview(internship.getType(),
+                    internshipsOfType.size() - 1, interview), internships);
+        }
+        storageManager.saveUnjournalledMutations(internships);
+        storageManager.flushPendingSaves();
+        rewrite(number, List.of());
+        logger.log(Level.INFO, "Restored archived internship " + number);
+        return internshipsOfType.get(internshipsOfType.size() - 1);
+    }
+
+    /**
+     * Reads one archived internship, stopping at its line.
+     *
+     * @param number Number of the internship in the archive, from 1.
+     * @return Archived internship, or null if there is no readable internship with that number.
+     */
+    private ArchivedInternship get(int number) throws IOException {
+        if (number < 1 || !file.exists()) {
+            return null;
+        }
+        try (BufferedReader reader = DataFileStreams.newReader(file, storageManager.getConfig().getCipher())) {
+            String line = reader.readLine();
+            for (int i = 1; i < number && line != null; i++) {
+                line = reader.readLine();
+            }
+            return line == null ? null : parse(number, line);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading archive: " + e.getMessage());
+            throw new IOException(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
+        }
+    }
+
+    /**
+     * Creates the archive record of an internship, holding its interview rounds and the date it was archived.
+     */
+    private static JSONObject toRecord(Internship internship, LocalDate archivedOn) {
+        JSONObject record = internship.toJson();
+        record.remove("hasInterview");
+        record.put(ARCHIVED_ON, archivedOn.toString());
+        if (internship.getInterview() != null) {
+            // Written as text and parsed again, so the dates and times of the rounds are kept as strings
+            record.put(INTERVIEW, new JSONObject(internship.getInterview().toJson().toString()));
+        }
+        return record;
+    }
+
+    private static ArchivedInternship parse(int number, String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            JSONObject record = new JSONObject(line);
+            Internship internship = InternshipStorageHandler.createInternship(record);
+            if (internship == null) {
+                throw new JSONException("Unknown internship type");
+            }
+            JSONObject interview = record.optJSONObject(INTERVIEW);
+            if (interview != null) {
+                internship.setInterview(Interview.fromJson(interview));
+            }
+            return new ArchivedInternship(number, internship, LocalDate.parse(record.getString(ARCHIVED_ON)));
+        } catch (JSONException | IllegalArgumentException | DateTimeParseException e) {
+            logger.log(Level.WARNING, "Skipping line " + number + " of the archive: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the archive again through a temporary file, copying its lines as they are, so lines that cannot be
+     * read are kept.
+     *
+     * @param removedNumber Number of the line to be left out, or -1 to keep every line.
+     * @param addedLines Lines to be added at the end.
+     */
+    private void rewrite(int removedNumber, List<String> addedLines) throws IOException {
+        StorageConfig config = storageManager.getConfig();
+        Path temporaryPath = Paths.get(file.getPath() + ".tmp");
+        try {
+            Files.createDirectories(config.getDataDirectory().toPath());
+            try (Writer writer = DataFileStreams.newWriter(temporaryPath.toFile(), config.isCompressed(),
+                    config.getCipher())) {
+                if (file.exists()) {
+                    copyLines(removedNumber, writer);
+                }
+                for (String line : addedLines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+            Files.move(temporaryPath, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error saving archive: " + e.getMessage());
+            Files.deleteIfExists(temporaryPath);
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE, file.getAbsolutePath()));
+        }
+    }
+
+    private void copyLines(int removedNumber, Writer writer) throws IOException {
+        try (BufferedReader reader = DataFileStreams.newReader(file, storageManager.getConfig().getCipher())) {
+            int number = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (number != removedNumber) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,600 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.BACKUP_CHUNK_MISSING;
+import static seedu.internsprint.util.InternSprintExceptionMessages.BACKUP_FILE_CORRUPTED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_DIRECTORY;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+
+/**
+ * Keeps backups of the data files in {@code backups} in the data directory, so an earlier version of the data
+ * can be restored after a bad change has been saved over it.
+ * <p>
+ * Each data file is split into chunks at boundaries chosen by its content: a rolling hash over the last bytes read
+ * ends a chunk wherever its low bits are all zero. Adding or removing a record therefore only changes the chunks
+ * around it, and the chunks after it are cut at the same places as before. Chunks are named by the SHA-256 hash
+ * of their bytes and kept once in {@code backups/chunks}, so a chunk that is unchanged since an earlier backup is
+ * never written again, and a backup itself is only a small manifest listing the chunks of each file. Chunks are
+ * copied with {@link FileChannel#transferTo}, so their bytes are moved by the operating system rather than copied
+ * through the heap.
+ * <p>
+ * After each backup, the backups outside the retention policy are removed, along with every chunk that no
+ * remaining backup refers to.
+ */
+public class BackupStore {
+    public static final String DIRECTORY_NAME = "backups";
+    private static final String CHUNK_DIRECTORY_NAME = "chunks";
+    private static final String STAGING_DIRECTORY_NAME = "restoring";
+    private static final String MANIFEST_EXTENSION = ".json";
+    private static final DateTimeFormatter ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final int MIN_CHUNK_BYTES = 16 * 1024;
+    private static final int MAX_CHUNK_BYTES = 256 * 1024;
+    /* Past the minimum size, a chunk ends on average every 64 KB */
+    private static final long BOUNDARY_MASK = (1L << 16) - 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /* The table is fixed, so every backup cuts the same content at the same places */
+    private static final long[] GEAR = createGearTable(0x49534E50L);
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final Pattern CHUNK_NAME = Pattern.compile("[0-9a-f]{64}");
+
+    private final File dataDirectory;
+    private final File directory;
+    private final File chunkDirectory;
+    private final int keptBackups;
+    private final int keptDays;
+
+    public BackupStore(StorageConfig config) {
+        this.dataDirectory = config.getDataDirectory();
+        this.directory = config.resolve(DIRECTORY_NAME);
+        this.chunkDirectory = new File(directory, CHUNK_DIRECTORY_NAME);
+        this.keptBackups = config.getKeptBackups();
+        this.keptDays = config.getKeptBackupDays();
+    }
+
+    private static long[] createGearTable(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] gear = new long[256];
+        for (int i = 0; i < gear.length; i++) {
+            gear[i] = random.nextLong();
+        }
+        return gear;
+    }
+
+    /**
+     * Backs up every data file in the data directory, writing only the chunks not kept by an earlier backup.
+     * Backups, the data of other tenants, quarantined files, temporary files and the lock file are left out.
+     * The manifest is written last, so a backup that fails part way is never listed, and the chunks it wrote are
+     * removed with the next backup.
+     *
+     * @return Backup that was made.
+     */
+    public Backup createBackup() throws IOException {
+        LocalDateTime createdAt = LocalDateTime.now();
+        Backup backup = new Backup(createId(createdAt), createdAt);
+        for (String path : listDataFiles()) {
+            backup.files.add(backUpFile(path, backup));
+        }
+        writeManifest(backup);
+        logger.log(Level.INFO, String.format("Backed up %d files as %s, writing %d new chunks of %d bytes",
+                backup.files.size(), backup.id, backup.newChunkCount, backup.newBytes));
+        return backup;
+    }
+
+    /**
+     * Returns every backup kept, oldest first.
+     *
+     * @return Backups listed in the backup directory.
+     */
+    public List<Backup> listBackups() throws IOException {
+        List<Backup> backups = new ArrayList<>();
+        File[] manifests = directory.listFiles((dir, name) -> name.endsWith(MANIFEST_EXTENSION));
+        if (manifests == null) {
+            return backups;
+        }
+        for (File manifest : manifests) {
+            try {
+                backups.add(Backup.fromJson(new JSONObject(Files.readString(manifest.toPath()))));
+            } catch (JSONException | IllegalArgumentException e) {
+                logger.log(Level.WARNING, "Skipping unreadable backup manifest " + manifest + ": " + e.getMessage());
+            }
+        }
+        backups.sort(Comparator.comparing(Backup::getCreatedAt).thenComparing(Backup::getId));
+        return backups;
+    }
+
+    /**
+     * Returns the backup with the given ID.
+     *
+     * @param id ID of the backup.
+     * @return Backup with the ID, or null if there is none.
+     */
+    public Backup findBackup(String id) throws IOException {
+        for (Backup backup : listBackups()) {
+            if (backup.id.equals(id)) {
+                return backup;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the latest backup made at or before the given time, which holds the data as it was then.
+     *
+     * @param time Time to restore the data to.
+     * @return Latest backup made by then, or null if there is none.
+     */
+    public Backup findBackupAt(LocalDateTime time) throws IOException {
+        Backup found = null;
+        for (Backup backup : listBackups()) {
+            if (!backup.createdAt.isAfter(time)) {
+                found = backup;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Replaces the data files in the data directory with those of a backup.
+     * The files are first rebuilt from their chunks in a staging directory and checked against the hashes in the
+     * manifest, so a backup with a missing or damaged chunk leaves the data files as they were. Data files that
+     * are not in the backup are then deleted, and each rebuilt file is moved into place.
+     *
+     * @param backup Backup to restore.
+     */
+    public void restore(Backup backup) throws IOException {
+        for (BackupFile file : backup.files) {
+            for (String chunk : file.chunks) {
+                if (!getChunkFile(chunk).isFile()) {
+                    throw new IOException(String.format(BACKUP_CHUNK_MISSING, backup.id, file.path));
+                }
+            }
+        }
+        File staging = new File(directory, STAGING_DIRECTORY_NAME);
+        deleteRecursively(staging);
+        for (BackupFile file : backup.files) {
+            rebuildFile(file, new File(staging, file.path));
+        }
+
+        Set<String> restoredPaths = new HashSet<>();
+        backup.files.forEach(file -> restoredPaths.add(file.path));
+        for (String path : listDataFiles()) {
+            if (!restoredPaths.contains(path)) {
+                Files.delete(new File(dataDirectory, path).toPath());
+            }
+        }
+        for (BackupFile file : backup.files) {
+            File target = new File(dataDirectory, file.path);
+            createDirectory(target.getParentFile());
+            Files.move(new File(staging, file.path).toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        deleteRecursively(staging);
+        logger.log(Level.INFO, String.format("Restored %d files from backup %s", backup.files.size(), backup.id));
+    }
+
+    /**
+     * Removes the backups outside the retention policy, then every chunk no remaining backup refers to.
+     * The most recent backups are kept, as well as the last backup of each of the most recent days.
+     *
+     * @return Number of backups removed.
+     */
+    public int applyRetention() throws IOException {
+        List<Backup> backups = listBackups();
+        Set<String> keptIds = new HashSet<>();
+        for (int i = Math.max(0, backups.size() - keptBackups); i < backups.size(); i++) {
+            keptIds.add(backups.get(i).id);
+        }
+        LocalDate firstKeptDay = LocalDate.now().minusDays(keptDays - 1L);
+        Map<LocalDate, Backup> lastOfDay = new HashMap<>();
+        for (Backup backup : backups) {
+            LocalDate day = backup.createdAt.toLocalDate();
+            if (!day.isBefore(firstKeptDay)) {
+                // Backups are listed oldest first, so the last one of each day wins
+                lastOfDay.put(day, backup);
+            }
+        }
+        lastOfDay.values().forEach(backup -> keptIds.add(backup.id));
+
+        int removedCount = 0;
+        Set<String> keptChunks = new HashSet<>();
+        for (Backup backup : backups) {
+            if (keptIds.contains(backup.id)) {
+                backup.files.forEach(file -> keptChunks.addAll(file.chunks));
+            } else {
+                Files.deleteIfExists(getManifestFile(backup.id).toPath());
+                removedCount++;
+            }
+        }
+        int removedChunkCount = removeUnusedChunks(keptChunks);
+        logger.log(Level.INFO, String.format("Removed %d backups and %d unused chunks", removedCount,
+                removedChunkCount));
+        return removedCount;
+    }
+
+    private int removeUnusedChunks(Set<String> keptChunks) throws IOException {
+        File[] prefixDirectories = chunkDirectory.listFiles(File::isDirectory);
+        if (prefixDirectories == null) {
+            return 0;
+        }
+        int removedCount = 0;
+        for (File prefixDirectory : prefixDirectories) {
+            File[] chunkFiles = prefixDirectory.listFiles();
+            if (chunkFiles == null) {
+                continue;
+            }
+            for (File chunkFile : chunkFiles) {
+                if (!keptChunks.contains(chunkFile.getName())) {
+                    Files.deleteIfExists(chunkFile.toPath());
+                    removedCount++;
+                }
+            }
+        }
+        return removedCount;
+    }
+
+    /**
+     * Splits one data file into chunks, keeping those not kept already.
+     * The file is read once to find the boundaries and hashes, while each new chunk is copied straight from
+     * the file to the chunk directory.
+     */
+    private BackupFile backUpFile(String path, Backup backup) throws IOException {
+        File file = new File(dataDirectory, path);
+        List<String> chunks = new ArrayList<>();
+        MessageDigest fileDigest = createDigest();
+        MessageDigest chunkDigest = createDigest();
+        try (FileChannel source = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            byte[] bytes = buffer.array();
+            long position = 0;
+            long chunkStart = 0;
+            long hash = 0;
+            int read;
+            while ((read = source.read(buffer)) >= 0) {
+                fileDigest.update(bytes, 0, read);
+                int hashedUpTo = 0;
+                for (int i = 0; i < read; i++) {
+                    hash = (hash << 1) + GEAR[bytes[i] & 0xff];
+                    long chunkLength = position + i + 1 - chunkStart;
+                    if ((chunkLength >= MIN_CHUNK_BYTES && (hash & BOUNDARY_MASK) == 0)
+                            || chunkLength >= MAX_CHUNK_BYTES) {
+                        chunkDigest.update(bytes, hashedUpTo, i + 1 - hashedUpTo);
+                        chunks.add(keepChunk(source, chunkStart, chunkLength, chunkDigest.digest(), backup));
+                        hashedUpTo = i + 1;
+                        chunkStart = position + i + 1;
+                        hash = 0;
+                    }
+                }
+                chunkDigest.update(bytes, hashedUpTo, read - hashedUpTo);
+                position += read;
+                buffer.clear();
+            }
+            if (position > chunkStart) {
+                chunks.add(keepChunk(source, chunkStart, position - chunkStart, chunkDigest.digest(), backup));
+            }
+            backup.totalBytes += position;
+            return new BackupFile(path, position, toHex(fileDigest.digest()), chunks);
+        }
+    }
+
+    /**
+     * Copies a chunk of a data file to the chunk directory, unless a chunk with the same hash is kept already.
+     *
+     * @return Hash naming the chunk.
+     */
+    private String keepChunk(FileChannel source, long start, long length, byte[] digest, Backup backup)
+            throws IOException {
+        String hash = toHex(digest);
+        File chunkFile = getChunkFile(hash);
+        if (chunkFile.isFile()) {
+            return hash;
+        }
+        createDirectory(chunkFile.getParentFile());
+        Path temporaryPath = new File(chunkFile.getPath() + ".tmp").toPath();
+        try (FileChannel target = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            transferFully(source, start, length, target);
+        }
+        Files.move(temporaryPath, chunkFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        backup.newChunkCount++;
+        backup.newBytes += length;
+        return hash;
+    }
+
+    /**
+     * Rebuilds a backed up file from its chunks and checks it against the size and hash in the manifest.
+     */
+    private void rebuildFile(BackupFile file, File target) throws IOException {
+        createDirectory(target.getParentFile());
+        try (FileChannel output = FileChannel.open(target.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (String chunk : file.chunks) {
+                try (FileChannel input = FileChannel.open(getChunkFile(chunk).toPath(), StandardOpenOption.READ)) {
+                    transferFully(input, 0, input.size(), output);
+                }
+            }
+        }
+        if (target.length() != file.size || !toHex(computeDigest(target)).equals(file.hash)) {
+            throw new IOException(String.format(BACKUP_FILE_CORRUPTED, file.path));
+        }
+    }
+
+    /**
+     * Copies part of one file to the current position of another. A single transfer may copy fewer bytes than
+     * asked for, so transfers are repeated until every byte is copied.
+     */
+    private static void transferFully(FileChannel source, long start, long length, FileChannel target)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < length) {
+            long count = source.transferTo(start + transferred, length - transferred, target);
+            if (count <= 0) {
+                throw new IOException(String.format(UNABLE_TO_READ_FILE, target));
+            }
+            transferred += count;
+        }
+    }
+
+    /**
+     * Lists the data files to back up, as paths relative to the data directory with '/' as the separator.
+     * Directories that are not part of the data of this tenant are skipped without being read.
+     */
+    private List<String> listDataFiles() throws IOException {
+        List<String> paths = new ArrayList<>();
+        Path root = dataDirectory.toPath();
+        if (!Files.isDirectory(root)) {
+            return paths;
+        }
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                if (dir.equals(root)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                String name = dir.getFileName().toString();
+                boolean isTopLevel = dir.getParent().equals(root);
+                boolean isSkipped = name.equals(InternshipStorageHandler.QUARANTINE_DIRECTORY_NAME)
+                        || isTopLevel && (name.equals(DIRECTORY_NAME)
+                        || name.equals(StorageConfig.TENANT_DIRECTORY_NAME)
+                        || name.equals(DataSynchronizer.DIRECTORY_NAME));
+                return isSkipped ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                String name = file.getFileName().toString();
+                // The change feed only grows, so restoring it would number later changes with used numbers again
+                boolean isSessionFile = file.getParent().equals(root)
+                        && (name.equals(DataDirectoryLock.FILE_NAME) || name.equals(ChangeFeed.FILE_NAME));
+                // Indexes are built again from the restored data, so they are not backed up
+                boolean isIndexFile = name.endsWith(InternshipIndexStorageHandler.FILE_EXTENSION);
+                if (attributes.isRegularFile() && !name.endsWith(".tmp") && !isSessionFile && !isIndexFile) {
+                    paths.add(root.relativize(file).toString().replace(File.separatorChar, '/'));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        paths.sort(null);
+        return paths;
+    }
+
+    private void writeManifest(Backup backup) throws IOException {
+        createDirectory(directory);
+        File manifest = getManifestFile(backup.id);
+        Path temporaryPath = new File(manifest.getPath() + ".tmp").toPath();
+        try (Writer writer = Files.newBufferedWriter(temporaryPath)) {
+            writer.write(backup.toJson().toString());
+        }
+        Files.move(temporaryPath, manifest.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Names a backup by the second it was made at, adding a number if another backup was made in the same second.
+     */
+    private String createId(LocalDateTime createdAt) {
+        String id = createdAt.format(ID_FORMAT);
+        int suffix = 2;
+        while (getManifestFile(id).exists()) {
+            id = createdAt.format(ID_FORMAT) + "-" + suffix;
+            suffix++;
+        }
+        return id;
+    }
+
+    private File getManifestFile(String id) {
+        return new File(directory, id + MANIFEST_EXTENSION);
+    }
+
+    private File getChunkFile(String hash) {
+        return new File(new File(chunkDirectory, hash.substring(0, 2)), hash);
+    }
+
+    private static void createDirectory(File dir) throws IOException {
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException(String.format(UNABLE_TO_CREATE_DIRECTORY, dir.getAbsolutePath()));
+        }
+    }
+
+    private static void deleteRecursively(File file) throws IOException {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        Files.deleteIfExists(file.toPath());
+    }
+
+    private static byte[] computeDigest(File file) throws IOException {
+        MessageDigest digest = createDigest();
+        try (FileChannel input = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            int read;
+            while ((read = input.read(buffer)) >= 0) {
+                digest.update(buffer.array(), 0, read);
+                buffer.clear();
+            }
+        }
+        return digest.digest();
+    }
+
+    static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Represents one backup, listing the chunks of every data file it holds.
+     */
+    public static class Backup {
+        private final String id;
+        private final LocalDateTime createdAt;
+        private final List<BackupFile> files = new ArrayList<>();
+        private long totalBytes = 0;
+        private int newChunkCount = 0;
+        private long newBytes = 0;
+
+        private Backup(String id, LocalDateTime createdAt) {
+            this.id = id;
+            this.createdAt = createdAt;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public int getFileCount() {
+            return files.size();
+        }
+
+        public long getTotalBytes() {
+            return totalBytes;
+        }
+
+        /**
+         * Returns the number of chunks this backup wrote, which no earlier backup kept. This is only known for
+         * a backup just made, and is 0 for backups read from their manifest.
+         *
+         * @return Number of chunks written by the backup.
+         */
+        public int getNewChunkCount() {
+            return newChunkCount;
+        }
+
+        public long getNewBytes() {
+            return newBytes;
+        }
+
+        private JSONObject toJson() {
+            JSONArray filesJson = new JSONArray();
+            for (BackupFile file : files) {
+                JSONObject fileJson = new JSONObject();
+                fileJson.put("path", file.path);
+                fileJson.put("size", file.size);
+                fileJson.put("sha256", file.hash);
+                fileJson.put("chunks", new JSONArray(file.chunks));
+                filesJson.put(fileJson);
+            }
+            JSONObject json = new JSONObject();
+            json.put("id", id);
+            json.put("createdAt", createdAt.toString());
+            json.put("files", filesJson);
+            return json;
+        }
+
+        private static Backup fromJson(JSONObject json) {
+            Backup backup = new Backup(json.getString("id"), LocalDateTime.parse(json.getString("createdAt")));
+            JSONArray filesJson = json.getJSONArray("files");
+            for (int i = 0; i < filesJson.length(); i++) {
+                JSONObject fileJson = filesJson.getJSONObject(i);
+                String path = fileJson.getString("path");
+                if (path.startsWith("/") || path.contains("..")) {
+                    throw new IllegalArgumentException("Backed up file outside the data directory: " + path);
+                }
+                List<String> chunks = new ArrayList<>();
+                JSONArray chunksJson = fileJson.getJSONArray("chunks");
+                for (int j = 0; j < chunksJson.length(); j++) {
+                    String chunk = chunksJson.getString(j);
+                    if (!CHUNK_NAME.matcher(chunk).matches()) {
+                        throw new IllegalArgumentException("Invalid chunk name: " + chunk);
+                    }
+                    chunks.add(chunk);
+                }
+                BackupFile file = new BackupFile(path, fileJson.getLong("size"), fileJson.getString("sha256"),
+                        chunks);
+                backup.files.add(file);
+                backup.totalBytes += file.size;
+            }
+            return backup;
+        }
+    }
+
+    /**
+     * Represents one backed up data file.
+     */
+    private static class BackupFile {
+        private final String path;
+        private final long size;
+        private final String hash;
+        private final List<String> chunks;
+
+        private BackupFile(String path, long size, String hash, List<String> chunks) {
+            this.path = path;
+            this.size = size;
+            this.hash = hash;
+            this.chunks = chunks;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.GeneralProject;
+import seedu.internsprint.model.userprofile.project.HardwareProject;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.model.userprofile.project.SoftwareProject;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static seedu.internsprint.storage.BinarySnapshotWriter.NO_DATE;
+import static seedu.internsprint.storage.BinarySnapshotWriter.NO_STRING;
+import static seedu.internsprint.storage.BinarySnapshotWriter.TYPES;
+
+/**
+ * Decodes the body of a binary snapshot written by {@link BinarySnapshotWriter}.
+ * <p>
+ * The whole body is decoded before anything is added to the model, so a snapshot that turns out to be
+ * unreadable leaves the internship list and user profile untouched.
+ */
+public class BinarySnapshotReader {
+    private final ByteBuffer buffer;
+    private String[] strings;
+    private final List<Internship> internships = new ArrayList<>();
+    private final List<Project> projects = new ArrayList<>();
+    private String[] profileFields;
+
+    public BinarySnapshotReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Decodes the string table and all records of the snapshot body.
+     *
+     * @return This reader, holding the decoded records.
+     * @throws RuntimeException If the body is malformed.
+     */
+    public BinarySnapshotReader read() {
+        strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int internshipCount = buffer.getInt();
+        for (int i = 0; i < internshipCount; i++) {
+            internships.add(readInternship());
+        }
+
+        int projectCount = buffer.getInt();
+        for (int i = 0; i < projectCount; i++) {
+            projects.add(readProject());
+        }
+
+        profileFields = new String[BinarySnapshotWriter.PROFILE_FIELD_COUNT];
+        for (int i = 0; i < profileFields.length; i++) {
+            profileFields[i] = readString();
+        }
+        return this;
+    }
+
+    /**
+     * Adds the decoded records to the internship list and the user profile.
+     *
+     * @param internshipList List the internships are added to.
+     * @param user User profile the fields and projects are set on.
+     */
+    public void applyTo(InternshipList internshipList, UserProfile user) {
+        for (Internship internship : internships) {
+            internshipList.restoreInternship(internship);
+            attachInterview(internship.getInterview(), internship.getInternshipId());
+        }
+        for (Project project : projects) {
+            user.projects.addProject(project);
+        }
+        applyProfileFields(user);
+    }
+
+    private void attachInterview(Interview interview, int internshipId) {
+        if (interview == null) {
+            return;
+        }
+        if (interview.getInternshipId() != -1) {
+            interview.setInternshipId(internshipId);
+        }
+        for (Interview nextRound : interview.getNextRounds()) {
+            attachInterview(nextRound, internshipId);
+        }
+    }
+
+    private void applyProfileFields(UserProfile user) {
+        if (profileFields[0] != null) {
+            user.setName(profileFields[0]);
+        }
+        if (profileFields[1] != null) {
+            user.setYearlyGoals(profileFields[1]);
+        }
+        if (profileFields[2] != null) {
+            user.setMonthlyGoals(profileFields[2]);
+        }
+        if (profileFields[3] != null) {
+            user.setPreferredIndustries(profileFields[3]);
+        }
+        if (profileFields[4] != null) {
+            user.setPreferredCompanies(profileFields[4]);
+        }
+        if (profileFields[5] != null) {
+            user.setPreferredRoles(profileFields[5]);
+        }
+        if (profileFields[6] != null) {
+            user.setTargetStipendRange(profileFields[6]);
+        }
+        if (profileFields[7] != null) {
+            user.setInternshipDateRange(profileFields[7]);
+        }
+    }
+
+    private String readString() {
+        int index = buffer.getInt();
+        return index == NO_STRING ? null : strings[index];
+    }
+
+    private Internship readInternship() {
+        String type = TYPES[buffer.get()];
+        String companyName = readString();
+        String role = readString();
+        String typeSpecificField = readString();
+        String eligibility = readString();
+        String description = readString();
+        String status = readString();
+        String expectations = readString();
+        long updatedOn = buffer.getLong();
+
+        Internship internship;
+        switch (type) {
+        case "software":
+            internship = new SoftwareInternship(companyName, role, typeSpecificField, eligibility, description,
+                    status, expectations);
+            break;
+        case "hardware":
+            internship = new HardwareInternship(companyName, role, typeSpecificField, eligibility, description,
+                    status, expectations);
+            break;
+        default:
+            internship = new GeneralInternship(companyName, role, typeSpecificField, eligibility, description,
+                    status, expectations);
+            break;
+        }
+        if (updatedOn != NO_DATE) {
+            internship.setUpdatedOn(LocalDate.ofEpochDay(updatedOn));
+        }
+        if (buffer.get() != 0) {
+            internship.setInterview(readInterview());
+        }
+        return internship;
+    }
+
+    private Interview readInterview() {
+        LocalDate date = LocalDate.ofEpochDay(buffer.getInt());
+        LocalTime startTime = LocalTime.ofSecondOfDay(buffer.getInt());
+        LocalTime endTime = LocalTime.ofSecondOfDay(buffer.getInt());
+        Interview interview = new Interview(date, startTime, endTime, readString(), readString(), readString());
+        if (buffer.get() != 0) {
+            // Replaced by the ID of the internship once it is added to the list
+            interview.setInternshipId(0);
+        }
+        interview.setRoundCounter(buffer.getInt());
+        int nextRoundCount = buffer.getInt();
+        ArrayList<Interview> nextRounds = new ArrayList<>(nextRoundCount);
+        for (int i = 0; i < nextRoundCount; i++) {
+            nextRounds.add(readInterview());
+        }
+        interview.setNextRounds(nextRounds);
+        return interview;
+    }
+
+    private Project readProject() {
+        String type = TYPES[buffer.get()];
+        String projectName = readString();
+        String role = readString();
+        String department = null;
+        List<String> items = new ArrayList<>();
+        if (type.equals("general")) {
+            department = readString();
+        } else {
+            int itemCount = buffer.getInt();
+            for (int i = 0; i < itemCount; i++) {
+                items.add(readString());
+            }
+        }
+        String objectives = readString();
+        String description = readString();
+        String duration = readString();
+
+        switch (type) {
+        case "software":
+            return new SoftwareProject(projectName, role, items, objectives, description, duration);
+        case "hardware":
+            return new HardwareProject(projectName, role, items, objectives, description, duration);
+        default:
+            return new GeneralProject(projectName, role, department, objectives, description, duration);
+        }
+    }
+}
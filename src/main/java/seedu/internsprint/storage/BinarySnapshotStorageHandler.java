@@ -0,0 +1,210 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CORRUPTED_SNAPSHOT_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_DIRECTORY;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_SUCCESS;
+
+/**
+ * Handles the optional binary snapshot of all data, used to start up faster than by parsing the JSON files.
+ * <p>
+ * The snapshot starts with a header holding a magic number, the format version, the generation of the internship
+ * segments, see {@link InternshipStorageHandler#computeGeneration()}, and the length and modification time of every
+ * other JSON data file it was saved alongside. It is only loaded when the header
+ * matches the current JSON files, so the JSON files stay the source of truth and an outdated or unknown
+ * snapshot simply falls back to them. The body is read through a memory-mapped buffer and is followed by
+ * its CRC32 checksum. After the data, the body holds the internship segments as they were last saved, so the
+ * segments can be merged with changes made outside the app as if they had been loaded.
+ */
+public class BinarySnapshotStorageHandler {
+    public static final String FILE_NAME = "snapshot.bin";
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final int MAGIC = 0x49534E50;
+    private static final short VERSION = 4;
+    private static final int SOURCE_FILE_COUNT = 3;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES
+            + SOURCE_FILE_COUNT * 2 * Long.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+    private final InternshipStorageHandler internshipStorageHandler;
+    private final File[] sourceFiles;
+
+    /**
+     * Creates a handler of the snapshot saved alongside the given internship segments.
+     *
+     * @param config Storage configuration of the data files.
+     * @param internshipStorageHandler Handler of the internship segments the snapshot is saved alongside.
+     */
+    public BinarySnapshotStorageHandler(StorageConfig config, InternshipStorageHandler internshipStorageHandler) {
+        file = config.resolve(FILE_NAME);
+        this.internshipStorageHandler = internshipStorageHandler;
+        sourceFiles = new File[] {config.resolve(InterviewStorageHandler.FILE_NAME),
+            config.resolve(ProjectStorageHandler.FILE_NAME), config.resolve(ProfileStorageHandler.FILE_NAME)};
+        assert sourceFiles.length == SOURCE_FILE_COUNT : "Header should stamp every source file";
+    }
+
+    public String getPath() {
+        return file.getPath();
+    }
+
+    public boolean exists() {
+        return file.exists();
+    }
+
+    /**
+     * Checks if the snapshot has a known format and was saved alongside the current JSON data files.
+     *
+     * @return True if the snapshot can be loaded in place of the JSON data files.
+     */
+    public boolean isUpToDate() {
+        if (!file.exists() || file.length() < HEADER_SIZE + Long.BYTES) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            int bytesRead;
+            do {
+                bytesRead = channel.read(header);
+            } while (bytesRead != -1 && header.hasRemaining());
+            header.flip();
+            return header.remaining() == HEADER_SIZE && header.equals(createHeader());
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to read binary snapshot header: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Saves a snapshot of all data, stamped with the JSON data files as they currently are on disk.
+     * The snapshot is written to a temporary file first, so an interrupted save leaves the old one intact.
+     *
+     * @param internships List of internships to be saved.
+     * @param user User profile to be saved, including its projects.
+     */
+    public void save(InternshipList internships, UserProfile user) throws IOException {
+        logger.log(Level.INFO, "Saving binary snapshot to file ...");
+        if (file.getParentFile() != null && !file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+            throw new IOException(String.format(UNABLE_TO_CREATE_DIRECTORY, file.getParentFile().getAbsolutePath()));
+        }
+        Path temporaryPath = Paths.get(file.getPath() + ".tmp");
+        try (OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(temporaryPath), BUFFER_SIZE)) {
+            fileOut.write(createHeader().array());
+            CRC32 checksum = new CRC32();
+            DataOutputStream bodyOut = new DataOutputStream(new CheckedOutputStream(fileOut, checksum));
+            new BinarySnapshotWriter(bodyOut).write(internships, user);
+            internshipStorageHandler.writeSavedSegments(bodyOut, internships);
+            bodyOut.flush();
+            new DataOutputStream(fileOut).writeLong(checksum.getValue());
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error saving binary snapshot to file");
+            throw new IOException(String.format(UNABLE_TO_CREATE_FILE, file.getAbsolutePath()));
+        }
+        Files.move(temporaryPath, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        logger.log(Level.INFO, String.format("Successfully saved binary snapshot to file %s",
+                file.getAbsolutePath()));
+    }
+
+    /**
+     * Loads all data from the snapshot. The snapshot should be checked with {@link #isUpToDate()} first.
+     * Nothing is added to the internship list or user profile if the snapshot turns out to be corrupted.
+     *
+     * @param internships List of internships to be loaded.
+     * @param user User profile to be loaded, including its projects.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    public CommandResult load(InternshipList internships, UserProfile user) {
+        logger.log(Level.INFO, "Beginning process to load binary snapshot from file ...");
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE || size < HEADER_SIZE + Long.BYTES) {
+                throw new IllegalStateException("Unexpected snapshot size: " + size);
+            }
+            MappedByteBuffer mappedFile = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            long storedChecksum = mappedFile.getLong((int) size - Long.BYTES);
+            ByteBuffer body = mappedFile.position(HEADER_SIZE).limit((int) size - Long.BYTES).slice();
+
+            CRC32 checksum = new CRC32();
+            checksum.update(body.duplicate());
+            if (checksum.getValue() != storedChecksum) {
+                throw new IllegalStateException("Checksum mismatch");
+            }
+            BinarySnapshotReader reader = new BinarySnapshotReader(body).read();
+            List<InternshipStorageHandler.Segment> segments = InternshipStorageHandler.readSavedSegments(body);
+            reader.applyTo(internships, user);
+            internshipStorageHandler.keepSavedSegments(segments, internships);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading binary snapshot file");
+            feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Binary snapshot is corrupted: " + e.getMessage());
+            feedback.add(CORRUPTED_SNAPSHOT_FILE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        logger.log(Level.INFO, String.format("Successfully loaded %d internships from binary snapshot",
+                internships.getInternshipCount()));
+        result = new CommandResult(LOADING_DATA_SUCCESS);
+        result.setSuccessful(true);
+        return result;
+    }
+
+    /**
+     * Deletes the snapshot, so that only the JSON data files are used from now on.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    /**
+     * Creates the header identifying the format and stamping the current JSON data files.
+     *
+     * @return Buffer holding the header, ready to be read.
+     */
+    private ByteBuffer createHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.putLong(internshipStorageHandler.computeGeneration());
+        for (File sourceFile : sourceFiles) {
+            header.putLong(sourceFile.exists() ? sourceFile.length() : -1);
+            header.putLong(sourceFile.lastModified());
+        }
+        header.flip();
+        return header;
+    }
+}
@@ -0,0 +1,247 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.GeneralProject;
+import seedu.internsprint.model.userprofile.project.HardwareProject;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.model.userprofile.project.ProjectList;
+import seedu.internsprint.model.userprofile.project.SoftwareProject;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the internships, interviews, projects and user profile into the body of a binary snapshot.
+ * <p>
+ * Every distinct string is written once into a table of length-prefixed UTF-8 strings at the start of
+ * the body, and records refer to strings by their position in the table, or by -1 for a missing value.
+ * Interview dates and times, and the date an internship was last changed, are written as day and second
+ * numbers so they can be read back without going through the natural language date parser. Interviews are
+ * written inline after the internship they belong to, so no ID lookup is needed when the snapshot is read.
+ */
+public class BinarySnapshotWriter {
+    static final String[] TYPES = {"software", "hardware", "general"};
+    static final int NO_STRING = -1;
+    static final long NO_DATE = Long.MIN_VALUE;
+    static final int PROFILE_FIELD_COUNT = 8;
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    public BinarySnapshotWriter(DataOutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes the string table followed by the internships with their interviews, the projects and the
+     * user profile.
+     *
+     * @param internships List of internships to be written.
+     * @param user User profile whose fields and projects are to be written.
+     */
+    public void write(InternshipList internships, UserProfile user) throws IOException {
+        collectStrings(internships, user);
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(internships.getInternshipCount());
+        for (String type : TYPES) {
+            for (Internship internship : internships.getInternshipMap().get(type)) {
+                writeInternship(internship);
+            }
+        }
+
+        ProjectList projects = user.projects;
+        out.writeInt(projects.getProjectCount());
+        for (String type : TYPES) {
+            for (Project project : projects.getProjectMap().get(type)) {
+                writeProject(project);
+            }
+        }
+
+        for (String field : getProfileFields(user)) {
+            writeString(field);
+        }
+    }
+
+    /**
+     * Returns the fields of the user profile in the order they are written to the snapshot.
+     * Lists are joined the same way as in the profile file, so they can be restored through the setters.
+     *
+     * @param user User profile to be written.
+     * @return Fields of the user profile.
+     */
+    static String[] getProfileFields(UserProfile user) {
+        return new String[]{
+            user.getName(),
+            user.getYearlyGoals(),
+            user.getMonthlyGoals(),
+            joinList(user.getPreferredIndustries()),
+            joinList(user.getPreferredCompanies()),
+            joinList(user.getPreferredRoles()),
+            user.getTargetStipendRange(),
+            user.getInternshipDateRange()
+        };
+    }
+
+    private static String joinList(List<String> values) {
+        return values == null ? null : String.join(", ", values);
+    }
+
+    /**
+     * Adds every string of the data to the string table, in the order the records are written.
+     */
+    private void collectStrings(InternshipList internships, UserProfile user) {
+        for (String type : TYPES) {
+            for (Internship internship : internships.getInternshipMap().get(type)) {
+                for (String field : getInternshipFields(internship)) {
+                    addString(field);
+                }
+                collectInterviewStrings(internship.getInterview());
+            }
+            for (Project project : user.projects.getProjectMap().get(type)) {
+                addString(project.getProjectName());
+                addString(project.getRole());
+                getProjectItems(project).forEach(this::addString);
+                addString(project.getObjectives());
+                addString(project.getDescription());
+                addString(project.getDuration());
+            }
+        }
+        for (String field : getProfileFields(user)) {
+            addString(field);
+        }
+    }
+
+    private void collectInterviewStrings(Interview interview) {
+        if (interview == null) {
+            return;
+        }
+        addString(interview.getInterviewType());
+        addString(interview.getInterviewerEmail());
+        addString(interview.getNotes());
+        for (Interview nextRound : interview.getNextRounds()) {
+            collectInterviewStrings(nextRound);
+        }
+    }
+
+    private void addString(String string) {
+        if (string != null && !stringIndexes.containsKey(string)) {
+            stringIndexes.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    private void writeString(String string) throws IOException {
+        out.writeInt(string == null ? NO_STRING : stringIndexes.get(string));
+    }
+
+    private void writeInternship(Internship internship) throws IOException {
+        out.writeByte(typeCode(internship.getType()));
+        for (String field : getInternshipFields(internship)) {
+            writeString(field);
+        }
+        out.writeLong(internship.getUpdatedOn() == null ? NO_DATE : internship.getUpdatedOn().toEpochDay());
+        Interview interview = internship.getInterview();
+        out.writeBoolean(interview != null);
+        if (interview != null) {
+            writeInterview(interview);
+        }
+    }
+
+    /**
+     * Returns the string fields of an internship in the order they are written to the snapshot.
+     *
+     * @param internship Internship to be written.
+     * @return Fields of the internship.
+     */
+    private static String[] getInternshipFields(Internship internship) {
+        return new String[]{
+            internship.getCompanyName(),
+            internship.getRole(),
+            getTypeSpecificField(internship),
+            internship.getEligibility(),
+            internship.getDescription(),
+            internship.getStatus(),
+            internship.getExpectations()
+        };
+    }
+
+    private static String getTypeSpecificField(Internship internship) {
+        if (internship instanceof SoftwareInternship) {
+            return ((SoftwareInternship) internship).getTechStack();
+        } else if (internship instanceof HardwareInternship) {
+            return ((HardwareInternship) internship).getEmbeddedSystems();
+        } else {
+            return ((GeneralInternship) internship).getDepartment();
+        }
+    }
+
+    private void writeInterview(Interview interview) throws IOException {
+        out.writeInt((int) interview.getUnformattedInterviewDate().toEpochDay());
+        out.writeInt(interview.getUnformattedInterviewStartTime().toSecondOfDay());
+        out.writeInt(interview.getUnformattedInterviewEndTime().toSecondOfDay());
+        writeString(interview.getInterviewType());
+        writeString(interview.getInterviewerEmail());
+        writeString(interview.getNotes());
+        out.writeBoolean(interview.getInternshipId() != -1);
+        out.writeInt(interview.getRoundCounter());
+        out.writeInt(interview.getNextRounds().size());
+        for (Interview nextRound : interview.getNextRounds()) {
+            writeInterview(nextRound);
+        }
+    }
+
+    private void writeProject(Project project) throws IOException {
+        out.writeByte(typeCode(project.getType()));
+        writeString(project.getProjectName());
+        writeString(project.getRole());
+        if (project instanceof GeneralProject) {
+            writeString(((GeneralProject) project).getDepartment());
+        } else {
+            List<String> items = getProjectItems(project);
+            out.writeInt(items.size());
+            for (String item : items) {
+                writeString(item);
+            }
+        }
+        writeString(project.getObjectives());
+        writeString(project.getDescription());
+        writeString(project.getDuration());
+    }
+
+    private static List<String> getProjectItems(Project project) {
+        if (project instanceof SoftwareProject) {
+            return ((SoftwareProject) project).getProgrammingLanguages();
+        } else if (project instanceof HardwareProject) {
+            return ((HardwareProject) project).getHardwareComponents();
+        } else {
+            return List.of(((GeneralProject) project).getDepartment());
+        }
+    }
+
+    private static int typeCode(String type) {
+        for (int i = 0; i < TYPES.length; i++) {
+            if (TYPES[i].equals(type)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown type: " + type);
+    }
+}
@@ -0,0 +1,318 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WRITE_FILE;
+
+/**
+ * Records every change to the saved data in a feed of JSON lines, so other programs can follow the changes
+ * without reading the data files again.
+ * <p>
+ * Each line holds one change with a sequence number one higher than the line before, the time it was saved,
+ * the store it changed and the record before and after the change. A program that has read every change up to
+ * a sequence number reads the changes after it with {@link #readSince(long)}. A {@link #RESET} change means the
+ * whole store was replaced, such as by a restore, so the program should read that store again.
+ */
+public class ChangeFeed {
+    public static final String FILE_NAME = "changes.jsonl";
+    public static final String INTERNSHIPS = "internships";
+    public static final String INTERVIEWS = "interviews";
+    public static final String PROJECTS = "projects";
+    public static final String PROFILE = "profile";
+    public static final String ALL = "all";
+    public static final String ADD = "add";
+    public static final String EDIT = "edit";
+    public static final String DELETE = "delete";
+    public static final String RESET = "reset";
+    private static final int BLOCK_SIZE = 8192;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final File file;
+    /* Sequence number of the last change in the file, or -1 until the file has been read */
+    private long lastSequence = -1;
+
+    public ChangeFeed(StorageConfig config) {
+        file = config.resolve(FILE_NAME);
+    }
+
+    /**
+     * Represents one change to a store before it is numbered and written to the feed.
+     */
+    public static class Change {
+        private final String store;
+        private final String operation;
+        private final JSONObject internship;
+        private final JSONObject before;
+        private final JSONObject after;
+
+        /**
+         * Creates a change to a store.
+         *
+         * @param store Store that was changed, such as {@link #INTERNSHIPS}.
+         * @param operation Operation that changed it, such as {@link #EDIT}.
+         * @param before Record before the change, or null if it was added.
+         * @param after Record after the change, or null if it was deleted.
+         */
+        public Change(String store, String operation, JSONObject before, JSONObject after) {
+            this(store, operation, null, before, after);
+        }
+
+        /**
+         * Creates a change to the interview rounds of an internship.
+         *
+         * @param store Store that was changed, {@link #INTERVIEWS}.
+         * @param operation Operation that changed it, such as {@link #ADD}.
+         * @param internship Internship whose interview rounds were changed.
+         * @param before Interview round before the change, or null if it was added.
+         * @param after Interview round after the change, or null if it was deleted.
+         */
+        public Change(String store, String operation, JSONObject internship, JSONObject before, JSONObject after) {
+            this.store = store;
+            this.operation = operation;
+            this.internship = internship;
+            this.before = before;
+            this.after = after;
+        }
+
+        /**
+         * Converts the change to the JSON object of its line in the feed.
+         *
+         * @param sequence Sequence number of the change.
+         * @param time Time the change was saved.
+         * @return JSON object representing the change.
+         */
+        JSONObject toJson(long sequence, LocalDateTime time) {
+            Map<String, Object> orderedMap = new LinkedHashMap<>();
+            orderedMap.put("seq", sequence);
+            orderedMap.put("time", time.toString());
+            orderedMap.put("store", store);
+            orderedMap.put("operation", operation);
+            orderedMap.put("internship", internship);
+            orderedMap.put("before", before);
+            orderedMap.put("after", after);
+            return new JSONObject(orderedMap);
+        }
+
+        public String getStore() {
+            return store;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+    }
+
+    /**
+     * Numbers the changes after the last change in the feed and appends them in a single write.
+     *
+     * @param changes Changes to be appended, in the order they happened.
+     */
+    public synchronized void append(List<Change> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long sequence = getLastSequence();
+        LocalDateTime time = LocalDateTime.now();
+        StringBuilder lines = new StringBuilder();
+        for (Change change : changes) {
+            sequence++;
+            lines.append(change.toJson(sequence, time).toString()).append('\n');
+        }
+        try {
+            Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+            try (FileOutputStream outputStream = new FileOutputStream(file, true)) {
+                outputStream.write(lines.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error appending to change feed");
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE, file.getAbsolutePath()));
+        }
+        lastSequence = sequence;
+        logger.log(Level.FINE, String.format("Appended changes up to %d to change feed", sequence));
+    }
+
+    /**
+     * Returns the sequence number of the last change in the feed, reading it from the end of the file the first
+     * time. A last line cut short by a crash during an append is removed first, so the next append starts on a
+     * line of its own.
+     *
+     * @return Sequence number of the last change, or 0 if there are none.
+     */
+    public synchronized long getLastSequence() throws IOException {
+        if (lastSequence >= 0) {
+            return lastSequence;
+        }
+        if (!file.exists()) {
+            lastSequence = 0;
+            return lastSequence;
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            long end = randomAccessFile.length();
+            if (end > 0 && !isLineEnd(randomAccessFile, end - 1)) {
+                end = findLineStart(randomAccessFile, end);
+                randomAccessFile.setLength(end);
+                logger.log(Level.WARNING, "Removed an incomplete last line from the change feed");
+            }
+            lastSequence = 0;
+            while (end > 0) {
+                long start = findLineStart(randomAccessFile, end - 1);
+                Long sequence = readSequence(randomAccessFile, start);
+                if (sequence != null) {
+                    lastSequence = sequence;
+                    break;
+                }
+                end = start;
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading change feed");
+            throw new IOException(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Returns the changes after the given sequence number, in order. The first of them is found by a binary
+     * search over the file, so only the changes returned are read in full.
+     *
+     * @param sequence Sequence number of the last change already read, or 0 to read every change.
+     * @return Changes with a higher sequence number, as JSON objects.
+     */
+    public List<JSONObject> readSince(long sequence) throws IOException {
+        List<JSONObject> changes = new ArrayList<>();
+        if (!file.exists()) {
+            return changes;
+        }
+        try {
+            long start;
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+                start = findFirstLineAfter(randomAccessFile, sequence);
+            }
+            try (FileInputStream inputStream = new FileInputStream(file)) {
+                inputStream.getChannel().position(start);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    JSONObject change = parseLine(line);
+                    if (change != null && change.getLong("seq") > sequence) {
+                        changes.add(change);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading change feed");
+            throw new IOException(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
+        }
+        return changes;
+    }
+
+    public String getPath() {
+        return file.getPath();
+    }
+
+    /**
+     * Returns the position of the first line whose sequence number is higher than the given one.
+     * Every line before {@code low} has a sequence number at most the given one, and the first line at or
+     * after {@code high} has a higher one.
+     */
+    private static long findFirstLineAfter(RandomAccessFile randomAccessFile, long sequence) throws IOException {
+        long low = 0;
+        long high = randomAccessFile.length();
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            long lineStart = findNextLineStart(randomAccessFile, middle);
+            if (lineStart >= randomAccessFile.length()) {
+                high = middle;
+                continue;
+            }
+            Long lineSequence = readSequence(randomAccessFile, lineStart);
+            if (lineSequence != null && lineSequence > sequence) {
+                high = middle;
+            } else {
+                low = randomAccessFile.getFilePointer();
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first line starting at or after the given position.
+     */
+    private static long findNextLineStart(RandomAccessFile randomAccessFile, long position) throws IOException {
+        if (position == 0) {
+            return 0;
+        }
+        randomAccessFile.seek(position - 1);
+        int value = randomAccessFile.read();
+        while (value != -1 && value != '\n') {
+            value = randomAccessFile.read();
+        }
+        return randomAccessFile.getFilePointer();
+    }
+
+    /**
+     * Returns the position of the line the given position is in, scanning back for the end of the line before.
+     */
+    private static long findLineStart(RandomAccessFile randomAccessFile, long position) throws IOException {
+        byte[] block = new byte[BLOCK_SIZE];
+        long blockEnd = position;
+        while (blockEnd > 0) {
+            int size = (int) Math.min(block.length, blockEnd);
+            randomAccessFile.seek(blockEnd - size);
+            randomAccessFile.readFully(block, 0, size);
+            for (int i = size - 1; i >= 0; i--) {
+                if (block[i] == '\n') {
+                    return blockEnd - size + i + 1;
+                }
+            }
+            blockEnd -= size;
+        }
+        return 0;
+    }
+
+    private static boolean isLineEnd(RandomAccessFile randomAccessFile, long position) throws IOException {
+        randomAccessFile.seek(position);
+        return randomAccessFile.read() == '\n';
+    }
+
+    /**
+     * Reads the sequence number of the line at the given position, leaving the file at the start of the next line.
+     *
+     * @return Sequence number of the line, or null if the line is not a valid change.
+     */
+    private static Long readSequence(RandomAccessFile randomAccessFile, long position) throws IOException {
+        randomAccessFile.seek(position);
+        // Non-ASCII bytes are only read as the wrong characters within strings, which the number does not need
+        String line = randomAccessFile.readLine();
+        JSONObject change = line == null ? null : parseLine(line);
+        return change == null ? null : change.getLong("seq");
+    }
+
+    private static JSONObject parseLine(String line) {
+        try {
+            JSONObject change = new JSONObject(line);
+            return change.opt("seq") instanceof Number ? change : null;
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+}
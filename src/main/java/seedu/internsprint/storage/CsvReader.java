@@ -0,0 +1,114 @@
+package seedu.internsprint.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV file one at a time from a character stream.
+ * <p>
+ * Fields may be quoted with double quotes, in which case they can hold commas, line breaks and quotes written
+ * twice. Only the record currently being read is held in memory.
+ */
+public class CsvReader implements Closeable {
+    private static final int NO_PENDING_CHARACTER = -2;
+    private final Reader reader;
+    private int lineNumber = 1;
+    private int recordLineNumber = 0;
+    private int pending = NO_PENDING_CHARACTER;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record, skipping empty lines.
+     *
+     * @return Fields of the record, or null once the end of the stream is reached.
+     * @throws IOException If the stream cannot be read or a quoted field is not closed.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = skipLineBreak(c);
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == -1) {
+                    throw new IOException("Quoted field is not closed, starting at line " + recordLineNumber);
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        isQuoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) {
+                    pending = skipLineBreak(c);
+                }
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line of the stream the last record read starts on, counting from 1.
+     *
+     * @return Line number of the last record.
+     */
+    public int getLineNumber() {
+        return recordLineNumber;
+    }
+
+    private int read() throws IOException {
+        if (pending != NO_PENDING_CHARACTER) {
+            int c = pending;
+            pending = NO_PENDING_CHARACTER;
+            return c;
+        }
+        return reader.read();
+    }
+
+    /**
+     * Consumes a line break, treating {@code \r\n} as a single one.
+     *
+     * @param c First character of the line break.
+     * @return Character following the line break.
+     */
+    private int skipLineBreak(int c) throws IOException {
+        lineNumber++;
+        int next = read();
+        if (c == '\r' && next == '\n') {
+            next = read();
+        }
+        return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
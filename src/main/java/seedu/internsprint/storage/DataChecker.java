@@ -0,0 +1,780 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_DUPLICATE_ID;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_ENTRY_PROBLEM;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_FILE_CORRUPTED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_INTERVIEW_DANGLING;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_INTERVIEW_REPLACED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_INTERVIEW_STALE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_LINE_PROBLEM;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_MANIFEST_CORRUPTED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_MANIFEST_MISSING;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_MARKER_MISSING;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_MARKER_STALE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_NO_INTERNSHIP;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_NOT_OBJECT;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_PROFILE_LINE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_RECORD_DAMAGED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_ROUND_COUNTER;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_SEGMENT_MISMATCH;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_SEGMENT_MISSING;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CHECK_SEGMENT_NOT_LISTED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.DUPLICATE_INTERNSHIP;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WRITE_FILE;
+
+/**
+ * Checks the data files for the problems that loading them only reports one at a time or does not notice at all,
+ * and repairs them.
+ * <p>
+ * The stores are streamed rather than loaded, so data too large to load can still be checked, and they are read in
+ * parallel: the segments are parsed by a {@link LoadPipeline}, while the interviews, projects and profile are read
+ * an entry at a time on threads of their own. Only a few numbers are kept for each internship, which is enough to
+ * tell which internship each interview would be attached to when loaded. Besides records that are damaged or do
+ * not match the schema, the checker finds segments that do not match the manifest, internships duplicating one
+ * before them or sharing its ID, interviews whose round counter does not match their rounds, and interviews whose
+ * internship does not exist or is loaded with another ID, as happens when the IDs saved with them went stale.
+ * <p>
+ * Repairing writes the stores again without those problems: records that cannot be loaded are dropped, as are
+ * duplicates and interviews without an internship, round counters are corrected, and every internship is saved
+ * with the ID it is loaded with, which its interview is saved with too.
+ */
+public class DataChecker {
+    private static final int MAX_KEPT_PROBLEMS = 100;
+    private static final int NO_INTERNSHIP = Integer.MIN_VALUE;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final StorageConfig config;
+    private final InternshipStorageHandler internshipStorageHandler;
+    private final File interviewFile;
+    private final File projectFile;
+    private final File profileFile;
+
+    public DataChecker(StorageConfig config, InternshipStorageHandler internshipStorageHandler) {
+        this.config = config;
+        this.internshipStorageHandler = internshipStorageHandler;
+        interviewFile = config.resolve(InterviewStorageHandler.FILE_NAME);
+        projectFile = config.resolve(ProjectStorageHandler.FILE_NAME);
+        profileFile = config.resolve(ProfileStorageHandler.FILE_NAME);
+    }
+
+    /**
+     * Represents the problems found by a check, and what the check learnt about the records that is needed to
+     * repair them.
+     */
+    public static class Report {
+        private final Findings internshipFindings = new Findings();
+        private final Findings interviewFindings = new Findings();
+        private final Findings projectFindings = new Findings();
+        private final Findings profileFindings = new Findings();
+        private final Findings referenceFindings = new Findings();
+        private volatile boolean hasUnreadableFiles = false;
+        private boolean isCheckingReferences = true;
+        /* Segments in the order they were read, and for each line read from them, in that order: the ID it was
+           saved with, the position of its type in load order, and the ID it is loaded with, or -1 if it is not */
+        private List<InternshipStorageHandler.Segment> segments = new ArrayList<>();
+        private final IntArray storedIds = new IntArray();
+        private final IntArray typeIndexes = new IntArray();
+        private final IntArray loadedIds = new IntArray();
+        private final BitSet markedLines = new BitSet();
+        private final Map<Integer, Integer> linesById = new HashMap<>();
+        /* For each interview entry, the ID of its internship or NO_INTERNSHIP, and the line of the internship it
+           is kept for, or -1 if it is not kept */
+        private final IntArray interviewIds = new IntArray();
+        private int[] interviewLines = new int[0];
+        private final BitSet interviewedLines = new BitSet();
+        private final BitSet invalidProjects = new BitSet();
+        private final BitSet invalidProfileLines = new BitSet();
+
+        /**
+         * Returns the problems found, in the order the stores are loaded, up to a hundred of them.
+         *
+         * @return Descriptions of the problems found.
+         */
+        public List<String> getProblems() {
+            List<String> problems = new ArrayList<>();
+            for (Findings findings : getFindings()) {
+                problems.addAll(findings.problems);
+            }
+            return problems.subList(0, Math.min(problems.size(), MAX_KEPT_PROBLEMS));
+        }
+
+        public int getProblemCount() {
+            int problemCount = 0;
+            for (Findings findings : getFindings()) {
+                problemCount += findings.count;
+            }
+            return problemCount;
+        }
+
+        public boolean hasProblems() {
+            return getProblemCount() > 0;
+        }
+
+        /**
+         * Returns true if every data file could be read, so repairing them loses nothing that was not reported.
+         *
+         * @return True if the problems can be repaired.
+         */
+        public boolean isRepairable() {
+            return !hasUnreadableFiles;
+        }
+
+        private List<Findings> getFindings() {
+            return List.of(internshipFindings, interviewFindings, referenceFindings, projectFindings,
+                    profileFindings);
+        }
+
+        /**
+         * Computes the ID each kept line is saved with by a repair, which writes the internships of each type
+         * together, in the order the types are loaded.
+         */
+        private int[] computeRepairedIds() {
+            int[] typeCounts = new int[InternshipStorageHandler.listTypesInLoadOrder().size()];
+            for (int line = 0; line < loadedIds.size(); line++) {
+                if (loadedIds.get(line) >= 0) {
+                    typeCounts[typeIndexes.get(line)]++;
+                }
+            }
+            int[] nextIds = new int[typeCounts.length];
+            for (int i = 1; i < typeCounts.length; i++) {
+                nextIds[i] = nextIds[i - 1] + typeCounts[i - 1];
+            }
+            int[] repairedIds = new int[loadedIds.size()];
+            Arrays.fill(repairedIds, -1);
+            for (int line = 0; line < loadedIds.size(); line++) {
+                if (loadedIds.get(line) >= 0) {
+                    repairedIds[line] = nextIds[typeIndexes.get(line)]++;
+                }
+            }
+            return repairedIds;
+        }
+    }
+
+    /**
+     * Checks every data file without changing any of them. Files saved while they are checked may be reported as
+     * damaged, so this should be called while no other thread saves the data.
+     *
+     * @return Report of the problems found.
+     * @throws InterruptedIOException If the calling thread is interrupted.
+     */
+    public Report check() throws IOException {
+        logger.log(Level.INFO, "Checking the data files ...");
+        Report report = new Report();
+        ExecutorService executor = Executors.newFixedThreadPool(3, runnable -> {
+            Thread thread = new Thread(runnable, "internsprint-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> checks = List.of(executor.submit(() -> checkInterviews(report)),
+                    executor.submit(() -> checkProjects(report)), executor.submit(() -> checkProfile(report)));
+            checkInternships(report);
+            for (Future<?> check : checks) {
+                check.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while checking the data files");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        checkReferences(report);
+        logger.log(Level.INFO, String.format("Found %d problems in the data files", report.getProblemCount()));
+        return report;
+    }
+
+    /**
+     * Writes the stores with problems again without them, backing nothing up, so the caller should back up the
+     * data first. The report must be of the files as they are, and no other thread or process may save the data
+     * until this returns. As journal entries refer to internships by their position, the journal must be empty.
+     *
+     * @param report Report of a check of the data files as they are now.
+     * @throws IllegalStateException If the report is not repairable.
+     */
+    public void repair(Report report) throws IOException {
+        if (!report.isRepairable()) {
+            throw new IllegalStateException("Data files that cannot be read cannot be repaired");
+        }
+        boolean isRewritingInternships = report.isCheckingReferences && (report.internshipFindings.count > 0
+                || report.interviewFindings.count > 0 || report.referenceFindings.count > 0);
+        if (isRewritingInternships) {
+            int[] repairedIds = report.computeRepairedIds();
+            try {
+                repairInternships(report, repairedIds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while repairing the internships");
+            }
+            if (interviewFile.exists() && interviewFile.length() > 0) {
+                repairInterviews(report, repairedIds);
+            }
+        }
+        if (report.projectFindings.count > 0) {
+            repairProjects(report);
+        }
+        if (report.profileFindings.count > 0) {
+            repairProfile(report);
+        }
+        logger.log(Level.INFO, "Repaired the data files");
+    }
+
+    // ================= Internships =================
+
+    /**
+     * Lists the segments in the order they are loaded, reporting a manifest that is missing or corrupted.
+     *
+     * @return Segments to be checked.
+     */
+    private List<InternshipStorageHandler.Segment> findSegmentsToCheck(List<File> segmentFiles, Findings findings) {
+        if (!internshipStorageHandler.hasManifest()) {
+            if (!segmentFiles.isEmpty()) {
+                findings.add(CHECK_MANIFEST_MISSING);
+            }
+            return InternshipStorageHandler.findSegments(segmentFiles);
+        }
+        try {
+            return internshipStorageHandler.readManifestSegments();
+        } catch (IOException | JSONException e) {
+            findings.add(String.format(CHECK_MANIFEST_CORRUPTED, e.getMessage()));
+            return InternshipStorageHandler.findSegments(segmentFiles);
+        }
+    }
+
+    private void checkInternships(Report report) throws InterruptedException {
+        Findings findings = report.internshipFindings;
+        List<File> segmentFiles = internshipStorageHandler.listSegmentFiles();
+        if (!internshipStorageHandler.hasManifest() && segmentFiles.isEmpty()) {
+            // Internships saved by an older version are moved to segments when loaded, and only checked then
+            report.isCheckingReferences = !internshipStorageHandler.hasLegacyFile();
+            return;
+        }
+        List<InternshipStorageHandler.Segment> segments = findSegmentsToCheck(segmentFiles, findings);
+        Set<String> listedFileNames = new HashSet<>();
+        for (InternshipStorageHandler.Segment segment : segments) {
+            listedFileNames.add(segment.getFileName());
+        }
+        for (File segmentFile : segmentFiles) {
+            if (!listedFileNames.contains(segmentFile.getName())) {
+                findings.add(String.format(CHECK_SEGMENT_NOT_LISTED, segmentFile.getName()));
+            }
+        }
+        report.segments = segments;
+
+        List<String> fileNames = new ArrayList<>();
+        long[] checksums = new long[segments.size()];
+        boolean[] isRead = new boolean[segments.size()];
+        int[] intactRecords = new int[segments.size()];
+        for (InternshipStorageHandler.Segment segment : segments) {
+            fileNames.add(segment.getFileName());
+        }
+        List<String> types = InternshipStorageHandler.listTypesInLoadOrder();
+        Set<Long> fingerprints = new HashSet<>();
+        new LoadPipeline<>(config.getLoadThreads(), DataChecker::parseRecord).run(sink -> {
+            for (int source = 0; source < segments.size(); source++) {
+                File file = internshipStorageHandler.getSegmentFile(segments.get(source));
+                try {
+                    checksums[source] = new SegmentFile<Internship>(file, false, config.getCipher())
+                            .readLines(source, sink);
+                    isRead[source] = true;
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Unable to read segment " + file.getName());
+                }
+            }
+        }, (source, lineNumber, record) -> {
+            if (!record.isDamaged) {
+                intactRecords[source]++;
+            }
+            addRecord(report, types, fileNames.get(source), lineNumber, record, fingerprints);
+        });
+
+        for (int source = 0; source < segments.size(); source++) {
+            InternshipStorageHandler.Segment segment = segments.get(source);
+            File file = internshipStorageHandler.getSegmentFile(segment);
+            if (!isRead[source] && !file.exists()) {
+                findings.add(String.format(CHECK_SEGMENT_MISSING, file.getName()));
+            } else if (!isRead[source]) {
+                findings.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
+                report.hasUnreadableFiles = true;
+            } else if (segment.getRecords() >= 0 && (segment.getChecksum() != checksums[source]
+                    || segment.getRecords() != intactRecords[source])) {
+                findings.add(String.format(CHECK_SEGMENT_MISMATCH, file.getName()));
+            }
+        }
+    }
+
+    /**
+     * Parses one line of a segment, keeping only what is needed to check it against the other records.
+     * This runs on the workers of the pipeline.
+     */
+    private static CheckedRecord parseRecord(String line) {
+        JSONObject json;
+        try {
+            json = SegmentFile.parseLine(line);
+        } catch (IllegalArgumentException | JSONException e) {
+            return new CheckedRecord(null, CHECK_RECORD_DAMAGED, true, false);
+        }
+        try {
+            return new CheckedRecord(parseInternship(json), null, false, json.optBoolean("hasInterview"));
+        } catch (RuntimeException e) {
+            return new CheckedRecord(null, e.getMessage(), false, false);
+        }
+    }
+
+    private static Internship parseInternship(JSONObject json) {
+        Internship internship = InternshipStorageHandler.createInternship(json);
+        if (internship == null) {
+            throw new JSONException("Unknown internship type");
+        }
+        return internship;
+    }
+
+    /**
+     * Keeps what is known of one line of a segment, in the order the lines are loaded. A line is loaded, and given
+     * the next ID, unless it cannot be parsed or duplicates an internship loaded before it.
+     */
+    private static void addRecord(Report report, List<String> types, String fileName, int lineNumber,
+            CheckedRecord record, Set<Long> fingerprints) {
+        int line = report.loadedIds.size();
+        Internship internship = record.internship;
+        report.storedIds.add(internship == null ? NO_INTERNSHIP : internship.getInternshipId());
+        report.typeIndexes.add(internship == null ? -1 : types.indexOf(internship.getType()));
+        if (internship == null) {
+            report.internshipFindings.add(String.format(CHECK_LINE_PROBLEM, lineNumber, fileName, record.error));
+            report.loadedIds.add(-1);
+            return;
+        }
+        if (!fingerprints.add(computeFingerprint(internship))) {
+            report.internshipFindings.add(String.format(CHECK_LINE_PROBLEM, lineNumber, fileName,
+                    DUPLICATE_INTERNSHIP));
+            report.loadedIds.add(-1);
+            return;
+        }
+        report.loadedIds.add(fingerprints.size() - 1);
+        if (record.hasInterviewMarker) {
+            report.markedLines.set(line);
+        }
+        Integer otherLine = report.linesById.putIfAbsent(internship.getInternshipId(), line);
+        if (otherLine != null) {
+            report.internshipFindings.add(String.format(CHECK_LINE_PROBLEM, lineNumber, fileName,
+                    String.format(CHECK_DUPLICATE_ID, internship.getInternshipId())));
+            // An interview saved with the shared ID most likely belongs to the internship marked as having one
+            if (record.hasInterviewMarker && !report.markedLines.get(otherLine)) {
+                report.linesById.put(internship.getInternshipId(), line);
+            }
+        }
+    }
+
+    /**
+     * Computes a 64 bit fingerprint that is the same for internships that are equal, from their hash code and
+     * the checksum of their type, company and role, so duplicates can be found without keeping the internships.
+     * Different internships share a fingerprint too rarely to matter.
+     */
+    private static long computeFingerprint(Internship internship) {
+        CRC32 checksum = new CRC32();
+        checksum.update((internship.getType() + "\n" + internship.getCompanyName() + "\n" + internship.getRole())
+                .getBytes(StandardCharsets.UTF_8));
+        return (long) internship.hashCode() << 32 | checksum.getValue();
+    }
+
+    private void repairInternships(Report report, int[] repairedIds) throws IOException, InterruptedException {
+        List<InternshipStorageHandler.Segment> segments = report.segments;
+        int[] nextLine = {0};
+        try (InternshipStorageHandler.SegmentRewrite rewrite = internshipStorageHandler.rewriteSegments()) {
+            new LoadPipeline<Internship>(config.getLoadThreads(), line -> {
+                try {
+                    return parseInternship(SegmentFile.parseLine(line));
+                } catch (RuntimeException e) {
+                    return null;
+                }
+            }).run(sink -> {
+                for (int source = 0; source < segments.size(); source++) {
+                    File file = internshipStorageHandler.getSegmentFile(segments.get(source));
+                    if (!file.exists()) {
+                        continue;
+                    }
+                    try {
+                        new SegmentFile<Internship>(file, false, config.getCipher()).readLines(source, sink);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }, (source, lineNumber, internship) -> {
+                int line = nextLine[0]++;
+                if (line >= repairedIds.length || repairedIds[line] < 0) {
+                    return;
+                }
+                internship.setInternshipId(repairedIds[line]);
+                internship.setHasStoredInterview(report.interviewedLines.get(line));
+                try {
+                    rewrite.add(internship);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (nextLine[0] != repairedIds.length) {
+                throw new IOException("The internship segments were changed since they were checked");
+            }
+            rewrite.commit();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // ================= Interviews =================
+
+    private void checkInterviews(Report report) {
+        Findings findings = report.interviewFindings;
+        if (!interviewFile.exists() || interviewFile.length() == 0) {
+            return;
+        }
+        int entryIndex = 0;
+        try (JsonArrayReader reader = new JsonArrayReader(DataFileStreams.newReader(interviewFile,
+                config.getCipher()))) {
+            while (reader.hasNext()) {
+                entryIndex++;
+                report.interviewIds.add(checkInterview(entryIndex, reader.next(), findings));
+            }
+        } catch (JSONException e) {
+            findings.add(String.format(CHECK_FILE_CORRUPTED, interviewFile.getName(), e.getMessage()));
+            report.hasUnreadableFiles = true;
+        } catch (IOException e) {
+            findings.add(String.format(UNABLE_TO_READ_FILE, interviewFile.getAbsolutePath()));
+            report.hasUnreadableFiles = true;
+        }
+    }
+
+    /**
+     * Checks one entry of the interview file.
+     *
+     * @return ID of the internship of the interview, or {@link #NO_INTERNSHIP} if the interview cannot be loaded.
+     */
+    private static int checkInterview(int entryIndex, Object entry, Findings findings) {
+        if (!(entry instanceof JSONObject)) {
+            findings.add(String.format(CHECK_ENTRY_PROBLEM, entryIndex, InterviewStorageHandler.FILE_NAME,
+                    CHECK_NOT_OBJECT));
+            return NO_INTERNSHIP;
+        }
+        JSONObject interviewJson = (JSONObject) entry;
+        if (correctRoundCounters(interviewJson)) {
+            findings.add(String.format(CHECK_ENTRY_PROBLEM, entryIndex, InterviewStorageHandler.FILE_NAME,
+                    CHECK_ROUND_COUNTER));
+        }
+        Interview interview;
+        try {
+            interview = Interview.fromJson(interviewJson);
+        } catch (RuntimeException e) {
+            findings.add(String.format(CHECK_ENTRY_PROBLEM, entryIndex, InterviewStorageHandler.FILE_NAME,
+                    e.getMessage()));
+            return NO_INTERNSHIP;
+        }
+        if (interview.getInternshipId() < 0) {
+            findings.add(String.format(CHECK_ENTRY_PROBLEM, entryIndex, InterviewStorageHandler.FILE_NAME,
+                    CHECK_NO_INTERNSHIP));
+            return NO_INTERNSHIP;
+        }
+        return interview.getInternshipId();
+    }
+
+    /**
+     * Sets the round counter of an interview and of each of its rounds to the number of rounds it holds, as loading
+     * an interview reads as many rounds as its counter says, failing if there are fewer and dropping any more.
+     *
+     * @param interviewJson JSON object of the interview, which is corrected in place.
+     * @return True if any counter was wrong.
+     */
+    static boolean correctRoundCounters(JSONObject interviewJson) {
+        JSONArray rounds = interviewJson.optJSONArray("nextRounds");
+        int roundCount = rounds == null ? 0 : rounds.length();
+        boolean isWrong = interviewJson.optInt("roundCounter", -1) != roundCount;
+        interviewJson.put("roundCounter", roundCount);
+        for (int i = 0; i < roundCount; i++) {
+            JSONObject round = rounds.optJSONObject(i);
+            if (round != null) {
+                isWrong |= correctRoundCounters(round);
+            }
+        }
+        return isWrong;
+    }
+
+    /**
+     * Matches each interview with the internship loaded with its ID, and the internships marked as having an
+     * interview with their interviews. An interview belongs to the internship saved with the same ID, which need
+     * not be the ID the internship is loaded with.
+     */
+    private static void checkReferences(Report report) {
+        int interviewCount = report.interviewIds.size();
+        report.interviewLines = new int[interviewCount];
+        Arrays.fill(report.interviewLines, -1);
+        if (!report.isCheckingReferences) {
+            return;
+        }
+        Findings findings = report.referenceFindings;
+        Map<Integer, Integer> interviewsByLine = new HashMap<>();
+        for (int entry = 0; entry < interviewCount; entry++) {
+            int internshipId = report.interviewIds.get(entry);
+            if (internshipId == NO_INTERNSHIP) {
+                continue;
+            }
+            Integer line = report.linesById.get(internshipId);
+            if (line == null) {
+                findings.add(String.format(CHECK_INTERVIEW_DANGLING, entry + 1, internshipId));
+                continue;
+            }
+            if (report.loadedIds.get(line) != internshipId) {
+                findings.add(String.format(CHECK_INTERVIEW_STALE, entry + 1, internshipId,
+                        report.loadedIds.get(line)));
+            }
+            Integer replaced = interviewsByLine.put(line, entry);
+            if (replaced != null) {
+                // Loading attaches the interviews in order, so the last one of an internship is the one kept
+                findings.add(String.format(CHECK_INTERVIEW_REPLACED, replaced + 1, entry + 1, internshipId));
+                report.interviewLines[replaced] = -1;
+            } else if (!report.markedLines.get(line)) {
+                findings.add(String.format(CHECK_MARKER_MISSING, internshipId));
+            }
+            report.interviewLines[entry] = line;
+            report.interviewedLines.set(line);
+        }
+        for (int line = report.markedLines.nextSetBit(0); line >= 0; line = report.markedLines.nextSetBit(line + 1)) {
+            if (!report.interviewedLines.get(line)) {
+                findings.add(String.format(CHECK_MARKER_STALE, report.storedIds.get(line)));
+            }
+        }
+    }
+
+    private void repairInterviews(Report report, int[] repairedIds) throws IOException {
+        Path temporaryPath = Paths.get(interviewFile.getPath() + ".tmp");
+        try {
+            try (JsonArrayReader reader = new JsonArrayReader(DataFileStreams.newReader(interviewFile,
+                    config.getCipher()));
+                    JsonWriter writer = new JsonWriter(DataFileStreams.newWriter(temporaryPath.toFile(),
+                            config.isCompressed(), config.getCipher()), config.isCompactJson())) {
+                writer.beginArray();
+                for (int entry = 0; reader.hasNext(); entry++) {
+                    Object interviewJson = reader.next();
+                    int line = entry < report.interviewLines.length ? report.interviewLines[entry] : -1;
+                    if (line < 0) {
+                        continue;
+                    }
+                    correctRoundCounters((JSONObject) interviewJson);
+                    Interview interview = Interview.fromJson((JSONObject) interviewJson);
+                    interview.setInternshipId(repairedIds[line]);
+                    interview.writeJson(writer);
+                }
+                writer.endArray();
+            }
+            Files.move(temporaryPath, interviewFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.SEVERE, "Error repairing interviews: " + e.getMessage());
+            Files.deleteIfExists(temporaryPath);
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE, interviewFile.getAbsolutePath()));
+        }
+    }
+
+    // ================= Projects and profile =================
+
+    private void checkProjects(Report report) {
+        if (!projectFile.exists() || projectFile.length() == 0) {
+            return;
+        }
+        int entryIndex = 0;
+        try (JsonArrayReader reader = new JsonArrayReader(DataFileStreams.newReader(projectFile,
+                config.getCipher()))) {
+            while (reader.hasNext()) {
+                entryIndex++;
+                Object entry = reader.next();
+                try {
+                    parseProject(entry);
+                } catch (RuntimeException e) {
+                    report.projectFindings.add(String.format(CHECK_ENTRY_PROBLEM, entryIndex,
+                            ProjectStorageHandler.FILE_NAME, e.getMessage()));
+                    report.invalidProjects.set(entryIndex - 1);
+                }
+            }
+        } catch (JSONException e) {
+            report.projectFindings.add(String.format(CHECK_FILE_CORRUPTED, projectFile.getName(), e.getMessage()));
+            report.hasUnreadableFiles = true;
+        } catch (IOException e) {
+            report.projectFindings.add(String.format(UNABLE_TO_READ_FILE, projectFile.getAbsolutePath()));
+            report.hasUnreadableFiles = true;
+        }
+    }
+
+    private static Project parseProject(Object entry) {
+        if (!(entry instanceof JSONObject)) {
+            throw new JSONException(CHECK_NOT_OBJECT);
+        }
+        Project project = ProjectStorageHandler.createProject((JSONObject) entry);
+        if (project == null) {
+            throw new JSONException("Unknown project type");
+        }
+        return project;
+    }
+
+    private void repairProjects(Report report) throws IOException {
+        Path temporaryPath = Paths.get(projectFile.getPath() + ".tmp");
+        try {
+            try (JsonArrayReader reader = new JsonArrayReader(DataFileStreams.newReader(projectFile,
+                    config.getCipher()));
+                    JsonWriter writer = new JsonWriter(DataFileStreams.newWriter(temporaryPath.toFile(),
+                            config.isCompressed(), config.getCipher()), config.isCompactJson())) {
+                writer.beginArray();
+                for (int entry = 0; reader.hasNext(); entry++) {
+                    Object projectJson = reader.next();
+                    if (!report.invalidProjects.get(entry)) {
+                        parseProject(projectJson).writeJson(writer);
+                    }
+                }
+                writer.endArray();
+            }
+            Files.move(temporaryPath, projectFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.SEVERE, "Error repairing projects: " + e.getMessage());
+            Files.deleteIfExists(temporaryPath);
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE, projectFile.getAbsolutePath()));
+        }
+    }
+
+    private void checkProfile(Report report) {
+        if (!profileFile.exists()) {
+            return;
+        }
+        UserProfile userProfile = new UserProfile(null);
+        try (BufferedReader reader = DataFileStreams.newReader(profileFile, config.getCipher())) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                try {
+                    ProfileStorageHandler.parseUserProfile(userProfile, line);
+                } catch (RuntimeException e) {
+                    report.profileFindings.add(String.format(CHECK_LINE_PROBLEM, lineNumber,
+                            ProfileStorageHandler.FILE_NAME, CHECK_PROFILE_LINE));
+                    report.invalidProfileLines.set(lineNumber - 1);
+                }
+            }
+        } catch (IOException e) {
+            report.profileFindings.add(String.format(UNABLE_TO_READ_FILE, profileFile.getAbsolutePath()));
+            report.hasUnreadableFiles = true;
+        }
+    }
+
+    private void repairProfile(Report report) throws IOException {
+        Path temporaryPath = Paths.get(profileFile.getPath() + ".tmp");
+        try {
+            try (BufferedReader reader = DataFileStreams.newReader(profileFile, config.getCipher());
+                    Writer writer = DataFileStreams.newWriter(temporaryPath.toFile(), config.isCompressed(),
+                            config.getCipher())) {
+                String line;
+                for (int lineIndex = 0; (line = reader.readLine()) != null; lineIndex++) {
+                    if (!report.invalidProfileLines.get(lineIndex)) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+            }
+            Files.move(temporaryPath, profileFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error repairing user profile: " + e.getMessage());
+            Files.deleteIfExists(temporaryPath);
+            throw new IOException(String.format(UNABLE_TO_WRITE_FILE, profileFile.getAbsolutePath()));
+        }
+    }
+
+    /**
+     * Represents the problems found in one store, keeping the descriptions of only the first hundred.
+     */
+    private static class Findings {
+        private final List<String> problems = new ArrayList<>();
+        private int count = 0;
+
+        private void add(String problem) {
+            count++;
+            if (problems.size() < MAX_KEPT_PROBLEMS) {
+                problems.add(problem);
+            }
+        }
+    }
+
+    /**
+     * Represents one line of a segment parsed by the pipeline: the internship it holds, or the error found in it.
+     */
+    private static class CheckedRecord {
+        private final Internship internship;
+        private final String error;
+        private final boolean isDamaged;
+        private final boolean hasInterviewMarker;
+
+        private CheckedRecord(Internship internship, String error, boolean isDamaged, boolean hasInterviewMarker) {
+            this.internship = internship;
+            this.error = error;
+            this.isDamaged = isDamaged;
+            this.hasInterviewMarker = hasInterviewMarker;
+        }
+    }
+
+    /**
+     * Represents a growable list of ints, which takes far less memory per record than a list of integers.
+     */
+    private static class IntArray {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+}
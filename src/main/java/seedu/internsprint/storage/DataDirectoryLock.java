@@ -0,0 +1,125 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Locks a data directory against other processes, using operating system file locks on two bytes of a lock file
+ * in the directory.
+ * <p>
+ * The first byte is held for as long as a session uses the directory. Only the session holding it, the primary
+ * session, changes the data; any other session opened on the directory meanwhile only reads it. The second byte
+ * is held while the primary session saves, so a script changing the data files can hold it to keep its writes
+ * from interleaving with a save.
+ */
+public class DataDirectoryLock implements Closeable {
+    public static final String FILE_NAME = "session.lock";
+    private static final long SESSION_POSITION = 0;
+    private static final long SAVE_POSITION = 1;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final File file;
+    private final FileChannel channel;
+    /* File locks are held by the whole process, so threads saving at the same time take turns here first */
+    private final ReentrantLock saveLock = new ReentrantLock();
+    private FileLock sessionLock;
+    private FileLock saveFileLock;
+
+    private DataDirectoryLock(File file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the lock file of a data directory, creating the directory and the file if needed.
+     * Nothing is locked yet.
+     *
+     * @param dataDirectory Data directory to lock.
+     * @return Lock of the data directory.
+     */
+    public static DataDirectoryLock open(File dataDirectory) throws IOException {
+        File file = new File(dataDirectory, FILE_NAME);
+        Files.createDirectories(dataDirectory.toPath());
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        return new DataDirectoryLock(file, channel);
+    }
+
+    /**
+     * Makes this the primary session of the directory, if no other session holds it.
+     *
+     * @return True if this is the primary session.
+     */
+    public synchronized boolean tryLockSession() throws IOException {
+        if (sessionLock != null) {
+            return true;
+        }
+        try {
+            sessionLock = channel.tryLock(SESSION_POSITION, 1, false);
+        } catch (OverlappingFileLockException e) {
+            // Another storage manager of this process is the primary session
+            sessionLock = null;
+        }
+        logger.log(Level.INFO, String.format("%s session of %s", sessionLock == null ? "Secondary" : "Primary",
+                file.getParent()));
+        return sessionLock != null;
+    }
+
+    public synchronized boolean isPrimary() {
+        return sessionLock != null;
+    }
+
+    /**
+     * Waits until no other process is saving to or writing the directory, then holds it until
+     * {@link #unlockAfterSave()} is called. The lock is reentrant, so saves may nest.
+     */
+    public void lockForSave() throws IOException {
+        saveLock.lock();
+        if (saveLock.getHoldCount() > 1) {
+            return;
+        }
+        try {
+            saveFileLock = channel.lock(SAVE_POSITION, 1, false);
+        } catch (IOException e) {
+            saveLock.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Lets other processes save to or write the directory again, once the outermost save is done.
+     */
+    public void unlockAfterSave() {
+        try {
+            if (saveLock.getHoldCount() == 1 && saveFileLock != null) {
+                saveFileLock.release();
+                saveFileLock = null;
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to release the save lock: " + e.getMessage());
+        } finally {
+            saveLock.unlock();
+        }
+    }
+
+    /**
+     * Gives up the directory, so another session can become its primary session.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        sessionLock = null;
+        // Closing the channel releases every lock this process holds on the file
+        channel.close();
+    }
+}
@@ -0,0 +1,435 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.util.InternSprintLogger;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.ENCRYPTION_WRONG_PASSPHRASE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_DECRYPT;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+
+/**
+ * Encrypts the data files with a key derived from a passphrase, so the data is unreadable at rest.
+ * <p>
+ * The key is derived with PBKDF2 from the passphrase and a random salt kept in {@code encryption.json} in the data
+ * directory, which also holds a value encrypted with the key, so a wrong passphrase is found before any file is read.
+ * A file is encrypted as a stream of chunks of {@value #CHUNK_SIZE} bytes, each sealed with AES-GCM on its own, so it
+ * is written and read a chunk at a time without ever holding the whole file. The nonce of a chunk is a random prefix
+ * kept in the header of the file, the number of the chunk and a flag marking the last chunk, so chunks cut from the
+ * end, moved or copied from another file fail to decrypt. Lines appended to the journal are sealed one by one.
+ */
+public class DataFileCipher {
+    public static final String KEY_FILE_NAME = "encryption.json";
+    public static final int CHUNK_SIZE = 64 * 1024;
+    public static final int DEFAULT_ITERATIONS = 310_000;
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final byte[] MAGIC = {(byte) 0x89, 'I', 'S', 'E'};
+    private static final byte VERSION = 1;
+    private static final int PREFIX_SIZE = 7;
+    private static final int HEADER_SIZE = MAGIC.length + 1 + PREFIX_SIZE;
+    private static final int NONCE_SIZE = 12;
+    private static final int TAG_SIZE = 16;
+    private static final int KEY_SIZE = 256;
+    private static final int SALT_SIZE = 16;
+    private static final String LINE_PREFIX = "~";
+    private static final String CHECK_VALUE = "InternSprint";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String KEY_DERIVATION = "PBKDF2WithHmacSHA256";
+    private static final SecureRandom random = new SecureRandom();
+
+    private final SecretKeySpec key;
+
+    private DataFileCipher(SecretKeySpec key) {
+        this.key = key;
+    }
+
+    /**
+     * Derives the key of a passphrase.
+     *
+     * @param passphrase Passphrase to derive the key from.
+     * @param salt Random salt kept with the data.
+     * @param iterations Number of PBKDF2 iterations, which makes guessing passphrases slower.
+     * @return Cipher encrypting with the derived key.
+     */
+    public static DataFileCipher fromPassphrase(char[] passphrase, byte[] salt, int iterations) {
+        PBEKeySpec keySpec = new PBEKeySpec(passphrase, salt, iterations, KEY_SIZE);
+        try {
+            byte[] keyBytes = SecretKeyFactory.getInstance(KEY_DERIVATION).generateSecret(keySpec).getEncoded();
+            return new DataFileCipher(new SecretKeySpec(keyBytes, "AES"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Key derivation is not supported: " + e.getMessage());
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+
+    /**
+     * Opens the key of a data directory with a passphrase, creating the key file with a new salt if there is none.
+     *
+     * @param keyFile Key file of the data directory.
+     * @param passphrase Passphrase of the data.
+     * @return Cipher encrypting with the key of the data directory.
+     * @throws IllegalArgumentException If the passphrase does not unlock the key file.
+     */
+    public static DataFileCipher open(File keyFile, char[] passphrase) throws IOException {
+        if (!keyFile.exists()) {
+            return create(keyFile, passphrase);
+        }
+        JSONObject keyJson;
+        byte[] salt;
+        try {
+            keyJson = new JSONObject(Files.readString(keyFile.toPath()));
+            salt = Base64.getDecoder().decode(keyJson.getString("salt"));
+        } catch (JSONException | IllegalArgumentException e) {
+            throw new IOException(String.format(UNABLE_TO_READ_FILE, keyFile.getAbsolutePath()));
+        }
+        long startTime = System.nanoTime();
+        DataFileCipher cipher = fromPassphrase(passphrase, salt, keyJson.optInt("iterations", DEFAULT_ITERATIONS));
+        logger.log(Level.INFO, String.format("Derived the data key in %d ms",
+                (System.nanoTime() - startTime) / 1_000_000));
+        try {
+            if (!CHECK_VALUE.equals(cipher.openLine(keyJson.getString("check")))) {
+                throw new IOException("Unexpected check value");
+            }
+        } catch (IOException | JSONException e) {
+            throw new IllegalArgumentException(String.format(ENCRYPTION_WRONG_PASSPHRASE,
+                    keyFile.getParentFile().getAbsolutePath()));
+        }
+        return cipher;
+    }
+
+    private static DataFileCipher create(File keyFile, char[] passphrase) throws IOException {
+        byte[] salt = new byte[SALT_SIZE];
+        random.nextBytes(salt);
+        DataFileCipher cipher = fromPassphrase(passphrase, salt, DEFAULT_ITERATIONS);
+        JSONObject keyJson = new JSONObject();
+        keyJson.put("version", VERSION);
+        keyJson.put("kdf", KEY_DERIVATION);
+        keyJson.put("iterations", DEFAULT_ITERATIONS);
+        keyJson.put("salt", Base64.getEncoder().encodeToString(salt));
+        keyJson.put("check", cipher.sealLine(CHECK_VALUE));
+        Path temporaryPath = Paths.get(keyFile.getPath() + ".tmp");
+        try {
+            Files.createDirectories(temporaryPath.toAbsolutePath().getParent());
+            Files.writeString(temporaryPath, keyJson.toString(4));
+            Files.move(temporaryPath, keyFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error saving key file");
+            throw new IOException(String.format(UNABLE_TO_CREATE_FILE, keyFile.getAbsolutePath()));
+        }
+        logger.log(Level.INFO, "Created key file " + keyFile.getAbsolutePath());
+        return cipher;
+    }
+
+    /**
+     * Encrypts a file saved before the data was encrypted, as it is, such as a GZIP compressed file.
+     * The file is encrypted to a temporary file first, so an interrupted encryption leaves it intact.
+     *
+     * @param file File to be encrypted.
+     * @return True if the file was encrypted, or false if it does not exist or is already encrypted.
+     */
+    public boolean encryptFile(File file) throws IOException {
+        if (!file.exists() || file.length() == 0) {
+            return false;
+        }
+        Path temporaryPath = Paths.get(file.getPath() + ".tmp");
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file), CHUNK_SIZE)) {
+            if (isEncrypted(inputStream)) {
+                return false;
+            }
+            try (OutputStream outputStream = encrypt(Files.newOutputStream(temporaryPath))) {
+                inputStream.transferTo(outputStream);
+            }
+        }
+        Files.move(temporaryPath, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        logger.log(Level.INFO, "Encrypted " + file.getAbsolutePath());
+        return true;
+    }
+
+    /**
+     * Checks if a stream starts with the header of an encrypted file, without consuming it.
+     *
+     * @param inputStream Stream supporting mark and reset.
+     * @return True if the stream holds an encrypted file.
+     */
+    public static boolean isEncrypted(InputStream inputStream) throws IOException {
+        inputStream.mark(MAGIC.length);
+        byte[] start = inputStream.readNBytes(MAGIC.length);
+        inputStream.reset();
+        return Arrays.equals(start, MAGIC);
+    }
+
+    /**
+     * Returns a stream encrypting everything written to it into the given stream, a chunk at a time.
+     * The last chunk is only written when the stream is closed, so a file whose stream was never closed fails to
+     * decrypt instead of being read as complete.
+     *
+     * @param outputStream Stream the encrypted file is written to.
+     * @return Stream to write the content of the file to.
+     */
+    public OutputStream encrypt(OutputStream outputStream) throws IOException {
+        return new EncryptingOutputStream(outputStream);
+    }
+
+    /**
+     * Returns a stream decrypting an encrypted file a chunk at a time.
+     *
+     * @param inputStream Stream of the encrypted file, from its header.
+     * @param name Name of the file, for error messages.
+     * @return Stream of the content of the file.
+     * @throws IOException If the file is not encrypted with this key, or was changed or cut short.
+     */
+    public InputStream decrypt(InputStream inputStream, String name) throws IOException {
+        return new DecryptingInputStream(inputStream, name);
+    }
+
+    /**
+     * Seals a line of text on its own, such as an entry appended to the journal.
+     *
+     * @param line Line to be sealed.
+     * @return Sealed line, which holds no line breaks.
+     */
+    public String sealLine(String line) {
+        byte[] nonce = new byte[NONCE_SIZE];
+        random.nextBytes(nonce);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_SIZE * 8, nonce));
+            byte[] ciphertext = cipher.doFinal(line.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = ByteBuffer.allocate(NONCE_SIZE + ciphertext.length).put(nonce).put(ciphertext).array();
+            return LINE_PREFIX + Base64.getEncoder().encodeToString(sealed);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM is not supported: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Opens a line sealed by {@link #sealLine(String)}. Lines that were not sealed are returned as they are,
+     * such as those written before the data was encrypted.
+     *
+     * @param line Line to be opened.
+     * @return Text of the line.
+     * @throws IOException If the line was sealed with another key, or changed.
+     */
+    public String openLine(String line) throws IOException {
+        if (!isSealedLine(line)) {
+            return line;
+        }
+        try {
+            byte[] sealed = Base64.getDecoder().decode(line.substring(LINE_PREFIX.length()));
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_SIZE * 8, sealed, 0, NONCE_SIZE));
+            byte[] plaintext = cipher.doFinal(sealed, NONCE_SIZE, sealed.length - NONCE_SIZE);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IOException("Unable to open sealed line: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if a line was sealed by {@link #sealLine(String)}.
+     *
+     * @param line Line to be checked.
+     * @return True if the line is sealed.
+     */
+    public static boolean isSealedLine(String line) {
+        return line.startsWith(LINE_PREFIX);
+    }
+
+    private static byte[] createNonce(byte[] prefix, int chunk, boolean isLastChunk) {
+        return ByteBuffer.allocate(NONCE_SIZE).put(prefix).putInt(chunk).put((byte) (isLastChunk ? 1 : 0)).array();
+    }
+
+    /**
+     * Encrypts the bytes written to it a chunk at a time.
+     */
+    private class EncryptingOutputStream extends FilterOutputStream {
+        private final Cipher cipher;
+        private final byte[] header = new byte[HEADER_SIZE];
+        private final byte[] prefix = new byte[PREFIX_SIZE];
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private final byte[] sealedChunk = new byte[CHUNK_SIZE + TAG_SIZE];
+        private int chunkSize = 0;
+        private int chunkNumber = 0;
+        private boolean isClosed = false;
+
+        private EncryptingOutputStream(OutputStream outputStream) throws IOException {
+            super(outputStream);
+            try {
+                cipher = Cipher.getInstance(TRANSFORMATION);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("AES-GCM is not supported: " + e.getMessage());
+            }
+            random.nextBytes(prefix);
+            ByteBuffer.wrap(header).put(MAGIC).put(VERSION).put(prefix);
+            out.write(header);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                // A full chunk is only sealed once more bytes follow, as the last chunk is sealed differently
+                if (chunkSize == CHUNK_SIZE) {
+                    sealChunk(false);
+                }
+                int copied = Math.min(length, CHUNK_SIZE - chunkSize);
+                System.arraycopy(bytes, offset, chunk, chunkSize, copied);
+                chunkSize += copied;
+                offset += copied;
+                length -= copied;
+            }
+        }
+
+        private void sealChunk(boolean isLastChunk) throws IOException {
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_SIZE * 8,
+                        createNonce(prefix, chunkNumber, isLastChunk)));
+                cipher.updateAAD(header);
+                int length = cipher.doFinal(chunk, 0, chunkSize, sealedChunk, 0);
+                out.write(sealedChunk, 0, length);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Unable to encrypt: " + e.getMessage());
+            }
+            chunkNumber++;
+            chunkSize = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            try {
+                sealChunk(true);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Decrypts an encrypted file a chunk at a time.
+     */
+    private class DecryptingInputStream extends InputStream {
+        private final InputStream inputStream;
+        private final String name;
+        private final Cipher cipher;
+        private final byte[] header;
+        private final byte[] prefix;
+        private final byte[] sealedChunk = new byte[CHUNK_SIZE + TAG_SIZE + 1];
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private int sealedSize = 0;
+        private int chunkSize = 0;
+        private int position = 0;
+        private int chunkNumber = 0;
+        private boolean isLastChunkRead = false;
+
+        private DecryptingInputStream(InputStream inputStream, String name) throws IOException {
+            this.inputStream = inputStream;
+            this.name = name;
+            header = inputStream.readNBytes(HEADER_SIZE);
+            if (header.length < HEADER_SIZE || !Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC)
+                    || header[MAGIC.length] != VERSION) {
+                throw new IOException(String.format(UNABLE_TO_DECRYPT, name));
+            }
+            prefix = Arrays.copyOfRange(header, MAGIC.length + 1, HEADER_SIZE);
+            try {
+                cipher = Cipher.getInstance(TRANSFORMATION);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("AES-GCM is not supported: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (position == chunkSize) {
+                if (isLastChunkRead) {
+                    return -1;
+                }
+                openChunk();
+            }
+            int copied = Math.min(length, chunkSize - position);
+            System.arraycopy(chunk, position, bytes, offset, copied);
+            position += copied;
+            return copied;
+        }
+
+        /**
+         * Reads and decrypts the next chunk. One byte past a full chunk is read ahead, to tell whether it is the
+         * last chunk, and kept as the start of the next one.
+         */
+        private void openChunk() throws IOException {
+            int wanted = CHUNK_SIZE + TAG_SIZE + 1;
+            sealedSize += inputStream.readNBytes(sealedChunk, sealedSize, wanted - sealedSize);
+            boolean isLastChunk = sealedSize < wanted;
+            int length = isLastChunk ? sealedSize : CHUNK_SIZE + TAG_SIZE;
+            if (length < TAG_SIZE) {
+                throw new EOFException(String.format(UNABLE_TO_DECRYPT, name));
+            }
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_SIZE * 8,
+                        createNonce(prefix, chunkNumber, isLastChunk)));
+                cipher.updateAAD(header);
+                chunkSize = cipher.doFinal(sealedChunk, 0, length, chunk, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IOException(String.format(UNABLE_TO_DECRYPT, name));
+            }
+            if (!isLastChunk) {
+                sealedChunk[0] = sealedChunk[length];
+            }
+            sealedSize = isLastChunk ? 0 : 1;
+            position = 0;
+            chunkNumber++;
+            isLastChunkRead = isLastChunk;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Remembers the size and modification time of each data file that is read and saved whole, the interviews,
+ * projects and profile, as the app last read or saved it. Unlike the internship segments, their records carry
+ * no checksums, so a file whose stamp has changed since was changed outside the app, and is copied to the
+ * quarantine directory before the app saves over it.
+ */
+class DataFileStamps {
+    static final List<String> FILE_NAMES = List.of(InterviewStorageHandler.FILE_NAME, ProjectStorageHandler.FILE_NAME,
+            ProfileStorageHandler.FILE_NAME);
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final StorageConfig config;
+    private final File quarantineDirectory;
+    private final Map<String, Long> stamps = new HashMap<>();
+
+    DataFileStamps(StorageConfig config) {
+        this.config = config;
+        quarantineDirectory = config.resolve(InternshipStorageHandler.QUARANTINE_DIRECTORY_NAME);
+    }
+
+    /**
+     * Remembers a file as it is now, such as just before it is read or just after it is saved.
+     * A missing file is remembered too, so one created outside the app afterwards counts as changed.
+     *
+     * @param fileName Name of the file within the data directory.
+     */
+    synchronized void record(String fileName) {
+        stamps.put(fileName, computeStamp(config.resolve(fileName)));
+    }
+
+    /**
+     * Returns true if a file was changed outside the app since it was last read or saved. A file the app has
+     * neither read nor saved is never reported, as there is no version of it in the app to compare with.
+     *
+     * @param fileName Name of the file within the data directory.
+     * @return True if the file was changed outside the app.
+     */
+    synchronized boolean isChangedOnDisk(String fileName) {
+        Long stamp = stamps.get(fileName);
+        return stamp != null && stamp != computeStamp(config.resolve(fileName));
+    }
+
+    /**
+     * Copies a file to the quarantine directory, so the version changed outside the app is kept when the app
+     * saves over it.
+     *
+     * @param fileName Name of the file within the data directory.
+     * @return Copy of the file, or the file itself if it could not be copied.
+     */
+    File copyToQuarantine(String fileName) {
+        File file = config.resolve(fileName);
+        File quarantineFile = new File(quarantineDirectory, fileName + "." + System.currentTimeMillis());
+        try {
+            Files.createDirectories(quarantineDirectory.toPath());
+            if (file.exists()) {
+                Files.copy(file.toPath(), quarantineFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Unable to quarantine " + fileName + ": " + e.getMessage());
+            return file;
+        }
+        return quarantineFile;
+    }
+
+    private static long computeStamp(File file) {
+        return file.exists() ? 31 * file.length() + file.lastModified() : -1;
+    }
+}
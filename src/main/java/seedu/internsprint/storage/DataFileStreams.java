@@ -0,0 +1,162 @@
+package seedu.internsprint.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.ENCRYPTED_FILE;
+
+/**
+ * Opens the character streams used to read and write the data files.
+ * <p>
+ * Data files can be written GZIP compressed and encrypted, see {@link DataFileCipher}. Readers detect a compressed
+ * or encrypted file by its first bytes, so files can be loaded whichever format is configured for saving.
+ */
+public class DataFileStreams {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+
+    /**
+     * Opens a buffered writer over a file channel, replacing any existing content of the file.
+     * The platform charset is used so that files stay readable by the existing {@code FileReader} loaders.
+     *
+     * @param file File to be written.
+     * @return Buffered writer for the file.
+     */
+    public static Writer newWriter(File file) throws IOException {
+        return newWriter(file, false);
+    }
+
+    /**
+     * Opens a buffered writer over a file channel, replacing any existing content of the file.
+     * If compression is requested, the content is GZIP compressed as it is written.
+     *
+     * @param file File to be written.
+     * @param isCompressed True if the file should be GZIP compressed.
+     * @return Buffered writer for the file.
+     */
+    public static Writer newWriter(File file, boolean isCompressed) throws IOException {
+        return newWriter(file, isCompressed, null);
+    }
+
+    /**
+     * Opens a buffered writer over a file channel, replacing any existing content of the file.
+     * The content is GZIP compressed first if requested, then encrypted a chunk at a time if a cipher is given.
+     *
+     * @param file File to be written.
+     * @param isCompressed True if the file should be GZIP compressed.
+     * @param cipher Cipher encrypting the file, or null to write it unencrypted.
+     * @return Buffered writer for the file.
+     */
+    public static Writer newWriter(File file, boolean isCompressed, DataFileCipher cipher) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        if (!isCompressed && cipher == null) {
+            Writer channelWriter = Channels.newWriter(channel, Charset.defaultCharset().newEncoder(), BUFFER_SIZE);
+            return new BufferedWriter(channelWriter, BUFFER_SIZE);
+        }
+        OutputStream outputStream = Channels.newOutputStream(channel);
+        try {
+            if (cipher != null) {
+                outputStream = cipher.encrypt(outputStream);
+            }
+            if (isCompressed) {
+                outputStream = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            outputStream.close();
+            throw e;
+        }
+        return new BufferedWriter(new OutputStreamWriter(outputStream, Charset.defaultCharset()), BUFFER_SIZE);
+    }
+
+    /**
+     * Opens a buffered reader for a data file, decompressing it on the fly if it starts with the GZIP magic bytes.
+     *
+     * @param file File to be read.
+     * @return Buffered reader for the content of the file.
+     */
+    public static BufferedReader newReader(File file) throws IOException {
+        return newReader(file, null);
+    }
+
+    /**
+     * Opens a buffered reader for a data file, decrypting it on the fly if it starts with the header of an encrypted
+     * file, and then decompressing it if it starts with the GZIP magic bytes.
+     *
+     * @param file File to be read.
+     * @param cipher Cipher decrypting the file, or null if the data is not encrypted.
+     * @return Buffered reader for the content of the file.
+     * @throws IOException If the file is encrypted but no cipher is given, or it fails to decrypt.
+     */
+    public static BufferedReader newReader(File file, DataFileCipher cipher) throws IOException {
+        InputStream inputStream = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+        try {
+            if (DataFileCipher.isEncrypted(inputStream)) {
+                if (cipher == null) {
+                    throw new IOException(String.format(ENCRYPTED_FILE, file.getAbsolutePath()));
+                }
+                inputStream = new BufferedInputStream(cipher.decrypt(inputStream, file.getAbsolutePath()),
+                        BUFFER_SIZE);
+            }
+            if (isCompressed(inputStream)) {
+                inputStream = new GZIPInputStream(inputStream, BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+        return new BufferedReader(new InputStreamReader(inputStream, Charset.defaultCharset()), BUFFER_SIZE);
+    }
+
+    /**
+     * Checks if a stream starts with the GZIP magic bytes, without consuming them.
+     *
+     * @param inputStream Stream supporting mark and reset.
+     * @return True if the stream holds GZIP compressed data.
+     */
+    private static boolean isCompressed(InputStream inputStream) throws IOException {
+        inputStream.mark(2);
+        boolean isCompressed = inputStream.read() == GZIP_MAGIC_FIRST_BYTE
+                && inputStream.read() == GZIP_MAGIC_SECOND_BYTE;
+        inputStream.reset();
+        return isCompressed;
+    }
+
+    /**
+     * Computes the CRC32 checksum of the bytes of a file.
+     *
+     * @param file File to compute the checksum of.
+     * @return Checksum of the file, or -1 if the file does not exist.
+     */
+    public static long computeChecksum(File file) throws IOException {
+        if (!file.exists()) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = new FileInputStream(file)) {
+            int bytesRead;
+            while ((bytesRead = inputStream.read(buffer)) != -1) {
+                crc.update(buffer, 0, bytesRead);
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+
+/**
+ * Watches the data files for changes made outside the app while it runs, such as by scripts, and loads the
+ * changes into the internship list and the user profile.
+ * <p>
+ * Only the segment files that changed are read again, and each is merged record by record with the list by
+ * {@link StorageManager#reloadInternshipSegment(String, InternshipList)}. Files the app saves itself still match
+ * the checksums in the manifest, so they are not read back. The projects and profile have no such checksums, so
+ * they are loaded again whole by {@link StorageManager#reloadDataFile(String, UserProfile)} if the app has not
+ * changed them too. Events are collected until the files have been quiet for a moment, so a file being written
+ * in several steps is read once. The results, including any conflicts, are kept until they are shown before the
+ * next command.
+ */
+public class DataFileWatcher {
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final long QUIET_PERIOD_MILLIS = 200;
+
+    private final StorageManager storageManager;
+    private final InternshipList internships;
+    private final UserProfile user;
+    private final Queue<CommandResult> results = new ConcurrentLinkedQueue<>();
+    private WatchService watchService;
+
+    public DataFileWatcher(StorageManager storageManager, InternshipList internships, UserProfile user) {
+        this.storageManager = storageManager;
+        this.internships = internships;
+        this.user = user;
+    }
+
+    /**
+     * Starts watching the data directory and its internship directory on a background thread, if the data is kept
+     * in data files, watching is enabled and this session may change the data. Changes are only loaded once the
+     * internships have finished loading.
+     *
+     * @param internshipLoad Load of the internships, which completes once they are in the list.
+     */
+    public synchronized void start(CompletableFuture<?> internshipLoad) {
+        StorageConfig config = storageManager.getConfig();
+        if (watchService != null || !config.isWatchingFiles()
+                || config.getBackend() != StorageConfig.Backend.FILES || storageManager.isReadOnly()) {
+            return;
+        }
+        Path directory = config.resolve(InternshipStorageHandler.DIRECTORY_NAME).toPath();
+        try {
+            Files.createDirectories(directory);
+            watchService = FileSystems.getDefault().newWatchService();
+            for (Path watched : List.of(directory, config.getDataDirectory().toPath())) {
+                watched.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to watch the data files: " + e.getMessage());
+            return;
+        }
+        Thread thread = new Thread(() -> watch(directory.toFile(), internshipLoad), "internsprint-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.log(Level.INFO, "Watching internship data files in " + directory);
+    }
+
+    /**
+     * Stops watching the data files.
+     */
+    public synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to stop watching the data files: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the results of the changes loaded since this was last called.
+     *
+     * @return Results describing the changes loaded and any conflicts, oldest first.
+     */
+    public List<CommandResult> takeResults() {
+        List<CommandResult> taken = new ArrayList<>();
+        CommandResult result;
+        while ((result = results.poll()) != null) {
+            taken.add(result);
+        }
+        return taken;
+    }
+
+    private void watch(File directory, CompletableFuture<?> internshipLoad) {
+        try {
+            internshipLoad.join();
+        } catch (CompletionException e) {
+            logger.log(Level.WARNING, "Not watching the data files, as the internships failed to load");
+            stop();
+            return;
+        }
+        try {
+            while (true) {
+                Set<Path> changedFiles = new TreeSet<>();
+                WatchKey key = watchService.take();
+                while (key != null) {
+                    collectChangedFiles(key, changedFiles);
+                    key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                reload(directory, changedFiles);
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.log(Level.INFO, "Stopped watching the data files");
+        }
+    }
+
+    private static void collectChangedFiles(WatchKey key, Set<Path> changedFiles) {
+        Path watched = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Some events were lost, so every file is checked against what was last loaded or saved
+                String[] fileNames = watched.toFile().list();
+                for (String fileName : fileNames == null ? new String[0] : fileNames) {
+                    changedFiles.add(watched.resolve(fileName));
+                }
+            } else {
+                changedFiles.add(watched.resolve((Path) event.context()));
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Loads the changes made to the files while holding the write lock of the data lock, so no command or
+     * background save sees the list while the changes are applied.
+     */
+    private void reload(File directory, Set<Path> changedFiles) {
+        Lock dataLock = storageManager.getDataLock().writeLock();
+        dataLock.lock();
+        try {
+            for (Path changedFile : changedFiles) {
+                String fileName = changedFile.getFileName().toString();
+                try {
+                    CommandResult result = changedFile.getParent().equals(directory.toPath())
+                            ? storageManager.reloadInternshipSegment(fileName, internships)
+                            : storageManager.reloadDataFile(fileName, user);
+                    if (result != null) {
+                        results.add(result);
+                    }
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Unable to reload " + fileName + ": " + e.getMessage());
+                    results.add(new CommandResult(List.of(String.format(UNABLE_TO_READ_FILE,
+                            changedFile.toAbsolutePath())), false));
+                }
+            }
+        } finally {
+            dataLock.unlock();
+        }
+    }
+}
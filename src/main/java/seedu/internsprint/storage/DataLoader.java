@@ -0,0 +1,239 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_LOAD_DATA;
+
+/**
+ * Loads the stored data in the background on startup, so the prompt can be shown straight away.
+ * <p>
+ * The internships, profile and projects are read concurrently. Commands wait with {@link #awaitData(Set)}
+ * for only the stores they need.
+ * <p>
+ * Interviews are only loaded the first time a command needs them, as most sessions never do. Until then,
+ * internships that have one carry the marker saved with them, see {@link Internship#hasInterview()}. Commands
+ * that change interviews need them loaded, so the interview file is never saved before it has been read.
+ * If the journal holds entries, they may refer to interviews, so interviews are instead parsed alongside the
+ * internships, attached once the internships have their IDs, and the journal is replayed once both are in place.
+ */
+public class DataLoader {
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final int LOADER_THREADS = 4;
+
+    private final StorageManager storageManager;
+    private final Map<DataStore, CompletableFuture<CommandResult>> loads = new EnumMap<>(DataStore.class);
+    private final Map<DataStore, CommandResult> loadResults = new EnumMap<>(DataStore.class);
+    private final Set<CommandResult> shownResults = Collections.newSetFromMap(new IdentityHashMap<>());
+    private ExecutorService executor;
+    private Map<DataStore, CompletableFuture<CommandResult>> jsonLoads;
+    private Runnable pendingInterviewLoad;
+
+    public DataLoader(StorageManager storageManager) {
+        this.storageManager = storageManager;
+    }
+
+    /**
+     * Starts loading all stores in the background, from the binary snapshot if it is up to date
+     * and from the JSON data files otherwise.
+     *
+     * @param internships List of internships to be loaded.
+     * @param user User profile to be loaded, including its projects.
+     */
+    public void start(InternshipList internships, UserProfile user) {
+        logger.log(Level.INFO, "Loading data from storage in the background");
+        executor = Executors.newFixedThreadPool(LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "internsprint-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (storageManager.hasUpToDateBinarySnapshot()) {
+            CompletableFuture<CommandResult> snapshotLoad = CompletableFuture.supplyAsync(
+                    () -> loadBinarySnapshot(internships, user), executor);
+            for (DataStore store : DataStore.values()) {
+                loads.put(store, snapshotLoad.thenCompose(result -> result != null
+                        ? CompletableFuture.completedFuture(result)
+                        : startJsonLoads(internships, user).get(store)));
+            }
+        } else {
+            loads.putAll(startJsonLoads(internships, user));
+        }
+        // Interviews are either loaded before the internships complete, or later on the thread that needs them
+        CompletableFuture.allOf(loads.entrySet().stream()
+                        .filter(load -> load.getKey() != DataStore.INTERVIEWS)
+                        .map(Map.Entry::getValue)
+                        .toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> executor.shutdown());
+    }
+
+    /**
+     * Waits until the given stores have finished loading.
+     *
+     * @param stores Stores to wait for.
+     * @return Results to show the user: every failed load not shown before, and the loading message
+     *     of the internships the first time they are waited for.
+     */
+    public List<CommandResult> awaitData(Set<DataStore> stores) {
+        if (stores.contains(DataStore.INTERVIEWS)) {
+            // Interviews refer to internships by ID, and which stores are loaded lazily is only known once
+            // the internships are loading from the JSON data files
+            getLoadResult(DataStore.INTERNSHIPS);
+            startPendingInterviewLoad();
+        }
+        for (DataStore store : stores) {
+            getLoadResult(store);
+        }
+        List<CommandResult> results = new ArrayList<>();
+        for (DataStore store : DataStore.values()) {
+            if (!loads.get(store).isDone()) {
+                continue;
+            }
+            CommandResult result = getLoadResult(store);
+            boolean isShown = !result.isSuccessful()
+                    || (store == DataStore.INTERNSHIPS && stores.contains(DataStore.INTERNSHIPS));
+            if (isShown && shownResults.add(result)) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns the load of a store, which completes once the store has finished loading.
+     * This should only be called after {@link #start(InternshipList, UserProfile)}.
+     *
+     * @param store Store being loaded.
+     * @return Pending load of the store.
+     */
+    public CompletableFuture<CommandResult> getLoad(DataStore store) {
+        return loads.get(store);
+    }
+
+    private CommandResult getLoadResult(DataStore store) {
+        return loadResults.computeIfAbsent(store, key -> {
+            try {
+                return loads.get(key).join();
+            } catch (CompletionException e) {
+                logger.log(Level.SEVERE, "Error loading " + key + ": " + e.getCause());
+                CommandResult result = new CommandResult(String.format(UNABLE_TO_LOAD_DATA,
+                        e.getCause().getMessage()));
+                result.setSuccessful(false);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Loads the interviews if they have been left to load on first use, on the calling thread.
+     * The data lock is held meanwhile, so no background save reads the internships as interviews are attached.
+     */
+    private void startPendingInterviewLoad() {
+        Runnable interviewLoad;
+        synchronized (this) {
+            interviewLoad = pendingInterviewLoad;
+            pendingInterviewLoad = null;
+        }
+        if (interviewLoad == null) {
+            return;
+        }
+        Lock dataLock = storageManager.getDataLock().writeLock();
+        dataLock.lock();
+        try {
+            interviewLoad.run();
+        } finally {
+            dataLock.unlock();
+        }
+    }
+
+    /**
+     * Loads the interviews, then clears the markers of any that could not be loaded.
+     */
+    private CommandResult loadInterviews(InternshipList internships, CompletableFuture<CommandResult> internshipLoad) {
+        long startTime = System.nanoTime();
+        CommandResult result = storageManager.loadInterviewData(internships, internshipLoad);
+        internships.clearStoredInterviewMarkers();
+        logger.log(Level.INFO, String.format("Loaded interviews in %d ms",
+                (System.nanoTime() - startTime) / 1_000_000));
+        return result;
+    }
+
+    /**
+     * Loads all stores from the binary snapshot, replaying the journal on top of it.
+     *
+     * @return Result of the load, or null if the snapshot could not be loaded.
+     */
+    private CommandResult loadBinarySnapshot(InternshipList internships, UserProfile user) {
+        CommandResult snapshotResult = storageManager.loadBinarySnapshotData(internships, user);
+        if (!snapshotResult.isSuccessful()) {
+            logger.log(Level.WARNING, "Binary snapshot could not be loaded, loading JSON data files instead");
+            return null;
+        }
+        CommandResult journalResult = storageManager.loadJournalData(internships);
+        return journalResult.isSuccessful() ? snapshotResult : journalResult;
+    }
+
+    /**
+     * Starts loading the JSON data files, at most once.
+     *
+     * @return Pending loads of every store.
+     */
+    private synchronized Map<DataStore, CompletableFuture<CommandResult>> startJsonLoads(
+            InternshipList internships, UserProfile user) {
+        if (jsonLoads != null) {
+            return jsonLoads;
+        }
+        CompletableFuture<CommandResult> internshipLoad = CompletableFuture.supplyAsync(
+                () -> storageManager.loadInternshipData(internships), executor);
+        CompletableFuture<CommandResult> interviewLoad;
+        CompletableFuture<CommandResult> journalLoad;
+        if (storageManager.hasJournalEntries()) {
+            interviewLoad = CompletableFuture.supplyAsync(() -> loadInterviews(internships, internshipLoad), executor);
+            journalLoad = CompletableFuture.allOf(internshipLoad, interviewLoad)
+                    .thenApplyAsync(ignored -> storageManager.loadJournalData(internships), executor);
+        } else {
+            CompletableFuture<CommandResult> lazyInterviewLoad = new CompletableFuture<>();
+            pendingInterviewLoad = () -> {
+                try {
+                    lazyInterviewLoad.complete(loadInterviews(internships, internshipLoad));
+                } catch (RuntimeException e) {
+                    lazyInterviewLoad.completeExceptionally(e);
+                }
+            };
+            interviewLoad = lazyInterviewLoad;
+            journalLoad = internshipLoad.thenApplyAsync(ignored -> storageManager.loadJournalData(internships),
+                    executor);
+        }
+
+        jsonLoads = new EnumMap<>(DataStore.class);
+        jsonLoads.put(DataStore.INTERNSHIPS, internshipLoad.thenCombine(journalLoad, DataLoader::firstFailure));
+        jsonLoads.put(DataStore.INTERVIEWS, interviewLoad.thenCombine(journalLoad,
+                (interviewResult, journalResult) -> interviewResult));
+        jsonLoads.put(DataStore.PROFILE, CompletableFuture.supplyAsync(
+                () -> storageManager.loadUserProfileData(user), executor));
+        jsonLoads.put(DataStore.PROJECTS, CompletableFuture.supplyAsync(
+                () -> storageManager.loadProjectData(user.projects), executor));
+        return jsonLoads;
+    }
+
+    private static CommandResult firstFailure(CommandResult result, CommandResult laterResult) {
+        return result.isSuccessful() && !laterResult.isSuccessful() ? laterResult : result;
+    }
+}
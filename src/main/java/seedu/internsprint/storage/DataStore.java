@@ -0,0 +1,11 @@
+package seedu.internsprint.storage;
+
+/**
+ * Represents one kind of stored data that is loaded on startup and can be waited for separately.
+ */
+public enum DataStore {
+    INTERNSHIPS,
+    INTERVIEWS,
+    PROFILE,
+    PROJECTS
+}
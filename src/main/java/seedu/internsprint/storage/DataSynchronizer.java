@@ -0,0 +1,393 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.model.userprofile.project.ProjectList;
+import seedu.internsprint.storage.SyncSnapshot.Kind;
+import seedu.internsprint.storage.SyncSnapshot.SyncRecord;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.SYNC_DIRECTORY_IN_USE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.SYNC_DIRECTORY_NOT_LOADED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.SYNC_SAME_DIRECTORY;
+
+/**
+ * Syncs the data files of a storage manager with another data directory, such as a copy on a USB drive or in a
+ * shared folder, so both end up with the changes made to either since they were last synced.
+ * <p>
+ * The directories are compared by the {@link MerkleTree} of their {@link SyncSnapshot}, so only the records
+ * whose hashes differ are looked at. Each directory keeps, under {@code sync}, an ID, the tree of its records as
+ * of its last sync, and for every directory it was synced with, the tree of the records both held afterwards.
+ * A differing record is copied from the directory that changed it since then. A record changed in both is a
+ * conflict, resolved for that record alone by keeping the version of the preferred directory. Interview rounds
+ * can only be added in the app, so a round missing from either directory is added to it and never removed.
+ */
+public class DataSynchronizer {
+    public static final String DIRECTORY_NAME = "sync";
+    private static final String ID_FILE_NAME = "id";
+    private static final String TREE_FILE_NAME = "tree.bin";
+    private static final String BASE_FILE_EXTENSION = ".base";
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final StorageManager storageManager;
+    /* Snapshot of the loaded data, reused while its data files are unchanged */
+    private SyncSnapshot cachedSnapshot;
+    private InternshipList cachedInternships;
+
+    public DataSynchronizer(StorageManager storageManager) {
+        this.storageManager = storageManager;
+    }
+
+    /**
+     * Represents the outcome of a sync.
+     */
+    public static class SyncResult {
+        private final int pulledCount;
+        private final int pushedCount;
+        private final List<String> conflicts;
+        private final List<String> keptConflicts;
+
+        private SyncResult(int pulledCount, int pushedCount, List<String> conflicts, List<String> keptConflicts) {
+            this.pulledCount = pulledCount;
+            this.pushedCount = pushedCount;
+            this.conflicts = conflicts;
+            this.keptConflicts = keptConflicts;
+        }
+
+        /**
+         * Returns the number of records added, changed or removed in this directory.
+         *
+         * @return Number of changes copied from the other directory.
+         */
+        public int getPulledCount() {
+            return pulledCount;
+        }
+
+        /**
+         * Returns the number of records added, changed or removed in the other directory.
+         *
+         * @return Number of changes copied to the other directory.
+         */
+        public int getPushedCount() {
+            return pushedCount;
+        }
+
+        /**
+         * Returns the records that were changed in both directories, described for the user.
+         *
+         * @return Descriptions of the conflicting records.
+         */
+        public List<String> getConflicts() {
+            return conflicts;
+        }
+
+        /**
+         * Returns the interview rounds that differ between the directories but were left as they are,
+         * as rounds cannot be edited, described for the user.
+         *
+         * @return Descriptions of the differing interview rounds.
+         */
+        public List<String> getKeptConflicts() {
+            return keptConflicts;
+        }
+
+        public boolean isUpToDate() {
+            return pulledCount == 0 && pushedCount == 0 && conflicts.isEmpty() && keptConflicts.isEmpty();
+        }
+    }
+
+    /**
+     * Holds one of the two directories being synced, with the changes made to it.
+     */
+    private static class Side {
+        private final StorageManager storageManager;
+        private final InternshipList internships;
+        private final ProjectList projects;
+        private final List<ChangeFeed.Change> projectChanges = new ArrayList<>();
+        private final List<String> conflicts = new ArrayList<>();
+        private final List<String> keptConflicts = new ArrayList<>();
+        private boolean isInternshipChanged = false;
+        private int changeCount = 0;
+
+        private Side(StorageManager storageManager, InternshipList internships, ProjectList projects) {
+            this.storageManager = storageManager;
+            this.internships = internships;
+            this.projects = projects;
+        }
+
+        private void save() throws IOException {
+            if (isInternshipChanged) {
+                storageManager.saveUnjournalledMutations(internships);
+            }
+            if (!projectChanges.isEmpty()) {
+                storageManager.saveProjectChanges(projectChanges, projects);
+            }
+            storageManager.flushPendingSaves();
+        }
+    }
+
+    /**
+     * Syncs the data with another data directory, creating it if needed.
+     * This should be called while holding the write lock of the data lock, once all data has been loaded.
+     *
+     * @param internships List of internships, which gets the changes made in the other directory.
+     * @param user User profile, whose projects get the changes made in the other directory.
+     * @param otherDirectory Data directory to sync with.
+     * @param isPreferringOther True if records changed in both directories keep the version of the other one.
+     * @return Outcome of the sync.
+     */
+    public SyncResult sync(InternshipList internships, UserProfile user, File otherDirectory,
+            boolean isPreferringOther) throws IOException {
+        StorageConfig config = storageManager.getConfig();
+        File directory = config.getDataDirectory();
+        if (directory.getCanonicalFile().equals(otherDirectory.getCanonicalFile())) {
+            throw new IOException(String.format(SYNC_SAME_DIRECTORY, otherDirectory.getPath()));
+        }
+        storageManager.flushPendingSaves();
+        StorageConfig otherConfig = config.forDataDirectory(otherDirectory);
+        otherConfig.setDurabilityMode(StorageConfig.DurabilityMode.SYNC);
+        StorageManager otherStorageManager = new StorageManager(otherConfig);
+        try {
+            if (!otherStorageManager.lockDataDirectory()) {
+                throw new IOException(String.format(SYNC_DIRECTORY_IN_USE, otherDirectory.getPath()));
+            }
+            String id = readId(directory);
+            String otherId = readId(otherDirectory);
+            SyncSnapshot snapshot = getSnapshot(internships, user.projects);
+            MerkleTree base = MerkleTree.read(getBaseFile(directory, otherId));
+            if (base == null) {
+                base = MerkleTree.read(getBaseFile(otherDirectory, id));
+            }
+
+            // The other directory is only loaded if its records may differ from ours
+            MerkleTree otherTree = MerkleTree.read(new File(getSyncDirectory(otherDirectory), TREE_FILE_NAME));
+            if (otherTree != null && otherTree.getStamp() == StorageManager.computeDataStamp(otherConfig)
+                    && otherTree.getRootHash() == snapshot.getTree().getRootHash()) {
+                if (base == null || base.getRootHash() != snapshot.getTree().getRootHash()) {
+                    saveBase(snapshot.getTree(), directory, otherId, otherDirectory, id);
+                }
+                logger.log(Level.INFO, "Data is already the same as in " + otherDirectory.getPath());
+                return new SyncResult(0, 0, List.of(), List.of());
+            }
+            InternshipList otherInternships = new InternshipList(otherStorageManager);
+            UserProfile otherUser = new UserProfile(otherStorageManager);
+            loadOtherDirectory(otherStorageManager, otherInternships, otherUser, otherDirectory);
+            SyncSnapshot otherSnapshot = SyncSnapshot.of(otherInternships, otherUser.projects,
+                    StorageManager.computeDataStamp(otherConfig));
+
+            Side side = new Side(storageManager, internships, user.projects);
+            Side otherSide = new Side(otherStorageManager, otherInternships, otherUser.projects);
+            copyChanges(snapshot, otherSnapshot, base, side, otherSide, isPreferringOther);
+            side.save();
+            otherSide.save();
+
+            SyncSnapshot syncedSnapshot = getSnapshot(internships, user.projects);
+            long otherStamp = StorageManager.computeDataStamp(otherConfig);
+            SyncSnapshot otherSyncedSnapshot = otherSide.changeCount == 0 ? otherSnapshot
+                    : SyncSnapshot.of(otherInternships, otherUser.projects, otherStamp);
+            otherSyncedSnapshot.getTree().write(new File(getSyncDirectory(otherDirectory), TREE_FILE_NAME));
+            saveBase(syncedSnapshot.getTree(), directory, otherId, otherDirectory, id);
+            logger.log(Level.INFO, String.format("Synced with %s: %d records differed, %d pulled, %d pushed",
+                    otherDirectory.getPath(), side.changeCount + otherSide.changeCount + side.keptConflicts.size(),
+                    side.changeCount, otherSide.changeCount));
+            return new SyncResult(side.changeCount, otherSide.changeCount, side.conflicts, side.keptConflicts);
+        } finally {
+            otherStorageManager.close();
+        }
+    }
+
+    /**
+     * Copies every record that differs between the snapshots from the directory that changed it,
+     * noting the records changed in both in the conflicts of this side.
+     */
+    private static void copyChanges(SyncSnapshot snapshot, SyncSnapshot otherSnapshot, MerkleTree base,
+            Side side, Side otherSide, boolean isPreferringOther) throws IOException {
+        List<Long> keys = snapshot.getTree().diff(otherSnapshot.getTree());
+        // Internships are copied before interview rounds, so the rounds of a new internship have one to go to
+        keys.sort(Comparator.comparing(key -> getRecord(snapshot, otherSnapshot, key).getKind()));
+        for (long key : keys) {
+            SyncRecord record = snapshot.get(key);
+            SyncRecord otherRecord = otherSnapshot.get(key);
+            if (getRecord(snapshot, otherSnapshot, key).getKind() == Kind.INTERVIEW) {
+                if (record != null && otherRecord != null) {
+                    side.keptConflicts.add(record.getLabel());
+                } else if (record == null) {
+                    copyRecord(otherRecord, null, side);
+                } else {
+                    copyRecord(record, null, otherSide);
+                }
+                continue;
+            }
+            Long baseHash = base == null ? null : base.getHash(key);
+            boolean isChangedHere = !Objects.equals(snapshot.getTree().getHash(key), baseHash);
+            boolean isChangedThere = !Objects.equals(otherSnapshot.getTree().getHash(key), baseHash);
+            if (isChangedHere && isChangedThere) {
+                side.conflicts.add(getRecord(snapshot, otherSnapshot, key).getLabel());
+            }
+            boolean isPulling = isChangedHere && isChangedThere ? isPreferringOther : !isChangedHere;
+            if (isPulling) {
+                copyRecord(otherRecord, record, side);
+            } else {
+                copyRecord(record, otherRecord, otherSide);
+            }
+        }
+    }
+
+    private static SyncRecord getRecord(SyncSnapshot snapshot, SyncSnapshot otherSnapshot, long key) {
+        SyncRecord record = snapshot.get(key);
+        return record != null ? record : otherSnapshot.get(key);
+    }
+
+    /**
+     * Makes a record of one side the same as in the other side, adding, replacing or removing it.
+     *
+     * @param source Record as it should be, or null if it should be removed.
+     * @param target Record as it is in the side, or null if the side does not have it.
+     * @param side Side to change.
+     */
+    private static void copyRecord(SyncRecord source, SyncRecord target, Side side) {
+        SyncRecord record = source != null ? source : target;
+        try {
+            switch (record.getKind()) {
+            case INTERNSHIP:
+                side.storageManager.applyUnjournalledMutation(createInternshipEntry(source, target, side),
+                        side.internships);
+                side.isInternshipChanged = true;
+                break;
+            case INTERVIEW:
+                Internship internship = source.getInternship();
+                int index = side.internships.getInternshipMap().get(internship.getType()).indexOf(internship);
+                if (index < 0) {
+                    // The internship was removed from both sides by this sync
+                    return;
+                }
+                JSONObject roundJson = source.toJson().put("roundCounter", 0);
+                side.storageManager.applyUnjournalledMutation(JournalEntry.forAddInterview(internship.getType(),
+                        index, Interview.fromJson(roundJson)), side.internships);
+                side.isInternshipChanged = true;
+                break;
+            default:
+                copyProject(source, target, side);
+                break;
+            }
+            side.changeCount++;
+        } catch (DuplicateEntryException e) {
+            logger.log(Level.WARNING, "Not syncing " + record.getLabel() + ": " + e.getMessage());
+        }
+    }
+
+    private static JournalEntry createInternshipEntry(SyncRecord source, SyncRecord target, Side side) {
+        Internship existing = target == null ? null : target.getInternship();
+        int index = existing == null ? -1
+                : side.internships.getInternshipMap().get(existing.getType()).indexOf(existing);
+        if (source == null) {
+            return JournalEntry.forDelete(existing.getType(), index, existing);
+        }
+        // The ID is assigned when the copy is added, or kept from the internship it replaces
+        Internship copy = InternshipStorageHandler.createInternship(source.toJson().put("internshipId", 0));
+        assert copy != null : "Synced internships should have a known type";
+        return existing == null ? JournalEntry.forAdd(copy)
+                : JournalEntry.forEdit(existing.getType(), index, copy, existing.toJson());
+    }
+
+    private static void copyProject(SyncRecord source, SyncRecord target, Side side) {
+        String operation = ChangeFeed.EDIT;
+        if (target != null) {
+            side.projects.removeProject(target.getProject());
+        } else {
+            operation = ChangeFeed.ADD;
+        }
+        if (source != null) {
+            Project copy = ProjectStorageHandler.createProject(source.toJson());
+            assert copy != null : "Synced projects should have a known type";
+            side.projects.addProject(copy);
+        } else {
+            operation = ChangeFeed.DELETE;
+        }
+        side.projectChanges.add(new ChangeFeed.Change(ChangeFeed.PROJECTS, operation,
+                target == null ? null : target.toJson(), source == null ? null : source.toJson()));
+    }
+
+    /**
+     * Returns the snapshot of the loaded data, hashing its records again only if the data files changed or the
+     * lists were replaced since the last snapshot.
+     */
+    private SyncSnapshot getSnapshot(InternshipList internships, ProjectList projects) {
+        long stamp = StorageManager.computeDataStamp(storageManager.getConfig());
+        if (cachedSnapshot == null || cachedInternships != internships
+                || cachedSnapshot.getTree().getStamp() != stamp) {
+            cachedSnapshot = SyncSnapshot.of(internships, projects, stamp);
+            cachedInternships = internships;
+        }
+        return cachedSnapshot;
+    }
+
+    private static void loadOtherDirectory(StorageManager otherStorageManager, InternshipList internships,
+            UserProfile user, File otherDirectory) throws IOException {
+        List<String> feedback = new ArrayList<>();
+        for (CommandResult result : otherStorageManager.reloadAllData(internships, user)) {
+            if (!result.isSuccessful()) {
+                feedback.addAll(result.getFeedbackToUser());
+            }
+        }
+        if (!feedback.isEmpty()) {
+            // A record missing from a file that failed to load would otherwise look removed from that directory
+            feedback.add(0, String.format(SYNC_DIRECTORY_NOT_LOADED, otherDirectory.getPath()));
+            throw new IOException(String.join("\n    ", feedback));
+        }
+    }
+
+    /**
+     * Saves the records both directories hold after a sync, as the base of their next sync,
+     * together with the tree of this directory.
+     */
+    private static void saveBase(MerkleTree tree, File directory, String otherId, File otherDirectory, String id)
+            throws IOException {
+        tree.write(new File(getSyncDirectory(directory), TREE_FILE_NAME));
+        tree.write(getBaseFile(directory, otherId));
+        tree.write(getBaseFile(otherDirectory, id));
+    }
+
+    /**
+     * Returns the ID of a data directory, giving it a new one first if it has none.
+     */
+    private static String readId(File dataDirectory) throws IOException {
+        File file = new File(getSyncDirectory(dataDirectory), ID_FILE_NAME);
+        if (file.isFile()) {
+            String id = Files.readString(file.toPath(), StandardCharsets.UTF_8).trim();
+            if (!id.isEmpty()) {
+                return id;
+            }
+        }
+        String id = UUID.randomUUID().toString();
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.writeString(file.toPath(), id, StandardCharsets.UTF_8);
+        return id;
+    }
+
+    private static File getSyncDirectory(File dataDirectory) {
+        return new File(dataDirectory, DIRECTORY_NAME);
+    }
+
+    private static File getBaseFile(File dataDirectory, String otherId) {
+        return new File(getSyncDirectory(dataDirectory), otherId + BASE_FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_ACCESS_DATABASE;
+
+/**
+ * Holds the connection to the embedded H2 database used by the database storage backend.
+ * <p>
+ * The database is kept in a single file in the data directory, and is opened in embedded mode, so no server
+ * is needed. Internships and interview rounds are addressed by their type and their position within that
+ * type, the same addressing used by {@link JournalEntry}, so every mutation maps to a few row-level statements.
+ */
+public class Database {
+    public static final String FILE_NAME = "internsprint";
+    public static final String FILE_EXTENSION = ".mv.db";
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS internships (type VARCHAR(16) NOT NULL, position INT NOT NULL,"
+                + " company_name VARCHAR(1024), role VARCHAR(1024), status VARCHAR(64), record CLOB NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS internships_by_position ON internships (type, position)",
+        "CREATE INDEX IF NOT EXISTS internships_by_company ON internships (company_name)",
+        "CREATE TABLE IF NOT EXISTS interview_rounds (type VARCHAR(16) NOT NULL, position INT NOT NULL,"
+                + " round INT NOT NULL, interview_date DATE, record CLOB NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS interview_rounds_by_position ON interview_rounds (type, position, round)",
+        "CREATE INDEX IF NOT EXISTS interview_rounds_by_date ON interview_rounds (interview_date)",
+        "CREATE TABLE IF NOT EXISTS projects (type VARCHAR(16) NOT NULL, position INT NOT NULL,"
+                + " record CLOB NOT NULL, PRIMARY KEY (type, position))",
+        "CREATE TABLE IF NOT EXISTS profile (id INT PRIMARY KEY, content CLOB NOT NULL)"
+    };
+
+    /**
+     * Represents work done with the connection inside a transaction.
+     *
+     * @param <R> The type of result of the work.
+     */
+    @FunctionalInterface
+    public interface Transaction<R> {
+        R run(Connection connection) throws SQLException;
+    }
+
+    private final File file;
+    private final Connection connection;
+
+    private Database(File file, Connection connection) {
+        this.file = file;
+        this.connection = connection;
+    }
+
+    /**
+     * Opens the database in the data directory, creating it and its tables if they do not exist.
+     *
+     * @param config Storage configuration holding the data directory.
+     * @return Open database.
+     * @throws IOException If the database cannot be opened.
+     */
+    public static Database open(StorageConfig config) throws IOException {
+        return open(config.resolve(FILE_NAME));
+    }
+
+    /**
+     * Opens the database at the given path, without its file extension.
+     *
+     * @param file Path of the database.
+     * @return Open database.
+     * @throws IOException If the database cannot be opened.
+     */
+    static Database open(File file) throws IOException {
+        try {
+            Connection connection = DriverManager.getConnection("jdbc:h2:file:" + file.getAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : SCHEMA) {
+                    statement.execute(sql);
+                }
+            }
+            connection.setAutoCommit(false);
+            logger.log(Level.INFO, "Opened database at " + file.getAbsolutePath());
+            return new Database(file, connection);
+        } catch (SQLException e) {
+            logger.log(Level.SEVERE, "Unable to open database: " + e.getMessage());
+            throw new IOException(String.format(UNABLE_TO_ACCESS_DATABASE, file.getAbsolutePath()), e);
+        }
+    }
+
+    /**
+     * Runs the work in a single transaction, which is rolled back if any statement fails.
+     * Transactions run one at a time, as they share the connection.
+     *
+     * @param transaction Work to be done.
+     * @param <R> The type of result of the work.
+     * @return Result of the work.
+     * @throws IOException If any statement or the work itself fails.
+     */
+    public synchronized <R> R runInTransaction(Transaction<R> transaction) throws IOException {
+        try {
+            R result = transaction.run(connection);
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            logger.log(Level.SEVERE, "Database transaction failed: " + e.getMessage());
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackException) {
+                logger.log(Level.SEVERE, "Unable to roll back transaction: " + rollbackException.getMessage());
+            }
+            throw new IOException(String.format(UNABLE_TO_ACCESS_DATABASE, file.getAbsolutePath()), e);
+        }
+    }
+
+    /**
+     * Closes the connection to the database.
+     */
+    public synchronized void close() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "Unable to close database: " + e.getMessage());
+        }
+    }
+
+    public String getPath() {
+        return file.getAbsolutePath() + FILE_EXTENSION;
+    }
+}
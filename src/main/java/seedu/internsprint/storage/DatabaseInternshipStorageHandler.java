@@ -0,0 +1,224 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CORRUPTED_DATABASE;
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_FIRST_TIME;
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_SUCCESS;
+
+/**
+ * Handles the storage of internship data in the {@code internships} table of the {@link Database}.
+ * <p>
+ * Each mutation of the internship list is applied as row-level statements by {@link #apply(List)},
+ * so saving a change no longer rewrites every internship.
+ */
+public class DatabaseInternshipStorageHandler implements Storage<InternshipList> {
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final String INSERT_INTERNSHIP = "INSERT INTO internships"
+            + " (type, position, company_name, role, status, record) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final Database database;
+
+    public DatabaseInternshipStorageHandler(Database database) {
+        this.database = database;
+    }
+
+    /**
+     * Does nothing, as the tables are created when the database is opened.
+     */
+    @Override
+    public void createFile() {
+    }
+
+    /**
+     * Replaces all internships in the database with the given ones.
+     *
+     * @param internships List of internships to be saved.
+     */
+    @Override
+    public void save(InternshipList internships) throws IOException {
+        logger.log(Level.INFO, "Saving all internships to database ...");
+        database.runInTransaction(connection -> {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM internships");
+                 PreparedStatement insert = connection.prepareStatement(INSERT_INTERNSHIP)) {
+                delete.executeUpdate();
+                for (List<Internship> internshipsOfType : internships.getInternshipMap().values()) {
+                    for (int position = 0; position < internshipsOfType.size(); position++) {
+                        setInternship(insert, position, internshipsOfType.get(position));
+                        insert.addBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Loads the internships from the database, in the order of their types and positions.
+     *
+     * @param internships List of internships to be loaded.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    @Override
+    public CommandResult load(InternshipList internships) {
+        logger.log(Level.INFO, "Beginning process to load internships from database ...");
+        List<String> feedback = new ArrayList<>();
+        try {
+            database.runInTransaction(connection -> {
+                readInternships(connection, internships, feedback);
+                return null;
+            });
+        } catch (IOException e) {
+            return new CommandResult(List.of(e.getMessage()), false);
+        }
+
+        if (!feedback.isEmpty()) {
+            feedback.add(0, CORRUPTED_DATABASE);
+            feedback.add("Please fix or delete the database at: " + database.getPath());
+            return new CommandResult(feedback, false);
+        }
+        logger.log(Level.INFO, String.format("Loaded %d internships from database", internships.getInternshipCount()));
+        return new CommandResult(List.of(internships.getInternshipCount() == 0
+                ? LOADING_DATA_FIRST_TIME : LOADING_DATA_SUCCESS), true);
+    }
+
+    private static void readInternships(Connection connection, InternshipList internships, List<String> feedback)
+            throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT position, record FROM internships WHERE type = ? ORDER BY position")) {
+            for (String type : internships.getInternshipMap().keySet()) {
+                select.setString(1, type);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        try {
+                            internships.addInternship(createInternship(new JSONObject(rows.getString("record"))));
+                        } catch (IllegalArgumentException | JSONException | DuplicateEntryException e) {
+                            logger.log(Level.WARNING, "Skipping corrupted row: " + e.getMessage());
+                            feedback.add(String.format("Error at %s internship %d: %s", type,
+                                    rows.getInt("position") + 1, e.getMessage()));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies mutations of the internship list to the database in a single transaction.
+     * A deletion also deletes the interview rounds of the internship, and moves later internships of
+     * the same type, together with their interview rounds, up by one position.
+     *
+     * @param entries Mutations to be applied, in order.
+     */
+    public void apply(List<JournalEntry> entries) throws IOException {
+        database.runInTransaction(connection -> {
+            for (JournalEntry entry : entries) {
+                applyEntry(connection, entry);
+            }
+            return null;
+        });
+        logger.log(Level.INFO, String.format("Applied %d internship mutations to database", entries.size()));
+    }
+
+    private static void applyEntry(Connection connection, JournalEntry entry) throws SQLException {
+        switch (entry.getOperation()) {
+        case JournalEntry.ADD:
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_INTERNSHIP)) {
+                setInternship(insert, countRows(connection, "internships", entry.getType(), -1),
+                        createInternship(entry.getRecord()));
+                insert.executeUpdate();
+            }
+            break;
+        case JournalEntry.EDIT:
+            try (PreparedStatement update = connection.prepareStatement("UPDATE internships"
+                    + " SET company_name = ?, role = ?, status = ?, record = ? WHERE type = ? AND position = ?")) {
+                Internship internship = createInternship(entry.getRecord());
+                update.setString(1, internship.getCompanyName());
+                update.setString(2, internship.getRole());
+                update.setString(3, internship.getStatus());
+                update.setString(4, entry.getRecord().toString());
+                update.setString(5, entry.getType());
+                update.setInt(6, entry.getIndex());
+                update.executeUpdate();
+            }
+            break;
+        case JournalEntry.DELETE:
+            for (String table : new String[] {"internships", "interview_rounds"}) {
+                try (PreparedStatement delete = connection.prepareStatement(
+                        "DELETE FROM " + table + " WHERE type = ? AND position = ?");
+                     PreparedStatement shift = connection.prepareStatement(
+                             "UPDATE " + table + " SET position = position - 1 WHERE type = ? AND position > ?")) {
+                    delete.setString(1, entry.getType());
+                    delete.setInt(2, entry.getIndex());
+                    delete.executeUpdate();
+                    shift.setString(1, entry.getType());
+                    shift.setInt(2, entry.getIndex());
+                    shift.executeUpdate();
+                }
+            }
+            break;
+        case JournalEntry.ADD_INTERVIEW:
+            int round = countRows(connection, "interview_rounds", entry.getType(), entry.getIndex());
+            DatabaseInterviewStorageHandler.insertRound(connection, entry.getType(), entry.getIndex(), round,
+                    Interview.fromJson(new JSONObject(entry.getRecord().toString())));
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown journal operation: " + entry.getOperation());
+        }
+    }
+
+    /**
+     * Counts the rows of a type, or of one internship of the type if a position is given.
+     */
+    private static int countRows(Connection connection, String table, String type, int position)
+            throws SQLException {
+        String sql = "SELECT COUNT(*) FROM " + table + " WHERE type = ?" + (position < 0 ? "" : " AND position = ?");
+        try (PreparedStatement count = connection.prepareStatement(sql)) {
+            count.setString(1, type);
+            if (position >= 0) {
+                count.setInt(2, position);
+            }
+            try (ResultSet rows = count.executeQuery()) {
+                rows.next();
+                return rows.getInt(1);
+            }
+        }
+    }
+
+    private static Internship createInternship(JSONObject record) {
+        // Records built in memory hold dates as objects, which are only read back once they are text
+        Internship internship = InternshipStorageHandler.createInternship(new JSONObject(record.toString()));
+        if (internship == null) {
+            throw new IllegalArgumentException("Unknown internship type in record: " + record);
+        }
+        return internship;
+    }
+
+    private static void setInternship(PreparedStatement insert, int position, Internship internship)
+            throws SQLException {
+        insert.setString(1, internship.getType());
+        insert.setInt(2, position);
+        insert.setString(3, internship.getCompanyName());
+        insert.setString(4, internship.getRole());
+        insert.setString(5, internship.getStatus());
+        insert.setString(6, internship.toJson().toString());
+    }
+}
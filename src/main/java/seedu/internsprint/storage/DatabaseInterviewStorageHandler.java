@@ -0,0 +1,175 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CORRUPTED_DATABASE;
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_SUCCESS;
+
+/**
+ * Handles the storage of interviews in the {@code interview_rounds} table of the {@link Database}.
+ * <p>
+ * Every round of an interview is a row of its own, numbered from 0 for the first round, so adding a round
+ * inserts a single row. Interview rounds are added and deleted together with their internships by
+ * {@link DatabaseInternshipStorageHandler#apply(List)}.
+ */
+public class DatabaseInterviewStorageHandler implements Storage<InternshipList> {
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final Database database;
+
+    public DatabaseInterviewStorageHandler(Database database) {
+        this.database = database;
+    }
+
+    /**
+     * Does nothing, as the tables are created when the database is opened.
+     */
+    @Override
+    public void createFile() {
+    }
+
+    /**
+     * Replaces all interview rounds in the database with those of the given internships.
+     *
+     * @param internships List of internships whose interviews are saved.
+     */
+    @Override
+    public void save(InternshipList internships) throws IOException {
+        logger.log(Level.INFO, "Saving all interview rounds to database ...");
+        database.runInTransaction(connection -> {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM interview_rounds")) {
+                delete.executeUpdate();
+            }
+            for (List<Internship> internshipsOfType : internships.getInternshipMap().values()) {
+                for (int position = 0; position < internshipsOfType.size(); position++) {
+                    Internship internship = internshipsOfType.get(position);
+                    if (internship.getInterview() == null) {
+                        continue;
+                    }
+                    insertRound(connection, internship.getType(), position, 0, internship.getInterview());
+                    List<Interview> nextRounds = internship.getInterview().getNextRounds();
+                    for (int round = 0; round < nextRounds.size(); round++) {
+                        insertRound(connection, internship.getType(), position, round + 1, nextRounds.get(round));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CommandResult load(InternshipList internships) {
+        return load(internships, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Loads the interview rounds into the internships they belong to, once {@code internshipLoad} has completed.
+     *
+     * @param internships List of internships where interviews need to be loaded.
+     * @param internshipLoad Completes once the internships have been added to the list.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    public CommandResult load(InternshipList internships, Future<?> internshipLoad) {
+        try {
+            internshipLoad.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new CommandResult(List.of(e.toString()), false);
+        } catch (ExecutionException e) {
+            logger.log(Level.SEVERE, "Internships could not be loaded before their interviews");
+            return new CommandResult(List.of(e.getCause().toString()), false);
+        }
+
+        logger.log(Level.INFO, "Beginning process to load interview rounds from database ...");
+        List<String> feedback = new ArrayList<>();
+        try {
+            database.runInTransaction(connection -> {
+                readRounds(connection, internships, feedback);
+                return null;
+            });
+        } catch (IOException e) {
+            return new CommandResult(List.of(e.getMessage()), false);
+        }
+
+        if (!feedback.isEmpty()) {
+            feedback.add(0, CORRUPTED_DATABASE);
+            feedback.add("Please fix or delete the database at: " + database.getPath());
+            return new CommandResult(feedback, false);
+        }
+        return new CommandResult(List.of(LOADING_DATA_SUCCESS), true);
+    }
+
+    private static void readRounds(Connection connection, InternshipList internships, List<String> feedback)
+            throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT position, round, record FROM interview_rounds WHERE type = ? ORDER BY position, round")) {
+            for (String type : internships.getInternshipMap().keySet()) {
+                List<Internship> internshipsOfType = internships.getInternshipMap().get(type);
+                select.setString(1, type);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        int position = rows.getInt("position");
+                        try {
+                            Internship internship = internshipsOfType.get(position);
+                            Interview round = Interview.fromJson(new JSONObject(rows.getString("record")));
+                            round.setInternshipId(internship.getInternshipId());
+                            internship.addInterview(round);
+                        } catch (IndexOutOfBoundsException | IllegalArgumentException | JSONException
+                                 | DuplicateEntryException e) {
+                            logger.log(Level.WARNING, "Skipping corrupted interview round: " + e.getMessage());
+                            feedback.add(String.format("Error at round %d of %s internship %d: %s",
+                                    rows.getInt("round") + 1, type, position + 1, e.getMessage()));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts one interview round. The round is stored on its own, without the rounds that follow it.
+     *
+     * @param connection Connection to the database.
+     * @param type Type of the internship the round belongs to.
+     * @param position Position of the internship within its type.
+     * @param round Number of the round, starting from 0.
+     * @param interview Interview round to be inserted.
+     */
+    static void insertRound(Connection connection, String type, int position, int round, Interview interview)
+            throws SQLException {
+        JSONObject record = interview.toJson();
+        record.remove("internshipId");
+        record.remove("nextRounds");
+        record.put("roundCounter", 0);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO interview_rounds"
+                + " (type, position, round, interview_date, record) VALUES (?, ?, ?, ?, ?)")) {
+            insert.setString(1, type);
+            insert.setInt(2, position);
+            insert.setInt(3, round);
+            insert.setDate(4, Date.valueOf(interview.getUnformattedInterviewDate()));
+            insert.setString(5, record.toString());
+            insert.executeUpdate();
+        }
+    }
+}
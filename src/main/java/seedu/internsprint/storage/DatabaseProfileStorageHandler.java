@@ -0,0 +1,93 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CORRUPTED_DATABASE;
+
+/**
+ * Handles the storage of the user profile in the single-row {@code profile} table of the {@link Database}.
+ * The profile is stored in the same structured plain text format as the profile file.
+ */
+public class DatabaseProfileStorageHandler implements Storage<UserProfile> {
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final int PROFILE_ID = 1;
+
+    private final Database database;
+
+    public DatabaseProfileStorageHandler(Database database) {
+        this.database = database;
+    }
+
+    /**
+     * Does nothing, as the tables are created when the database is opened.
+     */
+    @Override
+    public void createFile() {
+    }
+
+    /**
+     * Saves the user profile, replacing the stored one.
+     *
+     * @param userProfile The user profile to be saved.
+     */
+    @Override
+    public void save(UserProfile userProfile) throws IOException {
+        if (userProfile == null) {
+            return;
+        }
+        database.runInTransaction(connection -> {
+            try (PreparedStatement merge = connection.prepareStatement(
+                    "MERGE INTO profile (id, content) KEY (id) VALUES (?, ?)")) {
+                merge.setInt(1, PROFILE_ID);
+                merge.setString(2, userProfile.toFormattedString());
+                return merge.executeUpdate();
+            }
+        });
+        logger.log(Level.INFO, "Saved user profile to database");
+    }
+
+    /**
+     * Loads the user profile from the database.
+     *
+     * @param userProfile The user profile object to store the loaded data.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    @Override
+    public CommandResult load(UserProfile userProfile) {
+        String content;
+        try {
+            content = database.runInTransaction(connection -> {
+                try (PreparedStatement select = connection.prepareStatement(
+                        "SELECT content FROM profile WHERE id = ?")) {
+                    select.setInt(1, PROFILE_ID);
+                    try (ResultSet rows = select.executeQuery()) {
+                        return rows.next() ? rows.getString("content") : null;
+                    }
+                }
+            });
+        } catch (IOException e) {
+            return new CommandResult(List.of(e.getMessage()), false);
+        }
+        if (content == null) {
+            return new CommandResult(List.of("User profile is empty."), true);
+        }
+
+        try {
+            ProfileStorageHandler.parseUserProfile(userProfile, content);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Corrupted user profile: " + e.getMessage());
+            return new CommandResult(List.of(CORRUPTED_DATABASE, e.getMessage(),
+                    "Please fix or delete the database at: " + database.getPath()), false);
+        }
+        return new CommandResult(List.of("User profile loaded successfully."), true);
+    }
+}
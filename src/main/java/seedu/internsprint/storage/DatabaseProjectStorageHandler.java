@@ -0,0 +1,137 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.model.userprofile.project.ProjectList;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CORRUPTED_DATABASE;
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_FIRST_TIME;
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_SUCCESS;
+
+/**
+ * Handles the storage of projects in the {@code projects} table of the {@link Database}.
+ * <p>
+ * Saving compares the projects with the rows already stored, and only inserts, updates or deletes
+ * the rows that differ.
+ */
+public class DatabaseProjectStorageHandler implements Storage<ProjectList> {
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final Database database;
+
+    public DatabaseProjectStorageHandler(Database database) {
+        this.database = database;
+    }
+
+    /**
+     * Does nothing, as the tables are created when the database is opened.
+     */
+    @Override
+    public void createFile() {
+    }
+
+    /**
+     * Saves the projects, writing only the rows that have changed.
+     *
+     * @param projects List of projects to be saved.
+     */
+    @Override
+    public void save(ProjectList projects) throws IOException {
+        int changedRows = database.runInTransaction(connection -> {
+            Map<String, String> storedRecords = readRecords(connection);
+            int count = 0;
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO projects (record, type, position) VALUES (?, ?, ?)");
+                 PreparedStatement update = connection.prepareStatement(
+                         "UPDATE projects SET record = ? WHERE type = ? AND position = ?");
+                 PreparedStatement delete = connection.prepareStatement(
+                         "DELETE FROM projects WHERE type = ? AND position >= ?")) {
+                for (Map.Entry<String, ArrayList<Project>> entry : projects.getProjectMap().entrySet()) {
+                    List<Project> projectsOfType = entry.getValue();
+                    for (int position = 0; position < projectsOfType.size(); position++) {
+                        String record = projectsOfType.get(position).toJson().toString();
+                        String storedRecord = storedRecords.get(entry.getKey() + "/" + position);
+                        if (record.equals(storedRecord)) {
+                            continue;
+                        }
+                        PreparedStatement statement = storedRecord == null ? insert : update;
+                        statement.setString(1, record);
+                        statement.setString(2, entry.getKey());
+                        statement.setInt(3, position);
+                        count += statement.executeUpdate();
+                    }
+                    delete.setString(1, entry.getKey());
+                    delete.setInt(2, projectsOfType.size());
+                    count += delete.executeUpdate();
+                }
+            }
+            return count;
+        });
+        logger.log(Level.INFO, String.format("Saved projects to database, %d rows changed", changedRows));
+    }
+
+    /**
+     * Loads the projects from the database.
+     *
+     * @param projects List of projects to be loaded.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    @Override
+    public CommandResult load(ProjectList projects) {
+        logger.log(Level.INFO, "Beginning process to load projects from database ...");
+        List<String> feedback = new ArrayList<>();
+        try {
+            database.runInTransaction(connection -> {
+                try (PreparedStatement select = connection.prepareStatement(
+                        "SELECT type, position, record FROM projects ORDER BY type, position");
+                     ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        try {
+                            ProjectStorageHandler.addProjectToList(projects, new JSONObject(rows.getString("record")));
+                        } catch (JSONException e) {
+                            feedback.add(String.format("Error at %s project %d: %s", rows.getString("type"),
+                                    rows.getInt("position") + 1, e.getMessage()));
+                        }
+                    }
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            return new CommandResult(List.of(e.getMessage()), false);
+        }
+
+        if (!feedback.isEmpty()) {
+            feedback.add(0, CORRUPTED_DATABASE);
+            feedback.add("Please fix or delete the database at: " + database.getPath());
+            return new CommandResult(feedback, false);
+        }
+        return new CommandResult(List.of(projects.getProjectCount() == 0
+                ? LOADING_DATA_FIRST_TIME : LOADING_DATA_SUCCESS), true);
+    }
+
+    private static Map<String, String> readRecords(Connection connection) throws SQLException {
+        Map<String, String> records = new HashMap<>();
+        try (PreparedStatement select = connection.prepareStatement("SELECT type, position, record FROM projects");
+             ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                records.put(rows.getString("type") + "/" + rows.getInt("position"), rows.getString("record"));
+            }
+        }
+        return records;
+    }
+}
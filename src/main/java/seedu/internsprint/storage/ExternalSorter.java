@@ -0,0 +1,236 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_DIRECTORY;
+
+/**
+ * Sorts records that may not all fit in memory, such as the rows of a sorted export.
+ * <p>
+ * Records are collected until a run of them is full, then the run is sorted and written to a temporary file.
+ * Once all records are added, the runs are merged by reading one record of each run at a time, so at most one
+ * run of records is held in memory however many records are sorted. If all records fit in one run, they are
+ * sorted in memory without writing any file.
+ * <p>
+ * The sort is stable, so records that compare equal keep the order they were added in. Each value of a record
+ * must be a {@code String}, an {@code Integer} or null.
+ */
+public class ExternalSorter implements Closeable {
+
+    /**
+     * Represents an action taken on each record in sorted order.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(Object[] record) throws IOException;
+    }
+
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final byte NULL_VALUE = 0;
+    private static final byte STRING_VALUE = 1;
+    private static final byte INTEGER_VALUE = 2;
+
+    private final Comparator<Object[]> comparator;
+    private final int runRecords;
+    private final File directory;
+    private final List<Object[]> run = new ArrayList<>();
+    private final List<File> runFiles = new ArrayList<>();
+    private int recordCount = 0;
+
+    /**
+     * Creates a sorter that holds at most the given number of records in memory.
+     *
+     * @param comparator Order to sort the records in.
+     * @param runRecords Number of records sorted in memory before they are written to a temporary file.
+     * @param directory Directory to write the temporary files to.
+     */
+    public ExternalSorter(Comparator<Object[]> comparator, int runRecords, File directory) {
+        assert runRecords > 0 : "A run should hold at least one record";
+        this.comparator = comparator;
+        this.runRecords = runRecords;
+        this.directory = directory;
+    }
+
+    /**
+     * Adds a record to be sorted, writing the current run to a temporary file if it is full.
+     *
+     * @param record Values of the record.
+     */
+    public void add(Object... record) throws IOException {
+        run.add(record);
+        recordCount++;
+        if (run.size() == runRecords) {
+            spillRun();
+        }
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the number of runs written to temporary files so far.
+     *
+     * @return Number of temporary files.
+     */
+    public int getRunCount() {
+        return runFiles.size();
+    }
+
+    /**
+     * Passes every record added to the consumer, in sorted order.
+     *
+     * @param consumer Action to take on each record.
+     */
+    public void forEachSorted(RecordConsumer consumer) throws IOException {
+        if (runFiles.isEmpty()) {
+            run.sort(comparator);
+            for (Object[] record : run) {
+                consumer.accept(record);
+            }
+            return;
+        }
+        if (!run.isEmpty()) {
+            spillRun();
+        }
+        mergeRuns(consumer);
+    }
+
+    /**
+     * Deletes the temporary files of the runs.
+     */
+    @Override
+    public void close() throws IOException {
+        run.clear();
+        for (File runFile : runFiles) {
+            Files.deleteIfExists(runFile.toPath());
+        }
+        runFiles.clear();
+    }
+
+    private void spillRun() throws IOException {
+        run.sort(comparator);
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException(String.format(UNABLE_TO_CREATE_DIRECTORY, directory.getAbsolutePath()));
+        }
+        File runFile = Files.createTempFile(directory.toPath(), "sort-run-", ".tmp").toFile();
+        runFiles.add(runFile);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(runFile.toPath())))) {
+            for (Object[] record : run) {
+                writeRecord(output, record);
+            }
+        }
+        logger.log(Level.FINE, String.format("Wrote a sorted run of %d records to %s", run.size(), runFile));
+        run.clear();
+    }
+
+    /**
+     * Merges the sorted runs, taking the smallest of the next record of each run until all runs are read.
+     * Records that compare equal are taken from the earlier run first, which keeps the sort stable.
+     */
+    private void mergeRuns(RecordConsumer consumer) throws IOException {
+        List<DataInputStream> inputs = new ArrayList<>();
+        PriorityQueue<RunHead> heads = new PriorityQueue<>((first, second) -> {
+            int order = comparator.compare(first.record, second.record);
+            return order != 0 ? order : Integer.compare(first.runIndex, second.runIndex);
+        });
+        try {
+            for (int i = 0; i < runFiles.size(); i++) {
+                DataInputStream input = new DataInputStream(new BufferedInputStream(
+                        Files.newInputStream(runFiles.get(i).toPath())));
+                inputs.add(input);
+                Object[] record = readRecord(input);
+                if (record != null) {
+                    heads.add(new RunHead(record, i));
+                }
+            }
+            while (!heads.isEmpty()) {
+                RunHead head = heads.poll();
+                consumer.accept(head.record);
+                Object[] next = readRecord(inputs.get(head.runIndex));
+                if (next != null) {
+                    heads.add(new RunHead(next, head.runIndex));
+                }
+            }
+        } finally {
+            for (DataInputStream input : inputs) {
+                input.close();
+            }
+        }
+        logger.log(Level.INFO, String.format("Merged %d sorted runs of %d records", runFiles.size(), recordCount));
+    }
+
+    private static void writeRecord(DataOutputStream output, Object[] record) throws IOException {
+        output.writeInt(record.length);
+        for (Object value : record) {
+            if (value == null) {
+                output.writeByte(NULL_VALUE);
+            } else if (value instanceof Integer) {
+                output.writeByte(INTEGER_VALUE);
+                output.writeInt((Integer) value);
+            } else {
+                byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                output.writeByte(STRING_VALUE);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Reads the next record of a run.
+     *
+     * @return Values of the record, or null once the end of the run is reached.
+     */
+    private static Object[] readRecord(DataInputStream input) throws IOException {
+        int length;
+        try {
+            length = input.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        Object[] record = new Object[length];
+        for (int i = 0; i < length; i++) {
+            byte tag = input.readByte();
+            if (tag == INTEGER_VALUE) {
+                record[i] = input.readInt();
+            } else if (tag == STRING_VALUE) {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                record[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Holds the next record of a run while the runs are merged.
+     */
+    private static class RunHead {
+        private final Object[] record;
+        private final int runIndex;
+
+        private RunHead(Object[] record, int runIndex) {
+            this.record = record;
+            this.runIndex = runIndex;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.model.userprofile.project.ProjectList;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_FIRST_TIME;
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_SUCCESS;
+
+/**
+ * Holds the data of one store in memory only, for the {@link StorageConfig.Backend#MEMORY} backend.
+ * <p>
+ * Saving encodes the data in the same format as its data file, and loading decodes it again, so the data goes
+ * through the same round trip as with the files without touching the disk. Each instance holds its own copy,
+ * so storage managers built with this backend never share data with each other.
+ *
+ * @param <T> The type of data to be stored.
+ */
+public class InMemoryStorage<T> implements Storage<T> {
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    /**
+     * Converts the data of a store to and from its encoded form.
+     *
+     * @param <T> The type of data to be stored.
+     */
+    public interface Codec<T> {
+        String encode(T data) throws IOException;
+
+        void decode(String encoded, T data) throws IOException;
+    }
+
+    private final String name;
+    private final Codec<T> codec;
+    private volatile String encoded;
+
+    public InMemoryStorage(String name, Codec<T> codec) {
+        this.name = name;
+        this.codec = codec;
+    }
+
+    /**
+     * Does nothing, as there is no file to create.
+     */
+    @Override
+    public void createFile() {
+    }
+
+    /**
+     * Saves the data, replacing the copy held before.
+     *
+     * @param data The data to be saved.
+     */
+    @Override
+    public void save(T data) throws IOException {
+        encoded = codec.encode(data);
+        logger.log(Level.FINE, String.format("Saved %d characters of %s in memory", encoded.length(), name));
+    }
+
+    /**
+     * Loads the copy of the data saved last.
+     *
+     * @param data The object to store the loaded data.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    @Override
+    public CommandResult load(T data) {
+        String saved = encoded;
+        if (saved == null) {
+            return new CommandResult(List.of(LOADING_DATA_FIRST_TIME), true);
+        }
+        try {
+            codec.decode(saved, data);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, String.format("Unable to decode %s: %s", name, e.getMessage()));
+            return new CommandResult(List.of(String.format("Unable to load %s: %s", name, e.getMessage())), false);
+        }
+        return new CommandResult(List.of(LOADING_DATA_SUCCESS), true);
+    }
+
+    /**
+     * Loads the copy of the data saved last, once {@code dependency} has completed.
+     *
+     * @param data The object to store the loaded data.
+     * @param dependency Completes once the data this store refers to has been loaded.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    public CommandResult load(T data, Future<?> dependency) {
+        try {
+            dependency.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new CommandResult(List.of(e.toString()), false);
+        } catch (ExecutionException e) {
+            return new CommandResult(List.of(e.getCause().toString()), false);
+        }
+        return load(data);
+    }
+
+    /**
+     * Creates the store for internships, encoded as the JSON array of an internship segment file.
+     *
+     * @return Store for internships, without their interviews.
+     */
+    public static InMemoryStorage<InternshipList> forInternships() {
+        return new InMemoryStorage<>("internships", new Codec<>() {
+            @Override
+            public String encode(InternshipList internships) throws IOException {
+                List<Internship> records = new ArrayList<>();
+                internships.getInternshipMap().values().forEach(records::addAll);
+                // Internships are numbered as they are added, so they are kept in that order for their interviews
+                records.sort(Comparator.comparingInt(Internship::getInternshipId));
+                return encodeArray(records, Internship::writeJson);
+            }
+
+            @Override
+            public void decode(String encoded, InternshipList internships) throws IOException {
+                for (JSONObject record : decodeArray(encoded)) {
+                    Internship internship = InternshipStorageHandler.createInternship(record);
+                    if (internship == null) {
+                        throw new IllegalArgumentException("Unknown internship type in record: " + record);
+                    }
+                    try {
+                        internships.addInternship(internship);
+                    } catch (DuplicateEntryException e) {
+                        throw new IllegalArgumentException(e.getMessage(), e);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Creates the store for interviews, encoded as the JSON array of the interview file.
+     *
+     * @return Store for the interviews of internships that are already loaded.
+     */
+    public static InMemoryStorage<InternshipList> forInterviews() {
+        return new InMemoryStorage<>("interviews", new Codec<>() {
+            @Override
+            public String encode(InternshipList internships) throws IOException {
+                return encodeArray(internships.getInterviewList(), Interview::writeJson);
+            }
+
+            @Override
+            public void decode(String encoded, InternshipList internships) throws IOException {
+                List<Interview> interviews = new ArrayList<>();
+                for (JSONObject record : decodeArray(encoded)) {
+                    interviews.add(Interview.fromJson(record));
+                }
+                if (!internships.addInterviews(interviews).isEmpty()) {
+                    throw new IllegalArgumentException("Interview of an unknown internship");
+                }
+            }
+        });
+    }
+
+    /**
+     * Creates the store for projects, encoded as the JSON array of the project file.
+     *
+     * @return Store for projects.
+     */
+    public static InMemoryStorage<ProjectList> forProjects() {
+        return new InMemoryStorage<>("projects", new Codec<>() {
+            @Override
+            public String encode(ProjectList projects) throws IOException {
+                List<Project> records = new ArrayList<>();
+                projects.getProjectMap().values().forEach(records::addAll);
+                return encodeArray(records, Project::writeJson);
+            }
+
+            @Override
+            public void decode(String encoded, ProjectList projects) throws IOException {
+                for (JSONObject record : decodeArray(encoded)) {
+                    ProjectStorageHandler.addProjectToList(projects, record);
+                }
+            }
+        });
+    }
+
+    /**
+     * Creates the store for the user profile, encoded in the plain text format of the profile file.
+     *
+     * @return Store for the user profile.
+     */
+    public static InMemoryStorage<UserProfile> forProfile() {
+        return new InMemoryStorage<>("user profile", new Codec<>() {
+            @Override
+            public String encode(UserProfile userProfile) {
+                return userProfile == null ? "" : userProfile.toFormattedString();
+            }
+
+            @Override
+            public void decode(String encoded, UserProfile userProfile) {
+                if (!encoded.isEmpty()) {
+                    ProfileStorageHandler.parseUserProfile(userProfile, encoded);
+                }
+            }
+        });
+    }
+
+    private static <R> String encodeArray(List<R> records, SegmentFile.RecordWriter<R> recordWriter)
+            throws IOException {
+        StringWriter output = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(output, true)) {
+            writer.beginArray();
+            for (R record : records) {
+                recordWriter.write(record, writer);
+            }
+            writer.endArray();
+        }
+        return output.toString();
+    }
+
+    private static List<JSONObject> decodeArray(String encoded) throws IOException {
+        List<JSONObject> records = new ArrayList<>();
+        try (JsonArrayReader reader = new JsonArrayReader(new StringReader(encoded))) {
+            while (reader.hasNext()) {
+                Object entry = reader.next();
+                if (!(entry instanceof JSONObject)) {
+                    throw new IllegalArgumentException("Entry is not a JSON object: " + entry);
+                }
+                records.add((JSONObject) entry);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.IMPORT_MISSING_HEADER;
+import static seedu.internsprint.util.InternSprintExceptionMessages.INVALID_CATEGORY_ERROR;
+import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
+
+/**
+ * Reads internships from a CSV or JSON Lines file to be imported.
+ * <p>
+ * Rows are streamed from the file in batches, and the rows of each batch are turned into internships in
+ * parallel. Each row is checked on its own, so a bad row is reported with its line number instead of
+ * stopping the import. Checking for duplicates is left to the list the internships are added to.
+ * <p>
+ * CSV files start with a header naming the field of each column, and JSON Lines files hold one JSON object
+ * per line. Fields are named as in the data files, such as {@code companyName} and {@code techStack}, or by
+ * the flag of the add commands, such as {@code c} and {@code tech}. Other fields are ignored.
+ */
+public class InternshipImporter {
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final int BATCH_SIZE = 8192;
+    private static final Map<String, String> FIELD_ALIASES = new HashMap<>();
+
+    static {
+        FIELD_ALIASES.put("c", "companyname");
+        FIELD_ALIASES.put("company", "companyname");
+        FIELD_ALIASES.put("r", "role");
+        FIELD_ALIASES.put("tech", "techstack");
+        FIELD_ALIASES.put("hardtech", "embeddedsystems");
+        FIELD_ALIASES.put("dept", "department");
+        FIELD_ALIASES.put("eli", "eligibility");
+        FIELD_ALIASES.put("desc", "description");
+        FIELD_ALIASES.put("ex", "expectations");
+    }
+
+    /**
+     * Holds the internships read from a file and the rows that could not be read.
+     */
+    public static class ImportedRows {
+        private final List<Internship> internships = new ArrayList<>();
+        private final List<Integer> lineNumbers = new ArrayList<>();
+        private final TreeMap<Integer, String> errors = new TreeMap<>();
+        private int rowCount = 0;
+
+        public List<Internship> getInternships() {
+            return internships;
+        }
+
+        public List<Integer> getLineNumbers() {
+            return lineNumbers;
+        }
+
+        /**
+         * Returns the reasons rows could not be read, by the line number of the row.
+         *
+         * @return Reasons rows could not be read, ordered by line number.
+         */
+        public TreeMap<Integer, String> getErrors() {
+            return errors;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+    }
+
+    /**
+     * Represents one row of the file before it is turned into an internship.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final List<String> values;
+        private final String line;
+        private Internship internship;
+        private String error;
+
+        private Row(int lineNumber, List<String> values, String line) {
+            this.lineNumber = lineNumber;
+            this.values = values;
+            this.line = line;
+        }
+    }
+
+    /**
+     * Checks if the file is in a format that can be imported, going by its extension.
+     *
+     * @param fileName Name of the file.
+     * @return True if the file is a CSV or JSON Lines file.
+     */
+    public static boolean isSupportedFile(String fileName) {
+        return isCsvFile(fileName) || fileName.toLowerCase().endsWith(".jsonl");
+    }
+
+    /**
+     * Reads all internships from a CSV or JSON Lines file.
+     *
+     * @param file File to be read.
+     * @return Internships read from the file, in the order of their rows, and the rows that could not be read.
+     * @throws IOException If the file cannot be read, or a CSV file has no header.
+     */
+    public static ImportedRows read(File file) throws IOException {
+        ImportedRows importedRows = new ImportedRows();
+        List<Row> batch = new ArrayList<>(BATCH_SIZE);
+        if (isCsvFile(file.getName())) {
+            try (CsvReader reader = new CsvReader(DataFileStreams.newReader(file))) {
+                List<String> header = reader.readRecord();
+                if (header == null) {
+                    throw new IOException(String.format(IMPORT_MISSING_HEADER, file.getAbsolutePath()));
+                }
+                String[] fields = header.stream().map(InternshipImporter::normaliseField).toArray(String[]::new);
+                List<String> values;
+                while ((values = reader.readRecord()) != null) {
+                    batch.add(new Row(reader.getLineNumber(), values, null));
+                    if (batch.size() == BATCH_SIZE) {
+                        parseBatch(batch, fields, importedRows);
+                    }
+                }
+                parseBatch(batch, fields, importedRows);
+            }
+        } else {
+            try (BufferedReader reader = DataFileStreams.newReader(file)) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    batch.add(new Row(lineNumber, null, line));
+                    if (batch.size() == BATCH_SIZE) {
+                        parseBatch(batch, null, importedRows);
+                    }
+                }
+                parseBatch(batch, null, importedRows);
+            }
+        }
+        logger.log(Level.INFO, String.format("Read %d rows to import from %s, %d of them invalid",
+                importedRows.rowCount, file.getAbsolutePath(), importedRows.errors.size()));
+        return importedRows;
+    }
+
+    /**
+     * Turns the rows of a batch into internships in parallel, then adds them to the imported rows in order.
+     *
+     * @param batch Rows to be parsed, which is cleared afterwards.
+     * @param fields Normalised field of each CSV column, or null if the rows are JSON objects.
+     * @param importedRows Rows imported so far.
+     */
+    private static void parseBatch(List<Row> batch, String[] fields, ImportedRows importedRows) {
+        batch.parallelStream().forEach(row -> parseRow(row, fields));
+        for (Row row : batch) {
+            importedRows.rowCount++;
+            if (row.internship != null) {
+                importedRows.internships.add(row.internship);
+                importedRows.lineNumbers.add(row.lineNumber);
+            } else {
+                importedRows.errors.put(row.lineNumber, row.error);
+            }
+        }
+        batch.clear();
+    }
+
+    private static void parseRow(Row row, String[] fields) {
+        try {
+            Map<String, String> values = new HashMap<>();
+            if (fields != null) {
+                for (int i = 0; i < fields.length && i < row.values.size(); i++) {
+                    values.put(fields[i], row.values.get(i).trim());
+                }
+            } else {
+                JSONObject json = new JSONObject(row.line);
+                for (String key : json.keySet()) {
+                    values.put(normaliseField(key), json.get(key).toString().trim());
+                }
+            }
+            row.internship = createInternship(values);
+        } catch (JSONException | IllegalArgumentException e) {
+            row.error = e.getMessage();
+        }
+    }
+
+    /**
+     * Creates an internship from the fields of a row.
+     *
+     * @param values Values of the row by their normalised field.
+     * @return Internship described by the row.
+     * @throws IllegalArgumentException If the type is unknown or a required field is missing.
+     */
+    static Internship createInternship(Map<String, String> values) {
+        String type = values.getOrDefault("type", "").toLowerCase();
+        String companyName = values.get("companyname");
+        String role = values.get("role");
+        String eligibility = values.get("eligibility");
+        String description = values.get("description");
+        String status = values.get("status");
+        String expectations = values.get("expectations");
+        switch (type) {
+        case "software":
+            return new SoftwareInternship(companyName, role, getRequired(values, "techstack", "techStack"),
+                    eligibility, description, status, expectations);
+        case "hardware":
+            return new HardwareInternship(companyName, role,
+                    getRequired(values, "embeddedsystems", "embeddedSystems"),
+                    eligibility, description, status, expectations);
+        case "general":
+            return new GeneralInternship(companyName, role, getRequired(values, "department", "department"),
+                    eligibility, description, status, expectations);
+        default:
+            throw new IllegalArgumentException(INVALID_CATEGORY_ERROR);
+        }
+    }
+
+    private static String getRequired(Map<String, String> values, String field, String fieldName) {
+        String value = values.get(field);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(String.format(MISSING_REQUIRED_PARAMETERS, fieldName));
+        }
+        return value;
+    }
+
+    /**
+     * Normalises the name of a field, so that names differing in case, spacing or a leading slash match.
+     *
+     * @param field Name of the field as written in the file.
+     * @return Normalised name of the field.
+     */
+    private static String normaliseField(String field) {
+        String normalised = field.toLowerCase().replaceAll("[^a-z]", "");
+        return FIELD_ALIASES.getOrDefault(normalised, normalised);
+    }
+
+    private static boolean isCsvFile(String fileName) {
+        return fileName.toLowerCase().endsWith(".csv");
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.model.internship.InternshipIndex;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_FILE;
+
+/**
+ * Handles the index files kept next to the internship segments, one for each kind of {@link InternshipIndex}, so
+ * the indexes do not have to be built again every time the app starts.
+ * <p>
+ * Each file starts with a header holding a magic number, the format version and the stamp of the data files the
+ * index was built from: the generation of the internship segments, see
+ * {@link InternshipStorageHandler#computeGeneration()}, and the size and modification time of the journal and
+ * interview file. It is only used when the stamp matches the data files, and is otherwise built again. The index
+ * is read through a memory-mapped buffer and is followed by its CRC32 checksum.
+ */
+public class InternshipIndexStorageHandler {
+    public static final String FILE_EXTENSION = ".idx";
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final int MAGIC = 0x49534958;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES;
+
+    private final File directory;
+    private final InternshipStorageHandler internshipStorageHandler;
+    private final File[] stampedFiles;
+
+    /**
+     * Creates a handler of the index files of the internships saved by the given handler.
+     *
+     * @param config Storage configuration of the data files.
+     * @param internshipStorageHandler Handler of the internship segments the indexes are built from.
+     */
+    public InternshipIndexStorageHandler(StorageConfig config, InternshipStorageHandler internshipStorageHandler) {
+        this.directory = config.resolve(InternshipStorageHandler.DIRECTORY_NAME);
+        this.internshipStorageHandler = internshipStorageHandler;
+        this.stampedFiles = new File[] {config.resolve(JournalStorageHandler.FILE_NAME),
+            config.resolve(InterviewStorageHandler.FILE_NAME)};
+    }
+
+    /**
+     * Computes the stamp of the data files the internships, with their interviews, are loaded from.
+     *
+     * @return Stamp of the data files.
+     */
+    public long computeStamp() throws IOException {
+        CRC32 checksum = new CRC32();
+        ByteBuffer value = ByteBuffer.allocate(Long.BYTES * (1 + 2 * stampedFiles.length));
+        value.putLong(internshipStorageHandler.computeGeneration());
+        for (File file : stampedFiles) {
+            value.putLong(file.exists() ? file.length() : -1).putLong(file.lastModified());
+        }
+        checksum.update(value.flip());
+        return checksum.getValue();
+    }
+
+    /**
+     * Loads the saved index of a kind if it was built from data files with the given stamp.
+     *
+     * @param kind Kind of index to be loaded.
+     * @param stamp Stamp of the data files the internships were loaded from.
+     * @return Saved index, or null if there is none, or it is outdated or corrupted.
+     */
+    public InternshipIndex load(InternshipIndex.Kind kind, long stamp) {
+        File file = getFile(kind);
+        if (!file.exists() || file.length() < HEADER_SIZE + Long.BYTES) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return null;
+            }
+            // The mapping stays valid once the channel is closed, and is released with the index
+            MappedByteBuffer mappedFile = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (!mappedFile.slice(0, HEADER_SIZE).equals(createHeader(stamp))) {
+                logger.log(Level.INFO, "Index file " + file.getName() + " is outdated");
+                return null;
+            }
+            ByteBuffer body = mappedFile.slice(HEADER_SIZE, (int) size - HEADER_SIZE - Long.BYTES);
+            CRC32 checksum = new CRC32();
+            checksum.update(body.duplicate());
+            if (checksum.getValue() != mappedFile.getLong((int) size - Long.BYTES)) {
+                throw new IllegalArgumentException("Checksum mismatch");
+            }
+            InternshipIndex index = InternshipIndex.wrap(kind, body);
+            logger.log(Level.INFO, String.format("Mapped index file %s with %d entries", file.getName(),
+                    index.size()));
+            return index;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Unable to load index file " + file.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Saves an index, stamped with the data files it was built from.
+     * The index is written to a temporary file first, so an interrupted save leaves the old one intact.
+     *
+     * @param index Index to be saved.
+     * @param stamp Stamp of the data files the index was built from.
+     */
+    public void save(InternshipIndex index, long stamp) throws IOException {
+        File file = getFile(index.getKind());
+        Path temporaryPath = Paths.get(file.getPath() + ".tmp");
+        ByteBuffer body = index.getBuffer();
+        CRC32 checksum = new CRC32();
+        checksum.update(body.duplicate());
+        Files.createDirectories(directory.toPath());
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES).putLong(checksum.getValue()).flip();
+            ByteBuffer[] buffers = {createHeader(stamp), body, trailer};
+            while (trailer.hasRemaining()) {
+                channel.write(buffers);
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error saving index file " + file.getName());
+            throw new IOException(String.format(UNABLE_TO_CREATE_FILE, file.getAbsolutePath()));
+        }
+        Files.move(temporaryPath, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        logger.log(Level.INFO, String.format("Saved index file %s with %d entries", file.getName(), index.size()));
+    }
+
+    /**
+     * Returns true if an index of the kind has been saved, even if it is outdated.
+     *
+     * @param kind Kind of index.
+     * @return True if the index file exists.
+     */
+    public boolean exists(InternshipIndex.Kind kind) {
+        return getFile(kind).exists();
+    }
+
+    /**
+     * Deletes every saved index, such as before the data is encrypted, as the company index holds company names.
+     */
+    public void delete() throws IOException {
+        for (InternshipIndex.Kind kind : InternshipIndex.Kind.values()) {
+            Files.deleteIfExists(getFile(kind).toPath());
+        }
+    }
+
+    private File getFile(InternshipIndex.Kind kind) {
+        return new File(directory, kind.name().toLowerCase(Locale.ROOT).replace('_', '-') + FILE_EXTENSION);
+    }
+
+    private static ByteBuffer createHeader(long stamp) {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).putLong(stamp).flip();
+    }
+}
@@ -1,168 +1,1183 @@
 package seedu.internsprint.storage;
 
+import org.json.JSONArray;
 import org.json.JSONException;
 import seedu.internsprint.exceptions.DuplicateEntryException;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.GeneralInternship;
 import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.SoftwareInternship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.util.InternSprintLogger;
-
-import org.json.JSONArray;
 import org.json.JSONObject;
-
+import java.io.Closeable;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileReader;
-import java.io.BufferedReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 
-
-import static seedu.internsprint.util.InternSprintExceptionMessages.FILE_ALREADY_EXISTS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.DUPLICATE_INTERNSHIP;
 import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_DIRECTORY;
 import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_FILE;
 import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
 import static seedu.internsprint.util.InternSprintExceptionMessages.CORRUPTED_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CORRUPTED_SEGMENT;
 import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_PARSE_JSON;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_CONFLICT;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_CONFLICT_CHANGED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_CONFLICT_DELETED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_CONFLICT_NOT_REMOVED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_KEPT_COPY;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_SEGMENT_DELETED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_SEGMENT_NOT_SAVED;
 import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_SUCCESS;
 import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_FIRST_TIME;
-
+import static seedu.internsprint.util.InternSprintMessages.RELOAD_SEGMENT_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.RELOAD_SKIPPED_DUPLICATES;
 
 /**
  * Handles the storage of internship data.
+ * <p>
+ * Internships are saved as segment files in the {@code data/internships} directory, one or more per
+ * internship type, with one record per line prefixed by its CRC32 checksum (see {@link SegmentFile}).
+ * A manifest lists the segments in load order together with their record counts and checksums.
+ * Only the segments touched since the last save are written again, and segments are loaded through a
+ * {@link LoadPipeline}, so their records are parsed on every processor.
+ * A segment that fails its checksum is copied to the quarantine directory, and the records in it that pass
+ * their own checksum are loaded together with the rest of the data.
+ * <p>
+ * Internships saved by older versions in a single {@code data/internships.txt} file are still loaded,
+ * and are moved to segments the next time the internships are saved.
  */
 public class InternshipStorageHandler implements Storage<InternshipList> {
-    public static final String FILE_PATH = Paths.get("data", "internships.txt").toString();
-    private static File file;
+    public static final String DIRECTORY_NAME = "internships";
+    public static final String MANIFEST_FILE_NAME = "manifest.txt";
+    public static final String QUARANTINE_DIRECTORY_NAME = "quarantine";
+    public static final String LEGACY_FILE_NAME = "internships.txt";
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("(software|hardware|general)-\\d+\\.txt");
     private static final Logger logger = InternSprintLogger.getLogger();
 
-    public InternshipStorageHandler() {
-        file = new File(FILE_PATH);
+    private final File directory;
+    private final File manifestFile;
+    private final File quarantineDirectory;
+    private final File legacyFile;
+    private final boolean isCompactJson;
+    private final boolean isCompressed;
+    private final DataFileCipher cipher;
+    private final int segmentRecords;
+    private final int loadThreads;
+    private final Map<String, Segment> savedSegments = new HashMap<>();
+    private final Map<String, BitSet> changedSegments = new HashMap<>();
+    private boolean isFullSaveDue = false;
+    private boolean isReadOnly = false;
+
+    public InternshipStorageHandler(StorageConfig config) {
+        directory = config.resolve(DIRECTORY_NAME);
+        manifestFile = new File(directory, MANIFEST_FILE_NAME);
+        quarantineDirectory = new File(directory, QUARANTINE_DIRECTORY_NAME);
+        legacyFile = config.resolve(LEGACY_FILE_NAME);
+        isCompactJson = config.isCompactJson();
+        isCompressed = config.isCompressed();
+        cipher = config.getCipher();
+        segmentRecords = config.getSegmentRecords();
+        loadThreads = config.getLoadThreads();
     }
 
     /**
-     * Creates the file if it does not exist.
+     * Creates the directory holding the segments if it does not exist.
      */
     public void createFile() {
-        try {
-            if (file.getParentFile() != null && !file.getParentFile().exists()) {
-                if (!file.getParentFile().mkdirs()) {
-                    throw new RuntimeException(String.format(UNABLE_TO_CREATE_DIRECTORY,
-                            file.getParentFile().getAbsolutePath()));
-                }
-                assert file.getParentFile().exists() : "Directory should exist at this point";
+        if (!directory.exists()) {
+            if (!directory.mkdirs()) {
+                logger.log(Level.SEVERE, "Unable to create directory {0}", directory.getAbsolutePath());
+                throw new RuntimeException(String.format(UNABLE_TO_CREATE_DIRECTORY, directory.getAbsolutePath()));
             }
-            if (!file.exists()) {
-                if (!file.createNewFile()) {
-                    throw new RuntimeException(String.format(FILE_ALREADY_EXISTS,
-                            file.getAbsolutePath()));
-                }
-                assert file.exists() : "File should exist at this point";
+            assert directory.exists() : "Directory should exist at this point";
+        }
+    }
+
+    /**
+     * Forgets the segments saved or loaded so far, such as when the data files were replaced by a backup,
+     * so they are read afresh by the next load.
+     */
+    public synchronized void forgetSavedSegments() {
+        savedSegments.clear();
+        changedSegments.clear();
+        isFullSaveDue = false;
+    }
+
+    /**
+     * Sets whether this session only reads the data directory, in which case segments recovered while loading
+     * are left for the session that changes the data to save.
+     *
+     * @param isReadOnly True if another session changes the data.
+     */
+    public synchronized void setReadOnly(boolean isReadOnly) {
+        this.isReadOnly = isReadOnly;
+    }
+
+    /**
+     * Finds the segment files that may have been changed by another process since they were last saved or
+     * loaded, going by their size and modification time, so that only these are read again before a save.
+     *
+     * @return Names of the segment files changed, added or deleted outside the app, sorted by name.
+     */
+    public synchronized List<String> findSegmentsChangedOnDisk() {
+        List<String> changedFiles = new ArrayList<>();
+        for (Segment segment : savedSegments.values()) {
+            File file = new File(directory, segment.getFileName());
+            if (file.length() != segment.fileLength || file.lastModified() != segment.fileModified) {
+                changedFiles.add(segment.getFileName());
             }
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Unable to create file {0}", file.getAbsolutePath());
-            throw new RuntimeException(String.format(UNABLE_TO_CREATE_FILE,
-                    file.getAbsolutePath()));
         }
+        for (File file : listSegmentFiles()) {
+            if (!savedSegments.containsKey(file.getName())) {
+                changedFiles.add(file.getName());
+            }
+        }
+        changedFiles.sort(null);
+        return changedFiles;
+    }
+
+    /**
+     * Records which segments a mutation of the internship list touches, so that only they are saved.
+     * This should be called right after the mutation is applied to the list.
+     *
+     * @param entry Journal entry describing the mutation.
+     * @param internships List of internships after the mutation.
+     */
+    public synchronized void markChanged(JournalEntry entry, InternshipList internships) {
+        if (!entry.isChangingInternships()) {
+            return;
+        }
+        int size = internships.getInternshipMap().get(entry.getType()).size();
+        BitSet changed = changedSegments.computeIfAbsent(entry.getType(), type -> new BitSet());
+        switch (entry.getOperation()) {
+        case JournalEntry.ADD:
+            changed.set(getSegmentIndex(size - 1));
+            break;
+        case JournalEntry.EDIT:
+            changed.set(getSegmentIndex(entry.getIndex()));
+            break;
+        default:
+            // A deletion shifts every later internship of the type into the previous position
+            changed.set(getSegmentIndex(entry.getIndex()), getSegmentIndex(size) + 1);
+            break;
+        }
+    }
+
+    /**
+     * Marks the segments holding internships added to the end of a type as changed.
+     *
+     * @param type Type of the internships added.
+     * @param firstIndex Index of the first internship added within its type.
+     * @param size Number of internships of the type after they were added.
+     */
+    public synchronized void markAdded(String type, int firstIndex, int size) {
+        if (firstIndex >= size) {
+            return;
+        }
+        changedSegments.computeIfAbsent(type, changedType -> new BitSet())
+                .set(getSegmentIndex(firstIndex), getSegmentIndex(size - 1) + 1);
     }
 
     /**
-     * Saves the internships to the file.
+     * Marks every segment as changed, so the next save writes all of them.
+     */
+    public synchronized void markAllChanged() {
+        isFullSaveDue = true;
+    }
+
+    /**
+     * Returns true if any segment has changed since it was last saved.
+     *
+     * @return True if saving would write anything.
+     */
+    public synchronized boolean hasChanges() {
+        return isFullSaveDue || changedSegments.values().stream().anyMatch(changed -> !changed.isEmpty());
+    }
+
+    /**
+     * Saves all internships, writing every segment.
      *
      * @param internships List of internships to be saved.
      */
+    @Override
     public void save(InternshipList internships) throws IOException {
-        logger.log(Level.INFO, "Saving Internships to file ...");
-        JSONArray jsonArray = new JSONArray();
-        internships.getInternshipMap().forEach((type, list) -> {
-            list.forEach(internship -> jsonArray.put(internship.toJson()));
-        });
+        markAllChanged();
+        saveChanges(internships);
+    }
 
-        if (!file.exists()) {
-            createFile();
-        }
-        assert file.exists() : "File should exist at this point";
+    /**
+     * Saves the segments that have changed since they were last saved, followed by the manifest.
+     * Segments that are no longer needed are deleted, as is a data file left by an older version.
+     *
+     * @param internships List of internships to be saved.
+     */
+    public synchronized void saveChanges(InternshipList internships) throws IOException {
+        logger.log(Level.INFO, "Saving Internships to segments ...");
+        createFile();
 
-        try (FileWriter fileWriter = new FileWriter(file)) {
-            fileWriter.write(jsonArray.toString(4));
-            logger.log(Level.INFO, String.format("Successfully saved %s Internships to file %s",
-                    jsonArray.length(), file.getAbsolutePath()));
+        List<Segment> segments = new ArrayList<>();
+        int writtenCount = 0;
+        try {
+            for (Map.Entry<String, ArrayList<Internship>> entry : internships.getInternshipMap().entrySet()) {
+                String type = entry.getKey();
+                List<Internship> internshipsOfType = entry.getValue();
+                BitSet changed = changedSegments.getOrDefault(type, new BitSet());
+                for (int index = 0; index < getSegmentCount(internshipsOfType.size()); index++) {
+                    int from = segmentRecords == 0 ? 0 : index * segmentRecords;
+                    int to = segmentRecords == 0 ? internshipsOfType.size()
+                            : Math.min(internshipsOfType.size(), from + segmentRecords);
+                    Segment segment = savedSegments.get(Segment.getFileName(type, index));
+                    if (isFullSaveDue || changed.get(index) || segment == null || segment.records != to - from) {
+                        segment = writeSegment(type, index, internshipsOfType.subList(from, to));
+                        writtenCount++;
+                    }
+                    segments.add(segment);
+                }
+            }
+            writeManifest(segments);
         } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error saving internships to file");
-            throw new IOException(String.format(UNABLE_TO_CREATE_FILE,
-                    file.getAbsolutePath()));
+            logger.log(Level.SEVERE, "Error saving internships to segments");
+            throw new IOException(String.format(UNABLE_TO_CREATE_FILE, directory.getAbsolutePath()));
         }
 
+        savedSegments.clear();
+        for (Segment segment : segments) {
+            savedSegments.put(segment.getFileName(), segment);
+        }
+        changedSegments.clear();
+        isFullSaveDue = false;
+        deleteUnusedFiles();
+        logger.log(Level.INFO, String.format("Successfully saved %d of %d internship segments to %s",
+                writtenCount, segments.size(), directory.getAbsolutePath()));
     }
 
     /**
-     * Loads the internships from the file.
+     * Loads the internships from the segments, or from the data file of an older version if there are none.
      *
      * @param internships List of internships to be loaded.
      * @return CommandResult object indicating the success of the operation.
      */
+    @Override
     public CommandResult load(InternshipList internships) {
-        logger.log(Level.INFO, "Beginning process to load internships from file ...");
+        logger.log(Level.INFO, "Beginning process to load internships from segments ...");
         CommandResult result;
-        if (!file.exists() || file.length() == 0) {
+        List<File> segmentFiles = listSegmentFiles();
+        if (!manifestFile.exists() && segmentFiles.isEmpty()) {
+            if (legacyFile.exists() && legacyFile.length() > 0) {
+                return loadLegacyFile(internships);
+            }
             logger.log(Level.INFO, "Data file loaded is empty currently");
             result = new CommandResult(LOADING_DATA_FIRST_TIME);
             result.setSuccessful(true);
             return result;
         }
-        StringBuilder jsonData = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonData.append(line);
+
+        // All segments are only marked changed once every one is in the list, so nothing saves a partial list
+        List<Segment> expectedSegments;
+        boolean isFullSaveNeeded;
+        try {
+            JSONObject manifest = new JSONObject(Files.readString(manifestFile.toPath()));
+            // A manifest saved with a different segment size is loaded as it is, and all segments are saved again
+            isFullSaveNeeded = manifest.getInt("segmentRecords") != segmentRecords;
+            expectedSegments = parseManifest(manifest);
+        } catch (IOException | JSONException e) {
+            // Without a manifest the segments on disk are loaded as they are, checked record by record
+            logger.log(Level.WARNING, "Segment manifest is missing or corrupted: " + e.getMessage());
+            expectedSegments = findSegments(segmentFiles);
+            isFullSaveNeeded = true;
+        }
+
+        List<LoadedSegment> loadedSegments = new ArrayList<>();
+        for (Segment segment : expectedSegments) {
+            loadedSegments.add(new LoadedSegment(segment, new File(directory, segment.getFileName())));
+        }
+        try {
+            loadSegments(internships, loadedSegments);
+        } catch (InterruptedException e) {
+            logger.log(Level.WARNING, "Interrupted while loading internship segments");
+            Thread.currentThread().interrupt();
+            return errorReadingFile(directory);
+        }
+        List<String> feedback = new ArrayList<>();
+        for (LoadedSegment loadedSegment : loadedSegments) {
+            if (loadedSegment.isCorrupted()) {
+                feedback.addAll(quarantine(loadedSegment));
+            } else {
+                keepSavedRecords(loadedSegment);
+                loadedSegment.segment.stampFile(loadedSegment.file);
+                savedSegments.put(loadedSegment.segment.getFileName(), loadedSegment.segment);
+            }
+        }
+        if (isFullSaveNeeded) {
+            markAllChanged();
+        }
+        if (!feedback.isEmpty() && !isReadOnly) {
+            // Saving the internships that were recovered means journal entries, which refer to internships
+            // by their position, are not replayed onto the wrong ones
+            try {
+                saveChanges(internships);
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Unable to save recovered internships: " + e.getMessage());
+            }
+        }
+
+        logger.log(Level.INFO, String.format("Loaded %d internships from %d segments",
+                internships.getInternshipCount(), loadedSegments.size()));
+        feedback.add(0, internships.getInternshipCount() == 0 ? LOADING_DATA_FIRST_TIME : LOADING_DATA_SUCCESS);
+        result = new CommandResult(feedback);
+        result.setSuccessful(true);
+        return result;
+    }
+
+    /**
+     * Keeps the internships a segment was loaded with, to compare the segment file with if it is changed
+     * outside the app. Internships are given new IDs as they are added to the list, so the checksum of an
+     * internship whose ID changed is computed again from the internship as it is in the list.
+     *
+     * @param loadedSegment Segment loaded without errors, whose internships were added to the list.
+     */
+    private static void keepSavedRecords(LoadedSegment loadedSegment) {
+        int size = loadedSegment.internships.size();
+        long[] fileChecksums = new long[size];
+        long[] recordChecksums = new long[size];
+        int[] recordIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            Internship internship = loadedSegment.internships.get(i);
+            fileChecksums[i] = loadedSegment.recordChecksums.get(i);
+            recordIds[i] = loadedSegment.recordIds.get(i);
+            recordChecksums[i] = internship.getInternshipId() == recordIds[i] ? fileChecksums[i]
+                    : computeRecordChecksum(internship);
+        }
+        loadedSegment.segment.setSavedRecords(loadedSegment.internships, fileChecksums, recordChecksums, recordIds);
+    }
+
+    /**
+     * Writes the segments as they were last saved or loaded to the binary snapshot, so a session started from the
+     * snapshot can merge segments changed outside the app as one started from the segments does. A segment is
+     * written with the ID and checksum each of its internships has in the file only if its internships are still
+     * the ones in the list at its position.
+     *
+     * @param out Stream the snapshot body is written to.
+     * @param internships List of internships saved in the snapshot.
+     */
+    synchronized void writeSavedSegments(DataOutputStream out, InternshipList internships) throws IOException {
+        List<Segment> segments = new ArrayList<>(savedSegments.values());
+        List<String> types = listTypesInLoadOrder();
+        segments.sort((first, second) -> first.type.equals(second.type) ? Integer.compare(first.index, second.index)
+                : Integer.compare(types.indexOf(first.type), types.indexOf(second.type)));
+        out.writeInt(segments.size());
+        // Position in the list of the first internship of each segment that follows one in the list
+        Map<String, Integer> positions = new HashMap<>();
+        for (Segment segment : segments) {
+            out.writeUTF(segment.type);
+            out.writeInt(segment.index);
+            out.writeInt(segment.records);
+            out.writeLong(segment.checksum);
+            out.writeLong(segment.fileLength);
+            out.writeLong(segment.fileModified);
+            Integer position = positions.get(segment.getFileName());
+            if (segment.index == 0) {
+                position = 0;
+            }
+            List<Internship> internshipsOfType = internships.getInternshipMap().get(segment.type);
+            boolean isInList = position != null && segment.hasSavedRecords
+                    && position + segment.savedRecords.size() <= internshipsOfType.size();
+            for (int i = 0; isInList && i < segment.savedRecords.size(); i++) {
+                isInList = segment.savedRecords.get(i) == internshipsOfType.get(position + i);
+            }
+            out.writeInt(isInList ? segment.savedRecords.size() : 0);
+            if (!isInList) {
+                continue;
+            }
+            positions.put(Segment.getFileName(segment.type, segment.index + 1),
+                    position + segment.savedRecords.size());
+            for (int i = 0; i < segment.savedRecords.size(); i++) {
+                out.writeInt(segment.recordIds[i]);
+                out.writeLong(segment.fileChecksums[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads the segments written to the binary snapshot by {@link #writeSavedSegments(DataOutputStream,
+     * InternshipList)}, without keeping them yet.
+     *
+     * @param in Snapshot body, positioned after the data of the snapshot.
+     * @return Segments as they were last saved or loaded.
+     * @throws RuntimeException If the segments are malformed.
+     */
+    static List<Segment> readSavedSegments(ByteBuffer in) {
+        int segmentCount = in.getInt();
+        List<Segment> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            byte[] type = new byte[Short.toUnsignedInt(in.getShort())];
+            in.get(type);
+            Segment segment = new Segment(new String(type, StandardCharsets.UTF_8), in.getInt(), in.getInt(),
+                    in.getLong());
+            segment.fileLength = in.getLong();
+            segment.fileModified = in.getLong();
+            // The internships themselves are only attached once they are in the list
+            int size = in.getInt();
+            segment.recordIds = new int[size];
+            segment.fileChecksums = new long[size];
+            for (int j = 0; j < size; j++) {
+                segment.recordIds[j] = in.getInt();
+                segment.fileChecksums[j] = in.getLong();
             }
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    /**
+     * Keeps the segments read from the binary snapshot, with the internships the snapshot added to the list, as
+     * the segments last saved or loaded. A segment written without its internships is kept without them, so a
+     * change to its file outside the app is reported as a conflict rather than merged.
+     *
+     * @param segments Segments read from the snapshot.
+     * @param internships List of internships loaded from the snapshot.
+     */
+    synchronized void keepSavedSegments(List<Segment> segments, InternshipList internships) {
+        savedSegments.clear();
+        Map<String, Integer> positions = new HashMap<>();
+        for (Segment segment : segments) {
+            Integer position = positions.get(segment.getFileName());
+            if (segment.index == 0) {
+                position = 0;
+            }
+            List<Internship> internshipsOfType = internships.getInternshipMap().get(segment.type);
+            int size = segment.recordIds.length;
+            if (position != null && size > 0 && internshipsOfType != null
+                    && position + size <= internshipsOfType.size()) {
+                positions.put(Segment.getFileName(segment.type, segment.index + 1), position + size);
+                List<Internship> savedRecords = new ArrayList<>(internshipsOfType.subList(position, position + size));
+                long[] recordChecksums = new long[size];
+                for (int i = 0; i < size; i++) {
+                    // The snapshot gives the internships new IDs as it adds them to the list, as the segments do
+                    recordChecksums[i] = savedRecords.get(i).getInternshipId() == segment.recordIds[i]
+                            ? segment.fileChecksums[i] : computeRecordChecksum(savedRecords.get(i));
+                }
+                segment.setSavedRecords(savedRecords, segment.fileChecksums, recordChecksums, segment.recordIds);
+            }
+            savedSegments.put(segment.getFileName(), segment);
+        }
+    }
+
+    private static long computeRecordChecksum(Internship internship) {
+        try {
+            return SegmentFile.computeRecordChecksum(internship, Internship::writeJson);
         } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error reading file");
-            return errorReadingFile();
+            // Writing to memory does not fail, but if it did the internship is taken as changed
+            return -1;
+        }
+    }
+
+    /**
+     * Computes a checksum of the saved internships as they are on disk, used to stamp the journal.
+     *
+     * @return Checksum of the manifest and segments, or of the data file of an older version if there
+     *     are no segments.
+     */
+    public long computeChecksum() throws IOException {
+        if (!manifestFile.exists()) {
+            return DataFileStreams.computeChecksum(legacyFile);
+        }
+        CRC32 checksum = new CRC32();
+        ByteBuffer value = ByteBuffer.allocate(Long.BYTES);
+        List<File> files = listSegmentFiles();
+        files.add(0, manifestFile);
+        for (File file : files) {
+            checksum.update(file.getName().getBytes(StandardCharsets.UTF_8));
+            value.clear();
+            value.putLong(DataFileStreams.computeChecksum(file)).flip();
+            checksum.update(value);
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Computes a stamp of the saved internships without reading the segments: the checksum of the manifest,
+     * which lists the checksum of every segment it was saved with, and the size and modification time of each
+     * segment, so a segment changed outside the app also changes the stamp.
+     *
+     * @return Stamp of the manifest and segments, or of the data file of an older version if there are no
+     *     segments.
+     */
+    public long computeGeneration() throws IOException {
+        CRC32 checksum = new CRC32();
+        ByteBuffer value = ByteBuffer.allocate(3 * Long.BYTES);
+        List<File> files = listSegmentFiles();
+        files.add(0, manifestFile.exists() ? manifestFile : legacyFile);
+        value.putLong(DataFileStreams.computeChecksum(files.get(0)));
+        for (File file : files) {
+            checksum.update(file.getName().getBytes(StandardCharsets.UTF_8));
+            value.putLong(file.length()).putLong(file.lastModified()).flip();
+            checksum.update(value);
+            value.clear();
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Loads the changes made to one segment file outside the app into the list, by comparing each record in
+     * the file with the version of the segment that was last saved or loaded.
+     * <p>
+     * Only the changed file is parsed. A record changed only in the file is applied to the list, and one changed
+     * only in the list is kept. A record changed in both is a conflict: the version in the list is kept, and a
+     * copy of the file is kept in the quarantine directory so the other version is not lost. The segment is
+     * marked as changed, so the next save writes the merged internships back to it.
+     *
+     * @param fileName Name of the file that changed, within the segment directory.
+     * @param internships List of internships to apply the changes to.
+     * @return Changes loaded and conflicts found, or null if the file is not a segment or is still the same as
+     *     when it was last saved.
+     */
+    public synchronized ReloadedSegment reloadSegment(String fileName, InternshipList internships)
+            throws IOException {
+        if (!SEGMENT_FILE_NAME.matcher(fileName).matches()) {
+            return null;
+        }
+        File file = new File(directory, fileName);
+        String type = fileName.substring(0, fileName.indexOf('-'));
+        int index = Integer.parseInt(fileName.substring(fileName.indexOf('-') + 1, fileName.indexOf('.')));
+        Segment saved = savedSegments.get(fileName);
+        ReloadedSegment reload = new ReloadedSegment();
+        if (!file.exists()) {
+            if (saved == null) {
+                return null;
+            }
+            reload.feedback.add(String.format(RELOAD_SEGMENT_DELETED, fileName));
+            changedSegments.computeIfAbsent(type, changedType -> new BitSet()).set(index);
+            return reload;
+        }
+        SegmentFile.Contents contents = new SegmentFile<Internship>(file, isCompressed, cipher).read();
+        if (saved != null && saved.checksum == contents.getChecksum()
+                && saved.records == contents.getRecords().size()) {
+            return null;
+        }
+        if (saved == null || !saved.hasSavedRecords) {
+            return keepListVersion(file, type, index, saved, contents);
+        }
+        logger.log(Level.INFO, "Reloading segment changed outside the app: " + fileName);
+        // The changes in the file are merged now, so it is not merged again before the next save
+        saved.stampFile(file);
+
+        Segment base = saved;
+        List<JSONObject> records = contents.getRecords();
+        int[] baseIndexes = matchSavedRecords(base, contents);
+        boolean[] isInFile = new boolean[base.savedRecords.size()];
+        for (int baseIndex : baseIndexes) {
+            if (baseIndex >= 0) {
+                isInFile[baseIndex] = true;
+            }
+        }
+        ArrayList<Internship> current = internships.getInternshipMap().get(type);
+        Map<Internship, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < current.size(); i++) {
+            positions.put(current.get(i), i);
+        }
+
+        for (int lineNumber : contents.getDamagedLineNumbers()) {
+            reload.addConflict(lineNumber, fileName, "record does not match its checksum");
+        }
+        Map<Internship, Internship> replacements = new IdentityHashMap<>();
+        Map<Internship, List<Internship>> insertions = new IdentityHashMap<>();
+        List<Internship> appended = new ArrayList<>();
+        Internship anchor = null;
+        for (int i = 0; i < records.size(); i++) {
+            int lineNumber = contents.getLineNumbers().get(i);
+            int baseIndex = baseIndexes[i];
+            Internship savedInternship = baseIndex < 0 ? null : base.savedRecords.get(baseIndex);
+            boolean isChangedInFile = savedInternship == null
+                    || contents.getRecordChecksums().get(i) != base.fileChecksums[baseIndex];
+            if (savedInternship != null && !positions.containsKey(savedInternship)) {
+                if (isChangedInFile) {
+                    reload.addConflict(lineNumber, fileName, RELOAD_CONFLICT_DELETED);
+                }
+                continue;
+            }
+            if (savedInternship != null) {
+                anchor = savedInternship;
+                if (!isChangedInFile) {
+                    continue;
+                }
+                long currentChecksum = computeRecordChecksum(savedInternship);
+                if (currentChecksum == contents.getRecordChecksums().get(i)) {
+                    continue;
+                }
+                if (currentChecksum != base.recordChecksums[baseIndex]) {
+                    reload.addConflict(lineNumber, fileName, RELOAD_CONFLICT_CHANGED);
+                    continue;
+                }
+            }
+            Internship internship;
+            try {
+                internship = createInternship(records.get(i));
+                if (internship == null) {
+                    throw new JSONException("Unknown internship type");
+                }
+                if (!internship.getType().equals(type)) {
+                    throw new JSONException("Internship is not of type " + type);
+                }
+            } catch (JSONException e) {
+                reload.addConflict(lineNumber, fileName, e.getMessage());
+                continue;
+            }
+            if (savedInternship != null) {
+                internship.setInternshipId(savedInternship.getInternshipId());
+                if (savedInternship.getInterview() != null) {
+                    internship.setInterview(savedInternship.getInterview());
+                } else {
+                    internship.setHasStoredInterview(savedInternship.hasInterview());
+                }
+                replacements.put(savedInternship, internship);
+            } else if (anchor == null) {
+                appended.add(internship);
+            } else {
+                insertions.computeIfAbsent(anchor, key -> new ArrayList<>()).add(internship);
+            }
+        }
+
+        Map<Internship, Boolean> removals = new IdentityHashMap<>();
+        for (int i = 0; i < isInFile.length; i++) {
+            Internship savedInternship = base.savedRecords.get(i);
+            if (isInFile[i] || !positions.containsKey(savedInternship)) {
+                continue;
+            }
+            if (!contents.getDamagedLineNumbers().isEmpty()) {
+                // A damaged line may be this record, so it is not taken as removed
+                continue;
+            }
+            if (computeRecordChecksum(savedInternship) != base.recordChecksums[i]) {
+                reload.hasConflicts = true;
+                reload.feedback.add(String.format(RELOAD_CONFLICT_NOT_REMOVED, savedInternship.getCompanyName(),
+                        savedInternship.getRole(), fileName));
+                continue;
+            }
+            removals.put(savedInternship, true);
+            reload.isRemovingInterviews |= savedInternship.hasInterview();
+        }
+
+        List<Internship> merged = mergeChanges(current, replacements, insertions, appended, removals, reload,
+                internships);
+        markMergedChanges(type, index, current, merged);
+        internships.setInternships(type, merged);
+
+        reload.feedback.add(0, String.format(RELOAD_SEGMENT_SUCCESS, fileName, reload.addedCount,
+                reload.updatedCount, removals.size()));
+        if (reload.duplicateCount > 0) {
+            reload.feedback.add(1, String.format(RELOAD_SKIPPED_DUPLICATES, reload.duplicateCount));
+        }
+        if (reload.hasConflicts) {
+            reload.feedback.add(String.format(RELOAD_KEPT_COPY, copyToQuarantine(file).getAbsolutePath()));
+        }
+        logger.log(Level.INFO, String.format("Reloaded %s: %d added, %d updated, %d removed, conflicts: %b",
+                fileName, reload.addedCount, reload.updatedCount, removals.size(), reload.hasConflicts));
+        return reload;
+    }
+
+    /**
+     * Keeps the internships in the list over a segment file changed outside the app that has no saved version to
+     * merge it with, such as one the app did not save or load itself. Without it, the changes in the file cannot
+     * be told apart from those in the list, so the file is reported as a conflict and copied to the quarantine
+     * directory, and the segment is marked as changed, so the next save writes the list's version over it.
+     *
+     * @param saved Segment as listed in the manifest without its internships, or null if it is not listed.
+     * @param contents Records read from the segment file.
+     * @return Conflict found.
+     */
+    private ReloadedSegment keepListVersion(File file, String type, int index, Segment saved,
+            SegmentFile.Contents contents) throws IOException {
+        logger.log(Level.WARNING, "No saved version to merge segment changed outside the app: " + file.getName());
+        Segment segment = saved == null ? new Segment(type, index, contents.getRecords().size(),
+                contents.getChecksum()) : saved;
+        // The file is only reported once, as it is copied before it is saved over
+        segment.stampFile(file);
+        savedSegments.put(segment.getFileName(), segment);
+        changedSegments.computeIfAbsent(type, changedType -> new BitSet()).set(index);
+        ReloadedSegment reload = new ReloadedSegment();
+        reload.hasConflicts = true;
+        reload.feedback.add(String.format(RELOAD_SEGMENT_NOT_SAVED, file.getName()));
+        reload.feedback.add(String.format(RELOAD_KEPT_COPY, copyToQuarantine(file).getAbsolutePath()));
+        return reload;
+    }
+
+    /**
+     * Finds the saved record each record in a segment file was read from. Records that are unchanged are
+     * matched by their checksum, and records that were changed are matched by their ID.
+     *
+     * @param base Segment as it was last saved or loaded.
+     * @param contents Records read from the segment file.
+     * @return Index of the saved record of each record in the file, or -1 if it was added to the file.
+     */
+    private static int[] matchSavedRecords(Segment base, SegmentFile.Contents contents) {
+        int[] baseIndexes = new int[contents.getRecords().size()];
+        Arrays.fill(baseIndexes, -1);
+        boolean[] isMatched = new boolean[base.savedRecords.size()];
+        Map<Long, ArrayDeque<Integer>> savedByChecksum = new HashMap<>();
+        for (int i = 0; i < isMatched.length; i++) {
+            savedByChecksum.computeIfAbsent(base.fileChecksums[i], checksum -> new ArrayDeque<>()).add(i);
+        }
+        for (int i = 0; i < baseIndexes.length; i++) {
+            ArrayDeque<Integer> saved = savedByChecksum.get(contents.getRecordChecksums().get(i));
+            if (saved != null && !saved.isEmpty()) {
+                baseIndexes[i] = saved.poll();
+                isMatched[baseIndexes[i]] = true;
+            }
+        }
+        Map<Integer, ArrayDeque<Integer>> savedById = new HashMap<>();
+        for (int i = 0; i < isMatched.length; i++) {
+            if (!isMatched[i]) {
+                savedById.computeIfAbsent(base.recordIds[i], id -> new ArrayDeque<>()).add(i);
+            }
+        }
+        for (int i = 0; i < baseIndexes.length; i++) {
+            if (baseIndexes[i] >= 0) {
+                continue;
+            }
+            ArrayDeque<Integer> saved = savedById.get(contents.getRecords().get(i).optInt("internshipId", -1));
+            if (saved != null && !saved.isEmpty()) {
+                baseIndexes[i] = saved.poll();
+            }
+        }
+        return baseIndexes;
+    }
+
+    /**
+     * Builds the internships of a type with the changes loaded from a segment file applied. Changed or added
+     * internships that would duplicate another internship of the type are left out.
+     *
+     * @return Internships of the type after the changes, in order.
+     */
+    private static List<Internship> mergeChanges(List<Internship> current, Map<Internship, Internship> replacements,
+            Map<Internship, List<Internship>> insertions, List<Internship> appended,
+            Map<Internship, Boolean> removals, ReloadedSegment reload, InternshipList internships) {
+        Set<Internship> existing = new HashSet<>();
+        for (Internship internship : current) {
+            if (!removals.containsKey(internship) && !replacements.containsKey(internship)) {
+                existing.add(internship);
+            }
+        }
+        for (Internship original : new ArrayList<>(replacements.keySet())) {
+            if (existing.add(replacements.get(original))) {
+                reload.updatedCount++;
+            } else {
+                existing.add(original);
+                replacements.remove(original);
+                reload.duplicateCount++;
+            }
+        }
+        int nextId = internships.getInternshipMap().values().stream().flatMap(List::stream)
+                .mapToInt(Internship::getInternshipId).max().orElse(-1) + 1;
+        List<Internship> merged = new ArrayList<>(current.size());
+        for (Internship internship : current) {
+            if (!removals.containsKey(internship)) {
+                merged.add(replacements.getOrDefault(internship, internship));
+            }
+            for (Internship added : insertions.getOrDefault(internship, List.of())) {
+                if (existing.add(added)) {
+                    added.setInternshipId(nextId++);
+                    merged.add(added);
+                    reload.addedCount++;
+                } else {
+                    reload.duplicateCount++;
+                }
+            }
+        }
+        for (Internship added : appended) {
+            if (existing.add(added)) {
+                added.setInternshipId(nextId++);
+                merged.add(added);
+                reload.addedCount++;
+            } else {
+                reload.duplicateCount++;
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Marks the segment that was reloaded as changed, together with the segments holding the internships that
+     * were changed, so the next save writes them and a manifest that matches them.
+     */
+    private void markMergedChanges(String type, int index, List<Internship> current, List<Internship> merged) {
+        BitSet changed = changedSegments.computeIfAbsent(type, changedType -> new BitSet());
+        changed.set(index);
+        int firstDifference = 0;
+        while (firstDifference < Math.min(current.size(), merged.size())
+                && current.get(firstDifference) == merged.get(firstDifference)) {
+            firstDifference++;
+        }
+        if (current.size() != merged.size()) {
+            // Adding or removing internships shifts every later internship of the type
+            changed.set(getSegmentIndex(firstDifference), Integer.MAX_VALUE);
+            return;
         }
+        for (int i = firstDifference; i < merged.size(); i++) {
+            if (current.get(i) != merged.get(i)) {
+                changed.set(getSegmentIndex(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the segment holding the internship at the given index within its type.
+     */
+    private int getSegmentIndex(int index) {
+        return segmentRecords == 0 ? 0 : index / segmentRecords;
+    }
+
+    private int getSegmentCount(int size) {
+        if (size == 0) {
+            return 0;
+        }
+        return segmentRecords == 0 ? 1 : (size + segmentRecords - 1) / segmentRecords;
+    }
+
+    private Segment writeSegment(String type, int index, List<Internship> internships) throws IOException {
+        Segment segment = new Segment(type, index, internships.size(), 0);
+        SegmentFile<Internship> segmentFile = new SegmentFile<>(new File(directory, segment.getFileName()),
+                isCompressed, cipher);
+        long[] recordChecksums = new long[internships.size()];
+        segment.checksum = segmentFile.write(internships, Internship::writeJson, recordChecksums);
+        segment.stampFile(new File(directory, segment.getFileName()));
+        segment.setSavedRecords(new ArrayList<>(internships), recordChecksums, recordChecksums,
+                internships.stream().mapToInt(Internship::getInternshipId).toArray());
+        return segment;
+    }
+
+    private void writeManifest(List<Segment> segments) throws IOException {
+        Map<String, Object> orderedMap = new LinkedHashMap<>();
+        orderedMap.put("segmentRecords", segmentRecords);
+        JSONArray segmentsJson = new JSONArray();
+        for (Segment segment : segments) {
+            segmentsJson.put(segment.toJson());
+        }
+        orderedMap.put("segments", segmentsJson);
+
+        Path temporaryPath = Paths.get(manifestFile.getPath() + ".tmp");
+        try (Writer writer = DataFileStreams.newWriter(temporaryPath.toFile())) {
+            writer.write(new JSONObject(orderedMap).toString(isCompactJson ? 0 : 4));
+        }
+        Files.move(temporaryPath, manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the segments listed in the manifest without loading them, such as to check them.
+     *
+     * @return Segments listed in the manifest, in load order.
+     * @throws JSONException If the manifest is corrupted.
+     */
+    List<Segment> readManifestSegments() throws IOException {
+        return parseManifest(new JSONObject(Files.readString(manifestFile.toPath())));
+    }
+
+    private static List<Segment> parseManifest(JSONObject manifest) {
+        List<Segment> segments = new ArrayList<>();
+        JSONArray segmentsJson = manifest.getJSONArray("segments");
+        for (int i = 0; i < segmentsJson.length(); i++) {
+            segments.add(Segment.fromJson(segmentsJson.getJSONObject(i)));
+        }
+        return segments;
+    }
+
+    boolean hasManifest() {
+        return manifestFile.exists();
+    }
+
+    boolean hasLegacyFile() {
+        return legacyFile.exists() && legacyFile.length() > 0;
+    }
+
+    File getSegmentFile(Segment segment) {
+        return new File(directory, segment.getFileName());
+    }
+
+    /**
+     * Lists the internship types in the order their segments are saved and loaded, which is the order of the
+     * types in an {@link InternshipList}.
+     *
+     * @return Internship types in load order.
+     */
+    static List<String> listTypesInLoadOrder() {
+        return new ArrayList<>(new InternshipList(null).getInternshipMap().keySet());
+    }
+
+    /**
+     * Orders the segment files found on disk the same way the internships are saved.
+     *
+     * @param segmentFiles Segment files found on disk.
+     * @return Segments without an expected checksum, in load order.
+     */
+    static List<Segment> findSegments(List<File> segmentFiles) {
+        List<String> types = listTypesInLoadOrder();
+        List<Segment> segments = new ArrayList<>();
+        for (File segmentFile : segmentFiles) {
+            String name = segmentFile.getName();
+            String type = name.substring(0, name.indexOf('-'));
+            int index = Integer.parseInt(name.substring(name.indexOf('-') + 1, name.indexOf('.')));
+            segments.add(new Segment(type, index, -1, -1));
+        }
+        segments.sort((first, second) -> first.type.equals(second.type)
+                ? Integer.compare(first.index, second.index)
+                : Integer.compare(types.indexOf(first.type), types.indexOf(second.type)));
+        return segments;
+    }
+
+    /**
+     * Reads, parses and adds the internships of all segments to the list through a {@link LoadPipeline}: the
+     * segments are read one after another, their records are parsed on one thread per processor, and the parsed
+     * internships are added to the list in order. Duplicates are looked for across all segments at once, instead of
+     * searching the list for each internship, which takes far too long on large data.
+     *
+     * @param internships List to add the internships to.
+     * @param loadedSegments Segments to be read, in load order.
+     */
+    private void loadSegments(InternshipList internships, List<LoadedSegment> loadedSegments)
+            throws InterruptedException {
+        Map<String, Set<Internship>> existing = new HashMap<>();
+        internships.getInternshipMap().forEach((type, internshipsOfType) ->
+                existing.put(type, new HashSet<>(internshipsOfType)));
+        LoadPipeline<ParsedRecord> pipeline = new LoadPipeline<>(loadThreads, InternshipStorageHandler::parseRecord);
+        pipeline.run(sink -> {
+            for (int source = 0; source < loadedSegments.size(); source++) {
+                readSegment(loadedSegments.get(source), source, sink);
+            }
+        }, (source, lineNumber, record) -> addRecordToList(internships, existing, loadedSegments.get(source),
+                lineNumber, record));
+
+        for (LoadedSegment loadedSegment : loadedSegments) {
+            Segment segment = loadedSegment.segment;
+            if (!loadedSegment.isRead) {
+                loadedSegment.errors.add(String.format(UNABLE_TO_READ_FILE, loadedSegment.file.getAbsolutePath()));
+                continue;
+            }
+            // A segment found without a manifest has nothing to be checked against
+            loadedSegment.isMatchingManifest = segment.records < 0 || (segment.checksum == loadedSegment.checksum
+                    && segment.records == loadedSegment.intactRecords);
+            segment.checksum = loadedSegment.checksum;
+            segment.records = loadedSegment.intactRecords;
+        }
+    }
+
+    /**
+     * Passes the lines of one segment to the pipeline. This runs on the splitting thread of the pipeline, so a
+     * segment that cannot be read is only marked as such, to be reported once the pipeline has finished.
+     */
+    private void readSegment(LoadedSegment loadedSegment, int source, LoadPipeline.Sink sink)
+            throws InterruptedException {
+        try {
+            loadedSegment.checksum = new SegmentFile<Internship>(loadedSegment.file, false, cipher)
+                    .readLines(source, sink);
+            loadedSegment.isRead = true;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading segment " + loadedSegment.file.getName());
+        }
+    }
 
-        JSONArray jsonArray;
+    /**
+     * Parses one line of a segment into an internship. This runs on the workers of the pipeline, so it only
+     * builds the internship and does not add it to the list.
+     */
+    private static ParsedRecord parseRecord(String line) {
+        JSONObject json;
+        try {
+            json = SegmentFile.parseLine(line);
+        } catch (IllegalArgumentException | JSONException e) {
+            return new ParsedRecord(null, 0, "record does not match its checksum", true);
+        }
         try {
-            jsonArray = new JSONArray(jsonData.toString());
+            Internship internship = createInternship(json);
+            if (internship == null) {
+                throw new JSONException("Unknown internship type");
+            }
+            return new ParsedRecord(internship, SegmentFile.readRecordChecksum(line), null, false);
+        } catch (JSONException e) {
+            return new ParsedRecord(null, 0, e.getMessage(), false);
+        }
+    }
+
+    /**
+     * Adds a parsed internship to the list, unless it duplicates one added before, or keeps the error it was
+     * parsed with. This runs on the loading thread, in the order the records are in the segments.
+     */
+    private static void addRecordToList(InternshipList internships, Map<String, Set<Internship>> existing,
+            LoadedSegment loadedSegment, int lineNumber, ParsedRecord record) {
+        if (!record.isDamaged) {
+            loadedSegment.intactRecords++;
+        }
+        Internship internship = record.internship;
+        if (internship == null) {
+            loadedSegment.addError(lineNumber, record.error);
+            return;
+        }
+        loadedSegment.internships.add(internship);
+        loadedSegment.lineNumbers.add(lineNumber);
+        loadedSegment.recordChecksums.add(record.checksum);
+        loadedSegment.recordIds.add(internship.getInternshipId());
+        if (existing.get(internship.getType()).add(internship)) {
+            internships.restoreInternship(internship);
+        } else {
+            loadedSegment.addError(lineNumber, DUPLICATE_INTERNSHIP);
+        }
+    }
+
+    /**
+     * Keeps a copy of a corrupted segment in the quarantine directory, and marks the segment and every
+     * later segment of its type as changed, as the internships that could not be loaded shift them.
+     *
+     * @param loadedSegment Segment that is corrupted.
+     * @return Feedback describing what was quarantined and which records were lost.
+     */
+    private List<String> quarantine(LoadedSegment loadedSegment) {
+        logger.log(Level.WARNING, "Quarantining corrupted segment " + loadedSegment.file.getName());
+        List<String> feedback = new ArrayList<>();
+        File quarantineFile = copyToQuarantine(loadedSegment.file);
+        feedback.add(String.format(CORRUPTED_SEGMENT, quarantineFile.getAbsolutePath()));
+        feedback.addAll(loadedSegment.errors);
+
+        BitSet changed = changedSegments.computeIfAbsent(loadedSegment.segment.type, type -> new BitSet());
+        changed.set(loadedSegment.segment.index, Integer.MAX_VALUE);
+        return feedback;
+    }
+
+    /**
+     * Copies a segment file to the quarantine directory, so that it is kept when the segment is saved again.
+     *
+     * @param file Segment file to be copied.
+     * @return Copy of the file, or the file itself if it could not be copied.
+     */
+    private File copyToQuarantine(File file) {
+        File quarantineFile = new File(quarantineDirectory, file.getName() + "." + System.currentTimeMillis());
+        try {
+            Files.createDirectories(quarantineFile.getParentFile().toPath());
+            if (file.exists()) {
+                Files.copy(file.toPath(), quarantineFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Unable to quarantine segment: " + e.getMessage());
+            return file;
+        }
+        return quarantineFile;
+    }
+
+    /**
+     * Deletes segment files that are not listed in the manifest any more, temporary files left by an
+     * interrupted save, and the data file of an older version.
+     */
+    private void deleteUnusedFiles() throws IOException {
+        File[] files = directory.listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            boolean isUnusedSegment = SEGMENT_FILE_NAME.matcher(file.getName()).matches()
+                    && !savedSegments.containsKey(file.getName());
+            if (isUnusedSegment || file.getName().endsWith(".tmp")) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+        Files.deleteIfExists(legacyFile.toPath());
+    }
+
+    /**
+     * Lists the segment files in the directory, sorted by name.
+     *
+     * @return Segment files on disk.
+     */
+    List<File> listSegmentFiles() {
+        File[] files = directory.listFiles((dir, name) -> SEGMENT_FILE_NAME.matcher(name).matches());
+        List<File> segmentFiles = new ArrayList<>(Arrays.asList(files == null ? new File[0] : files));
+        segmentFiles.sort(null);
+        return segmentFiles;
+    }
+
+    /**
+     * Loads the internships from the single data file saved by an older version.
+     * All segments are saved the next time the internships are saved, which replaces the file.
+     * They are only marked changed once the file has been read, so nothing saves a partial list.
+     *
+     * @param internships List of internships to be loaded.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    private CommandResult loadLegacyFile(InternshipList internships) {
+        logger.log(Level.INFO, "Loading internships from the data file of an older version ...");
+        CommandResult result = readLegacyFile(internships);
+        markAllChanged();
+        return result;
+    }
+
+    private CommandResult readLegacyFile(InternshipList internships) {
+        CommandResult result;
+        List<String> feedback = new ArrayList<>();
+        boolean hasCorruption = false;
+        int entryIndex = 0;
+        try (JsonArrayReader reader = new JsonArrayReader(DataFileStreams.newReader(legacyFile, cipher))) {
+            while (reader.hasNext()) {
+                entryIndex++;
+                Object entry = reader.next();
+                if (!(entry instanceof JSONObject)) {
+                    logger.log(Level.WARNING, "Skipping entry that is not a JSON object");
+                    hasCorruption = true;
+                    feedback.add("Error at JSON entry index: " + entryIndex);
+                    feedback.add("Faulty entry: " + entry);
+                    continue;
+                }
+                JSONObject internshipJson = (JSONObject) entry;
+                try {
+                    addInternshipToList(internships, internshipJson);
+                } catch (JSONException e) {
+                    logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
+                    hasCorruption = true;
+                    feedback.add("Error at JSON entry index: " + entryIndex);
+                    feedback.add("Faulty entry: " + internshipJson.toString(4));
+                }
+            }
         } catch (JSONException e) {
             logger.log(Level.WARNING, "File is corrupted or not valid JSON: " + e.getMessage());
-            List<String> feedback = new ArrayList<>();
+            feedback.clear();
             feedback.add(CORRUPTED_FILE);
             feedback.add(UNABLE_TO_PARSE_JSON);
-            feedback.add("Please fix or delete the file at: " + file.getAbsolutePath());
+            feedback.add("Please fix or delete the file at: " + legacyFile.getAbsolutePath());
             result = new CommandResult(feedback);
             result.setSuccessful(false);
             return result;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading file");
+            return errorReadingFile(legacyFile);
         }
-        if (jsonArray.isEmpty()) {
-            logger.log(Level.WARNING, "Error in formatting such that JSONArray could not be created successfully");
-            result = errorReadingFile();
+        if (entryIndex == 0) {
+            logger.log(Level.WARNING, "Data file does not contain any internship entries");
+            result = errorReadingFile(legacyFile);
             return result;
         }
 
-        List<String> feedback = new ArrayList<>();
-        boolean hasCorruption = false;
-        for (int i = 0; i < jsonArray.length(); i++) {
-            JSONObject internshipJson = jsonArray.getJSONObject(i);
-            try {
-                addInternshipToList(internships, internshipJson);
-            } catch (JSONException e) {
-                logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
-                hasCorruption = true;
-                feedback.add("Error at JSON entry index: " + (i + 1));
-                feedback.add("Faulty entry: " + internshipJson.toString(4));
-            }
-        }
-
         if (hasCorruption) {
             feedback.add(0, CORRUPTED_FILE);
-            feedback.add("Please fix or delete the file at: " + file.getAbsolutePath());
+            feedback.add("Please fix or delete the file at: " + legacyFile.getAbsolutePath());
             result = new CommandResult(feedback);
             result.setSuccessful(false);
             return result;
@@ -177,9 +1192,10 @@ public class InternshipStorageHandler implements Storage<InternshipList> {
     /**
      * Returns a CommandResult object indicating that there was an error reading the file.
      *
+     * @param file File that could not be read.
      * @return CommandResult object indicating the error.
      */
-    private static CommandResult errorReadingFile() {
+    private static CommandResult errorReadingFile(File file) {
         CommandResult result;
         List<String> feedback = new ArrayList<>();
         feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
@@ -195,24 +1211,283 @@ public class InternshipStorageHandler implements Storage<InternshipList> {
      * @param internshipJson JSON object representing the internship.
      */
     private static void addInternshipToList(InternshipList internships, JSONObject internshipJson) {
+        Internship internship = createInternship(internshipJson);
+        if (internship == null) {
+            return;
+        }
         try {
-            switch (internshipJson.getString("type")) {
-            case "general":
-                internships.addInternship(GeneralInternship.fromJson(internshipJson));
-                break;
-            case "software":
-                internships.addInternship(SoftwareInternship.fromJson(internshipJson));
-                break;
-            case "hardware":
-                internships.addInternship(HardwareInternship.fromJson(internshipJson));
-                break;
-            default:
-                break;
-            }
+            internships.addInternship(internship);
         } catch (DuplicateEntryException e) {
             throw new RuntimeException(e.getMessage() + "\n" + "Please check the file for duplicate entries");
         }
     }
-}
 
+    /**
+     * Creates an internship of the type recorded in the JSON object.
+     *
+     * @param internshipJson JSON object representing the internship.
+     * @return Internship represented by the JSON object, or null if the type is unknown.
+     */
+    static Internship createInternship(JSONObject internshipJson) {
+        switch (internshipJson.getString("type")) {
+        case "general":
+            return GeneralInternship.fromJson(internshipJson);
+        case "software":
+            return SoftwareInternship.fromJson(internshipJson);
+        case "hardware":
+            return HardwareInternship.fromJson(internshipJson);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Starts writing the internships as a new set of segments, sized and ordered as a full save writes them,
+     * without holding them in memory, such as when the data checker repairs the segments.
+     *
+     * @return Rewrite taking the internships in load order.
+     */
+    SegmentRewrite rewriteSegments() {
+        createFile();
+        return new SegmentRewrite();
+    }
+
+    /**
+     * Writes internships to a new set of segments one at a time. Each segment is written to a temporary file, and
+     * the segments on disk are only replaced, followed by the manifest, once every internship has been added, so
+     * the segments still being read are not overwritten. Closing a rewrite that was not committed discards it.
+     */
+    class SegmentRewrite implements Closeable {
+        private final Map<String, List<SegmentFile<Internship>.Appender>> appenders = new HashMap<>();
+        private boolean isCommitted = false;
+
+        /**
+         * Adds an internship after those of its type added before.
+         *
+         * @param internship Internship to be saved.
+         */
+        void add(Internship internship) throws IOException {
+            String type = internship.getType();
+            List<SegmentFile<Internship>.Appender> appendersOfType = appenders.computeIfAbsent(type,
+                    key -> new ArrayList<>());
+            SegmentFile<Internship>.Appender appender = appendersOfType.isEmpty() ? null
+                    : appendersOfType.get(appendersOfType.size() - 1);
+            if (appender == null || segmentRecords > 0 && appender.getRecords() == segmentRecords) {
+                if (appender != null) {
+                    appender.close();
+                }
+                File file = new File(directory, Segment.getFileName(type, appendersOfType.size()));
+                appender = new SegmentFile<Internship>(file, isCompressed, cipher).append(Internship::writeJson);
+                appendersOfType.add(appender);
+            }
+            appender.add(internship);
+        }
+
+        /**
+         * Replaces the segments on disk with the new ones and writes the manifest, deleting segments that are
+         * no longer listed. The segments are read afresh by the next load.
+         */
+        void commit() throws IOException {
+            List<Segment> segments = new ArrayList<>();
+            for (String type : listTypesInLoadOrder()) {
+                List<SegmentFile<Internship>.Appender> appendersOfType = appenders.getOrDefault(type, List.of());
+                for (int index = 0; index < appendersOfType.size(); index++) {
+                    SegmentFile<Internship>.Appender appender = appendersOfType.get(index);
+                    int records = appender.getRecords();
+                    segments.add(new Segment(type, index, records, appender.commit()));
+                }
+            }
+            isCommitted = true;
+            writeManifest(segments);
+            synchronized (InternshipStorageHandler.this) {
+                savedSegments.clear();
+                for (Segment segment : segments) {
+                    savedSegments.put(segment.getFileName(), segment);
+                }
+                deleteUnusedFiles();
+                forgetSavedSegments();
+            }
+            logger.log(Level.INFO, String.format("Rewrote %d internship segments", segments.size()));
+        }
 
+        @Override
+        public void close() throws IOException {
+            if (isCommitted) {
+                return;
+            }
+            for (List<SegmentFile<Internship>.Appender> appendersOfType : appenders.values()) {
+                for (SegmentFile<Internship>.Appender appender : appendersOfType) {
+                    appender.discard();
+                }
+            }
+        }
+    }
+
+    /**
+     * Represents one segment listed in the manifest.
+     */
+    static class Segment {
+        private final String type;
+        private final int index;
+        private int records;
+        private long checksum;
+        /* Internships the segment was last saved or loaded with, with the checksum and ID of each in the file,
+           and the checksum of each as it was in the list then */
+        private List<Internship> savedRecords = new ArrayList<>();
+        private long[] fileChecksums = new long[0];
+        private long[] recordChecksums = new long[0];
+        private int[] recordIds = new int[0];
+        private boolean hasSavedRecords = false;
+        /* Size and modification time of the file when it was last saved or loaded */
+        private long fileLength = -1;
+        private long fileModified = -1;
+
+        private Segment(String type, int index, int records, long checksum) {
+            this.type = type;
+            this.index = index;
+            this.records = records;
+            this.checksum = checksum;
+        }
+
+        private void setSavedRecords(List<Internship> savedRecords, long[] fileChecksums, long[] recordChecksums,
+                int[] recordIds) {
+            this.savedRecords = savedRecords;
+            this.fileChecksums = fileChecksums;
+            this.recordChecksums = recordChecksums;
+            this.recordIds = recordIds;
+            hasSavedRecords = true;
+        }
+
+        private void stampFile(File file) {
+            fileLength = file.length();
+            fileModified = file.lastModified();
+        }
+
+        private static String getFileName(String type, int index) {
+            return type + "-" + index + ".txt";
+        }
+
+        String getFileName() {
+            return getFileName(type, index);
+        }
+
+        /**
+         * Returns the number of intact records the segment holds, or -1 if it was found without a manifest.
+         *
+         * @return Number of records expected in the segment.
+         */
+        int getRecords() {
+            return records;
+        }
+
+        /**
+         * Returns the checksum the segment was saved with, or -1 if it was found without a manifest.
+         *
+         * @return Checksum expected of the segment.
+         */
+        long getChecksum() {
+            return checksum;
+        }
+
+        private JSONObject toJson() {
+            Map<String, Object> orderedMap = new LinkedHashMap<>();
+            orderedMap.put("file", getFileName());
+            orderedMap.put("type", type);
+            orderedMap.put("index", index);
+            orderedMap.put("records", records);
+            orderedMap.put("checksum", checksum);
+            return new JSONObject(orderedMap);
+        }
+
+        private static Segment fromJson(JSONObject json) {
+            return new Segment(json.getString("type"), json.getInt("index"), json.getInt("records"),
+                    json.getLong("checksum"));
+        }
+    }
+
+    /**
+     * Represents the changes loaded from a segment file that was changed outside the app.
+     */
+    public static class ReloadedSegment {
+        private final List<String> feedback = new ArrayList<>();
+        private int addedCount = 0;
+        private int updatedCount = 0;
+        private int duplicateCount = 0;
+        private boolean hasConflicts = false;
+        private boolean isRemovingInterviews = false;
+
+        /**
+         * Returns the changes loaded, followed by every conflict found.
+         *
+         * @return Feedback to show the user.
+         */
+        public List<String> getFeedback() {
+            return feedback;
+        }
+
+        public boolean hasConflicts() {
+            return hasConflicts;
+        }
+
+        /**
+         * Returns true if an internship with an interview was removed, so the interview file has to be saved.
+         *
+         * @return True if any interview was removed.
+         */
+        public boolean isRemovingInterviews() {
+            return isRemovingInterviews;
+        }
+
+        private void addConflict(int lineNumber, String fileName, String reason) {
+            hasConflicts = true;
+            feedback.add(String.format(RELOAD_CONFLICT, lineNumber, fileName, reason));
+        }
+    }
+
+    /**
+     * Represents one line of a segment parsed by the pipeline: the internship it holds, or the error found in it.
+     */
+    private static class ParsedRecord {
+        private final Internship internship;
+        private final long checksum;
+        private final String error;
+        private final boolean isDamaged;
+
+        private ParsedRecord(Internship internship, long checksum, String error, boolean isDamaged) {
+            this.internship = internship;
+            this.checksum = checksum;
+            this.error = error;
+            this.isDamaged = isDamaged;
+        }
+    }
+
+    /**
+     * Represents the internships read from one segment, and whether it matches the manifest.
+     */
+    private static class LoadedSegment {
+        private final Segment segment;
+        private final File file;
+        private final List<Internship> internships = new ArrayList<>();
+        private final List<Integer> lineNumbers = new ArrayList<>();
+        private final List<Long> recordChecksums = new ArrayList<>();
+        private final List<Integer> recordIds = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private boolean isRead = false;
+        private long checksum;
+        private int intactRecords = 0;
+        private boolean isMatchingManifest = false;
+
+        private LoadedSegment(Segment segment, File file) {
+            this.segment = segment;
+            this.file = file;
+        }
+
+        private void addError(int lineNumber, String message) {
+            errors.add(String.format("Error at line %d of %s: %s", lineNumber, file.getName(), message));
+        }
+
+        private boolean isCorrupted() {
+            return !isMatchingManifest || !errors.isEmpty();
+        }
+    }
+}
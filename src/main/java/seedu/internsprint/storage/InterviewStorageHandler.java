@@ -6,17 +6,15 @@ import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.internship.interview.Interview;
 import seedu.internsprint.util.InternSprintLogger;
 
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.BufferedReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,12 +30,18 @@ import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_FIRST_TI
 
 public class InterviewStorageHandler implements Storage<InternshipList> {
 
-    public static final String FILE_PATH = Paths.get("data", "interviews.txt").toString();
-    private static File file;
+    public static final String FILE_NAME = "interviews.txt";
     private static final Logger logger = InternSprintLogger.getLogger();
-
-    public InterviewStorageHandler() {
-        file = new File(FILE_PATH);
+    private final File file;
+    private final boolean isCompactJson;
+    private final boolean isCompressed;
+    private final DataFileCipher cipher;
+
+    public InterviewStorageHandler(StorageConfig config) {
+        file = config.resolve(FILE_NAME);
+        isCompactJson = config.isCompactJson();
+        isCompressed = config.isCompressed();
+        cipher = config.getCipher();
     }
 
     /**
@@ -75,18 +79,20 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
     @Override
     public void save(InternshipList internships) throws IOException {
         logger.log(Level.INFO, "Saving Interviews to file ...");
-        JSONArray jsonArray = new JSONArray();
-        internships.getInterviewList().forEach(interview -> jsonArray.put(interview.toJson()));
-
         if (!file.exists()) {
             createFile();
         }
         assert file.exists() : "File should exist at this point";
 
-        try (FileWriter fileWriter = new FileWriter(file)) {
-            fileWriter.write(jsonArray.toString(4));
+        List<Interview> interviews = internships.getInterviewList();
+        try (JsonWriter writer = new JsonWriter(DataFileStreams.newWriter(file, isCompressed, cipher), isCompactJson)) {
+            writer.beginArray();
+            for (Interview interview : interviews) {
+                interview.writeJson(writer);
+            }
+            writer.endArray();
             logger.log(Level.INFO, String.format("Successfully saved %s Interviews to file %s",
-                    jsonArray.length(), file.getAbsolutePath()));
+                    interviews.size(), file.getAbsolutePath()));
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error writing to file");
             throw new IOException(String.format(UNABLE_TO_CREATE_FILE,
@@ -103,6 +109,18 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
      */
     @Override
     public CommandResult load(InternshipList internships) {
+        return load(internships, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Loads the interviews from the file. The interviews are parsed straight away, but only added to the
+     * internships they belong to once {@code internshipLoad} has completed, as they refer to them by ID.
+     *
+     * @param internships List of internships where interviews need to be loaded.
+     * @param internshipLoad Completes once the internships have been added to the list.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    public CommandResult load(InternshipList internships, Future<?> internshipLoad) {
         logger.log(Level.INFO, "Beginning process to load interviews from file ...");
         CommandResult result;
         if (!file.exists() || file.length() == 0) {
@@ -111,52 +129,63 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
             result.setSuccessful(true);
             return result;
         }
-        StringBuilder jsonData = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonData.append(line);
+        List<String> feedback = new ArrayList<>();
+        List<Interview> interviews = new ArrayList<>();
+        List<Integer> entryIndexes = new ArrayList<>();
+        boolean hasCorruption = false;
+        int entryIndex = 0;
+        try (JsonArrayReader reader = new JsonArrayReader(DataFileStreams.newReader(file, cipher))) {
+            while (reader.hasNext()) {
+                entryIndex++;
+                Object entry = reader.next();
+                if (!(entry instanceof JSONObject)) {
+                    logger.log(Level.WARNING, "Skipping entry that is not a JSON object");
+                    hasCorruption = true;
+                    feedback.add("Error at JSON entry index: " + entryIndex);
+                    feedback.add("Faulty entry: " + entry);
+                    continue;
+                }
+                JSONObject interviewJson = (JSONObject) entry;
+                try {
+                    interviews.add(Interview.fromJson(interviewJson));
+                    entryIndexes.add(entryIndex);
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
+                    hasCorruption = true;
+                    feedback.add("Error at JSON entry index: " + entryIndex);
+                    feedback.add("Faulty entry: " + interviewJson.toString(4));
+                }
             }
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error reading file");
-            return  errorReadingFile();
-        }
-
-        JSONArray jsonArray;
-        try {
-            jsonArray = new JSONArray(jsonData.toString());
         } catch (JSONException e) {
             logger.log(Level.WARNING, "File is corrupted or not valid JSON: " + e.getMessage());
-            List<String> feedback = new ArrayList<>();
+            feedback.clear();
             feedback.add(CORRUPTED_INTERVIEW_FILE);
             feedback.add(UNABLE_TO_PARSE_JSON);
             feedback.add("Please fix or delete the file at: " + file.getAbsolutePath());
             result = new CommandResult(feedback);
             result.setSuccessful(false);
             return result;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading file");
+            return errorReadingFile();
         }
-        if (jsonArray.isEmpty() && jsonData.length() != 2) {
-            logger.log(Level.WARNING, "Error in formatting such that JSONArray could not be" +
-                    " created successfully");
-            result = errorReadingFile();
-            return result;
-        }
-        assert !(jsonArray.isEmpty() && jsonData.length() != 2) :
-                "Array of JSON objects read from file should not be empty at this point";
-        logger.log(Level.INFO, "Successfully extracted interviews as JSON objects from file");
+        logger.log(Level.INFO, String.format("Streamed %d interviews from file", entryIndex));
 
-        List<String> feedback = new ArrayList<>();
-        boolean hasCorruption = false;
-        for (int i = 0; i < jsonArray.length(); i++) {
-            JSONObject interviewJson = jsonArray.getJSONObject(i);
-            try {
-                addInterviewToList(internships, interviewJson);
-            } catch (RuntimeException e) {
-                logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
-                hasCorruption = true;
-                feedback.add("Error at JSON entry index: " + (i + 1));
-                feedback.add("Faulty entry: " + interviewJson.toString(4));
-            }
+        try {
+            internshipLoad.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return errorReadingFile();
+        } catch (ExecutionException e) {
+            logger.log(Level.SEVERE, "Internships could not be loaded before their interviews");
+            return errorReadingFile();
+        }
+        for (int i : internships.addInterviews(interviews)) {
+            logger.log(Level.WARNING, "Skipping interview of unknown internship "
+                    + interviews.get(i).getInternshipId());
+            hasCorruption = true;
+            feedback.add("Error at JSON entry index: " + entryIndexes.get(i));
+            feedback.add("Faulty entry: " + new JSONObject(interviews.get(i).toJson().toString()).toString(4));
         }
 
         if (hasCorruption) {
@@ -173,23 +202,12 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
         return result;
     }
 
-    /**
-     * Adds the interview to the list of interviews.
-     *
-     * @param internships List of internships.
-     * @param interviewJson JSON object representing the interview.
-     */
-    private static void addInterviewToList(InternshipList internships, JSONObject interviewJson) {
-        Interview interview = Interview.fromJson(interviewJson);
-        internships.addInterview(interview);
-    }
-
     /**
      * Returns a CommandResult object indicating that there was an error reading the file.
      *
      * @return CommandResult object indicating the error.
      */
-    private static CommandResult errorReadingFile() {
+    private CommandResult errorReadingFile() {
         CommandResult result;
         List<String> feedback = new ArrayList<>();
         feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
@@ -0,0 +1,233 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Represents a single typed mutation of the internship list recorded in the journal.
+ * <p>
+ * Internships are addressed by their type and their index within that type, which is the same
+ * addressing used by the commands, so replaying the entries in order rebuilds the same list.
+ * An entry may also hold the record as it was before an edit or deletion, for the {@link ChangeFeed}.
+ * That record is not written to the journal, as replaying the entry does not need it.
+ */
+public class JournalEntry {
+    public static final String ADD = "add";
+    public static final String EDIT = "edit";
+    public static final String DELETE = "delete";
+    public static final String ADD_INTERVIEW = "add-interview";
+
+    private final String operation;
+    private final String type;
+    private final int index;
+    private final JSONObject record;
+    private final JSONObject previousRecord;
+
+    private JournalEntry(String operation, String type, int index, JSONObject record) {
+        this(operation, type, index, record, null);
+    }
+
+    private JournalEntry(String operation, String type, int index, JSONObject record, JSONObject previousRecord) {
+        this.operation = operation;
+        this.type = type;
+        this.index = index;
+        this.record = record;
+        this.previousRecord = previousRecord;
+    }
+
+    /**
+     * Creates an entry recording that an internship was added.
+     *
+     * @param internship Internship that was added.
+     * @return Journal entry for the addition.
+     */
+    public static JournalEntry forAdd(Internship internship) {
+        return new JournalEntry(ADD, internship.getType(), -1, internship.toJson());
+    }
+
+    /**
+     * Creates an entry recording the new state of an edited internship.
+     *
+     * @param type Type of the edited internship.
+     * @param index Index of the edited internship within its type.
+     * @param internship Internship after the edit.
+     * @return Journal entry for the edit.
+     */
+    public static JournalEntry forEdit(String type, int index, Internship internship) {
+        return new JournalEntry(EDIT, type, index, internship.toJson());
+    }
+
+    /**
+     * Creates an entry recording the new state of an edited internship, together with its state before the edit.
+     *
+     * @param type Type of the edited internship.
+     * @param index Index of the edited internship within its type.
+     * @param internship Internship after the edit.
+     * @param previous Record of the internship taken before the edit, with its ID and interview marker.
+     * @return Journal entry for the edit.
+     */
+    public static JournalEntry forEdit(String type, int index, Internship internship, JSONObject previous) {
+        return new JournalEntry(EDIT, type, index, internship.toJson(), previous);
+    }
+
+    /**
+     * Creates an entry recording that an internship was deleted.
+     *
+     * @param type Type of the deleted internship.
+     * @param index Index of the deleted internship within its type.
+     * @return Journal entry for the deletion.
+     */
+    public static JournalEntry forDelete(String type, int index) {
+        return new JournalEntry(DELETE, type, index, null);
+    }
+
+    /**
+     * Creates an entry recording that an internship was deleted, together with the deleted internship.
+     *
+     * @param type Type of the deleted internship.
+     * @param index Index of the deleted internship within its type.
+     * @param deleted Internship that was deleted.
+     * @return Journal entry for the deletion.
+     */
+    public static JournalEntry forDelete(String type, int index, Internship deleted) {
+        return new JournalEntry(DELETE, type, index, null, deleted.toJson());
+    }
+
+    /**
+     * Creates an entry recording that an interview round was added to an internship.
+     *
+     * @param type Type of the internship.
+     * @param index Index of the internship within its type.
+     * @param interview Interview round that was added.
+     * @return Journal entry for the new interview round.
+     */
+    public static JournalEntry forAddInterview(String type, int index, Interview interview) {
+        // Written as text and parsed again, so the record holds its dates and times as strings, as when it is
+        // read from the journal file, and can be applied by Interview.fromJson
+        return new JournalEntry(ADD_INTERVIEW, type, index, new JSONObject(interview.toJson().toString()));
+    }
+
+    /**
+     * Applies the mutation recorded by this entry to the internship list.
+     *
+     * @param internships List of internships to apply the mutation to.
+     * @throws DuplicateEntryException If the mutation adds an entry that is already present.
+     */
+    public void applyTo(InternshipList internships) throws DuplicateEntryException {
+        ArrayList<Internship> internshipsOfType = internships.getInternshipMap().get(type);
+        if (internshipsOfType == null) {
+            throw new IllegalArgumentException("Unknown internship type: " + type);
+        }
+        switch (operation) {
+        case ADD:
+            internships.addInternship(createRecordedInternship());
+            break;
+        case EDIT:
+            Internship original = internshipsOfType.get(index);
+            Internship edited = createRecordedInternship();
+            edited.setInternshipId(original.getInternshipId());
+            edited.setInterview(original.getInterview());
+            internshipsOfType.set(index, edited);
+            break;
+        case DELETE:
+            internships.deleteInternship(type, index);
+            break;
+        case ADD_INTERVIEW:
+            Internship internship = internshipsOfType.get(index);
+            Interview interview = Interview.fromJson(record);
+            interview.setInternshipId(internship.getInternshipId());
+            internship.addInterview(interview);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown journal operation: " + operation);
+        }
+        internships.invalidateIndexes();
+    }
+
+    /**
+     * Creates the internship recorded by this entry.
+     *
+     * @return Internship recorded by this entry.
+     */
+    private Internship createRecordedInternship() {
+        Internship internship = InternshipStorageHandler.createInternship(record);
+        if (internship == null) {
+            throw new IllegalArgumentException("Unknown internship type in journal record: " + type);
+        }
+        return internship;
+    }
+
+    /**
+     * Converts the journal entry to a JSON object.
+     *
+     * @return JSON object representing the journal entry.
+     */
+    public JSONObject toJson() {
+        Map<String, Object> orderedMap = new LinkedHashMap<>();
+        orderedMap.put("operation", operation);
+        orderedMap.put("type", type);
+        orderedMap.put("index", index);
+        orderedMap.put("record", record);
+        return new JSONObject(orderedMap);
+    }
+
+    /**
+     * Returns a journal entry from a JSON object.
+     *
+     * @param json JSON object representing the journal entry.
+     * @return Journal entry represented by the JSON object.
+     */
+    public static JournalEntry fromJson(JSONObject json) {
+        return new JournalEntry(
+                json.getString("operation"),
+                json.getString("type"),
+                json.getInt("index"),
+                json.optJSONObject("record")
+        );
+    }
+
+    /**
+     * Returns true if replaying this entry changes the saved internship file.
+     *
+     * @return True if the entry adds, edits or deletes an internship.
+     */
+    public boolean isChangingInternships() {
+        return !operation.equals(ADD_INTERVIEW);
+    }
+
+    /**
+     * Returns true if replaying this entry changes the saved interview file.
+     *
+     * @return True if the entry adds an interview round or deletes an internship with its interviews.
+     */
+    public boolean isChangingInterviews() {
+        return operation.equals(ADD_INTERVIEW) || operation.equals(DELETE);
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public JSONObject getRecord() {
+        return record;
+    }
+
+    public JSONObject getPreviousRecord() {
+        return previousRecord;
+    }
+}
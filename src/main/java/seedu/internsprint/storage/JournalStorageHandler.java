@@ -0,0 +1,400 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CORRUPTED_JOURNAL_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.ENCRYPTED_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.FILE_ALREADY_EXISTS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_DIRECTORY;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_SUCCESS;
+
+/**
+ * Handles the write-ahead journal of internship mutations.
+ * <p>
+ * Every command that changes the internship list appends one {@link JournalEntry} instead of rewriting
+ * the internship and interview files. Once enough entries have accumulated, the journal is compacted by
+ * saving a full snapshot of both files and starting a new, empty journal.
+ * <p>
+ * The first line of the journal stamps the checksums of the snapshot files it applies to, so a journal
+ * whose entries were already folded into the snapshot (for example, after a crash during compaction)
+ * is discarded instead of being replayed twice. An entry cut short by a crash while it was appended can only be
+ * the last line, so it is dropped and the entries before it are replayed, while damage anywhere else stops loading.
+ * <p>
+ * If the data is encrypted, each entry is sealed on its own with the {@link DataFileCipher}, so entries can still be
+ * appended without rewriting the journal.
+ */
+public class JournalStorageHandler {
+    public static final String FILE_NAME = "journal.txt";
+    public static final int COMPACTION_THRESHOLD = 200;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final File file;
+    private final InternshipStorageHandler internshipStorageHandler;
+    private final File interviewFile;
+    private final DataFileCipher cipher;
+    private int entryCount = 0;
+    private boolean isResetPending = false;
+
+    public JournalStorageHandler(StorageConfig config, InternshipStorageHandler internshipStorageHandler) {
+        file = config.resolve(FILE_NAME);
+        this.internshipStorageHandler = internshipStorageHandler;
+        interviewFile = config.resolve(InterviewStorageHandler.FILE_NAME);
+        cipher = config.getCipher();
+    }
+
+    /**
+     * Creates the file if it does not exist.
+     */
+    public void createFile() {
+        try {
+            if (file.getParentFile() != null && !file.getParentFile().exists()) {
+                if (!file.getParentFile().mkdirs()) {
+                    throw new RuntimeException(String.format(UNABLE_TO_CREATE_DIRECTORY,
+                            file.getParentFile().getAbsolutePath()));
+                }
+                assert file.getParentFile().exists() : "Directory should exist at this point";
+            }
+            if (!file.exists()) {
+                if (!file.createNewFile()) {
+                    throw new RuntimeException(String.format(FILE_ALREADY_EXISTS,
+                            file.getAbsolutePath()));
+                }
+                assert file.exists() : "File should exist at this point";
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Unable to create file {0}", file.getAbsolutePath());
+            throw new RuntimeException(String.format(UNABLE_TO_CREATE_FILE,
+                    file.getAbsolutePath()));
+        }
+    }
+
+    /**
+     * Appends entries to the journal in a single write, stamping a new journal with the current snapshot first.
+     *
+     * @param entries Journal entries to be appended, in the order they happened.
+     */
+    public void append(List<JournalEntry> entries) throws IOException {
+        if (!file.exists() || file.length() == 0 || isResetPending) {
+            reset();
+        }
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            String line = entry.toJson().toString();
+            lines.append(cipher == null ? line : cipher.sealLine(line)).append(System.lineSeparator());
+        }
+        try (FileWriter fileWriter = new FileWriter(file, true)) {
+            fileWriter.write(lines.toString());
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error appending to journal file");
+            throw new IOException(String.format(UNABLE_TO_CREATE_FILE, file.getAbsolutePath()));
+        }
+        entryCount += entries.size();
+        logger.log(Level.INFO, String.format("Appended %d entries to journal, %d entries pending compaction",
+                entries.size(), entryCount));
+    }
+
+    /**
+     * Starts a new, empty journal stamped with the checksums of the current snapshot files.
+     * This is called after the snapshot has been saved, which folds every previous entry into it.
+     */
+    public void reset() throws IOException {
+        if (!file.exists()) {
+            createFile();
+        }
+        assert file.exists() : "File should exist at this point";
+
+        try (FileWriter fileWriter = new FileWriter(file)) {
+            fileWriter.write(createHeader().toString());
+            fileWriter.write(System.lineSeparator());
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error resetting journal file");
+            throw new IOException(String.format(UNABLE_TO_CREATE_FILE, file.getAbsolutePath()));
+        }
+        entryCount = 0;
+        isResetPending = false;
+        logger.log(Level.INFO, "Journal compacted into snapshot files");
+    }
+
+    /**
+     * Replays the journal entries on top of the internships loaded from the snapshot files.
+     *
+     * @param internships List of internships already loaded from the snapshot files.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    public CommandResult load(InternshipList internships) {
+        logger.log(Level.INFO, "Beginning process to replay journal ...");
+        CommandResult result;
+        entryCount = 0;
+        if (!file.exists() || file.length() == 0) {
+            logger.log(Level.INFO, "No journal entries to replay");
+            result = new CommandResult(LOADING_DATA_SUCCESS);
+            result.setSuccessful(true);
+            return result;
+        }
+
+        List<String> feedback = new ArrayList<>();
+        boolean hasCorruption = false;
+        boolean isMismatched = false;
+        boolean isTailTorn = false;
+        boolean isEndingLineBreakMissing;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            isEndingLineBreakMissing = !isEndingWithLineBreak();
+            String header = reader.readLine();
+            String line = reader.readLine();
+            int lineIndex = 0;
+            boolean isHeaderChecked = false;
+            while (line != null) {
+                lineIndex++;
+                String nextLine = reader.readLine();
+                if (line.isBlank()) {
+                    line = nextLine;
+                    continue;
+                }
+                // The snapshot files are only checksummed once there is an entry to replay
+                if (!isHeaderChecked && !isHeaderMatchingSnapshot(header)) {
+                    logger.log(Level.WARNING, "Journal does not match the snapshot files, discarding it");
+                    isMismatched = true;
+                    break;
+                }
+                isHeaderChecked = true;
+                JournalEntry entry;
+                try {
+                    entry = JournalEntry.fromJson(new JSONObject(openLine(line)));
+                } catch (RuntimeException | IOException e) {
+                    // An append cut short by a crash leaves the last line incomplete, and its command unfinished
+                    if (nextLine == null && isTornLine(line)) {
+                        logger.log(Level.WARNING, "Discarding incomplete last journal entry: " + e.getMessage());
+                        isTailTorn = true;
+                        break;
+                    }
+                    logger.log(Level.WARNING, "Skipping corrupted journal entry: " + e.getMessage());
+                    hasCorruption = true;
+                    feedback.add("Error at journal entry index: " + lineIndex);
+                    feedback.add("Faulty entry: " + line);
+                    line = nextLine;
+                    continue;
+                }
+                try {
+                    entry.applyTo(internships);
+                    entryCount++;
+                } catch (RuntimeException | DuplicateEntryException e) {
+                    logger.log(Level.WARNING, "Skipping corrupted journal entry: " + e.getMessage());
+                    hasCorruption = true;
+                    feedback.add("Error at journal entry index: " + lineIndex);
+                    feedback.add("Faulty entry: " + line);
+                }
+                line = nextLine;
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading journal file");
+            feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+        // The journal is only discarded once the reader is closed
+        if (isMismatched) {
+            try {
+                reset();
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Error discarding journal file");
+                feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
+                result = new CommandResult(feedback);
+                result.setSuccessful(false);
+                return result;
+            }
+            result = new CommandResult(LOADING_DATA_SUCCESS);
+            result.setSuccessful(true);
+            return result;
+        }
+        try {
+            if (isTailTorn) {
+                truncateLastLine();
+            } else if (isEndingLineBreakMissing && entryCount > 0) {
+                // The last entry was written whole, so only its line break is added, before the next entry
+                appendLineBreak();
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error repairing the end of the journal file");
+            feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+        // An empty journal is stamped again before its first entry, as its header was never checked
+        isResetPending = entryCount == 0 && !hasCorruption;
+
+        if (hasCorruption) {
+            feedback.add(0, CORRUPTED_JOURNAL_FILE);
+            feedback.add("Please fix or delete the file at: " + file.getAbsolutePath());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        logger.log(Level.INFO, String.format("Successfully replayed %d journal entries", entryCount));
+        result = new CommandResult(LOADING_DATA_SUCCESS);
+        result.setSuccessful(true);
+        return result;
+    }
+
+    /**
+     * Checks if a line that could not be read may have been cut short while it was appended, rather than damaged.
+     * A sealed line that cannot be opened for lack of a passphrase is whole, so it is never discarded.
+     *
+     * @param line Last line of the journal.
+     * @return True if the line is an incomplete entry.
+     */
+    private boolean isTornLine(String line) {
+        return !DataFileCipher.isSealedLine(line) || cipher != null;
+    }
+
+    private boolean isEndingWithLineBreak() throws IOException {
+        try (RandomAccessFile journal = new RandomAccessFile(file, "r")) {
+            if (journal.length() == 0) {
+                return true;
+            }
+            journal.seek(journal.length() - 1);
+            return journal.read() == '\n';
+        }
+    }
+
+    /**
+     * Removes the last line of the journal, along with any line breaks after it, keeping every entry before it.
+     */
+    private void truncateLastLine() throws IOException {
+        try (RandomAccessFile journal = new RandomAccessFile(file, "rw")) {
+            long end = journal.length();
+            while (end > 0 && isLineBreak(readByteAt(journal, end - 1))) {
+                end--;
+            }
+            long start = end;
+            while (start > 0 && readByteAt(journal, start - 1) != '\n') {
+                start--;
+            }
+            journal.setLength(start);
+        }
+    }
+
+    private static int readByteAt(RandomAccessFile journal, long position) throws IOException {
+        journal.seek(position);
+        return journal.read();
+    }
+
+    private static boolean isLineBreak(int character) {
+        return character == '\n' || character == '\r';
+    }
+
+    private void appendLineBreak() throws IOException {
+        try (FileWriter fileWriter = new FileWriter(file, true)) {
+            fileWriter.write(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Opens an entry sealed because the data is encrypted. Entries appended before it was encrypted are
+     * returned as they are.
+     *
+     * @param line Line of the journal.
+     * @return Entry as JSON.
+     * @throws IOException If the entry is sealed but no passphrase was given, or it fails to open.
+     */
+    private String openLine(String line) throws IOException {
+        if (!DataFileCipher.isSealedLine(line)) {
+            return line;
+        }
+        if (cipher == null) {
+            throw new IOException(String.format(ENCRYPTED_FILE, file.getAbsolutePath()));
+        }
+        return cipher.openLine(line);
+    }
+
+    /**
+     * Checks if the journal holds any entries, without replaying them.
+     *
+     * @return True if there is at least one entry after the header.
+     */
+    public boolean hasEntries() {
+        if (!file.exists() || file.length() == 0) {
+            return false;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            // The entries are checked again when the journal is replayed
+            return true;
+        }
+    }
+
+    /**
+     * Returns true if the journal has grown large enough to be folded into the snapshot.
+     *
+     * @return True if the journal should be compacted.
+     */
+    public boolean isCompactionDue() {
+        return entryCount >= COMPACTION_THRESHOLD;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Creates the header line stamping the snapshot files this journal applies to.
+     *
+     * @return JSON object representing the header.
+     */
+    private JSONObject createHeader() throws IOException {
+        Map<String, Object> orderedMap = new LinkedHashMap<>();
+        orderedMap.put("internshipsChecksum", internshipStorageHandler.computeChecksum());
+        orderedMap.put("interviewsChecksum", DataFileStreams.computeChecksum(interviewFile));
+        return new JSONObject(orderedMap);
+    }
+
+    /**
+     * Checks if the header of the journal matches the snapshot files currently on disk.
+     *
+     * @param header First line of the journal.
+     * @return True if the journal entries apply to the current snapshot files.
+     */
+    private boolean isHeaderMatchingSnapshot(String header) throws IOException {
+        if (header == null) {
+            return false;
+        }
+        try {
+            JSONObject headerJson = new JSONObject(header);
+            return headerJson.getLong("internshipsChecksum") == internshipStorageHandler.computeChecksum()
+                    && headerJson.getLong("interviewsChecksum") == DataFileStreams.computeChecksum(interviewFile);
+        } catch (JSONException e) {
+            logger.log(Level.WARNING, "Journal header is corrupted: " + e.getMessage());
+            return false;
+        }
+    }
+}
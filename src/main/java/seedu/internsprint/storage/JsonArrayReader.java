@@ -0,0 +1,96 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads the elements of a JSON array one at a time from a character stream.
+ * <p>
+ * Only the element currently being read is held in memory, so arbitrarily large data files can be
+ * loaded with a small heap, and each element can be turned into a model object as soon as it is read.
+ */
+public class JsonArrayReader implements Closeable {
+    private final Reader reader;
+    private final JSONTokener tokener;
+    private boolean isStarted = false;
+    private boolean isFinished = false;
+    private boolean hasPendingElement = false;
+
+    public JsonArrayReader(Reader reader) {
+        this.reader = reader;
+        this.tokener = new JSONTokener(reader);
+    }
+
+    /**
+     * Checks if there is another element in the array, consuming the separator before it.
+     *
+     * @return True if another element can be read with {@link #next()}.
+     * @throws JSONException If the stream is not a well-formed JSON array.
+     */
+    public boolean hasNext() throws JSONException {
+        if (hasPendingElement) {
+            return true;
+        }
+        if (isFinished) {
+            return false;
+        }
+        char c = tokener.nextClean();
+        if (!isStarted) {
+            if (c != '[') {
+                throw tokener.syntaxError("A JSON array text must start with '['");
+            }
+            isStarted = true;
+            c = tokener.nextClean();
+            if (c == ']') {
+                finish();
+                return false;
+            }
+            tokener.back();
+            hasPendingElement = true;
+            return true;
+        }
+        switch (c) {
+        case ',':
+            hasPendingElement = true;
+            return true;
+        case ']':
+            finish();
+            return false;
+        default:
+            throw tokener.syntaxError("Expected a ',' or ']'");
+        }
+    }
+
+    /**
+     * Reads the next element of the array.
+     *
+     * @return The next element, usually a {@code JSONObject}.
+     * @throws JSONException If the element is not well-formed JSON or there are no more elements.
+     */
+    public Object next() throws JSONException {
+        if (!hasNext()) {
+            throw new JSONException("No more elements in the JSON array");
+        }
+        hasPendingElement = false;
+        return tokener.nextValue();
+    }
+
+    /**
+     * Marks the array as fully read, checking that nothing but whitespace follows it.
+     */
+    private void finish() throws JSONException {
+        isFinished = true;
+        if (tokener.nextClean() != 0) {
+            throw tokener.syntaxError("Unexpected text after the end of the JSON array");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,214 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Writes JSON text directly to a character stream, one token at a time.
+ * <p>
+ * Records write their fields straight to the stream instead of building an intermediate
+ * {@code JSONObject}, so saving a large list needs neither per-record maps nor one string holding the
+ * whole document. The indented mode uses the same indentation as {@code JSONArray.toString(4)} and keeps
+ * the fields in the order they are written; the compact mode leaves out all optional whitespace.
+ */
+public class JsonWriter implements Closeable, Flushable {
+    private static final int INDENT_FACTOR = 4;
+
+    private final Writer writer;
+    private final boolean isCompact;
+    private final Deque<Boolean> hasElementsInScope = new ArrayDeque<>();
+    private boolean isExpectingValue = false;
+
+    public JsonWriter(Writer writer, boolean isCompact) {
+        this.writer = writer;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Starts a JSON array.
+     */
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        writer.write('[');
+        hasElementsInScope.push(false);
+        return this;
+    }
+
+    /**
+     * Ends the current JSON array.
+     */
+    public JsonWriter endArray() throws IOException {
+        return endScope(']');
+    }
+
+    /**
+     * Starts a JSON object.
+     */
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        writer.write('{');
+        hasElementsInScope.push(false);
+        return this;
+    }
+
+    /**
+     * Ends the current JSON object.
+     */
+    public JsonWriter endObject() throws IOException {
+        return endScope('}');
+    }
+
+    /**
+     * Writes the name of the next field of the current object.
+     *
+     * @param name Name of the field.
+     */
+    public JsonWriter name(String name) throws IOException {
+        beforeElement();
+        JSONObject.quote(name, writer);
+        writer.write(isCompact ? ":" : ": ");
+        isExpectingValue = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value.
+     *
+     * @param value Value to be written.
+     */
+    public JsonWriter value(String value) throws IOException {
+        beforeValue();
+        JSONObject.quote(value, writer);
+        return this;
+    }
+
+    /**
+     * Writes a number value.
+     *
+     * @param value Value to be written.
+     */
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        writer.write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a string field, leaving it out if the value is null like {@code JSONObject} does.
+     *
+     * @param name Name of the field.
+     * @param value Value of the field.
+     */
+    public JsonWriter field(String name, Object value) throws IOException {
+        if (value == null) {
+            return this;
+        }
+        return name(name).value(value.toString());
+    }
+
+    /**
+     * Writes a number field.
+     *
+     * @param name Name of the field.
+     * @param value Value of the field.
+     */
+    public JsonWriter field(String name, long value) throws IOException {
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes a boolean field.
+     *
+     * @param name Name of the field.
+     * @param value Value of the field.
+     */
+    public JsonWriter field(String name, boolean value) throws IOException {
+        name(name);
+        beforeValue();
+        writer.write(Boolean.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a field holding an array of strings, leaving it out if the list is null.
+     *
+     * @param name Name of the field.
+     * @param values Values of the array.
+     */
+    public JsonWriter field(String name, List<String> values) throws IOException {
+        if (values == null) {
+            return this;
+        }
+        name(name).beginArray();
+        for (String value : values) {
+            value(value);
+        }
+        return endArray();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Writes the separator and indentation needed before a value, unless the value follows a field name.
+     */
+    private void beforeValue() throws IOException {
+        if (isExpectingValue) {
+            isExpectingValue = false;
+            return;
+        }
+        if (!hasElementsInScope.isEmpty()) {
+            beforeElement();
+        }
+    }
+
+    /**
+     * Writes the separator and indentation needed before an element of the current array or object.
+     */
+    private void beforeElement() throws IOException {
+        if (hasElementsInScope.pop()) {
+            writer.write(',');
+        }
+        hasElementsInScope.push(true);
+        newLine(hasElementsInScope.size());
+    }
+
+    /**
+     * Ends the current array or object with the given closing bracket.
+     */
+    private JsonWriter endScope(char closingBracket) throws IOException {
+        boolean hasElements = hasElementsInScope.pop();
+        if (hasElements) {
+            newLine(hasElementsInScope.size());
+        }
+        writer.write(closingBracket);
+        return this;
+    }
+
+    /**
+     * Starts a new line indented to the given depth, unless the output is compact.
+     */
+    private void newLine(int depth) throws IOException {
+        if (isCompact) {
+            return;
+        }
+        writer.write('\n');
+        for (int i = 0; i < depth * INDENT_FACTOR; i++) {
+            writer.write(' ');
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.internsprint.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Loads the lines of a data file in three stages joined by bounded queues, so parsing a large file uses every
+ * processor while its records are still added in the order they were read.
+ * <p>
+ * One thread splits the input into batches of lines, a pool of workers parses the batches, and the calling thread
+ * takes the parsed batches back in the order they were split and inserts their records one at a time. A batch
+ * holds a permit from when it is split until it is inserted, so only a fixed number of batches is held in memory
+ * however large the input is, and a slow stage holds back the stages before it instead of letting batches pile up.
+ * Each line keeps the source and line number it was read from, so errors found in any stage can name it.
+ *
+ * @param <T> The type of a parsed record.
+ */
+class LoadPipeline<T> {
+    static final int BATCH_SIZE = 512;
+    private static final int BATCHES_PER_WORKER = 4;
+
+    /**
+     * Reads the input of the pipeline.
+     */
+    @FunctionalInterface
+    interface Splitter {
+        /**
+         * Passes every line of the input to the sink, in order. Errors reading one source should be kept by the
+         * splitter, so the sources after it are still read.
+         *
+         * @param sink Sink taking the lines.
+         * @throws InterruptedException If the pipeline was stopped.
+         */
+        void split(Sink sink) throws InterruptedException;
+    }
+
+    /**
+     * Takes the lines read by the splitter.
+     */
+    @FunctionalInterface
+    interface Sink {
+        void accept(int source, int lineNumber, String line) throws InterruptedException;
+    }
+
+    /**
+     * Inserts a parsed record, on the calling thread and in the order the lines were read.
+     *
+     * @param <T> The type of a parsed record.
+     */
+    @FunctionalInterface
+    interface Inserter<T> {
+        void insert(int source, int lineNumber, T record);
+    }
+
+    private final int workers;
+    private final Function<String, T> parser;
+    private final Semaphore permits;
+    private final BlockingQueue<Batch<T>> splitBatches;
+    private final BlockingQueue<Batch<T>> parsedBatches = new LinkedBlockingQueue<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final Batch<T> lastBatch = new Batch<>(-1, 0);
+    private final Batch<T> failedBatch = new Batch<>(-1, 0);
+
+    /**
+     * Creates a pipeline parsing lines with the given number of workers.
+     *
+     * @param workers Number of threads parsing lines.
+     * @param parser Parses one line into a record. It runs on the workers, so it should not change shared state,
+     *     and should return its errors as part of the record rather than throw them.
+     */
+    LoadPipeline(int workers, Function<String, T> parser) {
+        assert workers > 0 : "A pipeline needs at least one worker";
+        this.workers = workers;
+        this.parser = parser;
+        permits = new Semaphore(workers * BATCHES_PER_WORKER);
+        splitBatches = new ArrayBlockingQueue<>(workers * BATCHES_PER_WORKER + workers);
+    }
+
+    /**
+     * Splits, parses and inserts every line of the input, returning once the last record is inserted.
+     * An exception thrown by the splitter or the parser stops the pipeline and is thrown again here.
+     *
+     * @param splitter Reads the lines of the input.
+     * @param inserter Inserts the parsed records in order.
+     * @throws InterruptedException If the calling thread is interrupted, in which case the pipeline is stopped.
+     */
+    void run(Splitter splitter, Inserter<T> inserter) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 1, runnable -> {
+            Thread thread = new Thread(runnable, "internsprint-load-pipeline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            executor.execute(() -> split(splitter));
+            for (int i = 0; i < workers; i++) {
+                executor.execute(this::parse);
+            }
+            insert(inserter);
+        } finally {
+            // Stops the splitter and workers if inserting failed, and lets them exit otherwise
+            executor.shutdownNow();
+        }
+    }
+
+    private void split(Splitter splitter) {
+        BatchingSink sink = new BatchingSink();
+        try {
+            splitter.split(sink);
+            sink.flush();
+            lastBatch.number = sink.batchCount;
+            parsedBatches.put(lastBatch);
+            for (int i = 0; i < workers; i++) {
+                splitBatches.put(lastBatch);
+            }
+        } catch (InterruptedException e) {
+            // The pipeline was stopped, so nothing is waiting for the rest of the input
+        } catch (RuntimeException | Error e) {
+            fail(e);
+        }
+    }
+
+    private void parse() {
+        try {
+            Batch<T> batch;
+            while ((batch = splitBatches.take()) != lastBatch) {
+                for (int i = 0; i < batch.size; i++) {
+                    batch.records.add(parser.apply(batch.lines[i]));
+                    batch.lines[i] = null;
+                }
+                parsedBatches.put(batch);
+            }
+        } catch (InterruptedException e) {
+            // The pipeline was stopped, so the batch being parsed is no longer needed
+        } catch (RuntimeException | Error e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Inserts the records of the parsed batches in the order the batches were split. Batches parsed ahead of
+     * the next one wait for it, which the permits bound.
+     */
+    private void insert(Inserter<T> inserter) throws InterruptedException {
+        Map<Long, Batch<T>> parsedAhead = new HashMap<>();
+        long nextNumber = 0;
+        long batchCount = -1;
+        while (batchCount < 0 || nextNumber < batchCount) {
+            Batch<T> batch = parsedAhead.remove(nextNumber);
+            if (batch == null) {
+                batch = parsedBatches.take();
+                if (batch == failedBatch) {
+                    throwFailure();
+                } else if (batch == lastBatch) {
+                    batchCount = batch.number;
+                } else {
+                    parsedAhead.put(batch.number, batch);
+                }
+                continue;
+            }
+            for (int i = 0; i < batch.size; i++) {
+                inserter.insert(batch.sources[i], batch.lineNumbers[i], batch.records.get(i));
+            }
+            permits.release();
+            nextNumber++;
+        }
+    }
+
+    private void fail(Throwable e) {
+        if (failure.compareAndSet(null, e)) {
+            parsedBatches.add(failedBatch);
+        }
+    }
+
+    private void throwFailure() {
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        throw (Error) e;
+    }
+
+    /**
+     * Gathers the lines of the splitter into batches, waiting for a permit before starting each one.
+     */
+    private class BatchingSink implements Sink {
+        private Batch<T> batch;
+        private long batchCount = 0;
+
+        @Override
+        public void accept(int source, int lineNumber, String line) throws InterruptedException {
+            if (batch == null) {
+                permits.acquire();
+                batch = new Batch<>(batchCount++, BATCH_SIZE);
+            }
+            batch.sources[batch.size] = source;
+            batch.lineNumbers[batch.size] = lineNumber;
+            batch.lines[batch.size] = line;
+            batch.size++;
+            if (batch.size == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws InterruptedException {
+            if (batch != null) {
+                splitBatches.put(batch);
+                batch = null;
+            }
+        }
+    }
+
+    /**
+     * Represents a batch of lines, numbered in the order they were split, and the records parsed from them.
+     */
+    private static class Batch<T> {
+        private final int[] sources;
+        private final int[] lineNumbers;
+        private final String[] lines;
+        private final List<T> records;
+        private long number;
+        private int size = 0;
+
+        private Batch(long number, int capacity) {
+            this.number = number;
+            sources = new int[capacity];
+            lineNumbers = new int[capacity];
+            lines = new String[capacity];
+            records = new ArrayList<>(capacity);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.internsprint.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a hash tree over the records of a data directory, each identified by a 64-bit key and holding a
+ * 64-bit hash of its content.
+ * <p>
+ * Records are spread over {@value #LEAF_COUNT} leaves by the top bits of their keys, and each inner node hashes
+ * its {@value #FAN_OUT} children. Two trees that agree on a subtree have equal hashes for it, so
+ * {@link #diff(MerkleTree)} only descends into the subtrees whose hashes differ and compares the records of
+ * the leaves it reaches.
+ */
+public class MerkleTree {
+    public static final int FAN_OUT = 16;
+    public static final int DEPTH = 3;
+    public static final int LEAF_COUNT = 4096;
+    private static final int FORMAT_VERSION = 1;
+    private static final int LEAF_SHIFT = Long.SIZE - 12;
+
+    private final Map<Long, Long> hashes;
+    private final long[][] leafKeys = new long[LEAF_COUNT][];
+    /* Node hashes by level, from the root at level 0 to the leaves at level DEPTH */
+    private final long[][] levels = new long[DEPTH + 1][];
+    private final long stamp;
+
+    /**
+     * Builds the tree over the given records.
+     *
+     * @param hashes Content hash of each record, by its key.
+     * @param stamp Stamp of the data files the records were read from, or 0 if it is not known.
+     */
+    public MerkleTree(Map<Long, Long> hashes, long stamp) {
+        this.hashes = hashes;
+        this.stamp = stamp;
+        int[] leafSizes = new int[LEAF_COUNT];
+        for (long key : hashes.keySet()) {
+            leafSizes[getLeaf(key)]++;
+        }
+        for (int leaf = 0; leaf < LEAF_COUNT; leaf++) {
+            leafKeys[leaf] = new long[leafSizes[leaf]];
+        }
+        long[] leafHashes = new long[LEAF_COUNT];
+        int[] filled = new int[LEAF_COUNT];
+        for (Map.Entry<Long, Long> record : hashes.entrySet()) {
+            long key = record.getKey();
+            int leaf = getLeaf(key);
+            leafKeys[leaf][filled[leaf]++] = key;
+            // A sum does not depend on the order of the records within the leaf
+            leafHashes[leaf] += mix(key ^ mix(record.getValue()));
+        }
+        levels[DEPTH] = leafHashes;
+        for (int level = DEPTH - 1; level >= 0; level--) {
+            long[] children = levels[level + 1];
+            long[] nodes = new long[children.length / FAN_OUT];
+            for (int node = 0; node < nodes.length; node++) {
+                long hash = 0;
+                for (int child = 0; child < FAN_OUT; child++) {
+                    hash = mix(hash ^ children[node * FAN_OUT + child]) + child;
+                }
+                nodes[node] = hash;
+            }
+            levels[level] = nodes;
+        }
+    }
+
+    /**
+     * Returns the keys of the records that are in only one of the trees or whose content differs.
+     *
+     * @param other Tree to compare with.
+     * @return Keys of the differing records.
+     */
+    public List<Long> diff(MerkleTree other) {
+        List<Long> keys = new ArrayList<>();
+        diff(other, 0, 0, keys);
+        return keys;
+    }
+
+    private void diff(MerkleTree other, int level, int node, List<Long> keys) {
+        if (levels[level][node] == other.levels[level][node]) {
+            return;
+        }
+        if (level < DEPTH) {
+            for (int child = 0; child < FAN_OUT; child++) {
+                diff(other, level + 1, node * FAN_OUT + child, keys);
+            }
+            return;
+        }
+        for (long key : leafKeys[node]) {
+            if (!hashes.get(key).equals(other.hashes.get(key))) {
+                keys.add(key);
+            }
+        }
+        for (long key : other.leafKeys[node]) {
+            if (!hashes.containsKey(key)) {
+                keys.add(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the content hash of a record.
+     *
+     * @param key Key of the record.
+     * @return Content hash of the record, or null if the tree does not hold it.
+     */
+    public Long getHash(long key) {
+        return hashes.get(key);
+    }
+
+    public long getRootHash() {
+        return levels[0][0];
+    }
+
+    public long getStamp() {
+        return stamp;
+    }
+
+    public int size() {
+        return hashes.size();
+    }
+
+    /**
+     * Writes the records of the tree to a file, replacing it once it is complete.
+     *
+     * @param file File to write the tree to.
+     */
+    public void write(File file) throws IOException {
+        Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+        File temporaryFile = new File(file.getPath() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(temporaryFile)))) {
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(stamp);
+            output.writeInt(hashes.size());
+            for (Map.Entry<Long, Long> record : hashes.entrySet()) {
+                output.writeLong(record.getKey());
+                output.writeLong(record.getValue());
+            }
+        }
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a tree written by {@link #write(File)}.
+     *
+     * @param file File to read the tree from.
+     * @return Tree held by the file, or null if the file does not exist or is not a tree.
+     */
+    public static MerkleTree read(File file) throws IOException {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            long stamp = input.readLong();
+            int size = input.readInt();
+            if (size < 0 || (long) size * 2 * Long.BYTES > file.length()) {
+                return null;
+            }
+            Map<Long, Long> hashes = new HashMap<>(size * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                hashes.put(input.readLong(), input.readLong());
+            }
+            return new MerkleTree(hashes, stamp);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static int getLeaf(long key) {
+        return (int) (key >>> LEAF_SHIFT);
+    }
+
+    /**
+     * Spreads the bits of a value, so similar values get unrelated hashes.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
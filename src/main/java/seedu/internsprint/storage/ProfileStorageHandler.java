@@ -4,11 +4,9 @@ import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.userprofile.UserProfile;
 
 import java.io.File;
-import java.io.FileReader;
 import java.io.BufferedReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -26,11 +24,16 @@ import static seedu.internsprint.util.InternSprintMessages.SAVING_PROFILE_SUCCES
  * Handles the storage of user profile data.
  */
 public class ProfileStorageHandler implements Storage<UserProfile> {
-    public static final String FILE_PATH = Paths.get("data", "user.txt").toString();
-    private static final File userProfileFile = new File(FILE_PATH);
+    public static final String FILE_NAME = "user.txt";
     private static final Logger logger = Logger.getLogger(ProfileStorageHandler.class.getName());
-
-    public ProfileStorageHandler() {
+    private final File userProfileFile;
+    private final boolean isCompressed;
+    private final DataFileCipher cipher;
+
+    public ProfileStorageHandler(StorageConfig config) {
+        userProfileFile = config.resolve(FILE_NAME);
+        isCompressed = config.isCompressed();
+        cipher = config.getCipher();
         createFile();
     }
 
@@ -64,7 +67,7 @@ public class ProfileStorageHandler implements Storage<UserProfile> {
             return;
         }
 
-        try (FileWriter fileWriter = new FileWriter(userProfileFile)) {
+        try (Writer fileWriter = DataFileStreams.newWriter(userProfileFile, isCompressed, cipher)) {
             fileWriter.write(userProfile.toFormattedString());
             logger.log(Level.INFO, String.format(SAVING_PROFILE_SUCCESS, userProfileFile.getAbsolutePath()));
         } catch (IOException e) {
@@ -86,7 +89,7 @@ public class ProfileStorageHandler implements Storage<UserProfile> {
             return new CommandResult(Collections.singletonList("User profile file is empty."), true);
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(userProfileFile))) {
+        try (BufferedReader reader = DataFileStreams.newReader(userProfileFile, cipher)) {
             StringBuilder profileData = new StringBuilder();
             String line;
             while ((line = reader.readLine()) != null) {
@@ -133,7 +136,7 @@ public class ProfileStorageHandler implements Storage<UserProfile> {
      * @param userProfile The user profile object to store the parsed data.
      * @param profileData The string containing user profile data to be parsed.
      */
-    private void parseUserProfile(UserProfile userProfile, String profileData) {
+    static void parseUserProfile(UserProfile userProfile, String profileData) {
         String[] lines = profileData.split("\n");
 
         for (int i = 0; i < lines.length; i++) {
@@ -4,19 +4,15 @@ import org.json.JSONException;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.userprofile.project.GeneralProject;
 import seedu.internsprint.model.userprofile.project.HardwareProject;
+import seedu.internsprint.model.userprofile.project.Project;
 import seedu.internsprint.model.userprofile.project.SoftwareProject;
 import seedu.internsprint.model.userprofile.project.ProjectList;
 import seedu.internsprint.util.InternSprintLogger;
 
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.BufferedReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -35,12 +31,18 @@ import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_FIRST_TI
  * Handles the storage of project data.
  */
 public class ProjectStorageHandler implements Storage<ProjectList> {
-    public static final String FILE_PATH = Paths.get("data", "projects.txt").toString();
-    private static File file;
+    public static final String FILE_NAME = "projects.txt";
     private static final Logger logger = InternSprintLogger.getLogger();
-
-    public ProjectStorageHandler() {
-        file = new File(FILE_PATH);
+    private final File file;
+    private final boolean isCompactJson;
+    private final boolean isCompressed;
+    private final DataFileCipher cipher;
+
+    public ProjectStorageHandler(StorageConfig config) {
+        file = config.resolve(FILE_NAME);
+        isCompactJson = config.isCompactJson();
+        isCompressed = config.isCompressed();
+        cipher = config.getCipher();
     }
 
     /**
@@ -76,21 +78,23 @@ public class ProjectStorageHandler implements Storage<ProjectList> {
      */
     public void save(ProjectList projects) throws IOException {
         logger.log(Level.INFO, "Saving Projects to file ...");
-
-        JSONArray jsonArray = new JSONArray();
-        projects.getProjectMap().forEach((type, list) -> {
-            list.forEach(project -> jsonArray.put(project.toJson()));
-        });
-
         if (!file.exists()) {
             createFile();
         }
         assert file.exists() : "File should exist at this point";
 
-        try (FileWriter fileWriter = new FileWriter(file)) {
-            fileWriter.write(jsonArray.toString(4));
+        int savedCount = 0;
+        try (JsonWriter writer = new JsonWriter(DataFileStreams.newWriter(file, isCompressed, cipher), isCompactJson)) {
+            writer.beginArray();
+            for (List<Project> list : projects.getProjectMap().values()) {
+                for (Project project : list) {
+                    project.writeJson(writer);
+                    savedCount++;
+                }
+            }
+            writer.endArray();
             logger.log(Level.INFO, String.format("Successfully saved %s Projects to file %s",
-                    jsonArray.length(), file.getAbsolutePath()));
+                    savedCount, file.getAbsolutePath()));
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error writing to file {0}", file.getAbsolutePath());
             throw new IOException(String.format(UNABLE_TO_CREATE_FILE,
@@ -113,53 +117,44 @@ public class ProjectStorageHandler implements Storage<ProjectList> {
             result.setSuccessful(true);
             return result;
         }
-        StringBuilder jsonData = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonData.append(line);
+        List<String> feedback = new ArrayList<>();
+        boolean hasCorruption = false;
+        int entryIndex = 0;
+        try (JsonArrayReader reader = new JsonArrayReader(DataFileStreams.newReader(file, cipher))) {
+            while (reader.hasNext()) {
+                entryIndex++;
+                Object entry = reader.next();
+                if (!(entry instanceof JSONObject)) {
+                    logger.log(Level.WARNING, "Skipping entry that is not a JSON object");
+                    hasCorruption = true;
+                    feedback.add("Error at JSON entry index: " + entryIndex);
+                    feedback.add("Faulty entry: " + entry);
+                    continue;
+                }
+                JSONObject projectJson = (JSONObject) entry;
+                try {
+                    addProjectToList(projects, projectJson);
+                } catch (JSONException e) {
+                    logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
+                    hasCorruption = true;
+                    feedback.add("Error at JSON entry index: " + entryIndex);
+                    feedback.add("Faulty entry: " + projectJson.toString(4));
+                }
             }
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error reading file");
-            return errorReadingFile();
-        }
-
-        JSONArray jsonArray;
-        try {
-            jsonArray = new JSONArray(jsonData.toString());
         } catch (JSONException e) {
             logger.log(Level.WARNING, "File is corrupted or not valid JSON: " + e.getMessage());
-            List<String> feedback = new ArrayList<>();
+            feedback.clear();
             feedback.add(CORRUPTED_PROJECT_FILE);
             feedback.add(UNABLE_TO_PARSE_JSON);
             feedback.add("Please fix or delete the file at: " + file.getAbsolutePath());
             result = new CommandResult(feedback);
             result.setSuccessful(false);
             return result;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading file");
+            return errorReadingFile();
         }
-        if (jsonArray.isEmpty() && jsonData.length() != 2) {
-            logger.log(Level.WARNING, "Error in formatting such that JSONArray could not be" +
-                    " created successfully");
-            result = errorReadingFile();
-            return result;
-        }
-        assert !jsonArray.isEmpty() && jsonData.length() != 2
-            : "Array of JSON objects read from file should not be empty at this point";
-        logger.log(Level.INFO, "Successfully extracted projects as JSON objects from file");
-
-        List<String> feedback = new ArrayList<>();
-        boolean hasCorruption = false;
-        for (int i = 0; i < jsonArray.length(); i++) {
-            JSONObject projectJson = jsonArray.getJSONObject(i);
-            try {
-                addProjectToList(projects, projectJson);
-            } catch (JSONException e) {
-                logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
-                hasCorruption = true;
-                feedback.add("Error at JSON entry index: " + (i + 1));
-                feedback.add("Faulty entry: " + projectJson.toString(4));
-            }
-        }
+        logger.log(Level.INFO, String.format("Streamed %d projects from file", entryIndex));
 
         if (hasCorruption) {
             feedback.add(0, CORRUPTED_PROJECT_FILE);
@@ -180,7 +175,7 @@ public class ProjectStorageHandler implements Storage<ProjectList> {
      *
      * @return CommandResult object indicating the error.
      */
-    private static CommandResult errorReadingFile() {
+    private CommandResult errorReadingFile() {
         CommandResult result;
         List<String> feedback = new ArrayList<>();
         feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
@@ -195,19 +190,29 @@ public class ProjectStorageHandler implements Storage<ProjectList> {
      * @param projects    List of projects.
      * @param projectJson JSON object representing the project.
      */
-    private static void addProjectToList(ProjectList projects, JSONObject projectJson) {
+    static void addProjectToList(ProjectList projects, JSONObject projectJson) {
+        Project project = createProject(projectJson);
+        if (project != null) {
+            projects.addProject(project);
+        }
+    }
+
+    /**
+     * Creates a project of the type recorded in the JSON object.
+     *
+     * @param projectJson JSON object representing the project.
+     * @return Project represented by the JSON object, or null if the type is unknown.
+     */
+    static Project createProject(JSONObject projectJson) {
         switch (projectJson.getString("type")) {
         case "general":
-            projects.addProject(GeneralProject.fromJson(projectJson));
-            break;
+            return GeneralProject.fromJson(projectJson);
         case "software":
-            projects.addProject(SoftwareProject.fromJson(projectJson));
-            break;
+            return SoftwareProject.fromJson(projectJson);
         case "hardware":
-            projects.addProject(HardwareProject.fromJson(projectJson));
-            break;
+            return HardwareProject.fromJson(projectJson);
         default:
-            break;
+            return null;
         }
     }
 }
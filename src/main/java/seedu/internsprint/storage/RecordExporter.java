@@ -0,0 +1,165 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_DIRECTORY;
+
+/**
+ * Writes records to a CSV or JSON Lines file to be exported, one record at a time.
+ * <p>
+ * Each record is written as soon as it is given, so only the record being written is held in memory.
+ * The records go to a temporary file that only replaces the exported file once {@link #commit()} is called,
+ * so an export that fails part way never leaves a partial file behind.
+ */
+public class RecordExporter implements Closeable {
+
+    /**
+     * Represents the format of an exported file.
+     */
+    public enum Format {
+        CSV,
+        JSONL
+    }
+
+    private final File file;
+    private final Path temporaryPath;
+    private final Format format;
+    private final String[] columns;
+    private final Writer writer;
+    private int recordCount = 0;
+    private boolean isCommitted = false;
+
+    /**
+     * Opens a temporary file next to the file to be exported and writes the CSV header to it.
+     * The directory of the file is created if it does not exist yet.
+     *
+     * @param file File to be exported.
+     * @param format Format of the file.
+     * @param columns Names of the fields of each record, in order.
+     */
+    public RecordExporter(File file, Format format, String... columns) throws IOException {
+        this.file = file;
+        this.temporaryPath = Paths.get(file.getPath() + ".tmp");
+        this.format = format;
+        this.columns = columns;
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException(String.format(UNABLE_TO_CREATE_DIRECTORY, directory.getAbsolutePath()));
+        }
+        this.writer = DataFileStreams.newWriter(temporaryPath.toFile());
+        if (format == Format.CSV) {
+            writeCsvLine(columns);
+        }
+    }
+
+    /**
+     * Returns the format of a file to be exported, going by its extension.
+     *
+     * @param fileName Name of the file.
+     * @return Format of the file, or null if it is neither a CSV nor a JSON Lines file.
+     */
+    public static Format getFormat(String fileName) {
+        String lowerCaseName = fileName.toLowerCase();
+        if (lowerCaseName.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (lowerCaseName.endsWith(".jsonl")) {
+            return Format.JSONL;
+        }
+        return null;
+    }
+
+    /**
+     * Writes one record. Null values are written as empty CSV fields and left out of JSON objects.
+     *
+     * @param values Value of each column, in order.
+     */
+    public void write(Object... values) throws IOException {
+        assert values.length == columns.length : "Every column should have a value";
+        if (format == Format.CSV) {
+            writeCsvLine(values);
+        } else {
+            writeJsonLine(values);
+        }
+        recordCount++;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Finishes the export, replacing the exported file with the records written.
+     */
+    public void commit() throws IOException {
+        writer.close();
+        Files.move(temporaryPath, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        isCommitted = true;
+    }
+
+    /**
+     * Closes the temporary file, deleting it if the export was not committed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isCommitted) {
+            return;
+        }
+        writer.close();
+        Files.deleteIfExists(temporaryPath);
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(quoteCsv(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private void writeJsonLine(Object[] values) throws IOException {
+        writer.write('{');
+        boolean isFirst = true;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            if (!isFirst) {
+                writer.write(',');
+            }
+            writer.write(JSONObject.quote(columns[i]));
+            writer.write(':');
+            writer.write(values[i] instanceof Number ? values[i].toString() : JSONObject.quote(values[i].toString()));
+            isFirst = false;
+        }
+        writer.write("}\n");
+    }
+
+    /**
+     * Quotes a CSV field if it holds a comma, quote or line break, writing its quotes twice.
+     *
+     * @param value Value of the field.
+     * @return Field as written to the CSV file.
+     */
+    static String quoteCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,332 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes a segment file, which holds one compact JSON record per line.
+ * <p>
+ * Every line starts with the CRC32 checksum of its record as 8 hexadecimal digits, so a damaged record can be
+ * told apart from the intact ones around it. The checksum of the whole segment is computed over all its lines,
+ * and is kept by the caller to tell if the segment as a whole is still the one that was saved.
+ *
+ * @param <T> The type of record in the segment.
+ */
+public class SegmentFile<T> {
+    private static final int CHECKSUM_LENGTH = 8;
+
+    /**
+     * Writes one record as JSON.
+     *
+     * @param <T> The type of record written.
+     */
+    @FunctionalInterface
+    public interface RecordWriter<T> {
+        void write(T record, JsonWriter writer) throws IOException;
+    }
+
+    private final File file;
+    private final boolean isCompressed;
+    private final DataFileCipher cipher;
+
+    public SegmentFile(File file) {
+        this(file, false, null);
+    }
+
+    /**
+     * Creates a segment file written compressed and encrypted as requested. It is read whichever way it was written,
+     * as long as the cipher is given for an encrypted segment.
+     *
+     * @param file File of the segment.
+     * @param isCompressed True if the segment should be written GZIP compressed.
+     * @param cipher Cipher encrypting the segment, or null to write it unencrypted.
+     */
+    public SegmentFile(File file, boolean isCompressed, DataFileCipher cipher) {
+        this.file = file;
+        this.isCompressed = isCompressed;
+        this.cipher = cipher;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Writes the records to the segment. They are written to a temporary file first, so an interrupted
+     * save leaves the previous segment intact.
+     *
+     * @param records Records to be written, in order.
+     * @param recordWriter Writes one record as JSON.
+     * @return Checksum of the segment.
+     */
+    public long write(List<T> records, RecordWriter<T> recordWriter) throws IOException {
+        return write(records, recordWriter, null);
+    }
+
+    /**
+     * Writes the records to the segment, also keeping the checksum of each record.
+     *
+     * @param records Records to be written, in order.
+     * @param recordWriter Writes one record as JSON.
+     * @param recordChecksums Array to be filled with the checksum of each record, or null.
+     * @return Checksum of the segment.
+     */
+    public long write(List<T> records, RecordWriter<T> recordWriter, long[] recordChecksums) throws IOException {
+        Path temporaryPath = Paths.get(file.getPath() + ".tmp");
+        CRC32 segmentChecksum = new CRC32();
+        StringWriter json = new StringWriter();
+        try (Writer writer = DataFileStreams.newWriter(temporaryPath.toFile(), isCompressed, cipher)) {
+            for (int i = 0; i < records.size(); i++) {
+                json.getBuffer().setLength(0);
+                recordWriter.write(records.get(i), new JsonWriter(json, true));
+                String line = formatLine(json.toString());
+                if (recordChecksums != null) {
+                    recordChecksums[i] = readRecordChecksum(line);
+                }
+                writer.write(line);
+                segmentChecksum.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        Files.move(temporaryPath, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        return segmentChecksum.getValue();
+    }
+
+    /**
+     * Opens a new copy of the segment to add records to one at a time, for records too many to hold in memory at
+     * once. The copy is written to a temporary file, which only replaces the segment once it is committed.
+     *
+     * @param recordWriter Writes one record as JSON.
+     * @return Appender adding records to the copy.
+     */
+    Appender append(RecordWriter<T> recordWriter) throws IOException {
+        return new Appender(recordWriter);
+    }
+
+    /**
+     * Reads every line of the segment, checking the checksum of each record.
+     * Damaged records are skipped and reported in the returned contents.
+     *
+     * @return Contents of the segment.
+     */
+    public Contents read() throws IOException {
+        Contents contents = new Contents();
+        CRC32 segmentChecksum = new CRC32();
+        try (BufferedReader reader = DataFileStreams.newReader(file, cipher)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                segmentChecksum.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+                try {
+                    contents.records.add(parseLine(line));
+                    contents.lineNumbers.add(lineNumber);
+                    contents.recordChecksums.add(readRecordChecksum(line));
+                } catch (IllegalArgumentException | JSONException e) {
+                    contents.damagedLineNumbers.add(lineNumber);
+                }
+            }
+        }
+        contents.checksum = segmentChecksum.getValue();
+        return contents;
+    }
+
+    /**
+     * Passes every line of the segment to the sink without parsing it, so the records can be parsed elsewhere with
+     * {@link #parseLine(String)}, such as by the workers of a {@link LoadPipeline}.
+     *
+     * @param source Source the lines are passed to the sink with.
+     * @param sink Sink taking the lines, in order.
+     * @return Checksum of the segment.
+     * @throws InterruptedException If the sink was interrupted while waiting to take a line.
+     */
+    long readLines(int source, LoadPipeline.Sink sink) throws IOException, InterruptedException {
+        CRC32 segmentChecksum = new CRC32();
+        try (BufferedReader reader = DataFileStreams.newReader(file, cipher)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                segmentChecksum.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+                sink.accept(source, lineNumber, line);
+            }
+        }
+        return segmentChecksum.getValue();
+    }
+
+    /**
+     * Formats a record as a line of a segment, prefixed by its checksum.
+     *
+     * @param json Record as compact JSON.
+     * @return Line holding the record, including the line separator.
+     */
+    static String formatLine(String json) {
+        CRC32 recordChecksum = new CRC32();
+        recordChecksum.update(json.getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x %s\n", recordChecksum.getValue(), json);
+    }
+
+    /**
+     * Computes the checksum a record is written with, without writing it.
+     *
+     * @param record Record to be written.
+     * @param recordWriter Writes one record as JSON.
+     * @param <T> The type of record.
+     * @return Checksum of the record as it would be written to a segment.
+     */
+    static <T> long computeRecordChecksum(T record, RecordWriter<T> recordWriter) throws IOException {
+        StringWriter json = new StringWriter();
+        recordWriter.write(record, new JsonWriter(json, true));
+        CRC32 recordChecksum = new CRC32();
+        recordChecksum.update(json.toString().getBytes(StandardCharsets.UTF_8));
+        return recordChecksum.getValue();
+    }
+
+    /**
+     * Reads the checksum a line of a segment starts with, without checking it.
+     *
+     * @param line Line of the segment that {@link #parseLine(String)} accepted.
+     * @return Checksum of the record held by the line.
+     */
+    static long readRecordChecksum(String line) {
+        return Long.parseLong(line.substring(0, CHECKSUM_LENGTH), 16);
+    }
+
+    /**
+     * Parses a line of a segment, checking the checksum of its record.
+     *
+     * @param line Line of the segment, without the line separator.
+     * @return Record held by the line.
+     * @throws IllegalArgumentException If the record does not match its checksum.
+     */
+    static JSONObject parseLine(String line) {
+        if (line.length() <= CHECKSUM_LENGTH || line.charAt(CHECKSUM_LENGTH) != ' ') {
+            throw new IllegalArgumentException("Record has no checksum");
+        }
+        String json = line.substring(CHECKSUM_LENGTH + 1);
+        CRC32 recordChecksum = new CRC32();
+        recordChecksum.update(json.getBytes(StandardCharsets.UTF_8));
+        if (readRecordChecksum(line) != recordChecksum.getValue()) {
+            throw new IllegalArgumentException("Record does not match its checksum");
+        }
+        return new JSONObject(json);
+    }
+
+    /**
+     * Adds records to a new copy of the segment, see {@link #append(RecordWriter)}.
+     */
+    class Appender implements Closeable {
+        private final RecordWriter<T> recordWriter;
+        private final Path temporaryPath = Paths.get(file.getPath() + ".tmp");
+        private final Writer writer;
+        private final CRC32 segmentChecksum = new CRC32();
+        private final StringWriter json = new StringWriter();
+        private int records = 0;
+        private boolean isClosed = false;
+
+        private Appender(RecordWriter<T> recordWriter) throws IOException {
+            this.recordWriter = recordWriter;
+            writer = DataFileStreams.newWriter(temporaryPath.toFile(), isCompressed, cipher);
+        }
+
+        void add(T record) throws IOException {
+            json.getBuffer().setLength(0);
+            recordWriter.write(record, new JsonWriter(json, true));
+            String line = formatLine(json.toString());
+            writer.write(line);
+            segmentChecksum.update(line.getBytes(StandardCharsets.UTF_8));
+            records++;
+        }
+
+        int getRecords() {
+            return records;
+        }
+
+        /**
+         * Replaces the segment with the copy.
+         *
+         * @return Checksum of the segment.
+         */
+        long commit() throws IOException {
+            close();
+            Files.move(temporaryPath, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            return segmentChecksum.getValue();
+        }
+
+        /**
+         * Deletes the copy, leaving the segment as it was.
+         */
+        void discard() throws IOException {
+            close();
+            Files.deleteIfExists(temporaryPath);
+        }
+
+        /**
+         * Finishes writing the copy, which is kept to be committed or discarded later.
+         */
+        @Override
+        public void close() throws IOException {
+            if (!isClosed) {
+                isClosed = true;
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * Represents the records read from a segment.
+     */
+    public static class Contents {
+        private final List<JSONObject> records = new ArrayList<>();
+        private final List<Integer> lineNumbers = new ArrayList<>();
+        private final List<Integer> damagedLineNumbers = new ArrayList<>();
+        private final List<Long> recordChecksums = new ArrayList<>();
+        private long checksum;
+
+        public List<JSONObject> getRecords() {
+            return records;
+        }
+
+        /**
+         * Returns the line number of each intact record, in the same order as {@link #getRecords()}.
+         *
+         * @return Line numbers of the intact records.
+         */
+        public List<Integer> getLineNumbers() {
+            return lineNumbers;
+        }
+
+        public List<Integer> getDamagedLineNumbers() {
+            return damagedLineNumbers;
+        }
+
+        /**
+         * Returns the checksum of each intact record, in the same order as {@link #getRecords()}.
+         *
+         * @return Checksums of the intact records.
+         */
+        public List<Long> getRecordChecksums() {
+            return recordChecksums;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+    }
+}
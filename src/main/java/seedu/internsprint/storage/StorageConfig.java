@@ -0,0 +1,484 @@
+package seedu.internsprint.storage;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.INVALID_TENANT_ID;
+
+/**
+ * Holds the configurable options of the storage component.
+ * <p>
+ * The options are read from Java system properties, for example
+ * {@code java -Dinternsprint.json.compact=true -Dinternsprint.durability=periodic -jar internsprint.jar}.
+ * All data files are kept in the data directory, {@code data} by default, which can be moved with
+ * {@code -Dinternsprint.data.dir=path/to/directory}.
+ * <p>
+ * Each tenant, such as one student of a career office sharing a process with others, keeps its data in a
+ * directory of its own under {@code tenants} in the data directory. {@code -Dinternsprint.tenant=ID} opens
+ * the data of one tenant.
+ * <p>
+ * {@code -Dinternsprint.encrypt=true} encrypts the data files with the passphrase in the
+ * {@code INTERNSPRINT_PASSPHRASE} environment variable, which is not a system property so it is not shown with the
+ * command line of the process. Once encrypted, the data stays encrypted and always needs the passphrase.
+ */
+public class StorageConfig {
+    public static final String COMPACT_JSON_PROPERTY = "internsprint.json.compact";
+    public static final String DURABILITY_PROPERTY = "internsprint.durability";
+    public static final String AUTOSAVE_INTERVAL_PROPERTY = "internsprint.autosave.seconds";
+    public static final String COMPRESS_PROPERTY = "internsprint.compress";
+    public static final String BACKEND_PROPERTY = "internsprint.backend";
+    public static final String SEGMENT_RECORDS_PROPERTY = "internsprint.segment.records";
+    public static final String SORT_RUN_RECORDS_PROPERTY = "internsprint.sort.records";
+    public static final String LOAD_THREADS_PROPERTY = "internsprint.load.threads";
+    public static final String WATCH_PROPERTY = "internsprint.watch";
+    public static final String TENANT_PROPERTY = "internsprint.tenant";
+    public static final String TENANT_MEMORY_PROPERTY = "internsprint.tenant.memory.mb";
+    public static final String BACKUP_KEEP_PROPERTY = "internsprint.backup.keep";
+    public static final String BACKUP_DAYS_PROPERTY = "internsprint.backup.days";
+    public static final String CHANGES_PROPERTY = "internsprint.changes";
+    public static final String DATA_DIRECTORY_PROPERTY = "internsprint.data.dir";
+    public static final String ENCRYPT_PROPERTY = "internsprint.encrypt";
+    public static final String CHECK_PROPERTY = "internsprint.check";
+    public static final String PASSPHRASE_VARIABLE = "INTERNSPRINT_PASSPHRASE";
+    public static final String TENANT_DIRECTORY_NAME = "tenants";
+    public static final String DEFAULT_DATA_DIRECTORY = "data";
+    public static final long DEFAULT_AUTOSAVE_INTERVAL_SECONDS = 5;
+    public static final int DEFAULT_SORT_RUN_RECORDS = 100_000;
+    public static final long DEFAULT_TENANT_MEMORY_MEGABYTES = 256;
+    public static final int DEFAULT_KEPT_BACKUPS = 10;
+    public static final int DEFAULT_KEPT_BACKUP_DAYS = 30;
+    private static final Pattern TENANT_ID_PATTERN = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_-]{0,63}");
+
+    /**
+     * Represents where the data is stored.
+     */
+    public enum Backend {
+        /** JSON data files in the data directory, with a journal of internship changes. */
+        FILES,
+        /** Tables of an embedded H2 database in the data directory. */
+        DATABASE,
+        /** Encoded copies of the data held in memory only, which are lost on exit. Meant for tests. */
+        MEMORY
+    }
+
+    /**
+     * Represents when changes to the data are written to disk.
+     */
+    public enum DurabilityMode {
+        /** Every command writes its changes before its result is shown. */
+        SYNC,
+        /** Changes are written in the background every few seconds, and on exit. */
+        PERIODIC,
+        /** Changes are only written on exit. */
+        ON_EXIT
+    }
+
+    /**
+     * Represents what is done with the data files when the app starts, before they are loaded.
+     */
+    public enum CheckMode {
+        /** The data files are loaded without being checked first. */
+        OFF,
+        /** The data files are checked and the problems found are shown. */
+        CHECK,
+        /** The data files are checked and the problems found are repaired. */
+        REPAIR
+    }
+
+    private File dataDirectory = new File(DEFAULT_DATA_DIRECTORY);
+    private Backend backend = Backend.FILES;
+    private boolean isCompactJson = false;
+    private boolean isCompressed = false;
+    private DurabilityMode durabilityMode = DurabilityMode.SYNC;
+    private long autosaveIntervalSeconds = DEFAULT_AUTOSAVE_INTERVAL_SECONDS;
+    private int segmentRecords = 0;
+    private int sortRunRecords = DEFAULT_SORT_RUN_RECORDS;
+    private int loadThreads = Runtime.getRuntime().availableProcessors();
+    private boolean isWatchingFiles = true;
+    private long tenantMemoryBytes = DEFAULT_TENANT_MEMORY_MEGABYTES * 1024 * 1024;
+    private int keptBackups = DEFAULT_KEPT_BACKUPS;
+    private int keptBackupDays = DEFAULT_KEPT_BACKUP_DAYS;
+    private boolean isRecordingChanges = true;
+    private boolean isEncrypted = false;
+    private CheckMode checkMode = CheckMode.OFF;
+    private char[] passphrase;
+    private DataFileCipher cipher;
+
+    /**
+     * Creates the storage configuration from the Java system properties.
+     * Unknown or invalid values fall back to the defaults.
+     *
+     * @return Storage configuration holding the values of the system properties.
+     */
+    public static StorageConfig fromSystemProperties() {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(new File(System.getProperty(DATA_DIRECTORY_PROPERTY, DEFAULT_DATA_DIRECTORY)));
+        config.setBackend(parseBackend(System.getProperty(BACKEND_PROPERTY)));
+        config.setCompactJson(Boolean.getBoolean(COMPACT_JSON_PROPERTY));
+        config.setCompressed(Boolean.getBoolean(COMPRESS_PROPERTY));
+        config.setDurabilityMode(parseDurabilityMode(System.getProperty(DURABILITY_PROPERTY)));
+        config.setAutosaveIntervalSeconds(Long.getLong(AUTOSAVE_INTERVAL_PROPERTY,
+                DEFAULT_AUTOSAVE_INTERVAL_SECONDS));
+        config.setSegmentRecords(Integer.getInteger(SEGMENT_RECORDS_PROPERTY, 0));
+        config.setSortRunRecords(Integer.getInteger(SORT_RUN_RECORDS_PROPERTY, DEFAULT_SORT_RUN_RECORDS));
+        config.setLoadThreads(Integer.getInteger(LOAD_THREADS_PROPERTY, 0));
+        config.setWatchingFiles(Boolean.parseBoolean(System.getProperty(WATCH_PROPERTY, "true")));
+        config.setTenantMemoryBytes(Long.getLong(TENANT_MEMORY_PROPERTY, DEFAULT_TENANT_MEMORY_MEGABYTES)
+                * 1024 * 1024);
+        config.setKeptBackups(Integer.getInteger(BACKUP_KEEP_PROPERTY, DEFAULT_KEPT_BACKUPS));
+        config.setKeptBackupDays(Integer.getInteger(BACKUP_DAYS_PROPERTY, DEFAULT_KEPT_BACKUP_DAYS));
+        config.setRecordingChanges(Boolean.parseBoolean(System.getProperty(CHANGES_PROPERTY, "true")));
+        config.setEncrypted(Boolean.getBoolean(ENCRYPT_PROPERTY));
+        config.setCheckMode(parseCheckMode(System.getProperty(CHECK_PROPERTY)));
+        String passphrase = System.getenv(PASSPHRASE_VARIABLE);
+        if (passphrase != null && !passphrase.isEmpty()) {
+            config.setPassphrase(passphrase.toCharArray());
+        }
+        String tenantId = System.getProperty(TENANT_PROPERTY);
+        return tenantId == null || tenantId.isBlank() ? config : config.forTenant(tenantId.trim());
+    }
+
+    /**
+     * Returns true if the ID can name a tenant. IDs are used as directory names, so they may only hold letters,
+     * digits, hyphens and underscores, and cannot reach outside the tenant directory.
+     *
+     * @param tenantId ID of the tenant.
+     * @return True if the ID is valid.
+     */
+    public static boolean isValidTenantId(String tenantId) {
+        return tenantId != null && TENANT_ID_PATTERN.matcher(tenantId).matches();
+    }
+
+    /**
+     * Returns a copy of this configuration that keeps its data in the directory of the given tenant,
+     * {@code tenants/ID} in the data directory. Every other option is shared with this configuration.
+     *
+     * @param tenantId ID of the tenant.
+     * @return Storage configuration of the tenant.
+     * @throws IllegalArgumentException If the ID is not a valid tenant ID.
+     */
+    public StorageConfig forTenant(String tenantId) {
+        if (!isValidTenantId(tenantId)) {
+            throw new IllegalArgumentException(String.format(INVALID_TENANT_ID, tenantId));
+        }
+        return forDataDirectory(new File(resolve(TENANT_DIRECTORY_NAME), tenantId));
+    }
+
+    /**
+     * Returns a copy of this configuration that keeps its data in the given directory, such as the directory
+     * another copy of the data is synced with. Every other option is shared with this configuration.
+     *
+     * @param dataDirectory Directory to keep the data in.
+     * @return Storage configuration of the directory.
+     */
+    public StorageConfig forDataDirectory(File dataDirectory) {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(dataDirectory);
+        config.setBackend(backend);
+        config.setCompactJson(isCompactJson);
+        config.setCompressed(isCompressed);
+        config.setDurabilityMode(durabilityMode);
+        config.setAutosaveIntervalSeconds(autosaveIntervalSeconds);
+        config.setSegmentRecords(segmentRecords);
+        config.setSortRunRecords(sortRunRecords);
+        config.setLoadThreads(loadThreads);
+        config.setWatchingFiles(isWatchingFiles);
+        config.setTenantMemoryBytes(tenantMemoryBytes);
+        config.setKeptBackups(keptBackups);
+        config.setKeptBackupDays(keptBackupDays);
+        config.setRecordingChanges(isRecordingChanges);
+        // Data copied from encrypted data, such as by a sync, is encrypted too
+        config.setEncrypted(isEncrypted || cipher != null);
+        config.setPassphrase(passphrase);
+        config.setCheckMode(checkMode);
+        return config;
+    }
+
+    /**
+     * Parses the durability mode given as {@code sync}, {@code periodic} or {@code exit}.
+     *
+     * @param value Value of the durability property, may be null.
+     * @return Durability mode represented by the value, or {@link DurabilityMode#SYNC} if it is unknown.
+     */
+    static DurabilityMode parseDurabilityMode(String value) {
+        if (value == null) {
+            return DurabilityMode.SYNC;
+        }
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+        case "periodic":
+            return DurabilityMode.PERIODIC;
+        case "exit":
+        case "on-exit":
+            return DurabilityMode.ON_EXIT;
+        default:
+            return DurabilityMode.SYNC;
+        }
+    }
+
+    /**
+     * Parses the storage backend given as {@code files}, {@code database} or {@code memory}.
+     *
+     * @param value Value of the backend property, may be null.
+     * @return Backend represented by the value, or {@link Backend#FILES} if it is unknown.
+     */
+    static Backend parseBackend(String value) {
+        if (value == null) {
+            return Backend.FILES;
+        }
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+        case "database":
+        case "h2":
+            return Backend.DATABASE;
+        case "memory":
+            return Backend.MEMORY;
+        default:
+            return Backend.FILES;
+        }
+    }
+
+    /**
+     * Parses the startup check given as {@code true} or {@code check} to check the data files, or {@code repair}
+     * to also repair them.
+     *
+     * @param value Value of the check property, may be null.
+     * @return Check mode represented by the value, or {@link CheckMode#OFF} if it is unknown.
+     */
+    static CheckMode parseCheckMode(String value) {
+        if (value == null) {
+            return CheckMode.OFF;
+        }
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+        case "true":
+        case "check":
+            return CheckMode.CHECK;
+        case "repair":
+            return CheckMode.REPAIR;
+        default:
+            return CheckMode.OFF;
+        }
+    }
+
+    public File getDataDirectory() {
+        return dataDirectory;
+    }
+
+    public void setDataDirectory(File dataDirectory) {
+        this.dataDirectory = dataDirectory;
+    }
+
+    /**
+     * Returns the file or directory with the given name in the data directory.
+     *
+     * @param fileName Name of the file or directory, relative to the data directory.
+     * @return File in the data directory.
+     */
+    public File resolve(String fileName) {
+        return new File(dataDirectory, fileName);
+    }
+
+    public Backend getBackend() {
+        return backend;
+    }
+
+    public void setBackend(Backend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Returns true if JSON data files should be written without indentation.
+     *
+     * @return True if compact JSON should be written.
+     */
+    public boolean isCompactJson() {
+        return isCompactJson;
+    }
+
+    public void setCompactJson(boolean isCompactJson) {
+        this.isCompactJson = isCompactJson;
+    }
+
+    /**
+     * Returns true if data files should be written GZIP compressed.
+     *
+     * @return True if data files should be compressed.
+     */
+    public boolean isCompressed() {
+        return isCompressed;
+    }
+
+    public void setCompressed(boolean isCompressed) {
+        this.isCompressed = isCompressed;
+    }
+
+    public DurabilityMode getDurabilityMode() {
+        return durabilityMode;
+    }
+
+    public void setDurabilityMode(DurabilityMode durabilityMode) {
+        this.durabilityMode = durabilityMode;
+    }
+
+    public long getAutosaveIntervalSeconds() {
+        return autosaveIntervalSeconds;
+    }
+
+    public void setAutosaveIntervalSeconds(long autosaveIntervalSeconds) {
+        this.autosaveIntervalSeconds = autosaveIntervalSeconds > 0 ? autosaveIntervalSeconds
+                : DEFAULT_AUTOSAVE_INTERVAL_SECONDS;
+    }
+
+    /**
+     * Returns the most internships saved in one segment file, or 0 if each type is saved in a single segment.
+     *
+     * @return Maximum number of records per segment.
+     */
+    public int getSegmentRecords() {
+        return segmentRecords;
+    }
+
+    public void setSegmentRecords(int segmentRecords) {
+        this.segmentRecords = Math.max(segmentRecords, 0);
+    }
+
+    /**
+     * Returns the most records sorted in memory at once when a sorted export is written.
+     * Larger exports are sorted in runs of this size that are written to temporary files and merged.
+     *
+     * @return Maximum number of records held in memory while sorting.
+     */
+    public int getSortRunRecords() {
+        return sortRunRecords;
+    }
+
+    public void setSortRunRecords(int sortRunRecords) {
+        this.sortRunRecords = sortRunRecords > 0 ? sortRunRecords : DEFAULT_SORT_RUN_RECORDS;
+    }
+
+    /**
+     * Returns the number of threads parsing the internship segments while they are loaded.
+     *
+     * @return Number of parsing threads, by default one per processor.
+     */
+    public int getLoadThreads() {
+        return loadThreads;
+    }
+
+    public void setLoadThreads(int loadThreads) {
+        this.loadThreads = loadThreads > 0 ? loadThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns true if internship data files changed outside the app while it runs should be loaded.
+     *
+     * @return True if the data files should be watched.
+     */
+    public boolean isWatchingFiles() {
+        return isWatchingFiles;
+    }
+
+    public void setWatchingFiles(boolean isWatchingFiles) {
+        this.isWatchingFiles = isWatchingFiles;
+    }
+
+    /**
+     * Returns the estimated memory the data of all loaded tenants may take before the least recently used
+     * tenants are saved and unloaded.
+     *
+     * @return Memory budget of the loaded tenants, in bytes.
+     */
+    public long getTenantMemoryBytes() {
+        return tenantMemoryBytes;
+    }
+
+    public void setTenantMemoryBytes(long tenantMemoryBytes) {
+        this.tenantMemoryBytes = tenantMemoryBytes > 0 ? tenantMemoryBytes
+                : DEFAULT_TENANT_MEMORY_MEGABYTES * 1024 * 1024;
+    }
+
+    /**
+     * Returns the number of most recent backups kept whenever old backups are removed.
+     *
+     * @return Number of most recent backups kept, at least 1.
+     */
+    public int getKeptBackups() {
+        return keptBackups;
+    }
+
+    public void setKeptBackups(int keptBackups) {
+        this.keptBackups = keptBackups > 0 ? keptBackups : DEFAULT_KEPT_BACKUPS;
+    }
+
+    /**
+     * Returns the number of most recent days whose last backup is kept, on top of the most recent backups.
+     *
+     * @return Number of days with a backup kept, or 0 if only the most recent backups are kept.
+     */
+    public int getKeptBackupDays() {
+        return keptBackupDays;
+    }
+
+    public void setKeptBackupDays(int keptBackupDays) {
+        this.keptBackupDays = Math.max(keptBackupDays, 0);
+    }
+
+    /**
+     * Returns true if every change to the saved data should be added to the {@link ChangeFeed}.
+     *
+     * @return True if changes are recorded in the change feed.
+     */
+    public boolean isRecordingChanges() {
+        return isRecordingChanges;
+    }
+
+    public void setRecordingChanges(boolean isRecordingChanges) {
+        this.isRecordingChanges = isRecordingChanges;
+    }
+
+    /**
+     * Returns true if the data files should be encrypted, even if they are not yet.
+     *
+     * @return True if encryption was requested.
+     */
+    public boolean isEncrypted() {
+        return isEncrypted;
+    }
+
+    public void setEncrypted(boolean isEncrypted) {
+        this.isEncrypted = isEncrypted;
+    }
+
+    /**
+     * Returns what is done with the data files when the app starts.
+     *
+     * @return Check mode of the startup.
+     */
+    public CheckMode getCheckMode() {
+        return checkMode;
+    }
+
+    public void setCheckMode(CheckMode checkMode) {
+        this.checkMode = checkMode;
+    }
+
+    public char[] getPassphrase() {
+        return passphrase;
+    }
+
+    public void setPassphrase(char[] passphrase) {
+        this.passphrase = passphrase;
+    }
+
+    /**
+     * Returns the cipher encrypting the data files, set once the key of the data directory has been opened.
+     *
+     * @return Cipher of the data files, or null if they are not encrypted.
+     */
+    public DataFileCipher getCipher() {
+        return cipher;
+    }
+
+    public void setCipher(DataFileCipher cipher) {
+        this.cipher = cipher;
+    }
+}
@@ -1,80 +1,1203 @@
 package seedu.internsprint.storage;
 
+import seedu.internsprint.exceptions.DuplicateEntryException;
 import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipIndex;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.Project;
 import seedu.internsprint.model.userprofile.project.ProjectList;
+import seedu.internsprint.util.InternSprintLogger;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CONVERT_UNAVAILABLE_WITH_ENCRYPTION;
+import static seedu.internsprint.util.InternSprintExceptionMessages.ENCRYPTION_PASSPHRASE_MISSING;
+import static seedu.internsprint.util.InternSprintExceptionMessages.ENCRYPTION_UNAVAILABLE_WITH_DATABASE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_FILE_CONFLICT;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_KEPT_COPY;
+import static seedu.internsprint.util.InternSprintMessages.RELOAD_FILE_NEXT_START;
+import static seedu.internsprint.util.InternSprintMessages.RELOAD_FILE_SUCCESS;
 
 /**
  * Manages the storage of data in the application.
  * <p>
- * This class is a singleton, meaning that there is only one instance of it in the application.
+ * The application uses a single instance, configured from the system properties, which is returned by
+ * {@link #getInstance()}. Further instances can be built with a {@link StorageConfig} of their own.
  * It is responsible for creating and managing the storage handlers for different types of data.
+ * <p>
+ * Saves go through a {@link WriteBehindSaver}, which tracks which stores are dirty and writes them
+ * according to the configured durability mode.
+ * <p>
+ * The data is kept in the JSON data files by default. With the {@link StorageConfig.Backend#DATABASE} backend,
+ * it is kept in an embedded {@link Database} instead, and every mutation of the internship list is applied
+ * to it as row-level statements rather than through the journal. With the {@link StorageConfig.Backend#MEMORY}
+ * backend, every store is an {@link InMemoryStorage} and nothing is written to the data directory.
+ * <p>
+ * A session that locks the data directory with {@link #lockDataDirectory()} is either its primary session, the
+ * only one changing the data files, or a read-only session if another process already uses the directory.
+ * Before the primary session saves the internships, it loads the segment files another process changed since
+ * they were last saved, merging them record by record, so the save does not overwrite those changes. The other
+ * data files are saved whole, so one changed outside the app since it was last read or saved is copied to the
+ * quarantine directory before it is saved over, as tracked by {@link DataFileStamps}.
+ * <p>
+ * Unless the data is only kept in memory or encrypted, every change is also added to a {@link ChangeFeed} once it
+ * is saved.
+ * <p>
+ * If the data is encrypted, every data file is encrypted with the {@link DataFileCipher} of the data directory, set
+ * in the configuration before any handler is created. Files saved before the data was encrypted are encrypted as they
+ * are when the primary session locks the data directory.
  */
 public class StorageManager {
 
+    private static final Logger logger = InternSprintLogger.getLogger();
+    /* Files whose size and modification time tell a read-only session that the data was saved again */
+    private static final List<String> STAMPED_FILE_NAMES = List.of(
+            InternshipStorageHandler.DIRECTORY_NAME + File.separator + InternshipStorageHandler.MANIFEST_FILE_NAME,
+            JournalStorageHandler.FILE_NAME, InterviewStorageHandler.FILE_NAME, ProjectStorageHandler.FILE_NAME,
+            ProfileStorageHandler.FILE_NAME);
+    private static final long NO_STAMP = -1;
     private static StorageManager storageManager;
-    private static boolean isConfigured = false;
 
+    private final StorageConfig config;
     private final InternshipStorageHandler internshipStorageHandler;
-    private final ProjectStorageHandler projectStorageHandler;
-    private final ProfileStorageHandler profileStorageHandler;
     private final InterviewStorageHandler interviewStorageHandler;
+    private final Storage<ProjectList> projectStorage;
+    private final Storage<UserProfile> profileStorage;
+    private final Database database;
+    private final DatabaseInternshipStorageHandler databaseInternshipStorageHandler;
+    private final DatabaseInterviewStorageHandler databaseInterviewStorageHandler;
+    private final InMemoryStorage<InternshipList> memoryInternshipStorage;
+    private final InMemoryStorage<InternshipList> memoryInterviewStorage;
+    private final JournalStorageHandler journalStorageHandler;
+    private final BinarySnapshotStorageHandler binarySnapshotStorageHandler;
+    private final InternshipIndexStorageHandler internshipIndexStorageHandler;
+    private final WriteBehindSaver writeBehindSaver;
+    private final BackupStore backupStore;
+    private final ArchiveStore archiveStore;
+    private final DataChecker dataChecker;
+    private final DataFileStamps dataFileStamps;
+    private final ChangeFeed changeFeed;
+    private final DataSynchronizer dataSynchronizer;
+    private final List<JournalEntry> pendingJournalEntries = new ArrayList<>();
+    private final List<ChangeFeed.Change> pendingChanges = new ArrayList<>();
+    private final Queue<CommandResult> mergeResults = new ConcurrentLinkedQueue<>();
+    private boolean isInterviewFileDirty = false;
+    private volatile DataDirectoryLock dataDirectoryLock;
+    private long loadedDataStamp;
+    /* Stamp of the data files the indexed list was loaded from, or NO_STAMP once the list may differ from them */
+    private volatile long indexedStamp = NO_STAMP;
+    private volatile InternshipList indexedInternships;
+    private volatile boolean isInterviewDataLoaded = false;
 
-    private StorageManager() {
-        this.internshipStorageHandler = new InternshipStorageHandler();
-        this.projectStorageHandler = new ProjectStorageHandler();
-        this.profileStorageHandler = new ProfileStorageHandler();
-        this.interviewStorageHandler = new InterviewStorageHandler();
-        isConfigured = true;
+    /**
+     * Creates a storage manager keeping its data in the backend and data directory of the configuration.
+     *
+     * @param config Storage configuration to use.
+     */
+    public StorageManager(StorageConfig config) {
+        this.config = config;
+        config.setCipher(openCipher(config));
+        this.internshipStorageHandler = new InternshipStorageHandler(config);
+        this.interviewStorageHandler = new InterviewStorageHandler(config);
+        this.database = config.getBackend() == StorageConfig.Backend.DATABASE ? openDatabase(config) : null;
+        this.databaseInternshipStorageHandler = database == null ? null
+                : new DatabaseInternshipStorageHandler(database);
+        this.databaseInterviewStorageHandler = database == null ? null
+                : new DatabaseInterviewStorageHandler(database);
+        boolean isInMemory = config.getBackend() == StorageConfig.Backend.MEMORY;
+        this.memoryInternshipStorage = isInMemory ? InMemoryStorage.forInternships() : null;
+        this.memoryInterviewStorage = isInMemory ? InMemoryStorage.forInterviews() : null;
+        switch (config.getBackend()) {
+        case DATABASE:
+            this.projectStorage = new DatabaseProjectStorageHandler(database);
+            this.profileStorage = new DatabaseProfileStorageHandler(database);
+            break;
+        case MEMORY:
+            this.projectStorage = InMemoryStorage.forProjects();
+            this.profileStorage = InMemoryStorage.forProfile();
+            break;
+        default:
+            this.projectStorage = new ProjectStorageHandler(config);
+            this.profileStorage = new ProfileStorageHandler(config);
+            break;
+        }
+        this.journalStorageHandler = new JournalStorageHandler(config, internshipStorageHandler);
+        this.binarySnapshotStorageHandler = new BinarySnapshotStorageHandler(config, internshipStorageHandler);
+        this.internshipIndexStorageHandler = new InternshipIndexStorageHandler(config, internshipStorageHandler);
+        this.writeBehindSaver = new WriteBehindSaver(config.getDurabilityMode(),
+                config.getAutosaveIntervalSeconds());
+        this.backupStore = new BackupStore(config);
+        this.archiveStore = new ArchiveStore(this);
+        this.dataChecker = new DataChecker(config, internshipStorageHandler);
+        this.dataFileStamps = new DataFileStamps(config);
+        // The change feed is written for scripts to read, so encrypted data is not copied to it
+        this.changeFeed = isInMemory || !config.isRecordingChanges() || isEncrypted() ? null : new ChangeFeed(config);
+        this.dataSynchronizer = new DataSynchronizer(this);
     }
 
-    public static StorageManager getInstance() {
-        if (!isConfigured) {
-            storageManager = new StorageManager();
+    /**
+     * Returns the storage manager of the application, creating it from the system properties on first use.
+     *
+     * @return Storage manager of the application.
+     */
+    public static synchronized StorageManager getInstance() {
+        if (storageManager == null) {
+            storageManager = new StorageManager(StorageConfig.fromSystemProperties());
         }
         return storageManager;
     }
 
+    /**
+     * Opens the key of the data directory if its data is, or is to be, encrypted.
+     *
+     * @throws IllegalArgumentException If the data is encrypted but the passphrase is missing or wrong.
+     */
+    private static DataFileCipher openCipher(StorageConfig config) {
+        File keyFile = config.resolve(DataFileCipher.KEY_FILE_NAME);
+        if (config.getBackend() == StorageConfig.Backend.MEMORY || !config.isEncrypted() && !keyFile.exists()) {
+            return null;
+        }
+        if (config.getBackend() == StorageConfig.Backend.DATABASE) {
+            throw new IllegalArgumentException(ENCRYPTION_UNAVAILABLE_WITH_DATABASE);
+        }
+        if (config.getPassphrase() == null) {
+            throw new IllegalArgumentException(ENCRYPTION_PASSPHRASE_MISSING);
+        }
+        try {
+            return DataFileCipher.open(keyFile, config.getPassphrase());
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if the data files are encrypted.
+     *
+     * @return True if the data files are encrypted.
+     */
+    public boolean isEncrypted() {
+        return config.getCipher() != null;
+    }
+
+    /**
+     * Encrypts the data files saved before the data was encrypted, so no plaintext copy is left behind.
+     * The internship and interview files are only encrypted as they are if the journal has no entries, as it is
+     * stamped with their checksums. Otherwise the entries are replayed on load, which saves both again.
+     */
+    private void encryptDataFiles() throws IOException {
+        DataFileCipher cipher = config.getCipher();
+        cipher.encryptFile(config.resolve(ProjectStorageHandler.FILE_NAME));
+        cipher.encryptFile(config.resolve(ProfileStorageHandler.FILE_NAME));
+        cipher.encryptFile(config.resolve(ArchiveStore.FILE_NAME));
+        binarySnapshotStorageHandler.delete();
+        internshipIndexStorageHandler.delete();
+        if (journalStorageHandler.hasEntries()) {
+            return;
+        }
+        boolean isEncryptingFiles = cipher.encryptFile(config.resolve(InternshipStorageHandler.LEGACY_FILE_NAME));
+        isEncryptingFiles |= cipher.encryptFile(config.resolve(InterviewStorageHandler.FILE_NAME));
+        for (File segmentFile : internshipStorageHandler.listSegmentFiles()) {
+            isEncryptingFiles |= cipher.encryptFile(segmentFile);
+        }
+        if (isEncryptingFiles && config.resolve(JournalStorageHandler.FILE_NAME).exists()) {
+            journalStorageHandler.reset();
+        }
+    }
+
+    private static Database openDatabase(StorageConfig config) {
+        try {
+            return Database.open(config);
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    public StorageConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the path of a file or directory in the data directory, for use in messages.
+     *
+     * @param fileName Name of the file or directory, relative to the data directory.
+     * @return Path of the file or directory.
+     */
+    public String getDataPath(String fileName) {
+        return config.resolve(fileName).getPath();
+    }
+
+    /**
+     * Returns true if the data is kept in the embedded database instead of the JSON data files.
+     *
+     * @return True if the database backend is used.
+     */
+    public boolean isUsingDatabase() {
+        return database != null;
+    }
+
+    /**
+     * Returns true if the data is only kept in memory, and is lost on exit.
+     *
+     * @return True if the in-memory backend is used.
+     */
+    public boolean isInMemory() {
+        return memoryInternshipStorage != null;
+    }
+
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    public DataSynchronizer getDataSynchronizer() {
+        return dataSynchronizer;
+    }
+
+    /**
+     * Returns the backups of the data files. Backups are only made of the data files, so they are not
+     * available with the database or in-memory backends.
+     *
+     * @return Backup store of the data directory.
+     */
+    public BackupStore getBackupStore() {
+        return backupStore;
+    }
+
+    /**
+     * Returns the archive of internships moved out of the list. Like backups, the archive is only kept with the
+     * data files, as the internships are moved without being journalled.
+     *
+     * @return Archive store of the data directory.
+     */
+    public ArchiveStore getArchiveStore() {
+        return archiveStore;
+    }
+
+    /**
+     * Returns the checker of the data files, which like backups is only available with the data files.
+     *
+     * @return Data checker of the data directory.
+     */
+    public DataChecker getDataChecker() {
+        return dataChecker;
+    }
+
+    /**
+     * Locks the data directory for this session, making it the primary session if no other process uses the
+     * directory, and a read-only session otherwise. Only the data files are locked, as the database locks itself.
+     * This should be called before the data is loaded.
+     *
+     * @return True if this session may change the data.
+     */
+    public synchronized boolean lockDataDirectory() {
+        if (dataDirectoryLock != null || config.getBackend() != StorageConfig.Backend.FILES) {
+            return !isReadOnly();
+        }
+        try {
+            DataDirectoryLock lock = DataDirectoryLock.open(config.getDataDirectory());
+            boolean isPrimary = lock.tryLockSession();
+            internshipStorageHandler.setReadOnly(!isPrimary);
+            if (isPrimary && isEncrypted()) {
+                encryptDataFiles();
+            }
+            loadedDataStamp = computeDataStamp();
+            dataDirectoryLock = lock;
+            return isPrimary;
+        } catch (IOException e) {
+            // Such as on a file system without locks, where the data is used as before
+            logger.log(Level.WARNING, "Unable to lock the data directory: " + e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Tries again to make a read-only session the primary session, such as once the other session has exited.
+     * If it succeeds, the data should be loaded again before it is changed, as the other session may have
+     * changed it.
+     *
+     * @return True if this session may now change the data.
+     */
+    public synchronized boolean retryDataDirectoryLock() {
+        if (!isReadOnly()) {
+            return true;
+        }
+        try {
+            if (!dataDirectoryLock.tryLockSession()) {
+                return false;
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to lock the data directory: " + e.getMessage());
+            return false;
+        }
+        internshipStorageHandler.setReadOnly(false);
+        return true;
+    }
+
+    /**
+     * Returns true if another process is the primary session of the data directory, so this session must not
+     * change the data.
+     *
+     * @return True if this is a read-only session.
+     */
+    public boolean isReadOnly() {
+        DataDirectoryLock lock = dataDirectoryLock;
+        return lock != null && !lock.isPrimary();
+    }
+
+    /**
+     * Returns true if any data file was saved since the data was last loaded, such as by the primary session
+     * while this session only reads the data. Files are compared by their size and modification time.
+     *
+     * @return True if the data should be loaded again to be up to date.
+     */
+    public synchronized boolean isChangedOnDisk() {
+        return computeDataStamp() != loadedDataStamp;
+    }
+
+    private long computeDataStamp() {
+        return computeDataStamp(config);
+    }
+
+    /**
+     * Returns a stamp of the sizes and modification times of the data files of a configuration,
+     * which changes whenever any of them is saved.
+     *
+     * @param config Storage configuration of the data files.
+     * @return Stamp of the data files.
+     */
+    static long computeDataStamp(StorageConfig config) {
+        long stamp = 17;
+        for (String fileName : STAMPED_FILE_NAMES) {
+            File file = config.resolve(fileName);
+            stamp = 31 * (31 * stamp + file.length()) + file.lastModified();
+        }
+        return stamp;
+    }
+
+    /**
+     * Returns the results of merging changes made by other processes into the internships before they were
+     * saved, since this was last called.
+     *
+     * @return Results describing the changes merged and any conflicts, oldest first.
+     */
+    public List<CommandResult> takeMergeResults() {
+        List<CommandResult> taken = new ArrayList<>();
+        CommandResult result;
+        while ((result = mergeResults.poll()) != null) {
+            taken.add(result);
+        }
+        return taken;
+    }
+
+    /**
+     * Loads every store again from the data files, such as after they were restored from a backup, replacing
+     * what the list and profile held. What was known about the files saved before is forgotten, so the next save
+     * compares against the files as they are now.
+     * This should be called while holding the write lock of the data lock, once every change has been saved.
+     *
+     * @param internships List of internships to be loaded again, including their interviews.
+     * @param user User profile to be loaded again, including its projects.
+     * @return Results of loading each store.
+     */
+    public List<CommandResult> reloadAllData(InternshipList internships, UserProfile user) {
+        synchronized (this) {
+            loadedDataStamp = computeDataStamp();
+        }
+        synchronized (pendingJournalEntries) {
+            pendingJournalEntries.clear();
+            isInterviewFileDirty = false;
+            internshipStorageHandler.forgetSavedSegments();
+        }
+        internships.clear();
+        user.clear();
+        List<CommandResult> results = new ArrayList<>();
+        results.add(loadInternshipData(internships));
+        results.add(loadInterviewData(internships, CompletableFuture.completedFuture(null)));
+        internships.clearStoredInterviewMarkers();
+        results.add(loadJournalData(internships));
+        results.add(loadUserProfileData(user));
+        results.add(loadProjectData(user.projects));
+        return results;
+    }
+
     // ================= Internship methods =================
 
     public void saveInternshipData(InternshipList internships) throws IOException {
+        if (isInMemory()) {
+            memoryInternshipStorage.save(internships);
+            return;
+        }
+        if (isUsingDatabase()) {
+            databaseInternshipStorageHandler.save(internships);
+            return;
+        }
         internshipStorageHandler.save(internships);
     }
 
     public CommandResult loadInternshipData(InternshipList internships) {
-        return internshipStorageHandler.load(internships);
+        if (isInMemory()) {
+            return memoryInternshipStorage.load(internships);
+        }
+        if (isUsingDatabase()) {
+            return databaseInternshipStorageHandler.load(internships);
+        }
+        long stamp = computeIndexStamp();
+        CommandResult result = internshipStorageHandler.load(internships);
+        startIndexing(internships, result.isSuccessful() ? stamp : NO_STAMP);
+        return result;
     }
 
     // ================= Interview methods =================
 
     public void saveInterviewData(InternshipList internships) throws IOException {
-        interviewStorageHandler.save(internships);
+        if (isInMemory()) {
+            memoryInterviewStorage.save(internships);
+            return;
+        }
+        if (isUsingDatabase()) {
+            databaseInterviewStorageHandler.save(internships);
+            return;
+        }
+        saveWholeFile(InterviewStorageHandler.FILE_NAME, () -> interviewStorageHandler.save(internships));
     }
 
     public CommandResult loadInterviewData(InternshipList internships) {
-        return interviewStorageHandler.load(internships);
+        if (isInMemory()) {
+            return memoryInterviewStorage.load(internships);
+        }
+        if (isUsingDatabase()) {
+            return databaseInterviewStorageHandler.load(internships);
+        }
+        dataFileStamps.record(InterviewStorageHandler.FILE_NAME);
+        CommandResult result = interviewStorageHandler.load(internships);
+        isInterviewDataLoaded |= result.isSuccessful();
+        return result;
+    }
+
+    /**
+     * Loads the interviews, parsing them while the internships they belong to are still loading.
+     *
+     * @param internships List of internships the interviews are added to.
+     * @param internshipLoad Completes once the internships have been added to the list.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    public CommandResult loadInterviewData(InternshipList internships, Future<?> internshipLoad) {
+        if (isInMemory()) {
+            return memoryInterviewStorage.load(internships, internshipLoad);
+        }
+        if (isUsingDatabase()) {
+            return databaseInterviewStorageHandler.load(internships, internshipLoad);
+        }
+        dataFileStamps.record(InterviewStorageHandler.FILE_NAME);
+        CommandResult result = interviewStorageHandler.load(internships, internshipLoad);
+        isInterviewDataLoaded |= result.isSuccessful();
+        return result;
+    }
+
+    // ================= Index methods =================
+
+    /**
+     * Returns an index over the internships, memory-mapping the saved index if it was built from the data files
+     * the list was loaded from and the list has not changed since. Otherwise the index is built, and saved for
+     * the next start if the list still holds exactly what the data files hold.
+     *
+     * @param kind Kind of index.
+     * @param internships List of internships to be indexed.
+     * @return Index over the list.
+     */
+    public InternshipIndex loadInternshipIndex(InternshipIndex.Kind kind, InternshipList internships) {
+        long stamp = indexedStamp;
+        // An interview index built before the interviews are loaded would leave out every interview
+        boolean isIndexable = kind != InternshipIndex.Kind.INTERVIEW_DATE || isInterviewDataLoaded;
+        boolean isMatchingFiles = isIndexable && stamp != NO_STAMP && internships == indexedInternships
+                && computeIndexStamp() == stamp;
+        if (isMatchingFiles) {
+            InternshipIndex savedIndex = internshipIndexStorageHandler.load(kind, stamp);
+            if (savedIndex != null) {
+                return savedIndex;
+            }
+        }
+        long startTime = System.nanoTime();
+        InternshipIndex index = InternshipIndex.build(kind, internships);
+        logger.log(Level.INFO, String.format("Built %s index of %d entries in %d ms", kind, index.size(),
+                (System.nanoTime() - startTime) / 1_000_000));
+        if (isMatchingFiles && !isReadOnly()) {
+            saveInternshipIndex(index, stamp);
+        }
+        return index;
+    }
+
+    /**
+     * Saves every index that has been saved before again, so it matches the data files just saved.
+     * This should be called after every change to the internships has been saved.
+     *
+     * @param internships List of internships, as saved in the data files.
+     */
+    public void refreshInternshipIndexes(InternshipList internships) {
+        if (isUsingDatabase() || isInMemory() || isReadOnly() || isEncrypted()) {
+            return;
+        }
+        startIndexing(internships, computeIndexStamp());
+        for (InternshipIndex.Kind kind : InternshipIndex.Kind.values()) {
+            boolean isIndexable = kind != InternshipIndex.Kind.INTERVIEW_DATE || isInterviewDataLoaded;
+            if (isIndexable && internshipIndexStorageHandler.exists(kind)) {
+                saveInternshipIndex(InternshipIndex.build(kind, internships), indexedStamp);
+            }
+        }
+    }
+
+    private void saveInternshipIndex(InternshipIndex index, long stamp) {
+        try {
+            internshipIndexStorageHandler.save(index, stamp);
+        } catch (IOException e) {
+            // The index is only saved to start faster, so it is built again next time instead
+            logger.log(Level.WARNING, "Unable to save index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records that the list holds what the data files with the given stamp hold, so its saved indexes can be used.
+     */
+    private void startIndexing(InternshipList internships, long stamp) {
+        indexedInternships = internships;
+        indexedStamp = stamp;
+    }
+
+    /**
+     * Records that the list may differ from the data files, so its indexes are built from the list instead.
+     */
+    private void stopIndexing() {
+        indexedStamp = NO_STAMP;
+    }
+
+    private long computeIndexStamp() {
+        // The company index holds the company names, so it is not saved next to encrypted data
+        if (isUsingDatabase() || isInMemory() || isEncrypted()) {
+            return NO_STAMP;
+        }
+        try {
+            return internshipIndexStorageHandler.computeStamp();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to stamp the data files for the indexes: " + e.getMessage());
+            return NO_STAMP;
+        }
+    }
+
+    // ================= Journal methods =================
+
+    /**
+     * Records one mutation of the internship list in the journal, or applies it to the database.
+     * The journal is compacted into the internship and interview files once it grows large enough.
+     * Outside sync mode, the entries of several commands are written together in a single write.
+     *
+     * @param entry Journal entry describing the mutation.
+     * @param internships List of internships after the mutation.
+     */
+    public void appendInternshipMutation(JournalEntry entry, InternshipList internships) throws IOException {
+        stopIndexing();
+        synchronized (pendingJournalEntries) {
+            pendingJournalEntries.add(entry);
+            if (!isUsingDatabase() && !isInMemory()) {
+                internshipStorageHandler.markChanged(entry, internships);
+                isInterviewFileDirty |= entry.isChangingInterviews();
+            }
+        }
+        writeBehindSaver.markDirty(WriteBehindSaver.Store.JOURNAL, () -> flushJournal(internships));
+        recordChanges(List.of(createChange(entry, internships)));
+    }
+
+    /**
+     * Creates the change feed entry describing a journalled mutation of the internship list.
+     *
+     * @param entry Journal entry describing the mutation.
+     * @param internships List of internships after the mutation.
+     * @return Change describing the mutation.
+     */
+    private static ChangeFeed.Change createChange(JournalEntry entry, InternshipList internships) {
+        switch (entry.getOperation()) {
+        case JournalEntry.ADD:
+            return new ChangeFeed.Change(ChangeFeed.INTERNSHIPS, ChangeFeed.ADD, null, entry.getRecord());
+        case JournalEntry.EDIT:
+            return new ChangeFeed.Change(ChangeFeed.INTERNSHIPS, ChangeFeed.EDIT, entry.getPreviousRecord(),
+                    entry.getRecord());
+        case JournalEntry.DELETE:
+            return new ChangeFeed.Change(ChangeFeed.INTERNSHIPS, ChangeFeed.DELETE, entry.getPreviousRecord(), null);
+        default:
+            Internship internship = internships.getInternshipMap().get(entry.getType()).get(entry.getIndex());
+            return new ChangeFeed.Change(ChangeFeed.INTERVIEWS, ChangeFeed.ADD, internship.toJson(), null,
+                    entry.getRecord());
+        }
+    }
+
+    /**
+     * Saves internships added in bulk to the end of the list. Instead of journalling each of them, the database
+     * gets them in a single transaction, and the segments they were added to are saved with the next compaction.
+     *
+     * @param added Internships that were added.
+     * @param internships List of internships after they were added.
+     */
+    public void saveAddedInternships(List<Internship> added, InternshipList internships) throws IOException {
+        stopIndexing();
+        if (isInMemory()) {
+            memoryInternshipStorage.save(internships);
+            return;
+        }
+        List<ChangeFeed.Change> changes = new ArrayList<>();
+        for (Internship internship : added) {
+            changes.add(new ChangeFeed.Change(ChangeFeed.INTERNSHIPS, ChangeFeed.ADD, null, internship.toJson()));
+        }
+        if (isUsingDatabase()) {
+            List<JournalEntry> entries = new ArrayList<>();
+            for (Internship internship : added) {
+                entries.add(JournalEntry.forAdd(internship));
+            }
+            databaseInternshipStorageHandler.apply(entries);
+            recordChanges(changes);
+            return;
+        }
+        Map<String, Integer> addedCounts = new HashMap<>();
+        for (Internship internship : added) {
+            addedCounts.merge(internship.getType(), 1, Integer::sum);
+        }
+        synchronized (pendingJournalEntries) {
+            addedCounts.forEach((type, count) -> {
+                int size = internships.getInternshipMap().get(type).size();
+                internshipStorageHandler.markAdded(type, size - count, size);
+            });
+        }
+        compactInternshipData(internships);
+        recordChanges(changes);
+    }
+
+    /**
+     * Loads the changes made to an internship segment file outside the app into the list, then saves the
+     * merged internships at once, so the segments, the journal and the list agree again.
+     * This should be called while holding the write lock of the data lock.
+     *
+     * @param fileName Name of the file that changed, within the internship directory.
+     * @param internships List of internships to apply the changes to.
+     * @return Result describing the changes and any conflicts, or null if nothing was changed outside the app.
+     */
+    public CommandResult reloadInternshipSegment(String fileName, InternshipList internships) throws IOException {
+        if (isUsingDatabase() || isInMemory()) {
+            return null;
+        }
+        InternshipStorageHandler.ReloadedSegment reload;
+        synchronized (pendingJournalEntries) {
+            reload = internshipStorageHandler.reloadSegment(fileName, internships);
+            if (reload == null) {
+                return null;
+            }
+            stopIndexing();
+            isInterviewFileDirty |= reload.isRemovingInterviews();
+        }
+        // Journal entries refer to internships by position, which the loaded changes may have shifted
+        compact(internships);
+        recordChanges(List.of(new ChangeFeed.Change(ChangeFeed.INTERNSHIPS, ChangeFeed.RESET, null, null)));
+        return new CommandResult(reload.getFeedback(), !reload.hasConflicts());
+    }
+
+    /**
+     * Applies a mutation to the internship list without journalling it, marking the segments it touches, so many
+     * mutations are saved at once by {@link #saveUnjournalledMutations(InternshipList)}, such as those of a sync.
+     * Only the data files are supported.
+     *
+     * @param entry Journal entry describing the mutation.
+     * @param internships List of internships to apply the mutation to.
+     * @throws DuplicateEntryException If the mutation adds an entry that is already present.
+     */
+    void applyUnjournalledMutation(JournalEntry entry, InternshipList internships) throws DuplicateEntryException {
+        assert !isUsingDatabase() && !isInMemory() : "Unjournalled mutations are only saved to the data files";
+        stopIndexing();
+        entry.applyTo(internships);
+        synchronized (pendingJournalEntries) {
+            internshipStorageHandler.markChanged(entry, internships);
+            isInterviewFileDirty |= entry.isChangingInterviews();
+        }
+        if (changeFeed != null) {
+            synchronized (pendingChanges) {
+                pendingChanges.add(createChange(entry, internships));
+            }
+        }
+    }
+
+    /**
+     * Saves the mutations applied by {@link #applyUnjournalledMutation(JournalEntry, InternshipList)} with a
+     * single compaction, then adds them to the change feed.
+     *
+     * @param internships List of internships the mutations were applied to.
+     */
+    void saveUnjournalledMutations(InternshipList internships) throws IOException {
+        compactInternshipData(internships);
+        if (changeFeed != null) {
+            writeBehindSaver.markDirty(WriteBehindSaver.Store.CHANGES, this::flushChanges);
+        }
+    }
+
+    /**
+     * Saves the internship segments and interview file that have changed and starts a new, empty journal.
+     *
+     * @param internships List of internships to be saved.
+     */
+    public void compactInternshipData(InternshipList internships) throws IOException {
+        if (isUsingDatabase() || isInMemory()) {
+            // Every mutation is already applied to the database or the copy in memory as it is written
+            return;
+        }
+        writeBehindSaver.markDirty(WriteBehindSaver.Store.INTERNSHIPS, () -> compact(internships));
+    }
+
+    public CommandResult loadJournalData(InternshipList internships) {
+        if (isUsingDatabase() || isInMemory()) {
+            return new CommandResult(Collections.emptyList(), true);
+        }
+        CommandResult result = journalStorageHandler.load(internships);
+        if (journalStorageHandler.getEntryCount() > 0) {
+            // Replayed entries are not in the saved files yet, so the next compaction must write both
+            synchronized (pendingJournalEntries) {
+                internshipStorageHandler.markAllChanged();
+                isInterviewFileDirty = true;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if the journal holds entries that will be replayed when it is loaded.
+     *
+     * @return True if the journal has entries to replay.
+     */
+    public boolean hasJournalEntries() {
+        return !isUsingDatabase() && !isInMemory() && journalStorageHandler.hasEntries();
+    }
+
+    private void flushJournal(InternshipList internships) throws IOException {
+        List<JournalEntry> entries;
+        synchronized (pendingJournalEntries) {
+            if (pendingJournalEntries.isEmpty()) {
+                return;
+            }
+            entries = new ArrayList<>(pendingJournalEntries);
+            pendingJournalEntries.clear();
+        }
+        try {
+            if (isUsingDatabase()) {
+                databaseInternshipStorageHandler.apply(entries);
+                return;
+            }
+            if (isInMemory()) {
+                memoryInternshipStorage.save(internships);
+                memoryInterviewStorage.save(internships);
+                return;
+            }
+            journalStorageHandler.append(entries);
+        } catch (IOException e) {
+            synchronized (pendingJournalEntries) {
+                pendingJournalEntries.addAll(0, entries);
+            }
+            throw e;
+        }
+        if (journalStorageHandler.isCompactionDue()) {
+            compact(internships);
+        }
+    }
+
+    private void compact(InternshipList internships) throws IOException {
+        boolean isSavingInternships;
+        boolean isSavingInterviews;
+        synchronized (pendingJournalEntries) {
+            isSavingInternships = internshipStorageHandler.hasChanges();
+            isSavingInterviews = isInterviewFileDirty;
+        }
+        if (!isSavingInternships && !isSavingInterviews || isReadOnly()) {
+            return;
+        }
+        saveWithDirectoryLocked(() -> {
+            if (isSavingInternships && !mergeSegmentsChangedOnDisk(internships)) {
+                return;
+            }
+            boolean isSavingMergedInterviews;
+            synchronized (pendingJournalEntries) {
+                isSavingMergedInterviews = isInterviewFileDirty;
+            }
+            if (isSavingInternships) {
+                internshipStorageHandler.saveChanges(internships);
+            }
+            if (isSavingMergedInterviews) {
+                saveWholeFile(InterviewStorageHandler.FILE_NAME, () -> interviewStorageHandler.save(internships));
+            }
+            journalStorageHandler.reset();
+            // Entries not yet appended are already part of the saved files
+            synchronized (pendingJournalEntries) {
+                pendingJournalEntries.clear();
+                isInterviewFileDirty = false;
+            }
+        });
+    }
+
+    /**
+     * Saves while holding the save lock of the data directory, if it is locked, so no other process writes
+     * the data files meanwhile.
+     *
+     * @param action Action that saves the data.
+     */
+    private void saveWithDirectoryLocked(WriteBehindSaver.SaveAction action) throws IOException {
+        DataDirectoryLock lock = dataDirectoryLock;
+        if (lock == null) {
+            action.save();
+            return;
+        }
+        lock.lockForSave();
+        try {
+            action.save();
+        } finally {
+            lock.unlockAfterSave();
+        }
+    }
+
+    /**
+     * Saves a data file that is saved whole. If it was changed outside the app since it was last read or saved,
+     * the version in the app is kept, and the changed file is first copied to the quarantine directory and
+     * reported with the merge results, so its changes are not lost.
+     *
+     * @param fileName Name of the file within the data directory.
+     * @param action Action that saves the file.
+     */
+    private void saveWholeFile(String fileName, WriteBehindSaver.SaveAction action) throws IOException {
+        if (isUsingDatabase() || isInMemory()) {
+            action.save();
+            return;
+        }
+        if (dataFileStamps.isChangedOnDisk(fileName)) {
+            logger.log(Level.WARNING, fileName + " was changed outside the app, keeping a copy before saving it");
+            File copy = dataFileStamps.copyToQuarantine(fileName);
+            mergeResults.add(new CommandResult(List.of(String.format(RELOAD_FILE_CONFLICT, fileName),
+                    String.format(RELOAD_KEPT_COPY, copy.getAbsolutePath())), false));
+        }
+        action.save();
+        dataFileStamps.record(fileName);
+    }
+
+    /**
+     * Loads a data file that is saved whole again after it was changed outside the app, if the app has no unsaved
+     * changes to it. Otherwise the version in the app is kept, and the changed file is copied to the quarantine
+     * directory once it is saved. Interviews are only reported, and loaded on the next start, as the internship
+     * segments mark which internships have them.
+     * This should be called while holding the write lock of the data lock.
+     *
+     * @param fileName Name of the file that changed, within the data directory.
+     * @param user User profile to apply the changes to, including its projects.
+     * @return Result describing the changes, or null if nothing was changed outside the app or it cannot be
+     *     loaded yet.
+     */
+    public CommandResult reloadDataFile(String fileName, UserProfile user) throws IOException {
+        if (isUsingDatabase() || isInMemory() || !DataFileStamps.FILE_NAMES.contains(fileName)
+                || !dataFileStamps.isChangedOnDisk(fileName)) {
+            return null;
+        }
+        if (fileName.equals(InterviewStorageHandler.FILE_NAME)) {
+            return isInterviewDataLoaded ? new CommandResult(List.of(String.format(RELOAD_FILE_NEXT_START,
+                    fileName)), true) : null;
+        }
+        if (writeBehindSaver.isDirty(WriteBehindSaver.Store.PROJECTS)
+                || fileName.equals(ProfileStorageHandler.FILE_NAME)
+                && writeBehindSaver.isDirty(WriteBehindSaver.Store.PROFILE)) {
+            return null;
+        }
+        List<CommandResult> results = new ArrayList<>();
+        if (fileName.equals(ProfileStorageHandler.FILE_NAME)) {
+            // The profile cannot be cleared without its projects, so both are loaded again
+            user.clear();
+            results.add(loadUserProfileData(user));
+        } else {
+            user.projects.clear();
+        }
+        results.add(loadProjectData(user.projects));
+        recordChanges(List.of(new ChangeFeed.Change(fileName.equals(ProfileStorageHandler.FILE_NAME)
+                ? ChangeFeed.PROFILE : ChangeFeed.PROJECTS, ChangeFeed.RESET, null, null)));
+        for (CommandResult result : results) {
+            if (!result.isSuccessful()) {
+                return result;
+            }
+        }
+        return new CommandResult(List.of(String.format(RELOAD_FILE_SUCCESS, fileName)), true);
+    }
+
+    /**
+     * Merges the segment files changed by another process since they were last saved into the internships,
+     * so saving them does not overwrite those changes. Each record in such a file is compared with the
+     * checksum it was last saved or loaded with, which stamps the version of every record: records changed
+     * only in the file are taken, and records changed on both sides are reported as conflicts.
+     * The list can only be changed while holding the write lock of the data lock, so a background save that
+     * finds changed files leaves the internships unsaved, to be saved with the next command.
+     *
+     * @param internships List of internships about to be saved.
+     * @return True if the internships can be saved.
+     */
+    private boolean mergeSegmentsChangedOnDisk(InternshipList internships) throws IOException {
+        List<String> changedFiles = internshipStorageHandler.findSegmentsChangedOnDisk();
+        if (changedFiles.isEmpty()) {
+            return true;
+        }
+        if (!getDataLock().isWriteLockedByCurrentThread()) {
+            logger.log(Level.INFO, "Not saving in the background, as segments were changed outside the app");
+            return false;
+        }
+        stopIndexing();
+        for (String fileName : changedFiles) {
+            InternshipStorageHandler.ReloadedSegment reload;
+            synchronized (pendingJournalEntries) {
+                reload = internshipStorageHandler.reloadSegment(fileName, internships);
+                if (reload == null) {
+                    continue;
+                }
+                isInterviewFileDirty |= reload.isRemovingInterviews();
+            }
+            mergeResults.add(new CommandResult(reload.getFeedback(), !reload.hasConflicts()));
+            recordChanges(List.of(new ChangeFeed.Change(ChangeFeed.INTERNSHIPS, ChangeFeed.RESET, null, null)));
+        }
+        return true;
+    }
+
+    // ================= Change feed methods =================
+
+    /**
+     * Adds changes to the change feed once the data they describe has been saved.
+     * Outside sync mode, the changes of several commands are written together in a single write.
+     *
+     * @param changes Changes to be added, in the order they happened.
+     */
+    private void recordChanges(List<ChangeFeed.Change> changes) throws IOException {
+        if (changeFeed == null || changes.isEmpty()) {
+            return;
+        }
+        synchronized (pendingChanges) {
+            pendingChanges.addAll(changes);
+        }
+        writeBehindSaver.markDirty(WriteBehindSaver.Store.CHANGES, this::flushChanges);
+    }
+
+    /**
+     * Records in the change feed that all the data was replaced, such as by restoring a backup,
+     * so programs following the feed read the data again.
+     */
+    public void recordDataReplaced() throws IOException {
+        recordChanges(List.of(new ChangeFeed.Change(ChangeFeed.ALL, ChangeFeed.RESET, null, null)));
+    }
+
+    private void flushChanges() throws IOException {
+        List<ChangeFeed.Change> changes;
+        synchronized (pendingChanges) {
+            if (pendingChanges.isEmpty()) {
+                return;
+            }
+            changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+        }
+        try {
+            changeFeed.append(changes);
+        } catch (IOException e) {
+            synchronized (pendingChanges) {
+                pendingChanges.addAll(0, changes);
+            }
+            throw e;
+        }
+    }
+
+    // ================= Write-behind methods =================
+
+    /**
+     * Starts saving dirty stores in the background, if the durability mode defers saves.
+     * This may be called while data is still loading, as a store is only marked dirty by a command,
+     * which waits for the stores it needs to finish loading first.
+     */
+    public void startWriteBehind() {
+        writeBehindSaver.start();
+    }
+
+    /**
+     * Returns true if any store has changes that are not yet folded into its data files.
+     *
+     * @return True if saving on exit would write anything.
+     */
+    public boolean hasUnsavedChanges() {
+        if (isReadOnly()) {
+            return false;
+        }
+        synchronized (pendingJournalEntries) {
+            if (internshipStorageHandler.hasChanges() || isInterviewFileDirty) {
+                return true;
+            }
+        }
+        return writeBehindSaver.hasDirtyStores();
+    }
+
+    /**
+     * Writes every store with unsaved changes to disk now.
+     */
+    public void flushPendingSaves() throws IOException {
+        writeBehindSaver.flush();
+    }
+
+    public ReentrantReadWriteLock getDataLock() {
+        return writeBehindSaver.getDataLock();
+    }
+
+    /**
+     * Writes every store with unsaved changes, stops saving in the background and closes the database,
+     * so the data directory can be opened again by another storage manager, such as when a tenant is unloaded.
+     * Saves that fail are retried in the background and the database is kept open.
+     */
+    public void close() throws IOException {
+        writeBehindSaver.stop();
+        if (database != null) {
+            database.close();
+        }
+        synchronized (this) {
+            if (dataDirectoryLock != null) {
+                dataDirectoryLock.close();
+                dataDirectoryLock = null;
+            }
+        }
+    }
+
+    // ================= Binary snapshot methods =================
+
+    public boolean hasUpToDateBinarySnapshot() {
+        return !isUsingDatabase() && !isInMemory() && !isEncrypted() && binarySnapshotStorageHandler.isUpToDate();
+    }
+
+    public CommandResult loadBinarySnapshotData(InternshipList internships, UserProfile user) {
+        long stamp = computeIndexStamp();
+        // The snapshot is only loaded while it is up to date with the data files, so it stands for them
+        for (String fileName : DataFileStamps.FILE_NAMES) {
+            dataFileStamps.record(fileName);
+        }
+        CommandResult result = binarySnapshotStorageHandler.load(internships, user);
+        startIndexing(internships, result.isSuccessful() ? stamp : NO_STAMP);
+        isInterviewDataLoaded |= result.isSuccessful();
+        return result;
+    }
+
+    public void saveBinarySnapshotData(InternshipList internships, UserProfile user) throws IOException {
+        if (isEncrypted()) {
+            throw new IOException(String.format(CONVERT_UNAVAILABLE_WITH_ENCRYPTION, "binary snapshot"));
+        }
+        binarySnapshotStorageHandler.save(internships, user);
+    }
+
+    /**
+     * Saves the binary snapshot again if the user has converted their data to it and it is out of date.
+     * This should be called after the JSON data files are saved, so the snapshot is stamped with them.
+     *
+     * @param internships List of internships to be saved.
+     * @param user User profile to be saved, including its projects.
+     */
+    public void refreshBinarySnapshotData(InternshipList internships, UserProfile user) throws IOException {
+        if (!isUsingDatabase() && !isInMemory() && !isEncrypted() && binarySnapshotStorageHandler.exists()
+                && !binarySnapshotStorageHandler.isUpToDate()) {
+            binarySnapshotStorageHandler.save(internships, user);
+        }
+    }
+
+    public String getBinarySnapshotPath() {
+        return binarySnapshotStorageHandler.getPath();
+    }
+
+    public void deleteBinarySnapshotData() throws IOException {
+        binarySnapshotStorageHandler.delete();
+    }
+
+    // ================= Database methods =================
+
+    /**
+     * Saves all data to the embedded database, replacing what it holds, so the database backend can be used
+     * from the next start. The database is opened for the save if another backend is in use.
+     *
+     * @param internships List of internships to be saved, including their interviews.
+     * @param user User profile to be saved, including its projects.
+     * @return Path of the database file.
+     */
+    public String saveDatabaseData(InternshipList internships, UserProfile user) throws IOException {
+        if (isEncrypted()) {
+            throw new IOException(String.format(CONVERT_UNAVAILABLE_WITH_ENCRYPTION, "database"));
+        }
+        Database target = isUsingDatabase() ? database : Database.open(config);
+        try {
+            new DatabaseInternshipStorageHandler(target).save(internships);
+            new DatabaseInterviewStorageHandler(target).save(internships);
+            new DatabaseProjectStorageHandler(target).save(user.projects);
+            new DatabaseProfileStorageHandler(target).save(user);
+            return target.getPath();
+        } finally {
+            if (target != database) {
+                target.close();
+            }
+        }
     }
 
     // ================== UserProfile methods =================
 
     public void saveUserProfileData(UserProfile userProfile) throws IOException {
-        profileStorageHandler.save(userProfile);
+        writeBehindSaver.markDirty(WriteBehindSaver.Store.PROFILE,
+                () -> saveWithDirectoryLocked(() -> saveWholeFile(ProfileStorageHandler.FILE_NAME,
+                        () -> profileStorage.save(userProfile))));
+        recordChanges(List.of(new ChangeFeed.Change(ChangeFeed.PROFILE, ChangeFeed.EDIT, null,
+                userProfile.toJson())));
     }
 
     public CommandResult loadUserProfileData(UserProfile userProfile) {
-        return profileStorageHandler.load(userProfile);
+        dataFileStamps.record(ProfileStorageHandler.FILE_NAME);
+        return profileStorage.load(userProfile);
     }
 
     // ================== Project methods =================
 
     public void saveProjectData(ProjectList projects) throws IOException {
-        projectStorageHandler.save(projects);
+        writeBehindSaver.markDirty(WriteBehindSaver.Store.PROJECTS,
+                () -> saveWithDirectoryLocked(() -> saveWholeFile(ProjectStorageHandler.FILE_NAME,
+                        () -> projectStorage.save(projects))));
+    }
+
+    /**
+     * Saves the projects after one was added, recording the added project in the change feed.
+     *
+     * @param added Project that was added.
+     * @param projects List of projects after it was added.
+     */
+    public void saveAddedProject(Project added, ProjectList projects) throws IOException {
+        saveProjectData(projects);
+        recordChanges(List.of(new ChangeFeed.Change(ChangeFeed.PROJECTS, ChangeFeed.ADD, null, added.toJson())));
+    }
+
+    /**
+     * Saves the projects after several were added, changed or removed at once, recording the changes in the
+     * change feed.
+     *
+     * @param changes Changes to the projects, in the order they happened.
+     * @param projects List of projects after the changes.
+     */
+    void saveProjectChanges(List<ChangeFeed.Change> changes, ProjectList projects) throws IOException {
+        saveProjectData(projects);
+        recordChanges(changes);
     }
 
     public CommandResult loadProjectData(ProjectList projects) {
-        return projectStorageHandler.load(projects);
+        dataFileStamps.record(ProjectStorageHandler.FILE_NAME);
+        return projectStorage.load(projects);
     }
 }
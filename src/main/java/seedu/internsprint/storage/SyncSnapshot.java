@@ -0,0 +1,239 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.model.userprofile.project.ProjectList;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Represents the records of a data directory as compared by a sync: its internships, their interview rounds and
+ * its projects, together with a {@link MerkleTree} over them.
+ * <p>
+ * Each record is keyed by a hash of the fields the app uses to tell two of them apart, so the same internship has
+ * the same key in both directories even though internship IDs are assigned on load. Its content hash covers every
+ * other field, so a record edited in one directory keeps its key but changes its hash.
+ */
+public class SyncSnapshot {
+    private static final Map<String, String> INTERNSHIP_IDENTITY_FIELDS = Map.of(
+            "software", "techStack", "hardware", "embeddedSystems", "general", "department");
+    private static final Map<String, String> PROJECT_IDENTITY_FIELDS = Map.of(
+            "software", "programmingLanguages", "hardware", "hardwareComponents", "general", "department");
+    private static final char SEPARATOR = '\u001f';
+
+    /**
+     * Represents the kind of a record, in the order the records are applied by a sync,
+     * so an internship exists before its interview rounds are added to it.
+     */
+    public enum Kind {
+        INTERNSHIP,
+        INTERVIEW,
+        PROJECT
+    }
+
+    /**
+     * Represents one record of the data directory.
+     */
+    public static class SyncRecord {
+        private final Kind kind;
+        private final Internship internship;
+        private final Interview interview;
+        private final Project project;
+
+        private SyncRecord(Kind kind, Internship internship, Interview interview, Project project) {
+            this.kind = kind;
+            this.internship = internship;
+            this.interview = interview;
+            this.project = project;
+        }
+
+        /**
+         * Converts the record to a JSON object without the fields that differ between directories,
+         * such as the internship ID.
+         *
+         * @return JSON object representing the record.
+         */
+        public JSONObject toJson() {
+            JSONObject json;
+            switch (kind) {
+            case INTERNSHIP:
+                json = internship.toJson();
+                json.remove("internshipId");
+                json.remove("hasInterview");
+                return json;
+            case INTERVIEW:
+                // Dates and times are held as strings, as in the interview file
+                json = new JSONObject(interview.toJson().toString());
+                json.remove("internshipId");
+                json.remove("roundCounter");
+                json.remove("nextRounds");
+                return json;
+            default:
+                return project.toJson();
+            }
+        }
+
+        /**
+         * Returns a short description of the record for the user.
+         *
+         * @return Description of the record.
+         */
+        public String getLabel() {
+            String internshipLabel = internship == null ? null
+                    : internship.getCompanyName() + " - " + internship.getRole();
+            switch (kind) {
+            case INTERNSHIP:
+                return internshipLabel;
+            case INTERVIEW:
+                return "Interview on " + interview.getUnformattedInterviewDate() + " at "
+                        + interview.getUnformattedInterviewStartTime() + " for " + internshipLabel;
+            default:
+                return "Project " + project.getProjectName();
+            }
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the internship of an internship record, or the internship an interview round belongs to.
+         *
+         * @return Internship of the record, or null for a project.
+         */
+        public Internship getInternship() {
+            return internship;
+        }
+
+        public Project getProject() {
+            return project;
+        }
+    }
+
+    private final Map<Long, SyncRecord> records;
+    private final MerkleTree tree;
+
+    private SyncSnapshot(Map<Long, SyncRecord> records, MerkleTree tree) {
+        this.records = records;
+        this.tree = tree;
+    }
+
+    /**
+     * Hashes every internship, interview round and project and builds the tree over them.
+     *
+     * @param internships List of internships, with their interviews loaded.
+     * @param projects List of projects.
+     * @param stamp Stamp of the data files the lists were loaded from.
+     * @return Snapshot of the records.
+     */
+    public static SyncSnapshot of(InternshipList internships, ProjectList projects, long stamp) {
+        MessageDigest digest = BackupStore.createDigest();
+        Map<Long, SyncRecord> records = new HashMap<>();
+        Map<Long, Long> hashes = new HashMap<>();
+        for (List<Internship> internshipsOfType : internships.getInternshipMap().values()) {
+            for (Internship internship : internshipsOfType) {
+                SyncRecord record = new SyncRecord(Kind.INTERNSHIP, internship, null, null);
+                JSONObject json = record.toJson();
+                String identity = getIdentity("internship", json, INTERNSHIP_IDENTITY_FIELDS);
+                add(record, json, identity, digest, records, hashes);
+                for (Interview round : getRounds(internship)) {
+                    SyncRecord roundRecord = new SyncRecord(Kind.INTERVIEW, internship, round, null);
+                    String roundIdentity = identity + SEPARATOR + round.getUnformattedInterviewDate() + SEPARATOR
+                            + round.getUnformattedInterviewStartTime() + SEPARATOR
+                            + round.getUnformattedInterviewEndTime();
+                    add(roundRecord, roundRecord.toJson(), roundIdentity, digest, records, hashes);
+                }
+            }
+        }
+        for (List<Project> projectsOfType : projects.getProjectMap().values()) {
+            for (Project project : projectsOfType) {
+                SyncRecord record = new SyncRecord(Kind.PROJECT, null, null, project);
+                JSONObject json = record.toJson();
+                add(record, json, getIdentity("project", json, PROJECT_IDENTITY_FIELDS), digest, records, hashes);
+            }
+        }
+        return new SyncSnapshot(records, new MerkleTree(hashes, stamp));
+    }
+
+    private static void add(SyncRecord record, JSONObject json, String identity, MessageDigest digest,
+            Map<Long, SyncRecord> records, Map<Long, Long> hashes) {
+        long key = hash(digest, identity);
+        records.put(key, record);
+        hashes.put(key, hash(digest, toCanonicalString(json)));
+    }
+
+    private static List<Interview> getRounds(Internship internship) {
+        List<Interview> rounds = new ArrayList<>();
+        Interview firstRound = internship.getInterview();
+        if (firstRound != null) {
+            rounds.add(firstRound);
+            rounds.addAll(firstRound.getNextRounds());
+        }
+        return rounds;
+    }
+
+    private static String getIdentity(String kind, JSONObject json, Map<String, String> identityFields) {
+        String type = json.optString("type");
+        String name = json.has("projectName") ? json.optString("projectName") : json.optString("companyName");
+        return kind + SEPARATOR + type + SEPARATOR + name + SEPARATOR + json.optString("role") + SEPARATOR
+                + json.optString(identityFields.getOrDefault(type, ""));
+    }
+
+    /**
+     * Writes a JSON value with the fields of every object sorted, so equal records always give equal strings.
+     */
+    static String toCanonicalString(Object value) {
+        if (value instanceof JSONObject) {
+            JSONObject json = (JSONObject) value;
+            StringBuilder builder = new StringBuilder("{");
+            for (String field : new TreeSet<>(json.keySet())) {
+                if (builder.length() > 1) {
+                    builder.append(',');
+                }
+                builder.append(JSONObject.quote(field)).append(':').append(toCanonicalString(json.get(field)));
+            }
+            return builder.append('}').toString();
+        }
+        if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            StringBuilder builder = new StringBuilder("[");
+            for (int i = 0; i < array.length(); i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(toCanonicalString(array.get(i)));
+            }
+            return builder.append(']').toString();
+        }
+        return JSONObject.valueToString(value);
+    }
+
+    private static long hash(MessageDigest digest, String value) {
+        return ByteBuffer.wrap(digest.digest(value.getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+
+    /**
+     * Returns a record of the snapshot.
+     *
+     * @param key Key of the record.
+     * @return Record with the key, or null if the snapshot does not hold it.
+     */
+    public SyncRecord get(long key) {
+        return records.get(key);
+    }
+
+    public MerkleTree getTree() {
+        return tree;
+    }
+}
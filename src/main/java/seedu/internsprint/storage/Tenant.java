@@ -0,0 +1,195 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.TENANT_IN_USE;
+
+/**
+ * Holds the data of one tenant of a {@link TenantRegistry}: its own storage manager, kept in the tenant's data
+ * directory, and the internship list and user profile loaded from it.
+ * <p>
+ * A tenant is loaded by the first thread that uses it, while other threads asking for the same tenant wait.
+ * Once unloaded, a tenant is not used again, and the registry loads a new copy of it when it is next needed.
+ */
+public class Tenant {
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private static final long BASE_BYTES = 64 * 1024;
+    private static final long INTERNSHIP_BYTES = 1536;
+    private static final long INTERVIEW_ROUND_BYTES = 1024;
+    private static final long PROJECT_BYTES = 1024;
+
+    private final String id;
+    private final StorageManager storageManager;
+    private final InternshipList internships;
+    private final UserProfile user;
+    private List<CommandResult> loadResults;
+    private IOException loadFailure;
+    private boolean isClosed = false;
+    private volatile long estimatedBytes = BASE_BYTES;
+    // Guarded by the registry, which counts uses without waiting for a tenant that is still loading
+    private int useCount = 0;
+
+    /**
+     * Creates a tenant that is not loaded yet.
+     *
+     * @param id ID of the tenant.
+     * @param config Storage configuration of the tenant, keeping its data in the tenant's own directory.
+     */
+    Tenant(String id, StorageConfig config) {
+        this.id = id;
+        this.storageManager = new StorageManager(config);
+        this.internships = new InternshipList(storageManager);
+        this.user = new UserProfile(storageManager);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public StorageManager getStorageManager() {
+        return storageManager;
+    }
+
+    public InternshipList getInternships() {
+        return internships;
+    }
+
+    public UserProfile getUser() {
+        return user;
+    }
+
+    /**
+     * Returns the results of loading the tenant, including the number of internships loaded.
+     *
+     * @return Results of the load, to show the tenant.
+     */
+    public synchronized List<CommandResult> getLoadResults() {
+        return loadResults;
+    }
+
+    /**
+     * Returns the estimated memory taken by the data of the tenant, as of when it was last estimated.
+     *
+     * @return Estimated size of the tenant, in bytes.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Loads every store of the tenant, if it is not loaded yet, after locking its data directory against other
+     * processes. A failed load is remembered, so every thread waiting for the tenant sees the same failure.
+     *
+     * @throws IOException If any store failed to load.
+     */
+    synchronized void load() throws IOException {
+        if (loadResults == null && loadFailure == null && !storageManager.lockDataDirectory()) {
+            loadFailure = new IOException(String.format(TENANT_IN_USE, id));
+        }
+        if (loadResults == null && loadFailure == null) {
+            long startTime = System.nanoTime();
+            DataLoader dataLoader = new DataLoader(storageManager);
+            dataLoader.start(internships, user);
+            loadResults = dataLoader.awaitData(EnumSet.allOf(DataStore.class));
+            for (CommandResult result : loadResults) {
+                if (!result.isSuccessful()) {
+                    loadFailure = new IOException(String.join("\n", result.getFeedbackToUser()));
+                    loadResults = null;
+                    break;
+                }
+            }
+            if (loadFailure == null) {
+                storageManager.startWriteBehind();
+                estimateBytes();
+                logger.log(Level.INFO, String.format("Loaded tenant %s in %d ms", id,
+                        (System.nanoTime() - startTime) / 1_000_000));
+            }
+        }
+        if (loadFailure != null) {
+            throw loadFailure;
+        }
+    }
+
+    /**
+     * Estimates the memory taken by the data of the tenant again, from the number of records it holds.
+     * The read lock of the data lock is held meanwhile, so the list is not changed while it is counted.
+     */
+    void estimateBytes() {
+        long bytes = BASE_BYTES;
+        storageManager.getDataLock().readLock().lock();
+        try {
+            for (List<Internship> internshipsOfType : internships.getInternshipMap().values()) {
+                for (Internship internship : internshipsOfType) {
+                    bytes += INTERNSHIP_BYTES;
+                    Interview interview = internship.getInterview();
+                    if (interview != null) {
+                        bytes += INTERVIEW_ROUND_BYTES * countRounds(interview);
+                    }
+                }
+            }
+            bytes += PROJECT_BYTES * user.projects.getProjectCount();
+        } finally {
+            storageManager.getDataLock().readLock().unlock();
+        }
+        estimatedBytes = bytes;
+    }
+
+    /**
+     * Counts an interview round and every round after it, however deeply the later rounds are nested.
+     */
+    private static long countRounds(Interview interview) {
+        long count = 1;
+        for (Interview nextRound : interview.getNextRounds()) {
+            count += countRounds(nextRound);
+        }
+        return count;
+    }
+
+    boolean isInUse() {
+        return useCount > 0;
+    }
+
+    void use() {
+        useCount++;
+    }
+
+    void release() {
+        assert useCount > 0 : "A tenant should only be released after it is used";
+        useCount--;
+    }
+
+    /**
+     * Saves every unsaved change of the tenant and closes its storage. A tenant that failed to load has nothing
+     * to save, so its storage is only closed. If the changes cannot be saved, the tenant stays open, and its
+     * changes are retried by its background saves.
+     */
+    synchronized void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        if (loadResults != null) {
+            storageManager.getDataLock().writeLock().lock();
+            try {
+                if (storageManager.hasUnsavedChanges()) {
+                    internships.saveInternships();
+                }
+            } finally {
+                storageManager.getDataLock().writeLock().unlock();
+            }
+        }
+        storageManager.close();
+        isClosed = true;
+        logger.log(Level.INFO, "Unloaded tenant " + id);
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves many tenants from one process, such as the students of a career office, each with a data directory of
+ * its own under {@code tenants} in the data directory.
+ * <p>
+ * A tenant is loaded the first time it is used and then kept in memory, so later commands of the same tenant
+ * run straight away. The size of each loaded tenant is estimated from the records it holds. Whenever the loaded
+ * tenants together exceed the memory budget of the configuration, the least recently used tenants that are not
+ * in use are saved and unloaded until they fit again. The tenant just used is never unloaded, even if it alone
+ * exceeds the budget.
+ * <p>
+ * A tenant being unloaded may still be writing its changes, so a tenant asked for meanwhile is only loaded again
+ * once it has finished.
+ */
+public class TenantRegistry implements Closeable {
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final StorageConfig config;
+    // Ordered from the least to the most recently used tenant
+    private final LinkedHashMap<String, Tenant> tenants = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Void>> unloadingTenants = new HashMap<>();
+
+    /**
+     * Creates a registry keeping the data of each tenant in its own directory in the configured data directory.
+     *
+     * @param config Storage configuration shared by every tenant, which also sets the memory budget.
+     */
+    public TenantRegistry(StorageConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns the tenant with the given ID, loading it if it is not in memory. The tenant is not unloaded
+     * until it is given back with {@link #release(Tenant)}.
+     *
+     * @param tenantId ID of the tenant.
+     * @return Loaded tenant.
+     * @throws IOException If any data of the tenant failed to load.
+     * @throws IllegalArgumentException If the ID is not a valid tenant ID.
+     */
+    public Tenant acquire(String tenantId) throws IOException {
+        StorageConfig tenantConfig = config.forTenant(tenantId);
+        Tenant tenant = null;
+        while (tenant == null) {
+            CompletableFuture<Void> unloading;
+            synchronized (this) {
+                tenant = tenants.get(tenantId);
+                unloading = unloadingTenants.get(tenantId);
+                if (tenant == null && unloading == null) {
+                    tenant = new Tenant(tenantId, tenantConfig);
+                    tenants.put(tenantId, tenant);
+                }
+                if (tenant != null) {
+                    tenant.use();
+                }
+            }
+            if (tenant == null) {
+                unloading.join();
+            }
+        }
+
+        try {
+            tenant.load();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to load tenant " + tenantId + ": " + e.getMessage());
+            synchronized (this) {
+                tenant.release();
+                tenants.remove(tenantId, tenant);
+            }
+            closeQuietly(tenant);
+            throw e;
+        }
+        unloadColdTenants();
+        return tenant;
+    }
+
+    /**
+     * Gives back a tenant that is no longer in use, estimating its size again in case it changed,
+     * and unloads the least recently used tenants if the loaded tenants no longer fit the memory budget.
+     *
+     * @param tenant Tenant returned by {@link #acquire(String)}.
+     */
+    public void release(Tenant tenant) {
+        synchronized (this) {
+            tenant.release();
+        }
+        tenant.estimateBytes();
+        unloadColdTenants();
+    }
+
+    /**
+     * Executes a command on the data of a tenant, holding the data lock of the tenant the way the command
+     * line does, so the background saves of the tenant never see a half-applied command.
+     *
+     * @param tenantId ID of the tenant.
+     * @param command Command to execute.
+     * @return Result of the command.
+     * @throws IOException If any data of the tenant failed to load.
+     */
+    public CommandResult execute(String tenantId, Command command) throws IOException {
+        Tenant tenant = acquire(tenantId);
+        command.setStorageManager(tenant.getStorageManager());
+        try {
+            Lock dataLock = command.isChangingData() ? tenant.getStorageManager().getDataLock().writeLock()
+                    : tenant.getStorageManager().getDataLock().readLock();
+            dataLock.lock();
+            try {
+                return command.execute(tenant.getInternships(), tenant.getUser());
+            } finally {
+                dataLock.unlock();
+            }
+        } finally {
+            release(tenant);
+        }
+    }
+
+    /**
+     * Returns the IDs of the tenants held in memory.
+     *
+     * @return IDs of the loaded tenants, from the least to the most recently used.
+     */
+    public synchronized List<String> getLoadedTenantIds() {
+        return new ArrayList<>(tenants.keySet());
+    }
+
+    /**
+     * Returns the estimated memory taken by the data of every loaded tenant.
+     *
+     * @return Estimated size of the loaded tenants, in bytes.
+     */
+    public synchronized long getEstimatedBytes() {
+        long bytes = 0;
+        for (Tenant tenant : tenants.values()) {
+            bytes += tenant.getEstimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Saves and unloads every tenant, such as when the process exits.
+     *
+     * @throws IOException If the changes of any tenant could not be saved.
+     */
+    @Override
+    public void close() throws IOException {
+        List<Tenant> toUnload;
+        synchronized (this) {
+            toUnload = new ArrayList<>(tenants.values());
+            tenants.clear();
+            for (Tenant tenant : toUnload) {
+                unloadingTenants.put(tenant.getId(), new CompletableFuture<>());
+            }
+        }
+        IOException firstFailure = null;
+        for (Tenant tenant : toUnload) {
+            try {
+                unload(tenant);
+            } catch (IOException e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    /**
+     * Unloads the least recently used tenants that are not in use, until the loaded tenants fit the budget.
+     * The tenants are picked while holding the lock of the registry, but saved without it, so other tenants
+     * can be used meanwhile.
+     */
+    private void unloadColdTenants() {
+        List<Tenant> toUnload = new ArrayList<>();
+        synchronized (this) {
+            long bytes = getEstimatedBytes();
+            Iterator<Tenant> leastRecentlyUsed = tenants.values().iterator();
+            while (bytes > config.getTenantMemoryBytes() && leastRecentlyUsed.hasNext()) {
+                Tenant tenant = leastRecentlyUsed.next();
+                boolean isMostRecentlyUsed = !leastRecentlyUsed.hasNext();
+                if (tenant.isInUse() || isMostRecentlyUsed) {
+                    continue;
+                }
+                leastRecentlyUsed.remove();
+                unloadingTenants.put(tenant.getId(), new CompletableFuture<>());
+                bytes -= tenant.getEstimatedBytes();
+                toUnload.add(tenant);
+            }
+        }
+        for (Tenant tenant : toUnload) {
+            logger.log(Level.INFO, String.format("Unloading tenant %s of about %d KB to fit the memory budget",
+                    tenant.getId(), tenant.getEstimatedBytes() / 1024));
+            try {
+                unload(tenant);
+            } catch (IOException e) {
+                // The tenant was kept in memory, so its changes are not lost
+                logger.log(Level.SEVERE, "Unable to save tenant " + tenant.getId() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Saves and closes a tenant picked to be unloaded. If its changes cannot be saved, it is put back
+     * among the loaded tenants instead. No new copy of it is loaded until this finishes.
+     */
+    private void unload(Tenant tenant) throws IOException {
+        try {
+            tenant.close();
+        } catch (IOException e) {
+            synchronized (this) {
+                tenants.put(tenant.getId(), tenant);
+            }
+            throw e;
+        } finally {
+            CompletableFuture<Void> unloading;
+            synchronized (this) {
+                unloading = unloadingTenants.remove(tenant.getId());
+            }
+            unloading.complete(null);
+        }
+    }
+
+    private static void closeQuietly(Tenant tenant) {
+        try {
+            tenant.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to close tenant " + tenant.getId() + ": " + e.getMessage());
+        }
+    }
+}
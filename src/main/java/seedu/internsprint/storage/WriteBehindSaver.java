@@ -0,0 +1,226 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.storage.StorageConfig.DurabilityMode;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes changed data stores to disk according to the configured {@link DurabilityMode}.
+ * <p>
+ * Every store that has changed is marked dirty together with the action that saves it. In
+ * {@link DurabilityMode#SYNC} mode the action runs straight away, as before. Otherwise only the latest
+ * action of each store is kept, so a burst of changes to the same store is coalesced into a single write
+ * that runs on a background thread ({@link DurabilityMode#PERIODIC}), on exit, or when the JVM shuts down.
+ * <p>
+ * Commands change the model while holding the write lock of {@link #getDataLock()}, and pending saves run
+ * while holding its read lock, so a background save never sees a half-applied command.
+ */
+public class WriteBehindSaver {
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    /**
+     * Represents a data store that is saved as a unit. Dirty stores are saved in this order,
+     * so a pending compaction of the internship files makes the pending journal entries unnecessary,
+     * and changes are only added to the change feed once the data they describe has been saved.
+     */
+    public enum Store {
+        INTERNSHIPS,
+        JOURNAL,
+        PROJECTS,
+        PROFILE,
+        CHANGES
+    }
+
+    /**
+     * Represents the action that writes one data store to disk.
+     */
+    @FunctionalInterface
+    public interface SaveAction {
+        void save() throws IOException;
+    }
+
+    private final DurabilityMode durabilityMode;
+    private final long intervalSeconds;
+    private final ReentrantReadWriteLock dataLock = new ReentrantReadWriteLock();
+    private final Map<Store, SaveAction> pendingSaves = new EnumMap<>(Store.class);
+    private final Object flushMonitor = new Object();
+    private ScheduledExecutorService executor;
+    private Thread shutdownHook;
+    private boolean isStarted = false;
+
+    public WriteBehindSaver(DurabilityMode durabilityMode, long intervalSeconds) {
+        this.durabilityMode = durabilityMode;
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    public ReentrantReadWriteLock getDataLock() {
+        return dataLock;
+    }
+
+    public DurabilityMode getDurabilityMode() {
+        return durabilityMode;
+    }
+
+    /**
+     * Marks a data store as changed. The store is saved straight away in sync mode, and later otherwise.
+     *
+     * @param store Data store that has changed.
+     * @param action Action that saves the current state of the store.
+     * @throws IOException If the store is saved straight away and the save fails.
+     */
+    public void markDirty(Store store, SaveAction action) throws IOException {
+        if (durabilityMode == DurabilityMode.SYNC) {
+            runLocked(action);
+            return;
+        }
+        synchronized (pendingSaves) {
+            pendingSaves.put(store, action);
+        }
+        logger.log(Level.FINE, "Marked " + store + " as dirty");
+    }
+
+    /**
+     * Returns true if a data store has changes that are not yet written to disk.
+     *
+     * @return True if there are pending saves.
+     */
+    public boolean hasDirtyStores() {
+        synchronized (pendingSaves) {
+            return !pendingSaves.isEmpty();
+        }
+    }
+
+    /**
+     * Returns true if a data store has changes that are not yet written to disk.
+     *
+     * @param store Data store to check.
+     * @return True if the store has a pending save.
+     */
+    public boolean isDirty(Store store) {
+        synchronized (pendingSaves) {
+            return pendingSaves.containsKey(store);
+        }
+    }
+
+    /**
+     * Saves every dirty data store now. A store that fails to save stays dirty, so it is retried
+     * by the next flush, and the first failure is rethrown once every store has been tried.
+     *
+     * @throws IOException If any of the stores could not be saved.
+     */
+    public void flush() throws IOException {
+        // Pending saves are taken under the read lock, so no command can mark a store dirty in between
+        dataLock.readLock().lock();
+        try {
+            synchronized (flushMonitor) {
+                flushPendingSaves();
+            }
+        } finally {
+            dataLock.readLock().unlock();
+        }
+    }
+
+    private void flushPendingSaves() throws IOException {
+        Map<Store, SaveAction> saves;
+        synchronized (pendingSaves) {
+            if (pendingSaves.isEmpty()) {
+                return;
+            }
+            saves = new EnumMap<>(pendingSaves);
+            pendingSaves.clear();
+        }
+
+        IOException firstFailure = null;
+        for (Map.Entry<Store, SaveAction> save : saves.entrySet()) {
+            try {
+                save.getValue().save();
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Unable to save " + save.getKey() + ": " + e.getMessage());
+                synchronized (pendingSaves) {
+                    pendingSaves.putIfAbsent(save.getKey(), save.getValue());
+                }
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+        logger.log(Level.INFO, "Saved dirty stores " + saves.keySet());
+    }
+
+    /**
+     * Starts saving dirty stores in the background in periodic mode, and on JVM shutdown in every
+     * mode that defers saves, so data is not lost when the program is interrupted.
+     */
+    public synchronized void start() {
+        if (isStarted || durabilityMode == DurabilityMode.SYNC) {
+            return;
+        }
+        isStarted = true;
+        if (durabilityMode == DurabilityMode.PERIODIC) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "internsprint-autosave");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(this::flushQuietly, intervalSeconds, intervalSeconds,
+                    TimeUnit.SECONDS);
+        }
+        shutdownHook = new Thread(this::flushQuietly, "internsprint-shutdown-save");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        logger.log(Level.INFO, "Started write-behind saving in " + durabilityMode + " mode");
+    }
+
+    /**
+     * Saves every dirty data store, then stops saving in the background, such as when a tenant is unloaded.
+     * If the final save fails, saving carries on in the background so the changes are retried.
+     *
+     * @throws IOException If any of the stores could not be saved.
+     */
+    public synchronized void stop() throws IOException {
+        flush();
+        if (!isStarted) {
+            return;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down, so the hook runs anyway
+        }
+        shutdownHook = null;
+        isStarted = false;
+        logger.log(Level.INFO, "Stopped write-behind saving");
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Background save failed, will retry: " + e.getMessage());
+        }
+    }
+
+    private void runLocked(SaveAction action) throws IOException {
+        dataLock.readLock().lock();
+        try {
+            action.save();
+        } finally {
+            dataLock.readLock().unlock();
+        }
+    }
+}
@@ -19,6 +19,7 @@ public class InternSprintExceptionMessages {
     public static final String UNABLE_TO_WRITE_FILE = "Unable to write to file: %s.\n" +
         "    Please check if the file is open in another program or the program will continue without saving.";
     public static final String UNABLE_TO_READ_FILE = "Unable to read file: %s";
+    public static final String UNABLE_TO_LOAD_DATA = "Unable to load your saved data: %s";
 
     public static final String EDIT_UNABLE_TO_FIND_INTERNSHIP = """
            You have entered the wrong flag for this type of internship.""";
@@ -55,6 +56,46 @@ public class InternSprintExceptionMessages {
             "commands or 'help COMMAND' for specific command instructions.";
     public static final String DESC_INVALID_PARAMS = "You have not entered a valid index to show the description.\n"
             + "The desc command works as mentioned below:";
+    public static final String CONVERT_INVALID_PARAMS = "You have not entered a valid format to convert to.\n"
+            + "    The convert command works as mentioned below:";
+    public static final String CONVERT_UNAVAILABLE_WITH_DATABASE = "Your data is kept in the database, so it cannot"
+            + " be converted to the data files.\n"
+            + "    Start InternSprint without -Dinternsprint.backend=database to use the data files again.";
+    public static final String IMPORT_INVALID_PARAMS = "You have not entered a CSV or JSON Lines file to import.\n"
+            + "    The import command works as mentioned below:";
+    public static final String IMPORT_FILE_NOT_FOUND = "There is no file to import at: %s";
+    public static final String IMPORT_MISSING_HEADER = "The CSV file to import has no header row: %s";
+    public static final String IMPORT_INVALID_ROW = "Line %d: %s";
+    public static final String IMPORT_MORE_INVALID_ROWS = "... and %d more rows that could not be imported.";
+    public static final String EXPORT_INVALID_PARAMS = "You have not entered valid data and a CSV or JSON Lines file "
+            + "to export to.\n"
+            + "    The export command works as mentioned below:";
+    public static final String BACKUP_UNAVAILABLE = "Backups are only available when your data is kept in the "
+            + "data files.\n"
+            + "    Start InternSprint without -Dinternsprint.backend to use the data files.";
+    public static final String BACKUP_INVALID_PARAMS = "The backup command does not take any parameters.\n"
+            + "    The backup command works as mentioned below:";
+    public static final String RESTORE_INVALID_PARAMS = "You have not entered a valid backup or time to restore.\n"
+            + "    The restore command works as mentioned below:";
+    public static final String RESTORE_INVALID_TIME = "Invalid time to restore to: %s. Please use YYYY-MM-DD or "
+            + "YYYY-MM-DD HH:MM.";
+    public static final String BACKUP_NOT_FOUND = "There is no backup named %s. Enter restore to see your backups.";
+    public static final String BACKUP_NONE_BEFORE = "There is no backup made at or before %s.";
+    public static final String BACKUP_CHUNK_MISSING = "Backup %s cannot be restored, as part of %s is missing from "
+            + "the backup directory.";
+    public static final String BACKUP_FILE_CORRUPTED = "Backup cannot be restored, as %s does not match the copy that "
+            + "was backed up.";
+    public static final String SYNC_UNAVAILABLE = "Syncing is only available when your data is kept in the "
+            + "data files.\n"
+            + "    Start InternSprint without -Dinternsprint.backend to use the data files.";
+    public static final String SYNC_INVALID_PARAMS = "You have not entered a valid data folder to sync with.\n"
+            + "    The sync command works as mentioned below:";
+    public static final String SYNC_SAME_DIRECTORY = "%s is the folder your data is kept in. Please enter another "
+            + "folder to sync with.";
+    public static final String SYNC_DIRECTORY_IN_USE = "The data in %s is open in another InternSprint. Close it "
+            + "before syncing.";
+    public static final String SYNC_DIRECTORY_NOT_LOADED = "Not syncing, as the data in %s could not be fully "
+            + "loaded:";
     public static final String DUPLICATE_INTERNSHIP = "This internship already exists in your list.";
     public static final String DUPLICATE_INTERVIEW = "An interview with the same date and time already exists for " +
         "that internship.\n" + "    Please check your date and time or the internship you are referring to.";
@@ -64,6 +105,90 @@ public class InternSprintExceptionMessages {
     public static final String CORRUPTED_PROJECT_FILE = "The project data file is corrupted.";
     public static final String CORRUPTED_INTERVIEW_FILE = "The interview data file is corrupted.";
     public static final String CORRUPTED_PROFILE_FILE = "The profile data file is corrupted.";
+    public static final String CORRUPTED_JOURNAL_FILE = "The journal of unsaved internship changes is corrupted.";
+    public static final String CORRUPTED_SNAPSHOT_FILE = "The binary snapshot of your data is corrupted.";
+    public static final String CORRUPTED_DATABASE = "The database holding your data is corrupted.";
+    public static final String UNABLE_TO_ACCESS_DATABASE = "Unable to access the database at: %s";
+    public static final String CORRUPTED_SEGMENT = "A corrupted internship data segment was copied to: %s";
+    public static final String RELOAD_CONFLICT = "Conflict at line %d of %s: %s";
+    public static final String RELOAD_CONFLICT_CHANGED = "the internship was also changed in InternSprint, "
+            + "so your version in InternSprint was kept";
+    public static final String RELOAD_CONFLICT_DELETED = "the internship was deleted in InternSprint, "
+            + "so it was not restored";
+    public static final String RELOAD_CONFLICT_NOT_REMOVED = "Kept %s (%s), which was removed from %s "
+            + "but also changed in InternSprint";
+    public static final String RELOAD_SEGMENT_DELETED = "%s was deleted outside InternSprint, "
+            + "so its internships will be saved to it again";
+    public static final String RELOAD_SEGMENT_NOT_SAVED = "%s was changed outside InternSprint, but InternSprint "
+            + "has no saved version of it to compare with, so your version in InternSprint was kept";
+    public static final String RELOAD_FILE_CONFLICT = "%s was changed outside InternSprint while it was also "
+            + "changed in InternSprint, so your version in InternSprint was saved.";
+    public static final String RELOAD_KEPT_COPY = "The changed file was copied to: %s";
+    public static final String INVALID_TENANT_ID = "Invalid tenant ID: %s. A tenant ID may only hold letters, "
+            + "digits, hyphens and underscores, and must start with a letter or digit.";
+    public static final String READ_ONLY_SESSION = "Another InternSprint is using your data, so this one can only "
+            + "show it. Close the other InternSprint to make changes here.";
+    public static final String TENANT_IN_USE = "Tenant %s is already open in another InternSprint.";
+    public static final String ENCRYPTION_PASSPHRASE_MISSING = "Your data is encrypted, but no passphrase was given.\n"
+            + "    Set the INTERNSPRINT_PASSPHRASE environment variable to your passphrase.";
+    public static final String ENCRYPTION_WRONG_PASSPHRASE = "The passphrase given does not unlock your data at: %s";
+    public static final String ENCRYPTION_UNAVAILABLE_WITH_DATABASE = "Encryption is only available when your data "
+            + "is kept in the data files.\n"
+            + "    Start InternSprint without -Dinternsprint.backend to use the data files.";
+    public static final String ENCRYPTED_FILE = "%s is encrypted, but no passphrase was given to decrypt it.";
+    public static final String UNABLE_TO_DECRYPT = "Unable to decrypt %s, which may have been changed or cut short "
+            + "outside InternSprint.";
+    public static final String CONVERT_UNAVAILABLE_WITH_ENCRYPTION = "Your data is encrypted, so it cannot be "
+            + "converted to the %s, which would keep it unencrypted.";
+    public static final String ARCHIVE_UNAVAILABLE = "The archive is only available when your data is kept in the "
+            + "data files.\n"
+            + "    Start InternSprint without -Dinternsprint.backend to use the data files.";
+    public static final String ARCHIVE_INVALID_PARAMS = "You have not entered valid archive rules or a valid archive "
+            + "query.\n"
+            + "    The archive command works as mentioned below:";
+    public static final String ARCHIVE_NOT_FOUND = "There is no archived internship numbered %d. "
+            + "Enter archive list to see their numbers.";
+    public static final String CHECK_UNAVAILABLE = "Checking is only available when your data is kept in the "
+            + "data files.\n"
+            + "    Start InternSprint without -Dinternsprint.backend to use the data files.";
+    public static final String CHECK_INVALID_PARAMS = "You have not entered a valid check command.\n"
+            + "    The check command works as mentioned below:";
+    public static final String CHECK_PROBLEMS_FOUND = "Checked your data files and found %d problems:";
+    public static final String CHECK_REPAIR_HINT = "Enter check repair to repair them. Your data is backed up "
+            + "first.";
+    public static final String CHECK_PROBLEMS_REMAINING = "%d problems could not be repaired:";
+    public static final String CHECK_REPAIR_UNREADABLE = "Some data files cannot be read, so nothing was repaired.\n"
+            + "    Restore them with the restore command, or fix them by hand.";
+    public static final String CHECK_REPAIR_JOURNAL = "Your latest changes are still in the journal, so nothing was "
+            + "repaired.\n"
+            + "    Start InternSprint without -Dinternsprint.check, then enter check repair.";
+    public static final String CHECK_LINE_PROBLEM = "Error at line %d of %s: %s";
+    public static final String CHECK_ENTRY_PROBLEM = "Error at JSON entry %d of %s: %s";
+    public static final String CHECK_RECORD_DAMAGED = "record does not match its checksum";
+    public static final String CHECK_DUPLICATE_ID = "internship has ID %d, as does an internship before it";
+    public static final String CHECK_NOT_OBJECT = "entry is not a JSON object";
+    public static final String CHECK_ROUND_COUNTER = "round counter does not match the number of rounds";
+    public static final String CHECK_NO_INTERNSHIP = "interview belongs to no internship";
+    public static final String CHECK_PROFILE_LINE = "line is not a profile field";
+    public static final String CHECK_MANIFEST_MISSING = "The segment manifest is missing, so the segments are "
+            + "loaded in the order of their names.";
+    public static final String CHECK_MANIFEST_CORRUPTED = "The segment manifest is corrupted: %s";
+    public static final String CHECK_SEGMENT_MISSING = "%s is listed in the segment manifest but does not exist.";
+    public static final String CHECK_SEGMENT_NOT_LISTED = "%s is not listed in the segment manifest, so its "
+            + "internships are not loaded.";
+    public static final String CHECK_SEGMENT_MISMATCH = "%s does not match its checksum or record count in the "
+            + "segment manifest.";
+    public static final String CHECK_FILE_CORRUPTED = "%s is not valid JSON: %s";
+    public static final String CHECK_INTERVIEW_DANGLING = "The interview at JSON entry %d of interviews.txt belongs "
+            + "to internship %d, which does not exist.";
+    public static final String CHECK_INTERVIEW_STALE = "The interview at JSON entry %d of interviews.txt belongs "
+            + "to internship %d, which is loaded with ID %d, so the interview is shown with another internship "
+            + "or not at all.";
+    public static final String CHECK_INTERVIEW_REPLACED = "The interviews at JSON entries %d and %d of "
+            + "interviews.txt both belong to internship %d, so only the last one is loaded.";
+    public static final String CHECK_MARKER_MISSING = "Internship %d has an interview but is not marked as having "
+            + "one.";
+    public static final String CHECK_MARKER_STALE = "Internship %d is marked as having an interview but has none.";
     public static final String UNABLE_TO_PARSE_JSON = "Unable to parse JSON data. Please check for syntax errors " +
         "like missing commas, colons, quotes, or brackets";
 }
@@ -18,7 +18,7 @@ public class InternSprintLogger {
      * Sets up the root logger by removing default handlers and adding custom console and file handlers.
      * This method orchestrates the overall configuration while delegating details to helper methods.
      */
-    private static void setUpLogger() {
+    private static synchronized void setUpLogger() {
         if (isConfigured) {
             return;
         }
@@ -36,7 +36,7 @@ public class InternSprintMessages {
 
 
     public static final String SAVE_SUCCESS_MESSAGE = "Internships saved successfully\n" +
-            "    You can view the list of internships at data/internships.txt";
+            "    You can view the list of internships in data/internships";
     public static final String OVERALL_SAVE_SUCCESS_MESSAGE = "All data saved successfully!\n" +
             "    You can view all your saved data of DATA_TYPE in the subdirectory under /data/DATA_TYPE.txt!";
     public static final String LIST_COUNT_MESSAGE = "Now you have %d internships in the list";
@@ -54,6 +54,48 @@ public class InternSprintMessages {
     public static final String NUMBER_OF_INTERNSHIPS_FOUND = "Number of internships found: %d";
     public static final String ADD_INTERVIEW_MESSAGE_SUCCESS = "New interview added\n%s";
     public static final String SORT_INTERVIEWS_MESSAGE_SUCCESS = "Here are your interviews sorted by date and time.";
+    public static final String INTERVIEW_NOT_LOADED = "Interview: scheduled, use desc to see its rounds";
     public static final String SAVING_PROFILE_SUCCESS = "Successfully saved user profile to file %s";
+    public static final String CONVERT_BINARY_SUCCESS = "Your data is now also kept as a binary snapshot at %s\n"
+            + "    It is used to start up faster and is updated every time you exit.";
+    public static final String CONVERT_JSON_SUCCESS = "Your data is now kept in the JSON data files only.";
+    public static final String CONVERT_DATABASE_SUCCESS = "Your data is now also saved in the database at %s\n"
+            + "    Start InternSprint with -Dinternsprint.backend=database to keep your data there from now on.";
+    public static final String IMPORT_SUCCESS = "Imported %d of the %d rows in %s.";
+    public static final String IMPORT_SKIPPED_ROWS = "These rows were skipped:";
+    public static final String EXPORT_SUCCESS = "Exported %d %s to %s.";
+    public static final String RELOAD_SEGMENT_SUCCESS = "%s was changed outside InternSprint: loaded %d added, "
+            + "%d changed and %d removed internships.";
+    public static final String RELOAD_FILE_SUCCESS = "%s was changed outside InternSprint, so it was loaded again.";
+    public static final String RELOAD_FILE_NEXT_START = "%s was changed outside InternSprint. The changes will be "
+            + "loaded the next time InternSprint starts.";
+    public static final String RELOAD_SKIPPED_DUPLICATES = "Skipped %d internships that are already in your list.";
+    public static final String BACKUP_SUCCESS = "Backed up %d files (%d KB) as %s, writing %d KB of new data.";
+    public static final String BACKUP_RETENTION = "Removed %d older backups, as set by the retention policy.";
+    public static final String BACKUP_LIST_HEADER = "Your backups, oldest first:";
+    public static final String BACKUP_LIST_ENTRY = "%s  made at %s  %d files, %d KB";
+    public static final String BACKUP_NONE = "You have no backups yet. Enter backup to make one.";
+    public static final String RESTORE_SUCCESS = "Restored your data as it was at %s, from backup %s.";
+    public static final String RESTORE_SAFETY_BACKUP = "Your data from before the restore was backed up as %s.";
+    public static final String SYNC_SUCCESS = "Synced with %s: %d changes copied here and %d changes copied there.";
+    public static final String SYNC_UP_TO_DATE = "Your data is already the same as in %s.";
+    public static final String SYNC_CONFLICT = "Changed in both places, kept the version %s: %s";
+    public static final String SYNC_INTERVIEW_CONFLICT = "Changed in both places, kept both versions as "
+            + "interviews cannot be edited: %s";
+    public static final String ARCHIVE_SUCCESS = "Moved %d internships to the archive:";
+    public static final String ARCHIVE_MORE = "... and %d more.";
+    public static final String ARCHIVE_NONE_MATCHING = "No internships match the rules, so none were archived.";
+    public static final String ARCHIVE_LIST_HEADER = "Your archived internships, oldest first:";
+    public static final String ARCHIVE_LIST_ENTRY = "%d. %s  (archived on %s)";
+    public static final String ARCHIVE_NONE_FOUND = "No archived internships found.";
+    public static final String ARCHIVE_RESTORE_SUCCESS = "Moved back from the archive: %s";
+    public static final String CHECK_NO_PROBLEMS = "Checked your data files and found no problems.";
+    public static final String CHECK_MORE = "... and %d more.";
+    public static final String CHECK_REPAIR_SUCCESS = "Repaired your data files. Your data from before the repair "
+            + "was backed up as %s.";
+    public static final String READ_ONLY_SESSION_STARTED = "Another InternSprint is using your data, so this one "
+            + "only shows it, including the changes the other one saves.";
+    public static final String READ_ONLY_SESSION_ENDED = "The other InternSprint has closed, so your latest data has "
+            + "been loaded and you can make changes here again.";
     public static final String LOADING_PROFILE_SUCCESS = "Successfully loaded user profile from file";
 }
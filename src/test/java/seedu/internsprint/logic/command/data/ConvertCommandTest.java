@@ -0,0 +1,43 @@
+package seedu.internsprint.logic.command.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.internsprint.util.InternSprintExceptionMessages.CONVERT_INVALID_PARAMS;
+
+public class ConvertCommandTest {
+
+    private ConvertCommand createCommand(String format) {
+        ConvertCommand command = new ConvertCommand();
+        HashMap<String, String> parameters = new HashMap<>();
+        parameters.put("description", format);
+        command.setParameters(parameters);
+        return command;
+    }
+
+    @Test
+    void isValidParameters_supportedFormats_returnsTrue() {
+        assertTrue(createCommand("binary").isValidParameters());
+        assertTrue(createCommand("JSON").isValidParameters());
+    }
+
+    @Test
+    void isValidParameters_noFormat_returnsFalse() {
+        assertFalse(new ConvertCommand().isValidParameters());
+    }
+
+    @Test
+    void execute_unknownFormat_returnsUsage() {
+        CommandResult result = createCommand("xml").execute(new InternshipList(), new UserProfile());
+        assertFalse(result.isSuccessful());
+        assertEquals(CONVERT_INVALID_PARAMS, result.getFeedbackToUser().get(0));
+        assertEquals(ConvertCommand.MESSAGE_USAGE, result.getFeedbackToUser().get(1));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.internsprint.logic.command.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.internsprint.util.InternSprintExceptionMessages.EXPORT_INVALID_PARAMS;
+
+public class ExportCommandTest {
+
+    @TempDir
+    File directory;
+
+    private ExportCommand createCommand(String description, String company) {
+        ExportCommand command = new ExportCommand();
+        HashMap<String, String> parameters = new HashMap<>();
+        parameters.put("description", description);
+        if (company != null) {
+            parameters.put("/c", company);
+        }
+        command.setParameters(parameters);
+        return command;
+    }
+
+    private InternshipList createInternships() throws Exception {
+        InternshipList internships = new InternshipList();
+        Internship google = new SoftwareInternship("Google", "SWE", "Java, Python");
+        internships.addInternship(google);
+        internships.addInternship(new GeneralInternship("UBS", "Analyst", "Finance"));
+        Interview interview = new Interview("2026-12-01", "10:00", "11:00", "Technical");
+        interview.setInternshipId(google.getInternshipId());
+        internships.addInterview(interview);
+        google.addInterview(new Interview("2026-12-08", "14:00", "15:00", "HR", "hr@google.com", "Bring \"ID\""));
+        return internships;
+    }
+
+    @Test
+    void execute_internshipsToCsvWithFilter_writesMatchingInternshipsThatCanBeImported() throws Exception {
+        File file = new File(directory, "google.csv");
+
+        CommandResult result = createCommand("internships " + file.getPath(), "goo")
+                .execute(createInternships(), new UserProfile());
+
+        assertTrue(result.isSuccessful());
+        assertEquals(List.of("internshipId,type,companyName,role,techStack,embeddedSystems,department,"
+                + "eligibility,description,status,expectations",
+                "0,software,Google,SWE,\"Java, Python\",,,,,,"), Files.readAllLines(file.toPath()));
+        InternshipList imported = new InternshipList();
+        ImportCommand importCommand = new ImportCommand();
+        importCommand.setParameters(new HashMap<>(Map.of("description", file.getPath())));
+        assertTrue(importCommand.execute(imported, new UserProfile()).isSuccessful());
+        assertEquals(1, imported.getInternshipCount());
+    }
+
+    @Test
+    void execute_interviewsToJsonLines_writesEveryRound() throws Exception {
+        File file = new File(directory, "interviews.jsonl");
+
+        CommandResult result = createCommand("interviews " + file.getPath(), null)
+                .execute(createInternships(), new UserProfile());
+
+        assertTrue(result.isSuccessful());
+        assertEquals(List.of("{\"internshipId\":0,\"companyName\":\"Google\",\"role\":\"SWE\",\"round\":1,"
+                + "\"date\":\"2026-12-01\",\"startTime\":\"10:00\",\"endTime\":\"11:00\",\"type\":\"Technical\"}",
+                "{\"internshipId\":0,\"companyName\":\"Google\",\"role\":\"SWE\",\"round\":2,"
+                + "\"date\":\"2026-12-08\",\"startTime\":\"14:00\",\"endTime\":\"15:00\",\"type\":\"HR\","
+                + "\"interviewerEmail\":\"hr@google.com\",\"notes\":\"Bring \\\"ID\\\"\"}"),
+                Files.readAllLines(file.toPath()));
+        assertFalse(new File(directory, "interviews.jsonl.tmp").exists());
+    }
+
+    @Test
+    void execute_interviewsSortedByDate_writesRoundsInChronologicalOrder() throws Exception {
+        InternshipList internships = createInternships();
+        Internship ubs = internships.getInternshipMap().get("general").get(0);
+        Interview interview = new Interview("2026-12-01", "09:30", "10:00", "Online");
+        interview.setInternshipId(ubs.getInternshipId());
+        internships.addInterview(interview);
+        ubs.addInterview(new Interview("2026-12-08", "09:00", "10:00", "Final"));
+        File file = new File(directory, "sorted.csv");
+        ExportCommand command = createCommand("interviews " + file.getPath(), null);
+        command.getParameters().put("/sort", "date");
+
+        CommandResult result = command.execute(internships, new UserProfile());
+
+        assertTrue(result.isSuccessful());
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(1).startsWith("1,UBS,Analyst,1,2026-12-01,09:30"));
+        assertTrue(lines.get(2).startsWith("0,Google,SWE,1,2026-12-01,10:00"));
+        assertTrue(lines.get(3).startsWith("1,UBS,Analyst,2,2026-12-08,09:00"));
+        assertTrue(lines.get(4).startsWith("0,Google,SWE,2,2026-12-08,14:00"));
+    }
+
+    @Test
+    void execute_projectsWithCompanyFilter_returnsUsage() {
+        CommandResult result = createCommand("projects projects.csv", "Google")
+                .execute(new InternshipList(), new UserProfile());
+
+        assertFalse(result.isSuccessful());
+        assertEquals(EXPORT_INVALID_PARAMS, result.getFeedbackToUser().get(0));
+        assertEquals(ExportCommand.MESSAGE_USAGE, result.getFeedbackToUser().get(1));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.internsprint.logic.command.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.internsprint.util.InternSprintExceptionMessages.DUPLICATE_INTERNSHIP;
+import static seedu.internsprint.util.InternSprintExceptionMessages.IMPORT_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.INVALID_CATEGORY_ERROR;
+
+public class ImportCommandTest {
+
+    @TempDir
+    File directory;
+
+    private ImportCommand createCommand(File file) {
+        ImportCommand command = new ImportCommand();
+        HashMap<String, String> parameters = new HashMap<>();
+        parameters.put("description", file.getPath());
+        command.setParameters(parameters);
+        return command;
+    }
+
+    private File writeFile(String name, String content) throws IOException {
+        File file = new File(directory, name);
+        Files.writeString(file.toPath(), content);
+        return file;
+    }
+
+    @Test
+    void execute_csvWithInvalidAndDuplicateRows_addsValidRowsAndReportsLineNumbers() throws Exception {
+        InternshipList internships = new InternshipList();
+        internships.addInternship(new GeneralInternship("UBS", "Analyst", "Finance"));
+        File file = writeFile("internships.csv", "Type,Company Name,Role,techStack,department,status\n"
+                + "software,Google,SWE,\"Java, Python\",,Applied\n"
+                + "general,UBS,Analyst,,Finance,\n"
+                + "\n"
+                + "space,NASA,Engineer,,,\n"
+                + "software,Google,SWE,\"Java, Python\",,\n"
+                + "general,\"Jane \"\"Street\"\"\",Trader,,Markets,\n");
+
+        CommandResult result = createCommand(file).execute(internships, new UserProfile());
+
+        assertTrue(result.isSuccessful());
+        assertEquals(List.of("Imported 2 of the 5 rows in " + file.getPath() + ".",
+                "These rows were skipped:",
+                "Line 3: " + DUPLICATE_INTERNSHIP,
+                "Line 5: " + INVALID_CATEGORY_ERROR,
+                "Line 6: " + DUPLICATE_INTERNSHIP,
+                "Now you have 3 internships in the list"), result.getFeedbackToUser());
+        SoftwareInternship google = (SoftwareInternship) internships.getInternshipMap().get("software").get(0);
+        assertEquals("Java, Python", google.getTechStack());
+        assertEquals("Applied", google.getStatus());
+        assertEquals("Jane \"Street\"", internships.getInternshipMap().get("general").get(1).getCompanyName());
+    }
+
+    @Test
+    void execute_jsonLinesWithFlagNames_addsInternships() throws Exception {
+        InternshipList internships = new InternshipList();
+        File file = writeFile("internships.jsonl",
+                "{\"type\": \"hardware\", \"c\": \"Intel\", \"r\": \"Intern\", \"hardtech\": \"FPGA\"}\n"
+                + "{\"type\": \"general\", \"c\": \"DBS\", \"r\": \"Analyst\"}\n"
+                + "not json\n");
+
+        CommandResult result = createCommand(file).execute(internships, new UserProfile());
+
+        assertTrue(result.isSuccessful());
+        assertEquals(1, internships.getInternshipCount());
+        HardwareInternship intel = (HardwareInternship) internships.getInternshipMap().get("hardware").get(0);
+        assertEquals("FPGA", intel.getEmbeddedSystems());
+        assertEquals("Line 2: Missing required parameters: department", result.getFeedbackToUser().get(2));
+        assertTrue(result.getFeedbackToUser().get(3).startsWith("Line 3: "));
+    }
+
+    @Test
+    void execute_unsupportedFile_returnsUsage() {
+        CommandResult result = createCommand(new File(directory, "internships.xlsx"))
+                .execute(new InternshipList(), new UserProfile());
+
+        assertFalse(result.isSuccessful());
+        assertEquals(IMPORT_INVALID_PARAMS, result.getFeedbackToUser().get(0));
+        assertEquals(ImportCommand.MESSAGE_USAGE, result.getFeedbackToUser().get(1));
+    }
+}
@@ -21,6 +21,11 @@ public class HelpCommandTest {
         assertTrue(result.isSuccessful());
     }
 
+    @Test
+    public void helpCommand_getRequiredData_needsNoData() {
+        assertTrue(new HelpCommand().getRequiredData().isEmpty());
+    }
+
     @Test
     public void helpCommand_provideCommandParameter_returnsValid() {
         HelpCommand helpCommand = new HelpCommand();
@@ -9,8 +9,10 @@ import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.internship.SoftwareInternship;
 import seedu.internsprint.model.internship.interview.Interview;
 import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.storage.DataStore;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -84,6 +86,12 @@ class SortInterviewCommandTest {
         assertEquals("interview", command.getCommandType());
     }
 
+    @Test
+    void testGetRequiredData_returnsInternshipsAndInterviews() {
+        SortInterviewCommand command = new SortInterviewCommand();
+        assertEquals(EnumSet.of(DataStore.INTERNSHIPS, DataStore.INTERVIEWS), command.getRequiredData());
+    }
+
     @Test
     void testExecute_noInterviews_returnsNoInterviewsScheduledMessage() {
         InternshipList list = new InternshipList();
@@ -180,4 +180,14 @@ class CommandParserTest {
         assertThrows(IllegalArgumentException.class,
             () -> CommandParser.validateIndex("abc", internships));
     }
+
+    @Test
+    void parseCommand_exportWithFilePathAndFlags_keepsSlashesInFilePath() {
+        Command command = CommandParser.parseCommand(
+                "export internships /tmp/exports/all.csv /c Google /type software");
+        assertEquals(3, command.getParameters().size());
+        assertEquals("internships /tmp/exports/all.csv", command.getParameters().get("description"));
+        assertEquals("Google", command.getParameters().get("/c"));
+        assertEquals("software", command.getParameters().get("/type"));
+    }
 }
@@ -0,0 +1,113 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.ArchivePolicy;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArchiveStoreTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @TempDir
+    File directory;
+
+    private StorageManager createStorageManager() {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        config.setDurabilityMode(StorageConfig.DurabilityMode.SYNC);
+        return new StorageManager(config);
+    }
+
+    private InternshipList load(StorageManager storageManager) {
+        InternshipList internships = new InternshipList(storageManager);
+        for (CommandResult result : storageManager.reloadAllData(internships, new UserProfile(storageManager))) {
+            assertTrue(result.isSuccessful());
+        }
+        return internships;
+    }
+
+    private static Internship createInternship(Internship internship, String status, LocalDate updatedOn) {
+        internship.setStatus(status);
+        internship.setUpdatedOn(updatedOn);
+        return internship;
+    }
+
+    private InternshipList saveInternships(StorageManager storageManager) throws Exception {
+        InternshipList internships = load(storageManager);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(createInternship(
+                new SoftwareInternship("Google", "SWE", "Java"), "Rejected", TODAY.minusMonths(8))), internships);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(createInternship(
+                new SoftwareInternship("Meta", "SWE", "React"), "Rejected", TODAY.minusMonths(1))), internships);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(createInternship(
+                new GeneralInternship("UBS", "Analyst", "Finance"), "Pending", TODAY.minusMonths(9))), internships);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(createInternship(
+                new GeneralInternship("DBS", "Analyst", "Risk"), "Rejected", null)), internships);
+        // The interview of Google keeps it from being unchanged for six months
+        storageManager.applyUnjournalledMutation(JournalEntry.forAddInterview("software", 0,
+                new Interview("2026-07-01", "10:00", "11:00", "Technical")), internships);
+        storageManager.saveUnjournalledMutations(internships);
+        storageManager.flushPendingSaves();
+        return internships;
+    }
+
+    @Test
+    void archive_policyRules_movesMatchingInternshipsOutOfList() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        InternshipList internships = saveInternships(storageManager);
+        ArchiveStore archiveStore = storageManager.getArchiveStore();
+
+        List<Internship> archived = archiveStore.archive(internships, new ArchivePolicy("rejected", 6), TODAY);
+        assertEquals(0, archived.size());
+        archived = archiveStore.archive(internships, new ArchivePolicy(null, 6), TODAY);
+        assertEquals(List.of("UBS"), archived.stream().map(Internship::getCompanyName).toList());
+        archived = archiveStore.archive(internships, new ArchivePolicy("Rejected", ArchivePolicy.NO_MONTHS), TODAY);
+        assertEquals(List.of("Google", "Meta", "DBS"), archived.stream().map(Internship::getCompanyName).toList());
+
+        assertEquals(0, load(createStorageManager()).getInternshipCount());
+        List<ArchiveStore.ArchivedInternship> found = archiveStore.find(null);
+        assertEquals(4, found.size());
+        assertEquals("Google", found.get(1).getInternship().getCompanyName());
+        assertEquals("Technical", found.get(1).getInternship().getInterview().getInterviewType());
+        assertEquals(TODAY, found.get(1).getArchivedOn());
+        assertEquals(List.of(3), archiveStore.find("ET").stream().map(ArchiveStore.ArchivedInternship::getNumber)
+                .toList());
+    }
+
+    @Test
+    void restore_archivedInternship_movesItBackWithInterview() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        InternshipList internships = saveInternships(storageManager);
+        ArchiveStore archiveStore = storageManager.getArchiveStore();
+        archiveStore.archive(internships, new ArchivePolicy("Rejected", ArchivePolicy.NO_MONTHS), TODAY);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(new GeneralInternship("DBS", "Analyst",
+                "Risk")), internships);
+
+        assertThrows(DuplicateEntryException.class, () -> archiveStore.restore(3, internships));
+        assertNull(archiveStore.restore(4, internships));
+        Internship restored = archiveStore.restore(1, internships);
+
+        assertEquals("Google", restored.getCompanyName());
+        InternshipList reloaded = load(createStorageManager());
+        Internship google = reloaded.getInternshipMap().get("software").get(0);
+        assertEquals("Technical", google.getInterview().getInterviewType());
+        assertEquals(TODAY.minusMonths(8), google.getUpdatedOn());
+        assertEquals(List.of("Meta", "DBS"), archiveStore.find(null).stream()
+                .map(archived -> archived.getInternship().getCompanyName()).toList());
+    }
+}
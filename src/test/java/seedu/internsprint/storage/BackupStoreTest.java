@@ -0,0 +1,133 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackupStoreTest {
+
+    @TempDir
+    File directory;
+
+    private BackupStore createStore(int keptBackups, int keptDays) {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        config.setKeptBackups(keptBackups);
+        config.setKeptBackupDays(keptDays);
+        return new BackupStore(config);
+    }
+
+    private static byte[] createRandomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(7).nextBytes(bytes);
+        return bytes;
+    }
+
+    private File writeDataFile(String path, byte[] content) throws IOException {
+        File file = new File(directory, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    @Test
+    void createBackup_unchangedData_writesNoNewChunks() throws IOException {
+        writeDataFile("internships/software-0.txt", createRandomBytes(1024 * 1024));
+        writeDataFile("user.txt", "{\"name\":\"Alice\"}".getBytes());
+        BackupStore store = createStore(10, 30);
+
+        BackupStore.Backup first = store.createBackup();
+        BackupStore.Backup second = store.createBackup();
+
+        assertEquals(2, first.getFileCount());
+        assertTrue(first.getNewChunkCount() > 1);
+        assertEquals(0, second.getNewChunkCount());
+        assertEquals(0, second.getNewBytes());
+        assertEquals(List.of(first.getId(), second.getId()),
+                store.listBackups().stream().map(BackupStore.Backup::getId).toList());
+    }
+
+    @Test
+    void createBackup_oneByteChanged_writesOnlyChunksAroundIt() throws IOException {
+        byte[] content = createRandomBytes(1024 * 1024);
+        writeDataFile("internships/software-0.txt", content);
+        BackupStore store = createStore(10, 30);
+        BackupStore.Backup first = store.createBackup();
+
+        content[content.length / 2] ^= 1;
+        writeDataFile("internships/software-0.txt", content);
+        BackupStore.Backup second = store.createBackup();
+
+        assertTrue(second.getNewChunkCount() <= 2);
+        assertTrue(second.getNewBytes() < first.getNewBytes() / 2);
+    }
+
+    @Test
+    void restore_changedAndAddedFiles_restoresBackedUpContents() throws IOException {
+        byte[] content = createRandomBytes(300 * 1024);
+        writeDataFile("internships/software-0.txt", content);
+        writeDataFile("user.txt", "{\"name\":\"Alice\"}".getBytes());
+        writeDataFile("internships/quarantine/software-1.txt", "corrupted".getBytes());
+        BackupStore store = createStore(10, 30);
+        BackupStore.Backup backup = store.createBackup();
+
+        writeDataFile("user.txt", "{\"name\":\"Bob\"}".getBytes());
+        File addedFile = writeDataFile("internships/hardware-0.txt", "added".getBytes());
+        store.restore(store.findBackup(backup.getId()));
+
+        assertArrayEquals(content, Files.readAllBytes(new File(directory, "internships/software-0.txt").toPath()));
+        assertEquals("{\"name\":\"Alice\"}", Files.readString(new File(directory, "user.txt").toPath()));
+        assertFalse(addedFile.exists());
+        assertTrue(new File(directory, "internships/quarantine/software-1.txt").exists());
+    }
+
+    @Test
+    void restore_missingChunk_throwsExceptionAndKeepsData() throws IOException {
+        writeDataFile("user.txt", "{\"name\":\"Alice\"}".getBytes());
+        BackupStore store = createStore(10, 30);
+        BackupStore.Backup backup = store.createBackup();
+        writeDataFile("user.txt", "{\"name\":\"Bob\"}".getBytes());
+        File[] prefixDirectories = new File(directory, "backups/chunks").listFiles();
+        assertNotNull(prefixDirectories);
+        for (File prefixDirectory : prefixDirectories) {
+            for (File chunk : prefixDirectory.listFiles()) {
+                assertTrue(chunk.delete());
+            }
+        }
+
+        assertThrows(IOException.class, () -> store.restore(backup));
+        assertEquals("{\"name\":\"Bob\"}", Files.readString(new File(directory, "user.txt").toPath()));
+    }
+
+    @Test
+    void applyRetention_moreBackupsThanKept_removesOldestAndTheirChunks() throws IOException {
+        BackupStore store = createStore(2, 0);
+        writeDataFile("user.txt", "{\"name\":\"Alice\"}".getBytes());
+        BackupStore.Backup oldest = store.createBackup();
+        writeDataFile("user.txt", "{\"name\":\"Bob\"}".getBytes());
+        store.createBackup();
+        writeDataFile("user.txt", "{\"name\":\"Carol\"}".getBytes());
+        store.createBackup();
+
+        assertEquals(1, store.applyRetention());
+        assertEquals(2, store.listBackups().size());
+        assertEquals(null, store.findBackup(oldest.getId()));
+        int chunkCount = 0;
+        for (File prefixDirectory : new File(directory, "backups/chunks").listFiles()) {
+            chunkCount += prefixDirectory.listFiles().length;
+        }
+        assertEquals(2, chunkCount);
+    }
+}
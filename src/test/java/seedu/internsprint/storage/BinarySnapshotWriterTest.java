@@ -0,0 +1,106 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.model.userprofile.project.SoftwareProject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinarySnapshotWriterTest {
+
+    private InternshipList internships;
+    private UserProfile user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        internships = new InternshipList();
+        Internship software = new SoftwareInternship("Google", "SWE", "Java", "Year 3", "Backend", "Applied", null);
+        Interview interview = new Interview("2025-04-10", "10:00", "11:30", "Technical", "hr@google.com", null);
+        interview.setInternshipId(0);
+        interview.addInterviewRound(new Interview("2025-04-12", "14:00", "15:00", "HR"));
+        software.setInterview(interview);
+        internships.addInternship(software);
+        internships.addInternship(new GeneralInternship("UBS", "Analyst", "Finance"));
+
+        user = new UserProfile();
+        user.setName("Alex");
+        user.projects.addProject(new SoftwareProject("InternSprint", "Developer", List.of("Java", "Gradle"),
+                "Track internships", "CLI app", "3 months"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        user.setName(null);
+    }
+
+    private ByteBuffer writeSnapshot() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        new BinarySnapshotWriter(out).write(internships, user);
+        out.flush();
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    @Test
+    void write_internshipsWithInterviews_readBackUnchanged() throws IOException {
+        ByteBuffer snapshot = writeSnapshot();
+        InternshipList restored = new InternshipList();
+        new BinarySnapshotReader(snapshot).read().applyTo(restored, new UserProfile());
+
+        assertEquals(2, restored.getInternshipCount());
+        Internship software = restored.getInternshipMap().get("software").get(0);
+        assertEquals(internships.getInternshipMap().get("software").get(0), software);
+        assertEquals("Applied", software.getStatus());
+        assertNull(software.getExpectations());
+        assertEquals("UBS", restored.getInternshipMap().get("general").get(0).getCompanyName());
+
+        Interview interview = software.getInterview();
+        assertEquals("hr@google.com", interview.getInterviewerEmail());
+        assertEquals(software.getInternshipId(), interview.getInternshipId());
+        assertEquals(1, interview.getRoundCounter());
+        assertEquals("11:30", interview.getUnformattedInterviewEndTime().toString());
+        assertEquals("2025-04-12", interview.getNextRounds().get(0).getUnformattedInterviewDate().toString());
+    }
+
+    @Test
+    void write_userProfileAndProjects_readBackUnchanged() throws IOException {
+        ByteBuffer snapshot = writeSnapshot();
+        user.setName("Someone else");
+        UserProfile restoredUser = new UserProfile();
+        new BinarySnapshotReader(snapshot).read().applyTo(new InternshipList(), restoredUser);
+
+        assertEquals("Alex", restoredUser.getName());
+        Project project = restoredUser.projects.getProjectMap().get("software").get(0);
+        assertEquals("InternSprint", project.getProjectName());
+        assertEquals(List.of("Java", "Gradle"), ((SoftwareProject) project).getProgrammingLanguages());
+    }
+
+    @Test
+    void read_truncatedSnapshot_throwsExceptionWithoutChangingList() throws IOException {
+        ByteBuffer snapshot = writeSnapshot();
+        ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(snapshot.array(), snapshot.limit() / 2));
+        InternshipList restored = new InternshipList();
+
+        assertThrows(BufferUnderflowException.class, () -> new BinarySnapshotReader(truncated).read()
+                .applyTo(restored, new UserProfile()));
+        assertEquals(0, restored.getInternshipCount());
+    }
+}
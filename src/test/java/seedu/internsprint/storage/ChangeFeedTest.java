@@ -0,0 +1,70 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeFeedTest {
+
+    @TempDir
+    File directory;
+
+    private ChangeFeed createFeed() {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        return new ChangeFeed(config);
+    }
+
+    private static ChangeFeed.Change createAdd(int number) {
+        return new ChangeFeed.Change(ChangeFeed.INTERNSHIPS, ChangeFeed.ADD, null,
+                new JSONObject().put("company", "Company " + number));
+    }
+
+    @Test
+    void append_reopenedAfterIncompleteLine_continuesSequence() throws IOException {
+        ChangeFeed feed = createFeed();
+        feed.append(List.of(createAdd(1), createAdd(2)));
+        try (FileWriter writer = new FileWriter(new File(directory, ChangeFeed.FILE_NAME), true)) {
+            writer.write("{\"seq\":3,\"store\":\"intern");
+        }
+
+        ChangeFeed reopened = createFeed();
+        assertEquals(2, reopened.getLastSequence());
+        reopened.append(List.of(createAdd(3)));
+
+        List<JSONObject> changes = reopened.readSince(0);
+        assertEquals(3, changes.size());
+        assertEquals(3, changes.get(2).getLong("seq"));
+        assertEquals("Company 3", changes.get(2).getJSONObject("after").getString("company"));
+    }
+
+    @Test
+    void readSince_manyChanges_returnsOnlyLaterChangesInOrder() throws IOException {
+        ChangeFeed feed = createFeed();
+        for (int batch = 0; batch < 50; batch++) {
+            List<ChangeFeed.Change> changes = new ArrayList<>();
+            for (int i = 1; i <= 20; i++) {
+                changes.add(createAdd(batch * 20 + i));
+            }
+            feed.append(changes);
+        }
+
+        assertEquals(1000, feed.readSince(0).size());
+        assertTrue(feed.readSince(1000).isEmpty());
+        for (long sequence : List.of(1L, 499L, 998L)) {
+            List<JSONObject> changes = feed.readSince(sequence);
+            assertEquals(1000 - sequence, changes.size());
+            assertEquals(sequence + 1, changes.get(0).getLong("seq"));
+            assertEquals("Company " + (sequence + 1), changes.get(0).getJSONObject("after").getString("company"));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvReaderTest {
+
+    @Test
+    void readRecord_quotedFieldsAndLineBreaks_returnsFieldsWithStartingLines() throws IOException {
+        try (CsvReader reader = new CsvReader(new StringReader("a,\"b, c\",\"say \"\"hi\"\"\"\r\n"
+                + "\r\n"
+                + "\"two\nlines\",,end\n"
+                + "last"))) {
+            assertEquals(List.of("a", "b, c", "say \"hi\""), reader.readRecord());
+            assertEquals(1, reader.getLineNumber());
+            assertEquals(List.of("two\nlines", "", "end"), reader.readRecord());
+            assertEquals(3, reader.getLineNumber());
+            assertEquals(List.of("last"), reader.readRecord());
+            assertEquals(5, reader.getLineNumber());
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    void readRecord_unclosedQuote_throwsIoException() {
+        CsvReader reader = new CsvReader(new StringReader("a,\"b\n"));
+        assertThrows(IOException.class, reader::readRecord);
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataCheckerTest {
+    private static final String INTERVIEW = "\"date\":\"2026-12-01\",\"startTime\":\"10:00\",\"endTime\":\"11:00\","
+            + "\"type\":\"Technical\"";
+
+    @TempDir
+    File directory;
+
+    private StorageManager createStorageManager() {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        config.setDurabilityMode(StorageConfig.DurabilityMode.SYNC);
+        config.setLoadThreads(2);
+        return new StorageManager(config);
+    }
+
+    private static String createRecord(int internshipId, String companyName, boolean hasInterview) {
+        return SegmentFile.formatLine("{\"internshipId\":" + internshipId + ",\"type\":\"general\",\"companyName\":\""
+                + companyName + "\",\"role\":\"Analyst\",\"department\":\"Finance\""
+                + (hasInterview ? ",\"hasInterview\":true" : "") + "}");
+    }
+
+    private void writeDataFiles(String segment, String interviews) throws IOException {
+        File segmentDirectory = new File(directory, InternshipStorageHandler.DIRECTORY_NAME);
+        Files.createDirectories(segmentDirectory.toPath());
+        Files.writeString(new File(segmentDirectory, "general-0.txt").toPath(), segment);
+        Files.writeString(new File(directory, InterviewStorageHandler.FILE_NAME).toPath(), interviews);
+    }
+
+    private InternshipList load(StorageManager storageManager) {
+        InternshipList internships = new InternshipList(storageManager);
+        for (CommandResult result : storageManager.reloadAllData(internships, new UserProfile(storageManager))) {
+            assertTrue(result.isSuccessful());
+        }
+        return internships;
+    }
+
+    @Test
+    void check_interviewSavedWithStaleId_foundAndRepaired() throws Exception {
+        // The internship saved with ID 0 was deleted, so the IDs saved after it are one ahead of their positions
+        writeDataFiles(createRecord(1, "UBS", false) + createRecord(2, "DBS", true),
+                "[{\"internshipId\":2," + INTERVIEW + ",\"roundCounter\":0}]");
+        StorageManager storageManager = createStorageManager();
+        DataChecker dataChecker = storageManager.getDataChecker();
+
+        DataChecker.Report report = dataChecker.check();
+        assertEquals(2, report.getProblemCount());
+        assertTrue(report.getProblems().get(1).contains("loaded with ID 1"));
+        assertTrue(report.isRepairable());
+        dataChecker.repair(report);
+
+        assertFalse(dataChecker.check().hasProblems());
+        List<Internship> internships = load(createStorageManager()).getInternshipMap().get("general");
+        assertNull(internships.get(0).getInterview());
+        assertEquals("Technical", internships.get(1).getInterview().getInterviewType());
+    }
+
+    @Test
+    void check_duplicatesAndWrongRoundCounter_foundAndRepaired() throws Exception {
+        writeDataFiles(createRecord(0, "UBS", true) + createRecord(1, "UBS", false) + "00000000 damaged\n"
+                + createRecord(2, "DBS", false),
+                "[{\"internshipId\":0," + INTERVIEW + ",\"roundCounter\":2,\"nextRounds\":[{" + INTERVIEW
+                + ",\"roundCounter\":0}]}, {\"internshipId\":7," + INTERVIEW + ",\"roundCounter\":0}]");
+        StorageManager storageManager = createStorageManager();
+        DataChecker dataChecker = storageManager.getDataChecker();
+
+        // The missing manifest, the duplicate, the damaged record, the round counter and the unknown internship
+        DataChecker.Report report = dataChecker.check();
+        assertEquals(5, report.getProblemCount());
+        dataChecker.repair(report);
+
+        assertFalse(dataChecker.check().hasProblems());
+        List<Internship> internships = load(createStorageManager()).getInternshipMap().get("general");
+        assertEquals(2, internships.size());
+        assertEquals(1, internships.get(0).getInterview().getRoundCounter());
+        assertEquals("DBS", internships.get(1).getCompanyName());
+    }
+}
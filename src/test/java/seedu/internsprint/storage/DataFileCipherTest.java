@@ -0,0 +1,163 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataFileCipherTest {
+
+    @TempDir
+    File directory;
+
+    private static DataFileCipher createCipher(String passphrase) {
+        return DataFileCipher.fromPassphrase(passphrase.toCharArray(), new byte[16], 1000);
+    }
+
+    private static byte[] encrypt(DataFileCipher cipher, byte[] content) throws IOException {
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        try (OutputStream outputStream = cipher.encrypt(encrypted)) {
+            // Written in uneven pieces, so chunks are filled across writes
+            for (int offset = 0; offset < content.length; offset += 1000) {
+                outputStream.write(content, offset, Math.min(1000, content.length - offset));
+            }
+        }
+        return encrypted.toByteArray();
+    }
+
+    private static byte[] decrypt(DataFileCipher cipher, byte[] encrypted) throws IOException {
+        try (InputStream inputStream = cipher.decrypt(new ByteArrayInputStream(encrypted), "test")) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private StorageManager createStorageManager(String passphrase) {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        config.setDurabilityMode(StorageConfig.DurabilityMode.SYNC);
+        config.setEncrypted(true);
+        config.setPassphrase(passphrase == null ? null : passphrase.toCharArray());
+        return new StorageManager(config);
+    }
+
+    @Test
+    void decrypt_encryptedContent_returnsSameContent() throws Exception {
+        DataFileCipher cipher = createCipher("secret");
+        Random random = new Random(42);
+        for (int size : new int[] {0, 1, DataFileCipher.CHUNK_SIZE, DataFileCipher.CHUNK_SIZE + 1,
+            3 * DataFileCipher.CHUNK_SIZE + 17}) {
+            byte[] content = new byte[size];
+            random.nextBytes(content);
+            byte[] encrypted = encrypt(cipher, content);
+
+            assertTrue(DataFileCipher.isEncrypted(new ByteArrayInputStream(encrypted)));
+            assertArrayEquals(content, decrypt(cipher, encrypted));
+        }
+    }
+
+    @Test
+    void decrypt_changedOrCutShortOrOtherKey_throwsIoException() throws Exception {
+        DataFileCipher cipher = createCipher("secret");
+        byte[] content = new byte[2 * DataFileCipher.CHUNK_SIZE + 5];
+        new Random(7).nextBytes(content);
+        byte[] encrypted = encrypt(cipher, content);
+
+        byte[] changed = encrypted.clone();
+        changed[changed.length / 2] ^= 1;
+        assertThrows(IOException.class, () -> decrypt(cipher, changed));
+        // Cutting off the last chunk leaves whole chunks that are not marked as the last one
+        byte[] cutShort = Arrays.copyOf(encrypted, 12 + 2 * (DataFileCipher.CHUNK_SIZE + 16));
+        assertThrows(IOException.class, () -> decrypt(cipher, cutShort));
+        assertThrows(IOException.class, () -> decrypt(createCipher("other"), encrypted));
+    }
+
+    @Test
+    void openLine_sealedLine_returnsLineOnlyWithSameKey() throws Exception {
+        DataFileCipher cipher = createCipher("secret");
+        String sealed = cipher.sealLine("{\"companyName\":\"Google\"}");
+
+        assertFalse(sealed.contains("Google"));
+        assertEquals("{\"companyName\":\"Google\"}", cipher.openLine(sealed));
+        assertEquals("{}", cipher.openLine("{}"));
+        assertThrows(IOException.class, () -> createCipher("other").openLine(sealed));
+    }
+
+    @Test
+    void storageManager_encryptedData_savesNoPlaintextAndNeedsPassphrase() throws Exception {
+        StorageManager storageManager = createStorageManager("secret");
+        InternshipList internships = new InternshipList(storageManager);
+        storageManager.reloadAllData(internships, new UserProfile(storageManager));
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(
+                new SoftwareInternship("Google", "SWE", "Java")), internships);
+        storageManager.saveUnjournalledMutations(internships);
+        storageManager.flushPendingSaves();
+        // The interview is only appended to the journal, as a sealed entry
+        JournalEntry entry = JournalEntry.forAddInterview("software", 0,
+                new Interview("2026-12-01", "10:00", "11:00", "Technical"));
+        entry.applyTo(internships);
+        storageManager.appendInternshipMutation(entry, internships);
+        storageManager.flushPendingSaves();
+        assertTrue(storageManager.hasJournalEntries());
+
+        for (File file : Files.walk(directory.toPath()).map(path -> path.toFile()).filter(File::isFile).toList()) {
+            String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.ISO_8859_1);
+            assertFalse(content.contains("Google") || content.contains("Technical"), file.getName());
+        }
+        StorageManager reopened = createStorageManager("secret");
+        InternshipList loaded = new InternshipList(reopened);
+        for (CommandResult result : reopened.reloadAllData(loaded, new UserProfile(reopened))) {
+            assertTrue(result.isSuccessful());
+        }
+        assertEquals("Google", loaded.getInternshipMap().get("software").get(0).getCompanyName());
+        assertEquals("Technical", loaded.getInternshipMap().get("software").get(0).getInterview()
+                .getInterviewType());
+        assertThrows(IllegalArgumentException.class, () -> createStorageManager("wrong"));
+        assertThrows(IllegalArgumentException.class, () -> createStorageManager(null));
+    }
+
+    @Test
+    void lockDataDirectory_plaintextData_encryptsSavedFiles() throws Exception {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        StorageManager plaintext = new StorageManager(config);
+        InternshipList internships = new InternshipList(plaintext);
+        plaintext.reloadAllData(internships, new UserProfile(plaintext));
+        plaintext.applyUnjournalledMutation(JournalEntry.forAdd(new SoftwareInternship("Google", "SWE", "Java")),
+                internships);
+        plaintext.saveUnjournalledMutations(internships);
+        plaintext.flushPendingSaves();
+        File segment = new File(directory, "internships/software-0.txt");
+        assertTrue(Files.readString(segment.toPath()).contains("Google"));
+
+        StorageManager encrypted = createStorageManager("secret");
+        assertTrue(encrypted.lockDataDirectory());
+
+        assertFalse(new String(Files.readAllBytes(segment.toPath()), StandardCharsets.ISO_8859_1).contains("Google"));
+        InternshipList loaded = new InternshipList(encrypted);
+        for (CommandResult result : encrypted.reloadAllData(loaded, new UserProfile(encrypted))) {
+            assertTrue(result.isSuccessful());
+        }
+        assertEquals(1, loaded.getInternshipCount());
+        encrypted.close();
+    }
+}
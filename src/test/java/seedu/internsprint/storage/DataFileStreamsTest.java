@@ -0,0 +1,60 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataFileStreamsTest {
+
+    private static final String CONTENT = "[\n    {\"companyName\": \"Google\"},\n    {\"companyName\": \"Meta\"}\n]";
+
+    @TempDir
+    File directory;
+
+    private static String readAll(File file) throws IOException {
+        try (BufferedReader reader = DataFileStreams.newReader(file)) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+
+    @Test
+    void newReader_compressedFile_readsDecompressedContent() throws IOException {
+        File file = new File(directory, "projects.txt");
+        try (Writer writer = DataFileStreams.newWriter(file, true)) {
+            writer.write(CONTENT);
+        }
+
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        assertEquals((byte) 0x1f, bytes[0]);
+        assertEquals((byte) 0x8b, bytes[1]);
+        assertEquals(CONTENT, readAll(file));
+    }
+
+    @Test
+    void newReader_plainFile_readsContentUnchanged() throws IOException {
+        File file = new File(directory, "interviews.txt");
+        try (Writer writer = DataFileStreams.newWriter(file, false)) {
+            writer.write(CONTENT);
+        }
+
+        assertTrue(Files.readString(file.toPath()).startsWith("["));
+        assertEquals(CONTENT, readAll(file));
+    }
+
+    @Test
+    void newReader_emptyFile_readsNothing() throws IOException {
+        File file = new File(directory, "user.txt");
+        assertTrue(file.createNewFile());
+
+        assertEquals("", readAll(file));
+    }
+}
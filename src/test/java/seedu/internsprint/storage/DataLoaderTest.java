@@ -0,0 +1,137 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.logic.command.ByeCommand;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.logic.command.internship.SortInterviewCommand;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.ProjectList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataLoaderTest {
+
+    @TempDir
+    File directory;
+
+    private StorageConfig createConfig() {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        config.setDurabilityMode(StorageConfig.DurabilityMode.SYNC);
+        return config;
+    }
+
+    private void writeInternshipWithInterview() throws IOException {
+        File segmentDirectory = new File(directory, InternshipStorageHandler.DIRECTORY_NAME);
+        Files.createDirectories(segmentDirectory.toPath());
+        Files.writeString(new File(segmentDirectory, "general-0.txt").toPath(), SegmentFile.formatLine(
+                "{\"internshipId\":0,\"type\":\"general\",\"companyName\":\"UBS\",\"role\":\"Analyst\","
+                + "\"department\":\"Finance\",\"hasInterview\":true}"));
+        Files.writeString(new File(directory, InterviewStorageHandler.FILE_NAME).toPath(),
+                "[{\"internshipId\":0,\"date\":\"2026-12-01\",\"startTime\":\"10:00\",\"endTime\":\"11:00\","
+                + "\"type\":\"Technical\",\"roundCounter\":0}]");
+    }
+
+    @Test
+    void awaitData_commandNeedingInterviews_waitsUntilInterviewsAreLoaded() throws Exception {
+        writeInternshipWithInterview();
+        CountDownLatch internshipLoadBlocked = new CountDownLatch(1);
+        StorageManager storageManager = new StorageManager(createConfig()) {
+            @Override
+            public CommandResult loadInternshipData(InternshipList internships) {
+                try {
+                    internshipLoadBlocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.loadInternshipData(internships);
+            }
+        };
+        InternshipList internships = new InternshipList(storageManager);
+        DataLoader dataLoader = new DataLoader(storageManager);
+        dataLoader.start(internships, new UserProfile(storageManager));
+
+        // Interviews are attached by internship ID, so they cannot load before the internships have
+        CompletableFuture<List<CommandResult>> awaiting = CompletableFuture.supplyAsync(
+                () -> dataLoader.awaitData(new SortInterviewCommand().getRequiredData()));
+        assertThrows(TimeoutException.class, () -> awaiting.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(dataLoader.getLoad(DataStore.INTERVIEWS).isDone());
+
+        internshipLoadBlocked.countDown();
+        for (CommandResult result : awaiting.get(10, TimeUnit.SECONDS)) {
+            assertTrue(result.isSuccessful());
+        }
+        assertTrue(dataLoader.getLoad(DataStore.INTERVIEWS).isDone());
+        assertNotNull(internships.getInternshipMap().get("general").get(0).getInterview());
+    }
+
+    @Test
+    void awaitData_loadThrows_returnsUnsuccessfulResult() {
+        StorageManager storageManager = new StorageManager(createConfig()) {
+            @Override
+            public CommandResult loadProjectData(ProjectList projects) {
+                throw new IllegalStateException("Projects could not be read");
+            }
+        };
+        DataLoader dataLoader = new DataLoader(storageManager);
+        dataLoader.start(new InternshipList(storageManager), new UserProfile(storageManager));
+
+        List<CommandResult> results = dataLoader.awaitData(EnumSet.of(DataStore.PROJECTS));
+        assertEquals(1, results.size());
+        assertFalse(results.get(0).isSuccessful());
+        assertTrue(results.get(0).getFeedbackToUser().get(0).contains("Projects could not be read"));
+
+        // A failure is only shown once, however many commands wait for the store
+        assertTrue(dataLoader.awaitData(EnumSet.of(DataStore.PROJECTS)).isEmpty());
+    }
+
+    @Test
+    void awaitData_byeWhileSegmentsWithoutManifestLoad_waitsUntilInternshipsAreLoaded() throws Exception {
+        writeInternshipWithInterview();
+        CountDownLatch internshipLoadBlocked = new CountDownLatch(1);
+        StorageManager storageManager = new StorageManager(createConfig()) {
+            @Override
+            public CommandResult loadInternshipData(InternshipList internships) {
+                try {
+                    internshipLoadBlocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.loadInternshipData(internships);
+            }
+        };
+        InternshipList internships = new InternshipList(storageManager);
+        DataLoader dataLoader = new DataLoader(storageManager);
+        dataLoader.start(internships, new UserProfile(storageManager));
+
+        // Nothing is marked to save before the load ends, yet exiting must not save a list still loading
+        ByeCommand bye = new ByeCommand();
+        bye.setStorageManager(storageManager);
+        assertFalse(storageManager.hasUnsavedChanges());
+        CompletableFuture<List<CommandResult>> awaiting = CompletableFuture.supplyAsync(
+                () -> dataLoader.awaitData(bye.getRequiredData()));
+        assertThrows(TimeoutException.class, () -> awaiting.get(200, TimeUnit.MILLISECONDS));
+
+        internshipLoadBlocked.countDown();
+        awaiting.get(10, TimeUnit.SECONDS);
+        assertEquals(1, internships.getInternshipCount());
+        // The segments were found without a manifest, so all of them are saved once loaded
+        assertTrue(storageManager.hasUnsavedChanges());
+    }
+}
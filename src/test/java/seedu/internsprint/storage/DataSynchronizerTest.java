@@ -0,0 +1,131 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.GeneralProject;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataSynchronizerTest {
+
+    @TempDir
+    File localDirectory;
+
+    @TempDir
+    File remoteDirectory;
+
+    /**
+     * Holds the data of one data directory, loaded as the app would.
+     */
+    private static class Data {
+        private final StorageManager storageManager;
+        private final InternshipList internships;
+        private final UserProfile user;
+
+        private Data(File directory) {
+            StorageConfig config = new StorageConfig();
+            config.setDataDirectory(directory);
+            config.setDurabilityMode(StorageConfig.DurabilityMode.SYNC);
+            storageManager = new StorageManager(config);
+            internships = new InternshipList(storageManager);
+            user = new UserProfile(storageManager);
+            for (CommandResult result : storageManager.reloadAllData(internships, user)) {
+                assertTrue(result.isSuccessful());
+            }
+        }
+
+        private void apply(JournalEntry entry) throws Exception {
+            storageManager.applyUnjournalledMutation(entry, internships);
+            storageManager.saveUnjournalledMutations(internships);
+            storageManager.flushPendingSaves();
+        }
+
+        private Internship get(String type, int index) {
+            return internships.getInternshipMap().get(type).get(index);
+        }
+
+        private void setStatus(String type, int index, String status) throws Exception {
+            Internship existing = get(type, index);
+            Internship edited = InternshipStorageHandler.createInternship(existing.toJson().put("status", status));
+            apply(JournalEntry.forEdit(type, index, edited, existing.toJson()));
+        }
+    }
+
+    @Test
+    void sync_changesInBothDirectories_copiesEachWayAndThenIsUpToDate() throws Exception {
+        Data local = new Data(localDirectory);
+        local.apply(JournalEntry.forAdd(new SoftwareInternship("Google", "SWE", "Java")));
+        local.apply(JournalEntry.forAddInterview("software", 0,
+                new Interview("2026-12-01", "10:00", "11:00", "Technical")));
+        Data remote = new Data(remoteDirectory);
+        remote.apply(JournalEntry.forAdd(new GeneralInternship("UBS", "Analyst", "Finance")));
+        remote.user.projects.addProject(new GeneralProject("Booth", "Lead", "Marketing", "Recruit members",
+                "Career fair booth", "1 week"));
+        remote.storageManager.saveProjectData(remote.user.projects);
+
+        DataSynchronizer synchronizer = local.storageManager.getDataSynchronizer();
+        DataSynchronizer.SyncResult result = synchronizer.sync(local.internships, local.user, remoteDirectory, false);
+
+        assertEquals(2, result.getPulledCount());
+        assertEquals(2, result.getPushedCount());
+        assertTrue(result.getConflicts().isEmpty());
+        assertEquals(2, local.internships.getInternshipCount());
+        assertEquals(1, local.user.projects.getProjectCount());
+        Data reloadedRemote = new Data(remoteDirectory);
+        assertEquals(2, reloadedRemote.internships.getInternshipCount());
+        assertEquals("2026-12-01", reloadedRemote.get("software", 0).getInterview()
+                .getUnformattedInterviewDate().toString());
+        assertTrue(synchronizer.sync(local.internships, local.user, remoteDirectory, false).isUpToDate());
+    }
+
+    @Test
+    void sync_deletedInOneDirectory_deletesInTheOther() throws Exception {
+        Data local = new Data(localDirectory);
+        local.apply(JournalEntry.forAdd(new SoftwareInternship("Google", "SWE", "Java")));
+        local.apply(JournalEntry.forAdd(new GeneralInternship("UBS", "Analyst", "Finance")));
+        DataSynchronizer synchronizer = local.storageManager.getDataSynchronizer();
+        synchronizer.sync(local.internships, local.user, remoteDirectory, false);
+
+        Data remote = new Data(remoteDirectory);
+        assertEquals(2, remote.internships.getInternshipCount());
+        remote.apply(JournalEntry.forDelete("general", 0, remote.get("general", 0)));
+        DataSynchronizer.SyncResult result = synchronizer.sync(local.internships, local.user, remoteDirectory, false);
+
+        assertEquals(1, result.getPulledCount());
+        assertEquals(0, result.getPushedCount());
+        assertEquals(1, local.internships.getInternshipCount());
+        assertEquals(1, new Data(localDirectory).internships.getInternshipCount());
+    }
+
+    @Test
+    void sync_changedInBothDirectories_keepsPreferredVersion() throws Exception {
+        Data local = new Data(localDirectory);
+        local.apply(JournalEntry.forAdd(new SoftwareInternship("Google", "SWE", "Java")));
+        local.apply(JournalEntry.forAdd(new GeneralInternship("UBS", "Analyst", "Finance")));
+        DataSynchronizer synchronizer = local.storageManager.getDataSynchronizer();
+        synchronizer.sync(local.internships, local.user, remoteDirectory, false);
+
+        Data remote = new Data(remoteDirectory);
+        local.setStatus("software", 0, "Applied");
+        remote.setStatus("software", 0, "Offered");
+        remote.setStatus("general", 0, "Rejected");
+        DataSynchronizer.SyncResult result = synchronizer.sync(local.internships, local.user, remoteDirectory, true);
+
+        assertEquals(List.of("Google - SWE"), result.getConflicts());
+        assertEquals("Offered", local.get("software", 0).getStatus());
+        assertEquals("Rejected", local.get("general", 0).getStatus());
+        assertEquals(2, result.getPulledCount());
+        assertEquals("Offered", new Data(remoteDirectory).get("software", 0).getStatus());
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseInternshipStorageHandlerTest {
+
+    @TempDir
+    File directory;
+
+    private Database database;
+    private DatabaseInternshipStorageHandler internshipHandler;
+    private DatabaseInterviewStorageHandler interviewHandler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        database = Database.open(new File(directory, "internsprint"));
+        internshipHandler = new DatabaseInternshipStorageHandler(database);
+        interviewHandler = new DatabaseInterviewStorageHandler(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    private InternshipList loadAll() {
+        InternshipList loaded = new InternshipList();
+        assertTrue(internshipHandler.load(loaded).isSuccessful());
+        assertTrue(interviewHandler.load(loaded).isSuccessful());
+        return loaded;
+    }
+
+    @Test
+    void load_savedInternshipsWithInterviewRounds_returnsSameList() throws IOException, DuplicateEntryException {
+        InternshipList internships = new InternshipList();
+        Internship google = new SoftwareInternship("Google", "SWE", "Java");
+        internships.addInternship(google);
+        internships.addInternship(new GeneralInternship("UBS", "Analyst", "Finance"));
+        internships.addInterview(createInterview(google, "2026-12-01"));
+        google.addInterview(createInterview(google, "2026-12-08"));
+
+        internshipHandler.save(internships);
+        interviewHandler.save(internships);
+        InternshipList loaded = loadAll();
+
+        assertEquals(2, loaded.getInternshipCount());
+        Interview interview = loaded.getInternshipMap().get("software").get(0).getInterview();
+        assertEquals(1, interview.getRoundCounter());
+        assertEquals("2026-12-08", interview.getNextRounds().get(0).getUnformattedInterviewDate().toString());
+    }
+
+    @Test
+    void apply_addDeleteAndAddInterview_matchesListInMemory() throws IOException {
+        Internship google = new SoftwareInternship("Google", "SWE", "Java");
+        Internship meta = new SoftwareInternship("Meta", "SWE", "Hack");
+        Internship apple = new SoftwareInternship("Apple", "SWE", "Swift");
+        internshipHandler.apply(List.of(JournalEntry.forAdd(google), JournalEntry.forAdd(meta),
+                JournalEntry.forAdd(apple),
+                JournalEntry.forAddInterview("software", 0, createInterview(google, "2026-12-01")),
+                JournalEntry.forAddInterview("software", 2, createInterview(apple, "2026-12-02")),
+                JournalEntry.forDelete("software", 0),
+                JournalEntry.forEdit("software", 0, new SoftwareInternship("Meta", "Engineer", "Hack"))));
+
+        InternshipList loaded = loadAll();
+
+        List<Internship> software = loaded.getInternshipMap().get("software");
+        assertEquals(2, software.size());
+        assertEquals("Engineer", software.get(0).getRole());
+        assertNull(software.get(0).getInterview());
+        assertEquals("Apple", software.get(1).getCompanyName());
+        assertEquals("2026-12-02", software.get(1).getInterview().getUnformattedInterviewDate().toString());
+    }
+
+    private static Interview createInterview(Internship internship, String date) {
+        Interview interview = new Interview(date, "10:00", "11:00", "Technical");
+        interview.setInternshipId(internship.getInternshipId());
+        return interview;
+    }
+}
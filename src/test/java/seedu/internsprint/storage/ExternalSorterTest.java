@@ -0,0 +1,60 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExternalSorterTest {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void forEachSorted_moreRecordsThanOneRun_mergesRunsInStableOrder() throws IOException {
+        List<Object[]> sorted = new ArrayList<>();
+        try (ExternalSorter sorter = new ExternalSorter(
+                Comparator.comparing(record -> (String) record[0]), 3, directory)) {
+            String[] keys = {"c", "a", "b", "a", "c", "b", "a"};
+            for (int i = 0; i < keys.length; i++) {
+                sorter.add(keys[i], i, i % 2 == 0 ? null : "line\n" + i);
+            }
+            assertEquals(2, sorter.getRunCount());
+
+            sorter.forEachSorted(sorted::add);
+            assertEquals(3, directory.list().length);
+        }
+
+        assertEquals(7, sorted.size());
+        assertArrayEquals(new Object[]{"a", 1, "line\n1"}, sorted.get(0));
+        assertArrayEquals(new Object[]{"a", 3, "line\n3"}, sorted.get(1));
+        assertArrayEquals(new Object[]{"a", 6, null}, sorted.get(2));
+        assertArrayEquals(new Object[]{"b", 2, null}, sorted.get(3));
+        assertArrayEquals(new Object[]{"b", 5, "line\n5"}, sorted.get(4));
+        assertArrayEquals(new Object[]{"c", 0, null}, sorted.get(5));
+        assertArrayEquals(new Object[]{"c", 4, null}, sorted.get(6));
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    void forEachSorted_fewerRecordsThanOneRun_sortsWithoutTemporaryFiles() throws IOException {
+        List<Object[]> sorted = new ArrayList<>();
+        try (ExternalSorter sorter = new ExternalSorter(
+                Comparator.comparing(record -> (Integer) record[0]), 10, directory)) {
+            sorter.add(2);
+            sorter.add(1);
+            sorter.forEachSorted(sorted::add);
+            assertEquals(0, sorter.getRunCount());
+        }
+
+        assertEquals(1, sorted.get(0)[0]);
+        assertEquals(2, sorted.get(1)[0]);
+    }
+}
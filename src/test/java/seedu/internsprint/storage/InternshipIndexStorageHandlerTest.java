@@ -0,0 +1,100 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipIndex;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InternshipIndexStorageHandlerTest {
+
+    @TempDir
+    File directory;
+
+    private StorageManager createStorageManager() {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        config.setDurabilityMode(StorageConfig.DurabilityMode.SYNC);
+        return new StorageManager(config);
+    }
+
+    private InternshipList load(StorageManager storageManager) {
+        InternshipList internships = new InternshipList(storageManager);
+        for (CommandResult result : storageManager.reloadAllData(internships, new UserProfile(storageManager))) {
+            assertTrue(result.isSuccessful());
+        }
+        return internships;
+    }
+
+    private void saveInternships() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        InternshipList internships = load(storageManager);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(
+                new SoftwareInternship("Google", "SWE", "Java")), internships);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(
+                new GeneralInternship("UBS", "Analyst", "Finance")), internships);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAdd(
+                new GeneralInternship("Google", "Analyst", "Cloud")), internships);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAddInterview("general", 1,
+                new Interview("2026-12-01", "10:00", "11:00", "Technical")), internships);
+        storageManager.applyUnjournalledMutation(JournalEntry.forAddInterview("software", 0,
+                new Interview("2026-11-01", "09:00", "10:00", "Online")), internships);
+        storageManager.saveUnjournalledMutations(internships);
+        storageManager.flushPendingSaves();
+    }
+
+    @Test
+    void loadInternshipIndex_unchangedDataFiles_mapsSavedIndex() throws Exception {
+        saveInternships();
+        InternshipList internships = load(createStorageManager());
+        InternshipIndex built = internships.getIndex(InternshipIndex.Kind.INTERVIEW_DATE);
+        assertFalse(built.getBuffer().isDirect());
+        assertTrue(new File(directory, "internships/interview-date.idx").exists());
+
+        InternshipList reloaded = load(createStorageManager());
+        InternshipIndex mapped = reloaded.getIndex(InternshipIndex.Kind.INTERVIEW_DATE);
+
+        assertTrue(mapped.getBuffer().isDirect());
+        assertEquals(built.getBuffer(), mapped.getBuffer());
+        assertEquals("Online", mapped.getInterview(reloaded, 0).getInterviewType());
+        Internship ubs = reloaded.getInternshipMap().get("general").get(0);
+        assertEquals(ubs, reloaded.getInternshipById(ubs.getInternshipId()));
+        assertEquals(2, reloaded.findByCompanyName("goo").size());
+    }
+
+    @Test
+    void load_dataFilesChanged_returnsNull() throws Exception {
+        saveInternships();
+        StorageManager storageManager = createStorageManager();
+        InternshipList internships = load(storageManager);
+        internships.getIndex(InternshipIndex.Kind.COMPANY);
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        InternshipIndexStorageHandler handler = new InternshipIndexStorageHandler(config,
+                new InternshipStorageHandler(config));
+        long stamp = handler.computeStamp();
+        assertEquals(3, handler.load(InternshipIndex.Kind.COMPANY, stamp).size());
+
+        storageManager.applyUnjournalledMutation(JournalEntry.forDelete("general", 0,
+                internships.getInternshipMap().get("general").get(0)), internships);
+        storageManager.saveUnjournalledMutations(internships);
+        storageManager.flushPendingSaves();
+
+        assertNull(handler.load(InternshipIndex.Kind.COMPANY, handler.computeStamp()));
+        InternshipIndex rebuilt = internships.getIndex(InternshipIndex.Kind.COMPANY);
+        assertEquals(2, rebuilt.size());
+        assertFalse(rebuilt.getBuffer().isDirect());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JournalEntryTest {
+
+    private InternshipList replayedList;
+
+    @BeforeEach
+    void setUp() {
+        replayedList = new InternshipList();
+    }
+
+    private void replay(JournalEntry entry) {
+        JournalEntry parsed = JournalEntry.fromJson(new JSONObject(entry.toJson().toString()));
+        assertDoesNotThrow(() -> parsed.applyTo(replayedList));
+    }
+
+    @Test
+    void applyTo_addEntries_rebuildsList() {
+        replay(JournalEntry.forAdd(new SoftwareInternship("Google", "SWE", "Java")));
+        replay(JournalEntry.forAdd(new GeneralInternship("UBS", "Analyst", "Finance")));
+
+        assertEquals(2, replayedList.getInternshipCount());
+        assertEquals("Google", replayedList.getInternshipMap().get("software").get(0).getCompanyName());
+        assertEquals("UBS", replayedList.getInternshipMap().get("general").get(0).getCompanyName());
+    }
+
+    @Test
+    void applyTo_editEntry_replacesInternshipAndKeepsInterview() {
+        replay(JournalEntry.forAdd(new SoftwareInternship("Google", "SWE", "Java")));
+        replay(JournalEntry.forAddInterview("software", 0,
+                new Interview("2025-04-10", "10:00", "11:00", "Technical")));
+
+        Internship edited = new SoftwareInternship("Google", "Data Engineer", "Python");
+        edited.setStatus("Offered");
+        replay(JournalEntry.forEdit("software", 0, edited));
+
+        Internship replayed = replayedList.getInternshipMap().get("software").get(0);
+        assertEquals("Data Engineer", replayed.getRole());
+        assertEquals("Offered", replayed.getStatus());
+        assertNotNull(replayed.getInterview());
+        assertEquals(replayed.getInternshipId(), replayed.getInterview().getInternshipId());
+    }
+
+    @Test
+    void applyTo_addInterviewTwice_addsNextRound() {
+        replay(JournalEntry.forAdd(new SoftwareInternship("Google", "SWE", "Java")));
+        replay(JournalEntry.forAddInterview("software", 0,
+                new Interview("2025-04-10", "10:00", "11:00", "Technical")));
+        replay(JournalEntry.forAddInterview("software", 0,
+                new Interview("2025-04-12", "10:00", "11:00", "HR")));
+
+        Interview interview = replayedList.getInternshipMap().get("software").get(0).getInterview();
+        assertEquals(1, interview.getRoundCounter());
+        assertEquals(1, interview.getNextRounds().size());
+    }
+
+    @Test
+    void applyTo_deleteEntry_removesInternship() {
+        replay(JournalEntry.forAdd(new SoftwareInternship("Google", "SWE", "Java")));
+        replay(JournalEntry.forAdd(new SoftwareInternship("Meta", "SWE", "Java")));
+        replay(JournalEntry.forDelete("software", 0));
+
+        assertEquals(1, replayedList.getInternshipCount());
+        assertEquals("Meta", replayedList.getInternshipMap().get("software").get(0).getCompanyName());
+    }
+
+    @Test
+    void applyTo_deleteOutOfRange_throwsException() {
+        JournalEntry entry = JournalEntry.forDelete("software", 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> entry.applyTo(replayedList));
+    }
+}
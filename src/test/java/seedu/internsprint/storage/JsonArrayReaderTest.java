@@ -0,0 +1,55 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonArrayReaderTest {
+
+    @Test
+    void next_prettyPrintedArray_readsEachObjectInOrder() {
+        String json = "[\n    {\"companyName\": \"Google\"},\n    {\"companyName\": \"Meta\"}\n]\n";
+        JsonArrayReader reader = new JsonArrayReader(new StringReader(json));
+
+        assertTrue(reader.hasNext());
+        assertEquals("Google", ((JSONObject) reader.next()).getString("companyName"));
+        assertTrue(reader.hasNext());
+        assertEquals("Meta", ((JSONObject) reader.next()).getString("companyName"));
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void hasNext_emptyArray_returnsFalse() {
+        JsonArrayReader reader = new JsonArrayReader(new StringReader("[ ]"));
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void hasNext_notAnArray_throwsException() {
+        JsonArrayReader reader = new JsonArrayReader(new StringReader("{\"companyName\": \"Google\"}"));
+        assertThrows(JSONException.class, reader::hasNext);
+    }
+
+    @Test
+    void hasNext_missingSeparator_throwsExceptionAfterValidEntries() {
+        JsonArrayReader reader = new JsonArrayReader(new StringReader("[{\"a\": 1} {\"a\": 2}]"));
+        assertTrue(reader.hasNext());
+        assertEquals(1, ((JSONObject) reader.next()).getInt("a"));
+        assertThrows(JSONException.class, reader::hasNext);
+    }
+
+    @Test
+    void hasNext_textAfterArray_throwsException() {
+        JsonArrayReader reader = new JsonArrayReader(new StringReader("[{\"a\": 1}] trailing"));
+        assertTrue(reader.hasNext());
+        reader.next();
+        assertThrows(JSONException.class, reader::hasNext);
+    }
+}
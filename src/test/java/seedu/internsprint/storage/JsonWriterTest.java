@@ -0,0 +1,95 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonWriterTest {
+
+    private static String writeArray(boolean isCompact, List<Internship> internships) throws IOException {
+        StringWriter output = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(output, isCompact)) {
+            writer.beginArray();
+            for (Internship internship : internships) {
+                internship.writeJson(writer);
+            }
+            writer.endArray();
+        }
+        return output.toString();
+    }
+
+    private static boolean isSameJson(JSONObject expected, JSONObject actual) {
+        return new JSONObject(expected.toString()).similar(actual);
+    }
+
+    @Test
+    void writeJson_indentedMode_parsesToSameFields() throws IOException {
+        Internship software = new SoftwareInternship("Google", "SWE", "Java, \"Go\"");
+        Internship hardware = new HardwareInternship("Intel", "Chip Designer", "FPGA");
+        hardware.setDescription("Line one\nLine two");
+        String json = writeArray(false, List.of(software, hardware));
+
+        assertTrue(json.startsWith("[\n    {\n        \"internshipId\": 0,\n"));
+        JSONArray written = new JSONArray(json);
+        assertEquals(2, written.length());
+        assertTrue(isSameJson(software.toJson(), written.getJSONObject(0)));
+        assertTrue(isSameJson(hardware.toJson(), written.getJSONObject(1)));
+    }
+
+    @Test
+    void writeJson_compactMode_parsesToSameFields() throws IOException {
+        Internship software = new SoftwareInternship("Google", "SWE", "Java");
+        String json = writeArray(true, List.of(software));
+
+        assertFalse(json.contains("\n"));
+        assertTrue(isSameJson(software.toJson(), new JSONArray(json).getJSONObject(0)));
+    }
+
+    @Test
+    void writeJson_storedInterviewNotLoaded_keepsInterviewMarker() throws IOException {
+        Internship software = new SoftwareInternship("Google", "SWE", "Java");
+        software.setHasStoredInterview(true);
+        JSONObject written = new JSONArray(writeArray(true, List.of(software))).getJSONObject(0);
+
+        assertTrue(isSameJson(software.toJson(), written));
+        Internship loaded = SoftwareInternship.fromJson(written);
+        assertTrue(loaded.hasInterview());
+        loaded.setInterview(new Interview("2025-04-10", "10:00", "11:00", "Technical"));
+        loaded.setInterview(null);
+        assertFalse(loaded.hasInterview());
+    }
+
+    @Test
+    void writeJson_interviewWithNextRounds_matchesToJson() throws Exception {
+        Interview interview = new Interview("2025-04-10", "10:00", "11:00", "Technical");
+        interview.setInternshipId(3);
+        interview.addInterviewRound(new Interview("2025-04-12", "10:00", "11:00", "HR"));
+
+        StringWriter output = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(output, false)) {
+            interview.writeJson(writer);
+        }
+
+        JSONObject written = new JSONObject(output.toString());
+        assertTrue(isSameJson(interview.toJson(), written));
+    }
+
+    @Test
+    void beginArray_emptyArray_writesBrackets() throws IOException {
+        StringWriter output = new StringWriter();
+        new JsonWriter(output, false).beginArray().endArray().flush();
+        assertEquals("[]", output.toString());
+    }
+}
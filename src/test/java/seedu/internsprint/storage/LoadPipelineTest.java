@@ -0,0 +1,59 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadPipelineTest {
+
+    @Test
+    void run_manyBatchesParsedByWorkers_insertsRecordsInReadOrder() throws InterruptedException {
+        int lineCount = LoadPipeline.BATCH_SIZE * 20 + 7;
+        LoadPipeline<Integer> pipeline = new LoadPipeline<>(4, line -> {
+            // Workers finish their batches out of order, which the insert stage has to undo
+            if (ThreadLocalRandom.current().nextInt(1000) == 0) {
+                Thread.yield();
+            }
+            return Integer.parseInt(line) * 2;
+        });
+        List<int[]> inserted = new ArrayList<>();
+
+        pipeline.run(sink -> {
+            for (int i = 0; i < lineCount; i++) {
+                sink.accept(i % 3, i + 1, String.valueOf(i));
+            }
+        }, (source, lineNumber, record) -> inserted.add(new int[]{source, lineNumber, record}));
+
+        assertEquals(lineCount, inserted.size());
+        for (int i = 0; i < lineCount; i++) {
+            assertEquals(i % 3, inserted.get(i)[0]);
+            assertEquals(i + 1, inserted.get(i)[1]);
+            assertEquals(i * 2, inserted.get(i)[2]);
+        }
+    }
+
+    @Test
+    void run_emptyInput_insertsNothing() throws InterruptedException {
+        List<String> inserted = new ArrayList<>();
+        new LoadPipeline<String>(2, line -> line).run(sink -> { },
+                (source, lineNumber, record) -> inserted.add(record));
+
+        assertEquals(0, inserted.size());
+    }
+
+    @Test
+    void run_parserThrows_stopsPipelineAndThrowsAgain() {
+        LoadPipeline<Integer> pipeline = new LoadPipeline<>(2, Integer::parseInt);
+
+        assertThrows(NumberFormatException.class, () -> pipeline.run(sink -> {
+            for (int i = 0; i < LoadPipeline.BATCH_SIZE * 100; i++) {
+                sink.accept(0, i + 1, i == LoadPipeline.BATCH_SIZE * 3 ? "not a number" : String.valueOf(i));
+            }
+        }, (source, lineNumber, record) -> { }));
+    }
+}
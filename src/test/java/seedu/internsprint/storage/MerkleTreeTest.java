@@ -0,0 +1,61 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MerkleTreeTest {
+
+    @TempDir
+    File directory;
+
+    private static Map<Long, Long> createHashes(int count) {
+        Random random = new Random(42);
+        Map<Long, Long> hashes = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            hashes.put(random.nextLong(), random.nextLong());
+        }
+        return hashes;
+    }
+
+    @Test
+    void diff_fewRecordsDiffer_returnsOnlyThoseKeys() {
+        Map<Long, Long> hashes = createHashes(100_000);
+        Map<Long, Long> otherHashes = new HashMap<>(hashes);
+        List<Long> keys = List.copyOf(hashes.keySet());
+        otherHashes.put(keys.get(10), 1L);
+        otherHashes.remove(keys.get(20));
+        otherHashes.put(7L, 7L);
+
+        MerkleTree tree = new MerkleTree(hashes, 0);
+        List<Long> diff = tree.diff(new MerkleTree(otherHashes, 0));
+
+        assertEquals(Set.of(keys.get(10), keys.get(20), 7L), Set.copyOf(diff));
+        assertEquals(3, diff.size());
+        assertTrue(tree.diff(new MerkleTree(new HashMap<>(hashes), 0)).isEmpty());
+    }
+
+    @Test
+    void read_writtenTree_returnsSameRecordsAndStamp() throws Exception {
+        MerkleTree tree = new MerkleTree(createHashes(1000), 12345);
+        File file = new File(directory, "tree.bin");
+        tree.write(file);
+
+        MerkleTree read = MerkleTree.read(file);
+
+        assertEquals(12345, read.getStamp());
+        assertEquals(tree.getRootHash(), read.getRootHash());
+        assertEquals(1000, read.size());
+        assertNull(MerkleTree.read(new File(directory, "missing.bin")));
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.SoftwareInternship;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void parseLine_formattedLine_returnsSameRecord() {
+        String line = SegmentFile.formatLine("{\"companyName\":\"Google\"}");
+
+        JSONObject record = SegmentFile.parseLine(line.substring(0, line.length() - 1));
+
+        assertEquals("Google", record.getString("companyName"));
+    }
+
+    @Test
+    void parseLine_editedRecord_throwsIllegalArgumentException() {
+        String line = SegmentFile.formatLine("{\"companyName\":\"Google\"}");
+        String editedLine = line.replace("Google", "Goggle").trim();
+
+        assertThrows(IllegalArgumentException.class, () -> SegmentFile.parseLine(editedLine));
+        assertThrows(IllegalArgumentException.class, () -> SegmentFile.parseLine("{\"companyName\":\"Google\"}"));
+    }
+
+    @Test
+    void read_writtenSegment_returnsRecordsAndSameChecksum() throws IOException {
+        SegmentFile<Internship> segmentFile = new SegmentFile<>(directory.resolve("software-0.txt").toFile());
+        List<Internship> internships = List.of(new SoftwareInternship("Google", "SWE", "Java"),
+                new HardwareInternship("Intel", "Chip Designer", "FPGA"));
+
+        long checksum = segmentFile.write(internships, Internship::writeJson);
+        SegmentFile.Contents contents = segmentFile.read();
+
+        assertEquals(checksum, contents.getChecksum());
+        assertEquals(List.of(1, 2), contents.getLineNumbers());
+        assertEquals("Intel", contents.getRecords().get(1).getString("companyName"));
+        assertTrue(contents.getDamagedLineNumbers().isEmpty());
+    }
+
+    @Test
+    void read_damagedLine_skipsOnlyThatRecord() throws IOException {
+        Path path = directory.resolve("general-0.txt");
+        SegmentFile<Internship> segmentFile = new SegmentFile<>(path.toFile());
+        long checksum = segmentFile.write(List.of(new SoftwareInternship("Google", "SWE", "Java"),
+                new SoftwareInternship("Meta", "SWE", "Hack")), Internship::writeJson);
+        Files.writeString(path, Files.readString(path).replace("Google", "Goggle"));
+
+        SegmentFile.Contents contents = segmentFile.read();
+
+        assertEquals(List.of(1), contents.getDamagedLineNumbers());
+        assertEquals(List.of(2), contents.getLineNumbers());
+        assertEquals("Meta", contents.getRecords().get(0).getString("companyName"));
+        assertTrue(checksum != contents.getChecksum());
+    }
+}
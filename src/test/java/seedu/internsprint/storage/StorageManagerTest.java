@@ -0,0 +1,559 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.logic.command.internship.EditCommand;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.GeneralProject;
+import seedu.internsprint.model.userprofile.project.ProjectList;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_CONFLICT;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_CONFLICT_CHANGED;
+import static seedu.internsprint.util.InternSprintExceptionMessages.RELOAD_SEGMENT_NOT_SAVED;
+import static seedu.internsprint.util.InternSprintMessages.RELOAD_SEGMENT_SUCCESS;
+
+class StorageManagerTest {
+
+    @TempDir
+    File directory;
+
+    private StorageConfig createConfig(StorageConfig.Backend backend) {
+        StorageConfig config = new StorageConfig();
+        config.setBackend(backend);
+        config.setDataDirectory(directory);
+        return config;
+    }
+
+    @Test
+    void loadInternshipData_inMemoryAfterMutations_returnsSameListWithoutFiles() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.MEMORY));
+        InternshipList internships = new InternshipList();
+        Internship google = new SoftwareInternship("Google", "SWE", "Java");
+        internships.addInternship(google);
+        storageManager.appendInternshipMutation(JournalEntry.forAdd(google), internships);
+        Internship ubs = new GeneralInternship("UBS", "Analyst", "Finance");
+        internships.addInternship(ubs);
+        storageManager.appendInternshipMutation(JournalEntry.forAdd(ubs), internships);
+        Interview interview = new Interview("2026-12-01", "10:00", "11:00", "Technical");
+        interview.setInternshipId(google.getInternshipId());
+        internships.addInterview(interview);
+        storageManager.appendInternshipMutation(JournalEntry.forAddInterview("software", 0, interview), internships);
+
+        InternshipList loaded = new InternshipList();
+        assertTrue(storageManager.loadInternshipData(loaded).isSuccessful());
+        assertTrue(storageManager.loadInterviewData(loaded, CompletableFuture.completedFuture(null)).isSuccessful());
+
+        assertEquals(2, loaded.getInternshipCount());
+        assertEquals("2026-12-01", loaded.getInternshipMap().get("software").get(0).getInterview()
+                .getUnformattedInterviewDate().toString());
+        assertFalse(storageManager.hasUnsavedChanges());
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    void saveInternshipData_databaseBackend_savesToDatabaseWithoutDataFiles() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.DATABASE));
+        InternshipList internships = new InternshipList();
+        Internship google = new SoftwareInternship("Google", "SWE", "Java");
+        internships.addInternship(google);
+        Interview interview = new Interview("2026-12-01", "10:00", "11:00", "Technical");
+        interview.setInternshipId(google.getInternshipId());
+        internships.addInterview(interview);
+
+        storageManager.saveInternshipData(internships);
+        storageManager.saveInterviewData(internships);
+        storageManager.close();
+
+        StorageManager reopened = new StorageManager(createConfig(StorageConfig.Backend.DATABASE));
+        InternshipList loaded = new InternshipList();
+        assertTrue(reopened.loadInternshipData(loaded).isSuccessful());
+        assertTrue(reopened.loadInterviewData(loaded).isSuccessful());
+        assertEquals("2026-12-01", loaded.getInternshipMap().get("software").get(0).getInterview()
+                .getUnformattedInterviewDate().toString());
+        reopened.close();
+        assertFalse(new File(directory, InternshipStorageHandler.DIRECTORY_NAME).exists());
+        assertFalse(new File(directory, InterviewStorageHandler.FILE_NAME).exists());
+    }
+
+    @Test
+    void saveProjectData_configuredDataDirectory_writesFileInDataDirectory() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        ProjectList projects = new ProjectList();
+        projects.addProject(new GeneralProject("Booth", "Lead", "Marketing", "Recruit members",
+                "Career fair booth", "1 week"));
+
+        storageManager.saveProjectData(projects);
+
+        assertTrue(new File(directory, ProjectStorageHandler.FILE_NAME).exists());
+        assertEquals(new File(directory, ProjectStorageHandler.FILE_NAME).getPath(),
+                storageManager.getDataPath(ProjectStorageHandler.FILE_NAME));
+        ProjectList loaded = new ProjectList();
+        assertTrue(storageManager.loadProjectData(loaded).isSuccessful());
+        assertEquals(1, loaded.getProjectCount());
+    }
+
+    private static ProjectList createProjects(String... names) {
+        ProjectList projects = new ProjectList();
+        for (String name : names) {
+            projects.addProject(new GeneralProject(name, "Lead", "Marketing", "Recruit members",
+                    "Career fair booth", "1 week"));
+        }
+        return projects;
+    }
+
+    private void saveProjectsOutsideApp(StorageConfig config, String... names) throws Exception {
+        new ProjectStorageHandler(config).save(createProjects(names));
+        File file = new File(directory, ProjectStorageHandler.FILE_NAME);
+        // Saved within the same millisecond as the app, the file is told apart by its size alone
+        assertTrue(file.setLastModified(file.lastModified() + 2000));
+    }
+
+    @Test
+    void saveProjectData_fileChangedOutsideApp_copiesChangedFileBeforeSaving() throws Exception {
+        StorageConfig config = createConfig(StorageConfig.Backend.FILES);
+        StorageManager storageManager = new StorageManager(config);
+        storageManager.saveProjectData(createProjects("Booth"));
+        storageManager.flushPendingSaves();
+        saveProjectsOutsideApp(config, "Booth", "Hackathon");
+
+        storageManager.saveProjectData(createProjects("Booth", "Website"));
+        storageManager.flushPendingSaves();
+
+        List<CommandResult> results = storageManager.takeMergeResults();
+        assertEquals(1, results.size());
+        assertFalse(results.get(0).isSuccessful());
+        File quarantine = new File(directory, InternshipStorageHandler.QUARANTINE_DIRECTORY_NAME);
+        ProjectList saved = new ProjectList();
+        assertTrue(new ProjectStorageHandler(createConfig(StorageConfig.Backend.FILES)).load(saved).isSuccessful());
+        assertEquals(2, saved.getProjectCount());
+        assertEquals(1, quarantine.list().length);
+        storageManager.saveProjectData(createProjects("Booth"));
+        storageManager.flushPendingSaves();
+        assertTrue(storageManager.takeMergeResults().isEmpty());
+        storageManager.close();
+    }
+
+    @Test
+    void reloadDataFile_projectsChangedOutsideApp_loadsThemAgain() throws Exception {
+        StorageConfig config = createConfig(StorageConfig.Backend.FILES);
+        StorageManager storageManager = new StorageManager(config);
+        UserProfile user = new UserProfile(storageManager);
+        storageManager.saveProjectData(createProjects("Booth"));
+        storageManager.flushPendingSaves();
+        assertTrue(storageManager.loadProjectData(user.projects).isSuccessful());
+        assertNull(storageManager.reloadDataFile(ProjectStorageHandler.FILE_NAME, user));
+
+        saveProjectsOutsideApp(config, "Booth", "Hackathon");
+        CommandResult result = storageManager.reloadDataFile(ProjectStorageHandler.FILE_NAME, user);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(2, user.projects.getProjectCount());
+        assertNull(storageManager.reloadDataFile(ProjectStorageHandler.FILE_NAME, user));
+        storageManager.close();
+    }
+
+    private InternshipList createSavedInternships(StorageManager storageManager) throws Exception {
+        InternshipList internships = new InternshipList();
+        internships.addInternship(new SoftwareInternship("Google", "SWE", "Java"));
+        internships.addInternship(new SoftwareInternship("Meta", "SWE", "React"));
+        storageManager.saveInternshipData(internships);
+        return internships;
+    }
+
+    private File writeSegmentOutsideApp(String... records) throws Exception {
+        File segment = new File(new File(directory, InternshipStorageHandler.DIRECTORY_NAME), "software-0.txt");
+        StringBuilder lines = new StringBuilder();
+        for (String record : records) {
+            lines.append(SegmentFile.formatLine(record));
+        }
+        Files.writeString(segment.toPath(), lines.toString());
+        return segment;
+    }
+
+    private void writeInternshipWithStoredInterview() throws Exception {
+        Files.createDirectories(new File(directory, InternshipStorageHandler.DIRECTORY_NAME).toPath());
+        writeSegmentOutsideApp("{\"internshipId\":0,\"type\":\"software\",\"companyName\":\"Google\","
+                + "\"role\":\"SWE\",\"techStack\":\"Java\",\"hasInterview\":true}");
+        Files.writeString(new File(directory, InterviewStorageHandler.FILE_NAME).toPath(),
+                "[{\"internshipId\":0,\"date\":\"2026-12-01\",\"startTime\":\"10:00\",\"endTime\":\"11:00\","
+                + "\"type\":\"Technical\",\"roundCounter\":0}]");
+    }
+
+    @Test
+    void loadInterviewData_internshipMarkedWithInterview_attachesInterviewOnDeferredLoad() throws Exception {
+        writeInternshipWithStoredInterview();
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList internships = new InternshipList(storageManager);
+        assertTrue(storageManager.loadInternshipData(internships).isSuccessful());
+        Internship google = internships.getInternshipMap().get("software").get(0);
+        assertTrue(google.hasInterview());
+        assertNull(google.getInterview());
+
+        assertTrue(storageManager.loadInterviewData(internships, CompletableFuture.completedFuture(null))
+                .isSuccessful());
+        internships.clearStoredInterviewMarkers();
+
+        assertEquals("Technical", google.getInterview().getInterviewType());
+        assertTrue(google.hasInterview());
+        storageManager.close();
+    }
+
+    @Test
+    void compactInternshipData_interviewsNotYetLoaded_keepsSavedInterviews() throws Exception {
+        writeInternshipWithStoredInterview();
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList internships = new InternshipList(storageManager);
+        assertTrue(storageManager.loadInternshipData(internships).isSuccessful());
+        Internship meta = new SoftwareInternship("Meta", "SWE", "React");
+        internships.addInternship(meta);
+        storageManager.appendInternshipMutation(JournalEntry.forAdd(meta), internships);
+
+        // The internships are saved while their interviews are still only a marker on each record
+        storageManager.compactInternshipData(internships);
+        storageManager.close();
+
+        StorageManager reopened = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList loaded = new InternshipList(reopened);
+        assertTrue(reopened.loadInternshipData(loaded).isSuccessful());
+        assertTrue(reopened.loadInterviewData(loaded, CompletableFuture.completedFuture(null)).isSuccessful());
+        List<Internship> software = loaded.getInternshipMap().get("software");
+        assertEquals(2, software.size());
+        assertEquals("Technical", software.get(0).getInterview().getInterviewType());
+        assertNull(software.get(1).getInterview());
+        reopened.close();
+    }
+
+    @Test
+    void reloadInternshipSegment_recordsChangedOutsideApp_appliesChangesToList() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList internships = createSavedInternships(storageManager);
+        Internship meta = internships.getInternshipMap().get("software").get(1);
+
+        writeSegmentOutsideApp("{\"internshipId\":0,\"type\":\"software\",\"companyName\":\"Google\","
+                        + "\"role\":\"Intern\",\"techStack\":\"Java\"}",
+                "{\"internshipId\":7,\"type\":\"software\",\"companyName\":\"Apple\",\"role\":\"SWE\","
+                        + "\"techStack\":\"Swift\"}");
+        CommandResult result = storageManager.reloadInternshipSegment("software-0.txt", internships);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(String.format(RELOAD_SEGMENT_SUCCESS, "software-0.txt", 1, 1, 1),
+                result.getFeedbackToUser().get(0));
+        List<Internship> software = internships.getInternshipMap().get("software");
+        assertEquals(List.of("Intern", "SWE"), List.of(software.get(0).getRole(), software.get(1).getRole()));
+        assertEquals("Apple", software.get(1).getCompanyName());
+        assertEquals(2, internships.getInternshipCount());
+        assertFalse(software.contains(meta));
+        assertNull(storageManager.reloadInternshipSegment("software-0.txt", internships));
+    }
+
+    @Test
+    void reloadInternshipSegment_recordAlsoChangedInApp_keepsVersionInListAndCopiesFile() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList internships = createSavedInternships(storageManager);
+        internships.getInternshipMap().get("software").get(0).setRole("Analyst");
+
+        writeSegmentOutsideApp("{\"internshipId\":0,\"type\":\"software\",\"companyName\":\"Google\","
+                        + "\"role\":\"Intern\",\"techStack\":\"Java\"}",
+                "{\"internshipId\":1,\"type\":\"software\",\"companyName\":\"Meta\",\"role\":\"SWE\","
+                        + "\"techStack\":\"React\"}");
+        CommandResult result = storageManager.reloadInternshipSegment("software-0.txt", internships);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(String.format(RELOAD_CONFLICT, 1, "software-0.txt", RELOAD_CONFLICT_CHANGED),
+                result.getFeedbackToUser().get(1));
+        assertEquals("Analyst", internships.getInternshipMap().get("software").get(0).getRole());
+        File quarantine = new File(new File(directory, InternshipStorageHandler.DIRECTORY_NAME),
+                InternshipStorageHandler.QUARANTINE_DIRECTORY_NAME);
+        assertEquals(1, quarantine.list().length);
+    }
+
+    @Test
+    void hasUpToDateBinarySnapshot_segmentChangedOutsideApp_returnsFalse() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList internships = createSavedInternships(storageManager);
+        storageManager.saveBinarySnapshotData(internships, new UserProfile(storageManager));
+        assertTrue(storageManager.hasUpToDateBinarySnapshot());
+
+        // Only the segment changes, while the manifest listing it stays as it was
+        File segment = writeSegmentOutsideApp("{\"internshipId\":0,\"type\":\"software\",\"companyName\":\"Google\","
+                        + "\"role\":\"Intern\",\"techStack\":\"Java\"}",
+                "{\"internshipId\":1,\"type\":\"software\",\"companyName\":\"Meta\",\"role\":\"SWE\","
+                        + "\"techStack\":\"React\"}");
+        assertTrue(segment.setLastModified(segment.lastModified() + 2000));
+
+        assertFalse(storageManager.hasUpToDateBinarySnapshot());
+        StorageManager reopened = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        assertFalse(reopened.hasUpToDateBinarySnapshot());
+    }
+
+    @Test
+    void compactInternshipData_startedFromSnapshotAfterDeleteAndEdit_savesListWithoutConflicts() throws Exception {
+        StorageManager converted = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList saved = new InternshipList(converted);
+        for (Internship internship : List.of(new SoftwareInternship("Google", "SWE", "Java"),
+                new SoftwareInternship("Meta", "SWE", "React"), new SoftwareInternship("Apple", "SWE", "Swift"))) {
+            saved.addInternship(internship);
+        }
+        // A deletion leaves a gap in the IDs saved in the segment, which the snapshot does not keep
+        saved.deleteInternship("software", 0);
+        converted.saveInternshipData(saved);
+        converted.saveBinarySnapshotData(saved, new UserProfile(converted));
+        converted.close();
+
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        assertTrue(storageManager.lockDataDirectory());
+        assertTrue(storageManager.hasUpToDateBinarySnapshot());
+        InternshipList internships = new InternshipList(storageManager);
+        assertTrue(storageManager.loadBinarySnapshotData(internships, new UserProfile(storageManager))
+                .isSuccessful());
+        assertTrue(storageManager.loadJournalData(internships).isSuccessful());
+        Internship meta = internships.getInternshipMap().get("software").get(0);
+        internships.deleteInternship("software", 0);
+        storageManager.appendInternshipMutation(JournalEntry.forDelete("software", 0, meta), internships);
+        Internship apple = internships.getInternshipMap().get("software").get(0);
+        apple.setCompanyName("Bedited");
+        storageManager.appendInternshipMutation(JournalEntry.forEdit("software", 0, apple), internships);
+        compactWhileChangingData(storageManager, internships);
+        storageManager.close();
+
+        assertTrue(storageManager.takeMergeResults().isEmpty());
+        File quarantine = new File(new File(directory, InternshipStorageHandler.DIRECTORY_NAME),
+                InternshipStorageHandler.QUARANTINE_DIRECTORY_NAME);
+        assertFalse(quarantine.exists());
+        InternshipList loaded = new InternshipList();
+        new StorageManager(createConfig(StorageConfig.Backend.FILES)).loadInternshipData(loaded);
+        List<Internship> software = loaded.getInternshipMap().get("software");
+        assertEquals(1, software.size());
+        assertEquals("Bedited", software.get(0).getCompanyName());
+    }
+
+    @Test
+    void reloadInternshipSegment_segmentWithoutSavedVersion_keepsListAndReportsConflict() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList internships = createSavedInternships(storageManager);
+
+        // A segment the app did not save cannot be merged, as there is no saved version to compare it with
+        File segment = new File(new File(directory, InternshipStorageHandler.DIRECTORY_NAME), "general-0.txt");
+        Files.writeString(segment.toPath(), SegmentFile.formatLine("{\"internshipId\":0,\"type\":\"general\","
+                + "\"companyName\":\"UBS\",\"role\":\"Analyst\",\"department\":\"Finance\"}"));
+        CommandResult result = storageManager.reloadInternshipSegment("general-0.txt", internships);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(String.format(RELOAD_SEGMENT_NOT_SAVED, "general-0.txt"), result.getFeedbackToUser().get(0));
+        assertEquals(2, internships.getInternshipCount());
+        assertTrue(internships.getInternshipMap().get("general").isEmpty());
+        File quarantine = new File(new File(directory, InternshipStorageHandler.DIRECTORY_NAME),
+                InternshipStorageHandler.QUARANTINE_DIRECTORY_NAME);
+        assertEquals(1, quarantine.list().length);
+        assertFalse(segment.exists());
+        assertNull(storageManager.reloadInternshipSegment("general-0.txt", internships));
+    }
+
+    @Test
+    void lockDataDirectory_directoryInUse_opensReadOnlySessionUntilClosed() throws Exception {
+        StorageManager primary = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        StorageManager secondary = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        assertTrue(primary.lockDataDirectory());
+        assertFalse(secondary.lockDataDirectory());
+        assertTrue(secondary.isReadOnly());
+        assertFalse(secondary.isChangedOnDisk());
+
+        ProjectList projects = new ProjectList();
+        projects.addProject(new GeneralProject("Booth", "Lead", "Marketing", "Recruit members",
+                "Career fair booth", "1 week"));
+        primary.saveProjectData(projects);
+        assertTrue(secondary.isChangedOnDisk());
+        assertFalse(secondary.retryDataDirectoryLock());
+
+        primary.close();
+        assertTrue(secondary.retryDataDirectoryLock());
+        assertFalse(secondary.isReadOnly());
+        secondary.close();
+    }
+
+    private void compactWhileChangingData(StorageManager storageManager, InternshipList internships)
+            throws Exception {
+        Lock dataLock = storageManager.getDataLock().writeLock();
+        dataLock.lock();
+        try {
+            storageManager.compactInternshipData(internships);
+        } finally {
+            dataLock.unlock();
+        }
+    }
+
+    @Test
+    void compactInternshipData_otherRecordChangedOnDisk_mergesItBeforeSaving() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        assertTrue(storageManager.lockDataDirectory());
+        InternshipList internships = createSavedInternships(storageManager);
+
+        writeSegmentOutsideApp("{\"internshipId\":0,\"type\":\"software\",\"companyName\":\"Google\","
+                        + "\"role\":\"Intern\",\"techStack\":\"Java\"}",
+                "{\"internshipId\":1,\"type\":\"software\",\"companyName\":\"Meta\",\"role\":\"SWE\","
+                        + "\"techStack\":\"React\"}");
+        SoftwareInternship meta = (SoftwareInternship) internships.getInternshipMap().get("software").get(1);
+        meta.setTechStack("Go");
+        storageManager.appendInternshipMutation(JournalEntry.forEdit("software", 1, meta), internships);
+        compactWhileChangingData(storageManager, internships);
+
+        List<CommandResult> results = storageManager.takeMergeResults();
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).isSuccessful());
+        InternshipList loaded = new InternshipList();
+        new StorageManager(createConfig(StorageConfig.Backend.FILES)).loadInternshipData(loaded);
+        List<Internship> software = loaded.getInternshipMap().get("software");
+        assertEquals("Intern", software.get(0).getRole());
+        assertEquals("Go", ((SoftwareInternship) software.get(1)).getTechStack());
+        storageManager.close();
+    }
+
+    @Test
+    void compactInternshipData_sameRecordChangedOnDisk_keepsVersionInAppAndReportsConflict() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        assertTrue(storageManager.lockDataDirectory());
+        InternshipList internships = createSavedInternships(storageManager);
+
+        writeSegmentOutsideApp("{\"internshipId\":0,\"type\":\"software\",\"companyName\":\"Google\","
+                        + "\"role\":\"SWE\",\"techStack\":\"Java\"}",
+                "{\"internshipId\":1,\"type\":\"software\",\"companyName\":\"Meta\",\"role\":\"Manager\","
+                        + "\"techStack\":\"React\"}");
+        Internship meta = internships.getInternshipMap().get("software").get(1);
+        meta.setRole("Analyst");
+        storageManager.appendInternshipMutation(JournalEntry.forEdit("software", 1, meta), internships);
+        compactWhileChangingData(storageManager, internships);
+
+        List<CommandResult> results = storageManager.takeMergeResults();
+        assertEquals(1, results.size());
+        assertFalse(results.get(0).isSuccessful());
+        InternshipList loaded = new InternshipList();
+        new StorageManager(createConfig(StorageConfig.Backend.FILES)).loadInternshipData(loaded);
+        assertEquals("Analyst", loaded.getInternshipMap().get("software").get(1).getRole());
+        File quarantine = new File(new File(directory, InternshipStorageHandler.DIRECTORY_NAME),
+                InternshipStorageHandler.QUARANTINE_DIRECTORY_NAME);
+        assertEquals(1, quarantine.list().length);
+        storageManager.close();
+    }
+
+    @Test
+    void appendInternshipMutation_editAndDelete_recordsChangesWithRecordsBeforeAndAfter() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList internships = new InternshipList();
+        Internship google = new SoftwareInternship("Google", "SWE", "Java");
+        internships.addInternship(google);
+        storageManager.appendInternshipMutation(JournalEntry.forAdd(google), internships);
+        JSONObject previous = google.toJson();
+        google.setRole("Intern");
+        storageManager.appendInternshipMutation(JournalEntry.forEdit("software", 0, google, previous), internships);
+        internships.deleteInternship("software", 0);
+        storageManager.appendInternshipMutation(JournalEntry.forDelete("software", 0, google), internships);
+
+        List<JSONObject> changes = storageManager.getChangeFeed().readSince(1);
+        assertEquals(2, changes.size());
+        assertEquals(ChangeFeed.EDIT, changes.get(0).getString("operation"));
+        assertEquals("SWE", changes.get(0).getJSONObject("before").getString("role"));
+        assertEquals("Intern", changes.get(0).getJSONObject("after").getString("role"));
+        assertEquals(ChangeFeed.DELETE, changes.get(1).getString("operation"));
+        assertEquals("Intern", changes.get(1).getJSONObject("before").getString("role"));
+        assertFalse(changes.get(1).has("after"));
+        storageManager.close();
+    }
+
+    @Test
+    void appendInternshipMutation_editInternshipWithNonZeroId_recordsSameIdBeforeAndAfter() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList internships = new InternshipList(storageManager);
+        for (Internship internship : List.of(new SoftwareInternship("Google", "SWE", "Java"),
+                new SoftwareInternship("Meta", "SWE", "React"))) {
+            internships.addInternship(internship);
+            storageManager.appendInternshipMutation(JournalEntry.forAdd(internship), internships);
+        }
+        EditCommand editCommand = new EditCommand();
+        editCommand.getParameters().put("/index", "2");
+        editCommand.getParameters().put("/r", "Intern");
+
+        assertTrue(editCommand.execute(internships, new UserProfile(storageManager)).isSuccessful());
+
+        List<JSONObject> changes = storageManager.getChangeFeed().readSince(2);
+        assertEquals(1, changes.size());
+        JSONObject before = changes.get(0).getJSONObject("before");
+        JSONObject after = changes.get(0).getJSONObject("after");
+        assertEquals(1, after.getInt("internshipId"));
+        assertEquals(after.getInt("internshipId"), before.getInt("internshipId"));
+        assertEquals("SWE", before.getString("role"));
+        assertEquals("Intern", after.getString("role"));
+        storageManager.close();
+    }
+
+    private InternshipList createJournalledInternships(StorageManager storageManager) throws Exception {
+        InternshipList internships = new InternshipList(storageManager);
+        for (Internship internship : List.of(new SoftwareInternship("Google", "SWE", "Java"),
+                new SoftwareInternship("Meta", "SWE", "React"))) {
+            internships.addInternship(internship);
+            storageManager.appendInternshipMutation(JournalEntry.forAdd(internship), internships);
+        }
+        return internships;
+    }
+
+    private InternshipList loadWithJournal(StorageManager storageManager, boolean isSuccessful) {
+        InternshipList loaded = new InternshipList(storageManager);
+        assertTrue(storageManager.loadInternshipData(loaded).isSuccessful());
+        assertEquals(isSuccessful, storageManager.loadJournalData(loaded).isSuccessful());
+        return loaded;
+    }
+
+    @Test
+    void loadJournalData_lastEntryCutShort_dropsItAndReplaysEntriesBefore() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        createJournalledInternships(storageManager);
+        storageManager.close();
+        File journal = new File(directory, JournalStorageHandler.FILE_NAME);
+        Files.writeString(journal.toPath(), "{\"operation\":\"add\",\"type\":\"softw",
+                StandardOpenOption.APPEND);
+
+        StorageManager reopened = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        InternshipList loaded = loadWithJournal(reopened, true);
+        assertEquals(2, loaded.getInternshipCount());
+        assertTrue(Files.readString(journal.toPath()).endsWith(System.lineSeparator()));
+
+        // Entries appended after the dropped one are replayed as well
+        Internship apple = new SoftwareInternship("Apple", "SWE", "Swift");
+        loaded.addInternship(apple);
+        reopened.appendInternshipMutation(JournalEntry.forAdd(apple), loaded);
+        reopened.close();
+        assertEquals(3, loadWithJournal(new StorageManager(createConfig(StorageConfig.Backend.FILES)), true)
+                .getInternshipCount());
+    }
+
+    @Test
+    void loadJournalData_entryDamagedBeforeLastLine_reportsCorruption() throws Exception {
+        StorageManager storageManager = new StorageManager(createConfig(StorageConfig.Backend.FILES));
+        createJournalledInternships(storageManager);
+        storageManager.close();
+        File journal = new File(directory, JournalStorageHandler.FILE_NAME);
+        List<String> lines = new ArrayList<>(Files.readAllLines(journal.toPath()));
+        lines.set(1, lines.get(1).substring(0, 20));
+        Files.write(journal.toPath(), lines);
+
+        loadWithJournal(new StorageManager(createConfig(StorageConfig.Backend.FILES)), false);
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.internsprint.logic.command.ByeCommand;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.logic.command.internship.AddInternshipCommand;
+import seedu.internsprint.logic.command.internship.AddSoftwareInternshipCommand;
+import seedu.internsprint.logic.command.user.UserProfileCommand;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.interview.Interview;
+
+import java.io.File;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TenantRegistryTest {
+
+    @TempDir
+    File directory;
+
+    private StorageConfig createConfig(long memoryBytes) {
+        StorageConfig config = new StorageConfig();
+        config.setDataDirectory(directory);
+        config.setTenantMemoryBytes(memoryBytes);
+        return config;
+    }
+
+    private static UserProfileCommand createNameCommand(String name) {
+        UserProfileCommand command = new UserProfileCommand();
+        command.setParameters(new HashMap<>(Map.of("/name", name)));
+        return command;
+    }
+
+    private static AddInternshipCommand createAddCommand(String companyName) {
+        AddInternshipCommand command = new AddSoftwareInternshipCommand();
+        command.setParameters(new HashMap<>(Map.of("/c", companyName, "/r", "SWE", "/tech", "Java")));
+        return command;
+    }
+
+    @Test
+    void execute_twoTenants_keepsSeparateProfilesAndDataDirectories() throws Exception {
+        try (TenantRegistry registry = new TenantRegistry(createConfig(Long.MAX_VALUE))) {
+            assertTrue(registry.execute("alice", createNameCommand("Alice")).isSuccessful());
+            assertTrue(registry.execute("bob", createNameCommand("Bob")).isSuccessful());
+            assertTrue(registry.execute("alice", createAddCommand("Google")).isSuccessful());
+
+            Tenant alice = registry.acquire("alice");
+            Tenant bob = registry.acquire("bob");
+            assertEquals("Alice", alice.getUser().getName());
+            assertEquals("Bob", bob.getUser().getName());
+            assertEquals(1, alice.getInternships().getInternshipCount());
+            assertEquals(0, bob.getInternships().getInternshipCount());
+            registry.release(alice);
+            registry.release(bob);
+            assertEquals(List.of("alice", "bob"), registry.getLoadedTenantIds());
+        }
+        assertTrue(new File(directory, "tenants/alice/" + ProfileStorageHandler.FILE_NAME).exists());
+        assertTrue(new File(directory, "tenants/bob/" + ProfileStorageHandler.FILE_NAME).exists());
+    }
+
+    @Test
+    void execute_overMemoryBudget_unloadsLeastRecentlyUsedTenantAfterSavingIt() throws Exception {
+        try (TenantRegistry registry = new TenantRegistry(createConfig(1))) {
+            registry.execute("alice", createAddCommand("Google"));
+            registry.execute("alice", createNameCommand("Alice"));
+            assertEquals(List.of("alice"), registry.getLoadedTenantIds());
+
+            registry.execute("bob", createNameCommand("Bob"));
+            assertEquals(List.of("bob"), registry.getLoadedTenantIds());
+
+            Tenant alice = registry.acquire("alice");
+            assertEquals("Alice", alice.getUser().getName());
+            assertEquals("Google", alice.getInternships().getInternshipMap().get("software").get(0)
+                    .getCompanyName());
+            registry.release(alice);
+            assertEquals(List.of("alice"), registry.getLoadedTenantIds());
+        }
+    }
+
+    @Test
+    void acquire_tenantInUse_isNotUnloadedUntilReleased() throws Exception {
+        try (TenantRegistry registry = new TenantRegistry(createConfig(1))) {
+            Tenant alice = registry.acquire("alice");
+            registry.execute("bob", createNameCommand("Bob"));
+            registry.execute("carol", createNameCommand("Carol"));
+            assertEquals(List.of("alice", "carol"), registry.getLoadedTenantIds());
+
+            registry.release(alice);
+            assertEquals(List.of("carol"), registry.getLoadedTenantIds());
+        }
+    }
+
+    @Test
+    void execute_byeWithUnsavedChanges_savesChangesOfTenant() throws Exception {
+        StorageConfig config = createConfig(Long.MAX_VALUE);
+        config.setDurabilityMode(StorageConfig.DurabilityMode.ON_EXIT);
+        try (TenantRegistry registry = new TenantRegistry(config)) {
+            registry.execute("alice", createAddCommand("Google"));
+            Tenant alice = registry.acquire("alice");
+            assertTrue(alice.getStorageManager().hasUnsavedChanges());
+
+            // Asked of the tenant's storage manager, not the one the command line runs on
+            ByeCommand bye = new ByeCommand();
+            bye.setStorageManager(alice.getStorageManager());
+            assertEquals(EnumSet.allOf(DataStore.class), bye.getRequiredData());
+            assertTrue(bye.isChangingData());
+
+            CommandResult result = registry.execute("alice", bye);
+            assertTrue(result.isSuccessful());
+            assertTrue(result.isExit());
+            assertFalse(alice.getStorageManager().hasUnsavedChanges());
+            assertEquals(EnumSet.of(DataStore.INTERNSHIPS), bye.getRequiredData());
+            assertFalse(bye.isChangingData());
+            registry.release(alice);
+        }
+        assertTrue(new File(directory, "tenants/alice/" + InternshipStorageHandler.DIRECTORY_NAME).exists());
+    }
+
+    @Test
+    void estimateBytes_nestedInterviewRounds_countsEveryRound() throws Exception {
+        try (TenantRegistry registry = new TenantRegistry(createConfig(Long.MAX_VALUE))) {
+            registry.execute("alice", createAddCommand("Google"));
+            Tenant alice = registry.acquire("alice");
+            long bytesWithoutInterview = alice.getEstimatedBytes();
+
+            Interview firstRound = new Interview("2026-12-01", "10:00", "11:00", "Technical");
+            Interview secondRound = new Interview("2026-12-08", "10:00", "11:00", "Technical");
+            secondRound.addInterviewRound(new Interview("2026-12-15", "10:00", "11:00", "Final"));
+            firstRound.addInterviewRound(secondRound);
+            Internship google = alice.getInternships().getInternshipMap().get("software").get(0);
+            google.addInterview(firstRound);
+            alice.estimateBytes();
+
+            long bytesPerRound = (alice.getEstimatedBytes() - bytesWithoutInterview) / 3;
+            assertTrue(bytesPerRound > 0);
+            assertEquals(3 * bytesPerRound, alice.getEstimatedBytes() - bytesWithoutInterview);
+            registry.release(alice);
+        }
+    }
+
+    @Test
+    void acquire_idOutsideTenantDirectory_throwsException() {
+        TenantRegistry registry = new TenantRegistry(createConfig(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> registry.acquire("../bob"));
+        assertEquals(0, registry.getLoadedTenantIds().size());
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.storage.StorageConfig.DurabilityMode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindSaverTest {
+
+    @Test
+    void markDirty_syncMode_savesImmediately() throws IOException {
+        WriteBehindSaver saver = new WriteBehindSaver(DurabilityMode.SYNC, 1);
+        List<String> saved = new ArrayList<>();
+
+        saver.markDirty(WriteBehindSaver.Store.PROJECTS, () -> saved.add("projects"));
+
+        assertEquals(List.of("projects"), saved);
+        assertFalse(saver.hasDirtyStores());
+    }
+
+    @Test
+    void flush_burstOfChangesOnExit_savesEachStoreOnce() throws IOException {
+        WriteBehindSaver saver = new WriteBehindSaver(DurabilityMode.ON_EXIT, 1);
+        List<String> saved = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            int version = i;
+            saver.markDirty(WriteBehindSaver.Store.PROJECTS, () -> saved.add("projects " + version));
+        }
+        saver.markDirty(WriteBehindSaver.Store.INTERNSHIPS, () -> saved.add("internships"));
+        assertTrue(saved.isEmpty());
+        assertTrue(saver.hasDirtyStores());
+
+        saver.flush();
+
+        assertEquals(List.of("internships", "projects 4"), saved);
+        assertFalse(saver.hasDirtyStores());
+    }
+
+    @Test
+    void flush_saveFails_keepsStoreDirtyAndSavesOthers() throws IOException {
+        WriteBehindSaver saver = new WriteBehindSaver(DurabilityMode.PERIODIC, 1);
+        List<String> saved = new ArrayList<>();
+
+        saver.markDirty(WriteBehindSaver.Store.JOURNAL, () -> {
+            throw new IOException("disk full");
+        });
+        saver.markDirty(WriteBehindSaver.Store.PROFILE, () -> saved.add("profile"));
+
+        assertThrows(IOException.class, saver::flush);
+        assertEquals(List.of("profile"), saved);
+        assertTrue(saver.hasDirtyStores());
+    }
+
+    @Test
+    void parseDurabilityMode_knownAndUnknownValues_parsedWithSyncDefault() {
+        assertEquals(DurabilityMode.PERIODIC, StorageConfig.parseDurabilityMode(" Periodic "));
+        assertEquals(DurabilityMode.ON_EXIT, StorageConfig.parseDurabilityMode("exit"));
+        assertEquals(DurabilityMode.SYNC, StorageConfig.parseDurabilityMode("sometimes"));
+        assertEquals(DurabilityMode.SYNC, StorageConfig.parseDurabilityMode(null));
+    }
+}